@@ -0,0 +1,95 @@
+#include <jni.h>
+#include <stdint.h>
+#include <string.h>
+
+/*
+ * Batch decoder of Linux SocketCAN struct can_frame records for
+ * llc.berserkr.nmea.n2k.NativeFrameDecoder. Records are 16 bytes, little
+ * endian: 32 bit id with flags, length, 3 padding bytes, 8 data bytes.
+ */
+
+#define FRAME_SIZE 16
+#define EFF_FLAG 0x80000000u
+#define RTR_FLAG 0x40000000u
+#define ERR_FLAG 0x20000000u
+
+static uint32_t read_u32(const uint8_t *p)
+{
+    return (uint32_t) p[0] | ((uint32_t) p[1] << 8) | ((uint32_t) p[2] << 16) | ((uint32_t) p[3] << 24);
+}
+
+JNIEXPORT jlong JNICALL
+Java_llc_berserkr_nmea_n2k_NativeFrameDecoder_decode(
+    JNIEnv *env, jclass cls, jobject frames, jint position, jint limit,
+    jintArray ids, jintArray pgns, jintArray sources, jintArray destinations,
+    jintArray priorities, jintArray lengths, jlongArray payloads)
+{
+    const uint8_t *base = (const uint8_t *) (*env)->GetDirectBufferAddress(env, frames);
+    const jint capacity = (*env)->GetArrayLength(env, ids);
+
+    if (base == NULL) {
+        return 0;
+    }
+
+    jint *id_out = (*env)->GetPrimitiveArrayCritical(env, ids, NULL);
+    jint *pgn_out = (*env)->GetPrimitiveArrayCritical(env, pgns, NULL);
+    jint *source_out = (*env)->GetPrimitiveArrayCritical(env, sources, NULL);
+    jint *destination_out = (*env)->GetPrimitiveArrayCritical(env, destinations, NULL);
+    jint *priority_out = (*env)->GetPrimitiveArrayCritical(env, priorities, NULL);
+    jint *length_out = (*env)->GetPrimitiveArrayCritical(env, lengths, NULL);
+    jlong *payload_out = (*env)->GetPrimitiveArrayCritical(env, payloads, NULL);
+
+    jint count = 0;
+    jint offset = position;
+
+    if (id_out && pgn_out && source_out && destination_out && priority_out && length_out && payload_out) {
+
+        while (limit - offset >= FRAME_SIZE && count < capacity) {
+
+            const uint8_t *frame = base + offset;
+            const uint32_t can_id = read_u32(frame);
+
+            if ((can_id & (EFF_FLAG | RTR_FLAG | ERR_FLAG)) == EFF_FLAG) {
+
+                const uint32_t id = can_id & 0x1FFFFFFFu;
+                const uint32_t pf = (id >> 16) & 0xFF;
+                const uint32_t ps = (id >> 8) & 0xFF;
+                const int length = frame[4] < 8 ? frame[4] : 8;
+
+                uint64_t payload = 0;
+#if defined(__BYTE_ORDER__) && __BYTE_ORDER__ == __ORDER_LITTLE_ENDIAN__
+                memcpy(&payload, frame + 8, sizeof(payload));
+                if (length < 8) {
+                    payload &= ((uint64_t) 1 << (length * 8)) - 1;
+                }
+#else
+                for (int i = length - 1; i >= 0; i--) {
+                    payload = (payload << 8) | frame[8 + i];
+                }
+#endif
+
+                id_out[count] = (jint) id;
+                pgn_out[count] = (jint) (pf < 240 ? (id >> 8) & 0x3FF00 : (id >> 8) & 0x3FFFF);
+                source_out[count] = (jint) (id & 0xFF);
+                destination_out[count] = (jint) (pf < 240 ? ps : 0xFF);
+                priority_out[count] = (jint) ((id >> 26) & 0x7);
+                length_out[count] = length;
+                payload_out[count] = (jlong) payload;
+
+                count++;
+            }
+
+            offset += FRAME_SIZE;
+        }
+    }
+
+    if (payload_out) (*env)->ReleasePrimitiveArrayCritical(env, payloads, payload_out, 0);
+    if (length_out) (*env)->ReleasePrimitiveArrayCritical(env, lengths, length_out, 0);
+    if (priority_out) (*env)->ReleasePrimitiveArrayCritical(env, priorities, priority_out, 0);
+    if (destination_out) (*env)->ReleasePrimitiveArrayCritical(env, destinations, destination_out, 0);
+    if (source_out) (*env)->ReleasePrimitiveArrayCritical(env, sources, source_out, 0);
+    if (pgn_out) (*env)->ReleasePrimitiveArrayCritical(env, pgns, pgn_out, 0);
+    if (id_out) (*env)->ReleasePrimitiveArrayCritical(env, ids, id_out, 0);
+
+    return ((jlong) (offset - position) << 32) | (jlong) count;
+}
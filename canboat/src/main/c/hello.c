@@ -1,9 +0,0 @@
-#include <jni.h>
-#include <stdio.h>
-
-JNIEXPORT void JNICALL
-Java_HelloWorld_print(JNIEnv *env, jobject obj)
-{
-printf("Hello World!\n");
-return;
-}
\ No newline at end of file
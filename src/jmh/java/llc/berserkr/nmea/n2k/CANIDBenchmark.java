@@ -0,0 +1,60 @@
+package llc.berserkr.nmea.n2k;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Frame header and data decoding over random 12 byte raw packets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CANIDBenchmark {
+
+    private static final int FRAMES = 1024;
+
+    private byte[] packets;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        packets = new byte[FRAMES * 12];
+        new Random(42).nextBytes(packets);
+    }
+
+    private int offset() {
+        final int i = next;
+        next = i + 1 == FRAMES ? 0 : i + 1;
+        return i * 12;
+    }
+
+    @Benchmark
+    public long decodeFrame() {
+        final int offset = offset();
+        final int id = CANID.id(packets, offset);
+        final long payload = NMEAData.payload(packets, offset);
+        return CANID.pgn(id) + CANID.priority(id) + CANID.destination(id) + CANID.source(id)
+            + CANFrame.uint16(payload, 0);
+    }
+
+    @Benchmark
+    public byte[] seperateData() {
+        final byte[] packet = new byte[12];
+        System.arraycopy(packets, offset(), packet, 0, 12);
+        return NMEAData.seperateData(packet);
+    }
+}
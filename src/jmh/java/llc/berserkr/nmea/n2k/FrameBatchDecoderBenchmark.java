@@ -0,0 +1,70 @@
+package llc.berserkr.nmea.n2k;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Batch decoding of 4096 random SocketCAN frames, native against Java.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameBatchDecoderBenchmark {
+
+    private static final int FRAMES = 4096;
+
+    @Param({"java", "native"})
+    private String decoder;
+
+    @Param({"256", "4096"})
+    private int batchSize;
+
+    private FrameBatchDecoder frameDecoder;
+    private CanFrameBatch batch;
+    private ByteBuffer frames;
+
+    @Setup
+    public void setUp() {
+
+        frameDecoder = decoder.equals("native") ? new NativeFrameDecoder() : new JavaFrameDecoder();
+        batch = new CanFrameBatch(batchSize);
+
+        final Random random = new Random(42);
+        frames = ByteBuffer.allocateDirect(FRAMES * FrameBatchDecoder.FRAME_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        for (int i = 0; i < FRAMES; i++) {
+            frames.putInt(FrameBatchDecoder.EFF_FLAG | (random.nextInt() & 0x1FFFFFFF));
+            frames.put((byte) 8);
+            frames.put(new byte[3]);
+            frames.putLong(random.nextLong());
+        }
+    }
+
+    @Benchmark
+    public long decode() {
+        frames.clear();
+        long sum = 0;
+        while (frames.hasRemaining()) {
+            final int count = frameDecoder.decode(frames, batch);
+            sum += count + batch.getPgn(count - 1);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,67 @@
+package llc.berserkr.nmea.n2k;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding of a single frame heading and a 7 frame GNSS position into a
+ * direct buffer, against the 1800 frames/s of a saturated 250 kbit/s bus.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class N2KEncoderBenchmark {
+
+    private static final int GNSS_POSITION = 129029;
+
+    private N2KEncoder encoder;
+    private ByteBuffer frames;
+
+    private int heading;
+    private int latitude;
+    private int longitude;
+
+    private double value;
+
+    @Setup
+    public void setUp() {
+        encoder = new N2KEncoder();
+        frames = ByteBuffer.allocateDirect(64 * FrameBatchDecoder.FRAME_SIZE);
+        heading = encoder.begin(CANID.VESSEL_HEADING).getDecoder().indexOf("heading");
+        latitude = encoder.begin(GNSS_POSITION).getDecoder().indexOf("latitude");
+        longitude = encoder.getDecoder().indexOf("longitude");
+    }
+
+    @Benchmark
+    public int heading() {
+        frames.clear();
+        value += 0.0001;
+        return encoder.begin(CANID.VESSEL_HEADING)
+            .set(heading, value)
+            .encode(2, 0xFF, 0x10, frames);
+    }
+
+    @Benchmark
+    public int gnssPosition() {
+        frames.clear();
+        value += 0.0001;
+        return encoder.begin(GNSS_POSITION)
+            .set(latitude, value)
+            .set(longitude, -value)
+            .encode(3, 0xFF, 0x10, frames);
+    }
+}
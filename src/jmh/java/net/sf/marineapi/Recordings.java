@@ -0,0 +1,119 @@
+package net.sf.marineapi;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
+
+/**
+ * Benchmark input loaded from the recorded NMEA logs in
+ * {@code src/test/resources/data}.
+ */
+public final class Recordings {
+
+	/** Recorded logs, in the order they are scanned. */
+	public static final String[] LOGS = {
+		"Garmin-GPS15.txt",
+		"Garmin-GPS15H.txt",
+		"Garmin-GPS76.txt",
+		"Garmin-GPS76_diff.txt",
+		"Garmin-GPS76_goto.txt",
+		"Garmin-GPS76_route.txt",
+		"Navibe-GM720.txt",
+		"sample1.txt",
+		"AISsample.txt",
+		"AIS-VDM-VDO.txt"
+	};
+
+	/**
+	 * XDR sentences, taken from the unit tests as none of the recorded logs
+	 * contain transducer measurements.
+	 */
+	private static final String[] XDR = {
+		"$IIXDR,P,1.02481,B,Barometer",
+		"$WIXDR,U,014.9,V,",
+		"$WIXDR,P,111.1,B,3,C,222.2,C,0,H,333.3,P,2,C,444.4,C,1",
+		"$IIXDR,C,19.9,C,TempAir,P,1.08,B,Barometer"
+	};
+
+	private Recordings() {
+	}
+
+	/**
+	 * Returns all valid sentences of the recorded logs.
+	 *
+	 * @return List of sentence strings, in recorded order.
+	 */
+	public static List<String> sentences() {
+		List<String> result = new ArrayList<>();
+		for (String log : LOGS) {
+			result.addAll(read(log));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the valid sentences of given type in the recorded logs.
+	 *
+	 * @param type Sentence type, e.g. "GGA" or "VDM".
+	 * @return Array of sentence strings, in recorded order.
+	 * @throws IllegalArgumentException If there are no sentences of given type.
+	 */
+	public static String[] sentences(String type) {
+		if ("XDR".equals(type)) {
+			return XDR.clone();
+		}
+		List<String> result = new ArrayList<>();
+		for (String s : sentences()) {
+			if (type.equals(SentenceId.parseStr(s))) {
+				result.add(s);
+			}
+		}
+		if (result.isEmpty()) {
+			throw new IllegalArgumentException("No recorded sentences of type " + type);
+		}
+		return result.toArray(new String[0]);
+	}
+
+	/**
+	 * Converts given sentences to ASCII byte arrays.
+	 *
+	 * @param sentences Sentences to convert
+	 * @return Array of byte arrays, one per sentence.
+	 */
+	public static byte[][] bytes(String[] sentences) {
+		byte[][] result = new byte[sentences.length][];
+		for (int i = 0; i < sentences.length; i++) {
+			result[i] = sentences[i].getBytes(StandardCharsets.US_ASCII);
+		}
+		return result;
+	}
+
+	private static List<String> read(String log) {
+		List<String> result = new ArrayList<>();
+		InputStream in = Recordings.class.getResourceAsStream("/data/" + log);
+		if (in == null) {
+			throw new IllegalStateException("Recorded log not found: " + log);
+		}
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(in, StandardCharsets.ISO_8859_1))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (SentenceValidator.isValid(line)) {
+					result.add(line);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,95 @@
+package net.sf.marineapi.ais.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.Recordings;
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * AIS message creation from recorded VDM sentences of each message type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AISMessageFactoryBenchmark {
+
+	@Param({ "1", "5", "18", "24" })
+	public int messageType;
+
+	private final AISMessageFactory factory = AISMessageFactory.getInstance();
+	private AISSentence[][] messages;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		messages = messages(messageType);
+	}
+
+	/**
+	 * Groups the recorded VDM sentences into complete messages and returns
+	 * the ones of given message type.
+	 */
+	static AISSentence[][] messages(int messageType) {
+		List<AISSentence[]> result = new ArrayList<>();
+		List<AISSentence> group = new ArrayList<>();
+		SentenceFactory sf = SentenceFactory.getInstance();
+		for (String s : Recordings.sentences("VDM")) {
+			AISSentence sentence = (AISSentence) sf.createParser(s);
+			if (sentence.isFirstFragment()) {
+				group.clear();
+			} else if (group.isEmpty() || !group.get(0).isPartOfMessage(sentence)) {
+				continue;
+			}
+			group.add(sentence);
+			if (sentence.isLastFragment()
+					&& group.size() == sentence.getNumberOfFragments()
+					&& type(group.get(0)) == messageType) {
+				result.add(group.toArray(new AISSentence[0]));
+			}
+		}
+		if (result.isEmpty()) {
+			throw new IllegalArgumentException("No recorded messages of type " + messageType);
+		}
+		return result.toArray(new AISSentence[0][]);
+	}
+
+	private static int type(AISSentence sentence) {
+		int c = sentence.getPayload().charAt(0);
+		return c < 0x60 ? c - 0x30 : c - 0x38;
+	}
+
+	private AISSentence[] nextMessage() {
+		int i = next;
+		next = i + 1 == messages.length ? 0 : i + 1;
+		return messages[i];
+	}
+
+	@Benchmark
+	public AISMessage create() {
+		return factory.create(nextMessage());
+	}
+
+	@Benchmark
+	public int createAndValidate() {
+		AISMessage message = factory.create(nextMessage());
+		return message.getMMSI() + ((AISMessageParser) message).getNrOfViolations();
+	}
+}
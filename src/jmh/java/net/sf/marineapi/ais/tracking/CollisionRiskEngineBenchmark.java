@@ -0,0 +1,90 @@
+package net.sf.marineapi.ais.tracking;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.ais.message.AISMessage18;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * All pairs assessment of 10k moving vessels in the Gulf of Finland, against
+ * a one second update cycle.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionRiskEngineBenchmark {
+
+    private static final int VESSELS = 10_000;
+
+    private CollisionRiskEngine engine;
+
+    @Setup
+    public void setUp() {
+
+        VesselStore store = new VesselStore();
+        VesselIndex index = new VesselIndex();
+        Random random = new Random(1);
+
+        for (int i = 0; i < VESSELS; i++) {
+            Report r = new Report(i, 59.5 + random.nextDouble(), 23 + 4 * random.nextDouble(),
+                random.nextDouble() * 20, random.nextDouble() * 360);
+            store.messageReceived(r);
+            index.messageReceived(r);
+        }
+
+        engine = new CollisionRiskEngine(store, index);
+    }
+
+    @Benchmark
+    public CollisionRiskEngine assessAll() {
+        engine.assessAll();
+        return engine;
+    }
+
+    private static final class Report implements AISMessage18 {
+
+        final int mmsi;
+        final double lat;
+        final double lon;
+        final double sog;
+        final double cog;
+
+        Report(int mmsi, double lat, double lon, double sog, double cog) {
+            this.mmsi = mmsi;
+            this.lat = lat;
+            this.lon = lon;
+            this.sog = sog;
+            this.cog = cog;
+        }
+
+        public int getMessageType() { return 18; }
+        public int getRepeatIndicator() { return 0; }
+        public int getMMSI() { return mmsi; }
+        public boolean isAccurate() { return true; }
+        public double getLongitudeInDegrees() { return lon; }
+        public double getLatitudeInDegrees() { return lat; }
+        public boolean hasLongitude() { return true; }
+        public boolean hasLatitude() { return true; }
+        public double getSpeedOverGround() { return sog; }
+        public double getCourseOverGround() { return cog; }
+        public int getTrueHeading() { return 511; }
+        public int getTimeStamp() { return 0; }
+        public boolean hasSpeedOverGround() { return true; }
+        public boolean hasCourseOverGround() { return true; }
+        public boolean hasTrueHeading() { return false; }
+        public boolean hasTimeStamp() { return true; }
+    }
+}
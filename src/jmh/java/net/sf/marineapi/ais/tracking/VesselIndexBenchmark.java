@@ -0,0 +1,75 @@
+package net.sf.marineapi.ais.tracking;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.nmea.util.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Viewport, radius and nearest queries and position updates against 50k
+ * vessels spread over the Baltic Sea.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VesselIndexBenchmark {
+
+    private static final int VESSELS = 50_000;
+
+    private VesselIndex index;
+    private Random random;
+    private Position center;
+
+    @Setup
+    public void setUp() {
+        index = new VesselIndex();
+        random = new Random(1);
+        for (int i = 0; i < VESSELS; i++) {
+            index.update(i, latitude(), longitude());
+        }
+        center = new Position(59.5, 21.0);
+    }
+
+    private double latitude() {
+        return 54 + 11 * random.nextDouble();
+    }
+
+    private double longitude() {
+        return 10 + 20 * random.nextDouble();
+    }
+
+    @Benchmark
+    public int[] viewport() {
+        double lat = latitude();
+        double lon = longitude();
+        return index.findInBox(lat, lon, lat + 0.5, lon + 1);
+    }
+
+    @Benchmark
+    public int[] radius() {
+        return index.findWithin(center, 20_000);
+    }
+
+    @Benchmark
+    public int[] nearest() {
+        return index.findNearest(center, 10);
+    }
+
+    @Benchmark
+    public boolean update() {
+        return index.update(random.nextInt(VESSELS), latitude(), longitude());
+    }
+}
@@ -0,0 +1,79 @@
+package net.sf.marineapi.ais.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.Recordings;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Six-bit payload decoding of recorded single-fragment VDM payloads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SixbitBenchmark {
+
+	private String[] payloads;
+	private int[] fillBits;
+	private Sixbit[] decoded;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		List<AISSentence> result = new ArrayList<>();
+		for (String s : Recordings.sentences("VDM")) {
+			AISSentence vdm = (AISSentence) SentenceFactory.getInstance().createParser(s);
+			if (!vdm.isFragmented()) {
+				result.add(vdm);
+			}
+		}
+		payloads = new String[result.size()];
+		fillBits = new int[result.size()];
+		decoded = new Sixbit[result.size()];
+		for (int i = 0; i < payloads.length; i++) {
+			payloads[i] = result.get(i).getPayload();
+			fillBits[i] = result.get(i).getFillBits();
+			decoded[i] = new Sixbit(payloads[i], fillBits[i]);
+		}
+	}
+
+	private int index() {
+		int i = next;
+		next = i + 1 == payloads.length ? 0 : i + 1;
+		return i;
+	}
+
+	@Benchmark
+	public Sixbit decode() {
+		int i = index();
+		return new Sixbit(payloads[i], fillBits[i]);
+	}
+
+	@Benchmark
+	public int readHeader() {
+		Sixbit sixbit = decoded[index()];
+		return sixbit.getInt(0, 6) + sixbit.getInt(6, 8) + sixbit.getInt(8, 38);
+	}
+
+	@Benchmark
+	public int readPosition() {
+		Sixbit sixbit = decoded[index()];
+		return sixbit.getSignedInt(61, 89) + sixbit.getSignedInt(89, 116);
+	}
+}
@@ -0,0 +1,77 @@
+package net.sf.marineapi.nmea.io;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.Recordings;
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Sentence event fan-out to N listeners, half of which are registered for
+ * all sentences and half for the dispatched sentence type only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SentenceReaderBenchmark {
+
+	@Param({ "1", "4", "16" })
+	public int listeners;
+
+	private SentenceReader reader;
+	private Sentence[] sentences;
+	private int next;
+
+	@Setup
+	public void setUp(Blackhole bh) {
+		reader = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		for (int i = 0; i < listeners; i++) {
+			SentenceListener listener = new SentenceListener() {
+				public void sentenceRead(SentenceEvent event) {
+					bh.consume(event.getSentence());
+				}
+				public void readingStarted() {
+				}
+				public void readingStopped() {
+				}
+				public void readingPaused() {
+				}
+			};
+			if (i % 2 == 0) {
+				reader.addSentenceListener(listener);
+			} else {
+				reader.addSentenceListener(listener, "GGA");
+			}
+		}
+		String[] gga = Recordings.sentences("GGA");
+		sentences = new Sentence[gga.length];
+		for (int i = 0; i < gga.length; i++) {
+			sentences[i] = SentenceFactory.getInstance().createParser(gga[i]);
+		}
+	}
+
+	@Benchmark
+	public void fireSentenceEvent() {
+		int i = next;
+		next = i + 1 == sentences.length ? 0 : i + 1;
+		reader.fireSentenceEvent(sentences[i]);
+	}
+}
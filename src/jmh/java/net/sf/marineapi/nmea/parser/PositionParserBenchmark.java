@@ -0,0 +1,52 @@
+package net.sf.marineapi.nmea.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.Recordings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Degree-minute parsing of recorded GGA latitude and longitude values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionParserBenchmark {
+
+	private String[] values;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		List<String> result = new ArrayList<>();
+		for (String s : Recordings.sentences("GGA")) {
+			String[] fields = s.split(",");
+			if (fields.length > 4 && !fields[2].isEmpty() && !fields[4].isEmpty()) {
+				result.add(fields[2]);
+				result.add(fields[4]);
+			}
+		}
+		values = result.toArray(new String[0]);
+	}
+
+	@Benchmark
+	public double parseDegrees() {
+		int i = next;
+		next = i + 1 == values.length ? 0 : i + 1;
+		return PositionParser.parseDegrees(values[i]);
+	}
+}
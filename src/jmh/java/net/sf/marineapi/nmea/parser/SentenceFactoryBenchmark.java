@@ -0,0 +1,60 @@
+package net.sf.marineapi.nmea.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.Recordings;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parser lookup and construction over recorded sentences of each type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SentenceFactoryBenchmark {
+
+	@Param({ "GGA", "RMC", "GSV", "VDM", "XDR" })
+	public String type;
+
+	private final SentenceFactory factory = SentenceFactory.getInstance();
+	private String[] sentences;
+	private byte[][] bytes;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		sentences = Recordings.sentences(type);
+		bytes = Recordings.bytes(sentences);
+	}
+
+	private int index() {
+		int i = next;
+		next = i + 1 == sentences.length ? 0 : i + 1;
+		return i;
+	}
+
+	@Benchmark
+	public Sentence createParserString() {
+		return factory.createParser(sentences[index()]);
+	}
+
+	@Benchmark
+	public Sentence createParserBytes() {
+		byte[] b = bytes[index()];
+		return factory.createParser(b, 0, b.length);
+	}
+}
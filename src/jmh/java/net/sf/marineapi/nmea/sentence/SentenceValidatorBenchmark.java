@@ -0,0 +1,58 @@
+package net.sf.marineapi.nmea.sentence;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.Recordings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sentence validation over recorded sentences of each type.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SentenceValidatorBenchmark {
+
+	@Param({ "GGA", "RMC", "GSV", "VDM", "XDR" })
+	public String type;
+
+	private String[] sentences;
+	private byte[][] bytes;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		sentences = Recordings.sentences(type);
+		bytes = Recordings.bytes(sentences);
+	}
+
+	private int index() {
+		int i = next;
+		next = i + 1 == sentences.length ? 0 : i + 1;
+		return i;
+	}
+
+	@Benchmark
+	public boolean isValidString() {
+		return SentenceValidator.isValid(sentences[index()]);
+	}
+
+	@Benchmark
+	public boolean isValidBytes() {
+		byte[] b = bytes[index()];
+		return SentenceValidator.isValid(b, 0, b.length);
+	}
+}
@@ -1,7 +0,0 @@
-public class HelloWorld {
-    public native void print();
-
-    static {
-        System.loadLibrary("canboat");
-    }
-}
\ No newline at end of file
@@ -0,0 +1,166 @@
+package llc.berserkr.nmea.n2k;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reader of the Actisense NGT-1 binary protocol. Messages are framed by
+ * DLE STX and DLE ETX with DLE bytes escaped as DLE DLE, and hold a command
+ * byte, length, body and a checksum making the byte sum zero. Received
+ * N2K messages (command 0x93) are complete PGNs, reassembled by the NGT-1,
+ * and are passed to the packet listener; other commands are skipped.
+ */
+public class ActisenseReader extends N2KStreamReader {
+
+    public static final int N2K_MESSAGE_RECEIVED = 0x93;
+
+    static final byte DLE = 0x10;
+    static final byte STX = 0x02;
+    static final byte ETX = 0x03;
+
+    //command, length, up to 255 bytes and checksum
+    private static final int MAX_MESSAGE = 258;
+
+    //body offsets of a received N2K message
+    private static final int PRIORITY = 2;
+    private static final int PGN = 3;
+    private static final int DESTINATION = 6;
+    private static final int SOURCE = 7;
+    private static final int LENGTH = 12;
+    private static final int DATA = 13;
+
+    private final byte[] message = new byte[MAX_MESSAGE];
+
+    public ActisenseReader(final FrameListener frames, final PacketListener packets) {
+        super(frames, packets);
+    }
+
+    @Override
+    protected void parse(final ByteBuffer buffer, final boolean endOfStream) {
+
+        final int limit = buffer.limit();
+
+        int i = buffer.position();
+
+        while (true) {
+
+            int start = -1;
+
+            for (; i + 1 < limit; i++) {
+                if (buffer.get(i) == DLE && buffer.get(i + 1) == STX) {
+                    start = i;
+                    break;
+                }
+            }
+
+            if (start < 0) {
+                //keep a trailing DLE that may start the next frame
+                buffer.position(!endOfStream && i < limit && buffer.get(i) == DLE ? i : limit);
+                return;
+            }
+
+            int length = 0;
+            int j = start + 2;
+            boolean complete = false;
+
+            while (j < limit) {
+
+                byte b = buffer.get(j);
+
+                if (b == DLE) {
+
+                    if (j + 1 >= limit) {
+                        break;
+                    }
+
+                    final byte next = buffer.get(j + 1);
+
+                    if (next == ETX) {
+                        complete = true;
+                        j += 2;
+                        break;
+                    }
+
+                    if (next == STX) {
+                        //frame restarts, drop the partial one
+                        error();
+                        start = j;
+                        length = 0;
+                        j += 2;
+                        continue;
+                    }
+
+                    //escaped DLE
+                    b = next;
+                    j++;
+
+                }
+
+                if (length == MAX_MESSAGE) {
+                    error();
+                    break;
+                }
+
+                message[length++] = b;
+                j++;
+
+            }
+
+            if (!complete) {
+
+                if (length == MAX_MESSAGE) {
+                    //resync after the overlong frame
+                    i = j;
+                    continue;
+                }
+
+                buffer.position(endOfStream ? limit : start);
+                return;
+
+            }
+
+            message(length);
+
+            i = j;
+
+        }
+
+    }
+
+    private void message(final int length) {
+
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += message[i];
+        }
+
+        if (length < 3 || (sum & 0xFF) != 0 || (message[1] & 0xFF) != length - 3) {
+            error();
+            return;
+        }
+
+        if ((message[0] & 0xFF) != N2K_MESSAGE_RECEIVED) {
+            return;
+        }
+
+        final int dataLength = length > LENGTH ? message[LENGTH] & 0xFF : -1;
+
+        if (dataLength < 0 || DATA + dataLength > length - 1) {
+            error();
+            return;
+        }
+
+        final int pgn = (message[PGN] & 0xFF)
+            | ((message[PGN + 1] & 0xFF) << 8)
+            | ((message[PGN + 2] & 0xFF) << 16);
+
+        packets.packet(
+            CANID.id(message[PRIORITY], pgn, message[DESTINATION] & 0xFF, message[SOURCE] & 0xFF),
+            message,
+            DATA,
+            dataLength
+        );
+
+        record();
+
+    }
+}
@@ -0,0 +1,67 @@
+package llc.berserkr.nmea.n2k;
+
+/**
+ * Allocation free access to a single CAN frame given as a packed 29 bit
+ * identifier and up to 8 data bytes packed into a long, data byte 0 in the
+ * least significant byte. NMEA 2000 fields are little endian, so multi-byte
+ * fields are read directly with shifts.
+ *
+ * @see CANID
+ */
+public final class CANFrame {
+
+    private CANFrame() {
+    }
+
+    /**
+     * Packs up to 8 data bytes into a long, first byte least significant.
+     */
+    public static long payload(final byte[] data, final int offset, final int length) {
+        if (length < 0 || length > 8) {
+            throw new IllegalArgumentException("frame length must be 0..8");
+        }
+        long payload = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            payload = (payload << 8) | (data[offset + i] & 0xFF);
+        }
+        return payload;
+    }
+
+    /**
+     * Unpacks the payload into given array, first byte at offset.
+     */
+    public static void write(final long payload, final byte[] target, final int offset, final int length) {
+        for (int i = 0; i < length; i++) {
+            target[offset + i] = (byte) (payload >>> (i << 3));
+        }
+    }
+
+    public static int uint8(final long payload, final int index) {
+        return (int) (payload >>> (index << 3)) & 0xFF;
+    }
+
+    public static int uint16(final long payload, final int index) {
+        return (int) (payload >>> (index << 3)) & 0xFFFF;
+    }
+
+    public static int int16(final long payload, final int index) {
+        return (short) (payload >>> (index << 3));
+    }
+
+    public static long uint32(final long payload, final int index) {
+        return (payload >>> (index << 3)) & 0xFFFFFFFFL;
+    }
+
+    public static int int32(final long payload, final int index) {
+        return (int) (payload >>> (index << 3));
+    }
+
+    /**
+     * Unsigned bit field starting at given bit, counted from the least
+     * significant bit of data byte 0.
+     */
+    public static long bits(final long payload, final int from, final int length) {
+        final long value = payload >>> from;
+        return length >= 64 ? value : value & ((1L << length) - 1);
+    }
+}
@@ -101,20 +101,104 @@ public class CANID {
         return priority;
     }
 
-    public static int ISO_ACK = 0xE800;//059392;//
+    /** Destination address of messages sent to all nodes. */
+    public static final int GLOBAL_ADDRESS = 0xFF;
+
+    private static final int PDU2_THRESHOLD = 240;
+
+    /*
+     * Decoding of a 29-bit extended CAN identifier packed in an int, as read
+     * from the bus: priority (3 bits), reserved/extended data page (1 bit),
+     * data page (1 bit), PDU format (8 bits), PDU specific (8 bits) and source
+     * address (8 bits). All methods are allocation free.
+     */
+
+    /**
+     * Packs the 29 bit identifier from the first four bytes of a raw packet
+     * laid out most significant bit first, as used by {@link #CANID(byte[])}.
+     */
+    public static int id(final byte[] rawPacket, final int offset) {
+        return ((rawPacket[offset] & 0xFF) << 21)
+            | ((rawPacket[offset + 1] & 0xFF) << 13)
+            | ((rawPacket[offset + 2] & 0xFF) << 5)
+            | ((rawPacket[offset + 3] & 0xFF) >>> 3);
+    }
+
+    /**
+     * Composes an identifier from its parts. For PDU1 PGNs the destination is
+     * placed in the PDU specific field, for PDU2 PGNs it is ignored.
+     */
+    public static int id(final int priority, final int pgn, final int destination, final int source) {
+        int id = ((priority & 0x7) << 26) | ((pgn & 0x3FFFF) << 8) | (source & 0xFF);
+        if (isPdu1(id)) {
+            id = (id & ~0xFF00) | ((destination & 0xFF) << 8);
+        }
+        return id;
+    }
+
+    public static int priority(final int id) {
+        return (id >>> 26) & 0x7;
+    }
+
+    public static boolean reserved(final int id) {
+        return ((id >>> 25) & 1) != 0;
+    }
+
+    public static boolean dataPage(final int id) {
+        return ((id >>> 24) & 1) != 0;
+    }
+
+    public static int pduFormat(final int id) {
+        return (id >>> 16) & 0xFF;
+    }
+
+    public static int pduSpecific(final int id) {
+        return (id >>> 8) & 0xFF;
+    }
+
+    public static int source(final int id) {
+        return id & 0xFF;
+    }
+
+    /**
+     * True for addressable (PDU1) messages, where PDU specific holds the
+     * destination address.
+     */
+    public static boolean isPdu1(final int id) {
+        return pduFormat(id) < PDU2_THRESHOLD;
+    }
+
+    /**
+     * The 18 bit parameter group number; data page, PDU format and, for
+     * broadcast (PDU2) messages, the group extension in PDU specific.
+     */
+    public static int pgn(final int id) {
+        final int pgn = (id >>> 8) & 0x3FFFF;
+        return isPdu1(id) ? pgn & 0x3FF00 : pgn;
+    }
+
+    /**
+     * Destination address of PDU1 messages, {@link #GLOBAL_ADDRESS} for
+     * broadcast PDU2 messages.
+     */
+    public static int destination(final int id) {
+        return isPdu1(id) ? pduSpecific(id) : GLOBAL_ADDRESS;
+    }
+
+    public static final int ISO_ACK = 59392;
 //    1 Control Byte
 // .  2 Group Function Value
 // .  3 NMEA Reserved
 // .  4 PGN of Requested Information
 
-    public static int ISO_REQUEST = 0xE800; //059904
+    public static final int ISO_REQUEST = 59904;
 //    PGN being requested
 
-    public static int ISO__DATA_TRANSPORT = 0xE800;//060160;//
+    public static final int ISO__DATA_TRANSPORT = 60160;
 //    1 Sequence number of multi-packet frame
 // .  2 Multi-packet packetized data
 
-    public static int ISO_CONNECTION_RTS = 0xE800;//060416;//
+    public static final int ISO_CONNECTION_RTS = 60416;
 //1 RTS Group Function Code
 //2 Total message size, bytes
 //3 Total number of frames to be transmitted
@@ -122,33 +206,33 @@ public class CANID {
 //5 PGN of multi-packet message
 
 
-    public static int ISO_CONNECTION_CTS = 0xE800;//060416;//
+    public static final int ISO_CONNECTION_CTS = 60416;
 //    1 CTS Group Function Code
 //2 Number of frames that can be sent
 //3 Number of next frame to be transmitted
 //4 NMEA Reserved
 //5 PGN of multi-packet message
 
-    public static int ISO_CONNECTION_EOM = 0xE800;//060416;//
+    public static final int ISO_CONNECTION_EOM = 60416;
 //    1 EOM Group Function Code
 //2 Total message size, bytes
 //3 Total number of frames received
 //4 NMEA Reserved
 //5 PGN of multi-packet message
 
-    public static int ISO_CONNECTION_BAM = 0xE800;//060416;//
+    public static final int ISO_CONNECTION_BAM = 60416;
 //1 BAM Group Function Code
 //2 Total message size, bytes
 //3 Total number of frames to be transmitted
 //4 NMEA Reserved
 //5 PGN of multi-packet message
 
-    public static int ISO_CONNECTION_ABORT = 0xE800;//060416;//
+    public static final int ISO_CONNECTION_ABORT = 60416;
 //1 Abort Group Function Code
 //2 NMEA Reserved
 //3 PGN of multi-packet message
 
-    public static int ISO_CLAIM = 0xE800;//060928;//
+    public static final int ISO_CLAIM = 60928;
 //    1 Unique Number (ISO Identity Number)
 //2 Manufacturer Code
 //3 Device Instance Lower (ISO ECU Instance)
@@ -160,7 +244,7 @@ public class CANID {
 //9 Industry Group
 //10 NMEA Reserved (ISO Self Configurable)
 
-    public static int ISO_COMMANDED = 0xE800;//065240;//
+    public static final int ISO_COMMANDED = 65240;
 //1 Unique Number (ISO Identity Number)
 //2 Manufacturer Code
 //3 Device Instance Lower (ISO ECU Instance)
@@ -173,7 +257,7 @@ public class CANID {
 //10 Reserved (ISO Self Configurable)
 //11 New Source Address
 
-    public static int NMEA_REQ_GROUP = 0xE800;//126208;//
+    public static final int NMEA_REQ_GROUP = 126208;
 //    1 Request Group Function Code
 //2 Requested PGN
 //3 Transmission interval
@@ -184,7 +268,7 @@ public class CANID {
 //8 Variable Number of fields, Field number 6 repeated
 //9 Variable Number of fields, Field number 7 repeated
 
-    public static int NMEA_COMMAND_GROUP = 0xE800;//126208;//
+    public static final int NMEA_COMMAND_GROUP = 126208;
 //    1 Command Group Function Code
 //2 Commanded PGN
 //3 Priority Setting
@@ -195,7 +279,7 @@ public class CANID {
 //8 Variable Number of fields, Field number 6 repeated
 //9 Variable Number of fields, Field number 7 repeated
 
-    public static int NMEA_ACK_GROUP = 0xE800;//126208;//
+    public static final int NMEA_ACK_GROUP = 126208;
 //    1 Acknowledgment Group Function Code
 //2 Requested or Commanded PGN # being acknowledged
 //3 PGN error code
@@ -204,7 +288,7 @@ public class CANID {
 //6 First parameter error code
 //7 Variable Number of fields, Field number 6 repeated
 
-    public static int NMEA_READ_FIELDS = 0xE800;//126208;//
+    public static final int NMEA_READ_FIELDS = 126208;
 //    1 Complex Request Group Function Code
 //2 PGN Number
 //3 Manufacturer's Code
@@ -220,7 +304,7 @@ public class CANID {
 //    Field Number of First Parameter Pair to be Read
 //14 Variable Number of Fields, field 13 repeated
 
-    public static int NMEA_READ_FIELDS_REPLY = 0xE800;//126208;//
+    public static final int NMEA_READ_FIELDS_REPLY = 126208;
 //1 Complex Request Group Function Code
 //2 PGN Number
 //3 Manufacturer's Code
@@ -238,7 +322,7 @@ public class CANID {
 //15 16 Variable Number of Fields, field 13 repeated
 //    Variable Number of Fields, field 14 repeated
 
-    public static int NMEA_WRITE_FIELDS = 0xE800;//126208;//
+    public static final int NMEA_WRITE_FIELDS = 126208;
 //    1 Complex Request Group Function Code
 //2 PGN Number
 //3 Manufacturer's Code
@@ -256,7 +340,7 @@ public class CANID {
 //15 16 Variable Number of Fields, field 13 repeated
 //    Variable Number of Fields, field 14 repeated
 
-    public static int NMEA_WRITE_FIELDS_REPLY = 0xE800;//126208;//
+    public static final int NMEA_WRITE_FIELDS_REPLY = 126208;
 //    1 Complex Request Group Function Code
 //2 PGN Number
 //3 Manufacturer's Code
@@ -274,17 +358,17 @@ public class CANID {
 //15 16 Variable Number of Fields, field 13 repeated
 //    Variable Number of Fields, field 14 repeated
 
-    public static int PGN_LIST_TX = 0xE800;//126464;//
+    public static final int PGN_LIST_TX = 126464;
 //1 Transmitted PGN Group Function Code
 //2 First PGN supported
 //3 Variable Number of fields, Field number 2 repeated
 
-    public static int PGN_LIST_RX = 0xE800;//126464;//
+    public static final int PGN_LIST_RX = 126464;
 //    1 Received PGN Group Function Code
 //2 First PGN supported
 //3 Variable Number of fields, Field number 2 repeated
 
-    public static int ALERT = 0xE800;//126983;//
+    public static final int ALERT = 126983;
 //    1 Alert Type
 //2 Alert Category
 //3 Alert System
@@ -307,7 +391,7 @@ public class CANID {
 //20 Alert Priority
 //21 Alert State
 
-    public static int ALERT_RESPONSE = 0xE800;//126984;//
+    public static final int ALERT_RESPONSE = 126984;
 //    1 Alert Type
 //2 Alert Category
 //3 Alert System
@@ -321,7 +405,7 @@ public class CANID {
 //11 Response Command
 //12 NMEA Reserved
 
-    public static int ALERT_TEXT = 0xE800;//126985;//
+    public static final int ALERT_TEXT = 126985;
 //    1 Alert Type
 //2 Alert Category
 //3 Alert System
@@ -335,7 +419,7 @@ public class CANID {
 //11 Alert Text Description
 //12 Alert Location Text Description
 
-    public static int ALERT_CONFIG = 0xE800;//126986;//
+    public static final int ALERT_CONFIG = 126986;
 //1 Alert Type
 //2 Alert Category
 //3 Alert System
@@ -352,7 +436,7 @@ public class CANID {
 //14 Temporary Silence Period
 //15 Escalation Period
 
-    public static int ALERT_THRESHOLD = 0xE800;//126987;//
+    public static final int ALERT_THRESHOLD = 126987;
 //    1 Alert Type
 //2 Alert Category
 //3 Alert System
@@ -369,7 +453,7 @@ public class CANID {
 //14 Threshold Level
 //15 Fields 11 to 14 Repeat as necessary
 
-    public static int ALERT_VALUE = 0xE800;//126988;//
+    public static final int ALERT_VALUE = 126988;
 //    1 Alert Type
 //2 Alert Category
 //3 Alert System
@@ -385,14 +469,14 @@ public class CANID {
 //13 Value Data
 //14 Fields 11 to 13 Repeat as necessary
 
-    public static int SYSTEM_TIME = 0xE800;//126992;//
+    public static final int SYSTEM_TIME = 126992;
 //    1 Sequence ID
 //2 Source
 //3 NMEA Reserved
 //4 Date
 //5 Time
 
-    public static int HEARTBEAT = 0xE800;//126993;//
+    public static final int HEARTBEAT = 126993;
 //    1 Update Rate
 //2 Heartbeat Sequence Counter
 //3 Class 1 CAN Controller State
@@ -400,7 +484,7 @@ public class CANID {
 //5 Equipment Status
 //6 NMEA Reserved
 
-    public static int PRODUCT_INFORMATION = 0xE800;//126996;//
+    public static final int PRODUCT_INFORMATION = 126996;
 //    1 NMEA Network Message Database Version
 //2 NMEA Manufacturer's Product Code
 //            3 Manufacturer's Model ID
@@ -410,12 +494,12 @@ public class CANID {
 //            7 NMEA 2000 Certification Level
 //8 Load Equivalency
 
-    public static int CONFIG_INFORMATION = 0xE800;//126998;//
+    public static final int CONFIG_INFORMATION = 126998;
 //    1 Installation Description, Field 1
 //            2 Installation Description, Field 2
 //            3 Manufacturer Information, Field 3
 
-    public static int MAN_OVBD = 0xE800;//127233;//
+    public static final int MAN_OVBD = 127233;
 //    1 Sequence ID
 //2 MOB Emitter ID
 //3 Man Overboard (MOB) Status
@@ -435,7 +519,7 @@ public class CANID {
 //17 MOB Emitter Battery Status
 //18 NMEA Reserved
 
-    public static int HEADING_CONTROL = 0xE800;//127237;//
+    public static final int HEADING_CONTROL = 127237;
 //    1 Rudder Limit Exceeded
 //2 Off-Heading Limit Exceeded
 //3 Off-Track Limit Exceeded
@@ -455,7 +539,7 @@ public class CANID {
 //17 Off-Track Limit
 //18 Vessel Heading
 
-    public static int RUDDER = 0xE800;//127245;//
+    public static final int RUDDER = 127245;
 //    1 Rudder Instance
 //2 Direction Order
 //3 NMEA Reserved
@@ -463,7 +547,7 @@ public class CANID {
 //5 Position
 //6 NMEA Reserved
 
-    public static int VESSEL_HEADING = 0xE800;//127250;//
+    public static final int VESSEL_HEADING = 127250;
 //    1 Sequence ID
 //2 Heading Sensor Reading
 //3 Deviation
@@ -471,26 +555,26 @@ public class CANID {
 //5 Heading Sensor Reference
 //6 NMEA Reserved
 
-    public static int RATE_OF_TURN = 0xE800;//127251;//
+    public static final int RATE_OF_TURN = 127251;
 //    1 Sequence ID
 //2 Rate of Turn
 //3 NMEA Reserved
 
-    public static int HEAVE = 0xE800;//127252;//
+    public static final int HEAVE = 127252;
 //    1 Sequence ID
 //2 Heave
 //3 Delay
 //4 Delay Source
 //5 NMEA Reserved
 
-    public static int ALTITUDE = 0xE800;//127257;//
+    public static final int ALTITUDE = 127257;
 //    1 Sequence ID
 //2 Yaw
 //3 Pitch
 //4 Roll
 //5 NMEA Reserved
 
-    public static int MAGNETIC_VARIATION = 0xE800;//127258;//
+    public static final int MAGNETIC_VARIATION = 127258;
 //    1 Sequence ID
 //2 Variation Source
 //3 NMEA Reserved
@@ -498,14 +582,14 @@ public class CANID {
 //5 Variation
 //6 NMEA Reserved
 
-    public static int ENGINE_PARAMS = 0xE800;//127488;//
+    public static final int ENGINE_PARAMS = 127488;
 //    1 Engine Instance
 //2 Engine Speed
 //3 Engine Boost Pressure
 //4 Engine tilt/trim
 //5 NMEA Reserved
 
-    public static int ENGINE_PARAMS_DYNAMIC = 0xE800;//127489;//
+    public static final int ENGINE_PARAMS_DYNAMIC = 127489;
 //    1 Engine instance
 //2 Engine oil pressure
 //3 Engine oil temp.
@@ -521,7 +605,7 @@ public class CANID {
 //            13 Percent Engine Load
 //14 Percent Engine Torque
 
-    public static int ELECTRIC_DRIVE_STATUS = 0xE800;//127490;//
+    public static final int ELECTRIC_DRIVE_STATUS = 127490;
 //    1 Inverter/Motor Identifier
 //2 Operating Mode
 //3 NMEA Reserved
@@ -531,7 +615,7 @@ public class CANID {
 //7 Gear Temperature
 //8 Shaft Torque
 
-    public static int ELECTRIC_STORAGE_STATUS = 0xE800;//127491;//
+    public static final int ELECTRIC_STORAGE_STATUS = 127491;
 //    1 Energy Storage Identifier
 //2 State of Charge
 //3 Time Remaining
@@ -543,7 +627,7 @@ public class CANID {
 //9 Cooling System Status
 //10 Heating System Status
 
-    public static int TRANSMISSION_PARAMS_DYNAMIC = 0xE800;//127493;//
+    public static final int TRANSMISSION_PARAMS_DYNAMIC = 127493;
 //    1 Transmission instance
 //2 Transmission Gear
 //3 NMEA Reserved
@@ -552,7 +636,7 @@ public class CANID {
 //6 Transmission Discrete Status
 //7 NMEA Reserved
 
-    public static int ELECTRIC_DRIVE_INFO = 0xE800;//127494;//
+    public static final int ELECTRIC_DRIVE_INFO = 127494;
 //    1 Inverter/Motor Identifier
 //2 Motor Type
 //3 NMEA Reserved
@@ -567,7 +651,7 @@ public class CANID {
 //12 Motor DC-Voltage Cut Off Threshold
 //13 Drive/Motor Hours
 
-    public static int ELECTRIC_STORAGE_INFO = 0xE800;//127495;//
+    public static final int ELECTRIC_STORAGE_INFO = 127495;
 //    1 Energy Storage Identifier
 //2 Energy Storage Mode
 //3 NMEA Reserved
@@ -585,26 +669,26 @@ public class CANID {
 //15 Maximum Charge (SOC)
 //16 Minimum Discharge (SOC)
 
-    public static int TRIP_FUEL_CONSUMPTION_VESSEL = 0xE800;//127496;//
+    public static final int TRIP_FUEL_CONSUMPTION_VESSEL = 127496;
 //    1 Time to Empty
 //2 Distance to Empty /Fuel Range
 //3 Estimated Fuel Remaining
 //4 Trip Run Time
 
-    public static int TRIP_FUEL_CONSUMPTION_ENGINE = 0xE800;//127497;//
+    public static final int TRIP_FUEL_CONSUMPTION_ENGINE = 127497;
 //    1 Engine instance
 //2 Trip fuel used
 //3 Fuel Rate, Average
 //4 Fuel Rate, Economy
 //5 Instantaneous Fuel Economy
 
-    public static int ENGINE_PARAMS_STATIC = 0xE800;//127498;//
+    public static final int ENGINE_PARAMS_STATIC = 127498;
 //    1 Engine instance
 //2 Rated engine speed
 //3 VIN
 //4 Software ID
 
-    public static int LOAD_CONTROLLER_CONN_STATE = 0xE800;//127500;//
+    public static final int LOAD_CONTROLLER_CONN_STATE = 127500;
 //    1 Sequence ID
 //2 Connection ID
 //3 State
@@ -614,7 +698,7 @@ public class CANID {
 //7 TimeON
 //8 TimeOFF
 
-    public static int SWITCH_BANK_STATUS = 0xE800;//127501;//
+    public static final int SWITCH_BANK_STATUS = 127501;
 //1 Binary Device Bank Instance
 //2 Status 1
 //            3 Status 2
@@ -645,7 +729,7 @@ public class CANID {
 //            28 Status 27
 //            29 Status 28
 
-    public static int SWITCH_BANK_CONTROL = 0xE800;//127502;//
+    public static final int SWITCH_BANK_CONTROL = 127502;
 //    1 Switch Bank Instance
 //2 Switch 1
 //            3 Switch 2
@@ -676,7 +760,7 @@ public class CANID {
 //            28 Switch 27
 //            29 Switch 28
 
-    public static int AC_INPUT_STATUS = 0xE800;//127503;//
+    public static final int AC_INPUT_STATUS = 127503;
 //    1 AC Instance
 //2 Number of Lines
 //3 Line
@@ -690,7 +774,7 @@ public class CANID {
 //11 Reactive Power
 //12 Power Factor
 
-    public static int AC_OUTPUT_STATUS = 0xE800;//127504;//
+    public static final int AC_OUTPUT_STATUS = 127504;
 //    1 AC Instance
 //2 Number of lines
 //3 Line
@@ -704,14 +788,14 @@ public class CANID {
 //11 Reactive Power
 //12 Power Factor
 
-    public static int FLUID_LEVEL = 0xE800;//127505;//
+    public static final int FLUID_LEVEL = 127505;
 //    1 Fluid Instance
 //2 Fluid Type
 //3 Fluid Level
 //4 Tank Capacity
 //5 NMEA Reserved
 
-    public static int DC_DETAILED_STATUS = 0xE800;//127506;//
+    public static final int DC_DETAILED_STATUS = 127506;
 //    1 Sequence ID
 //2 DC Instance
 //3 DC Type
@@ -721,7 +805,7 @@ public class CANID {
 //7 Ripple Voltage
 //8 Amp Hours
 
-    public static int CHARGER_STATUS = 0xE800;//127507;//
+    public static final int CHARGER_STATUS = 127507;
 //    1 Charger Instance
 //2 Battery Instance
 //3 Operating State
@@ -731,14 +815,14 @@ public class CANID {
 //7 NMEA Reserved
 //8 Equalization Time Remaining
 
-    public static int BATTERY_STATUS = 0xE800;//127508;//
+    public static final int BATTERY_STATUS = 127508;
 //    1 Battery Instance
 //2 Battery Voltage
 //3 Battery Current
 //4 Battery Case Temperature
 //5 Sequence ID
 
-    public static int INVERTER_STATUS = 0xE800;//127509;//
+    public static final int INVERTER_STATUS = 127509;
 //    1 Inverter Instance
 //2 AC Instance
 //3 DC Instance
@@ -746,7 +830,7 @@ public class CANID {
 //5 Inverter Enable/Disable
 //6 NMEA Reserved
 
-    public static int CHARGER_CONFIG_STATUS = 0xE800;//127510;//
+    public static final int CHARGER_CONFIG_STATUS = 127510;
 //    1 Charger Instance
 //2 Battery Instance
 //3 Charger Enable/Disable
@@ -0,0 +1,97 @@
+package llc.berserkr.nmea.n2k;
+
+/**
+ * Decoded CAN frames laid out as parallel primitive arrays, filled by a
+ * {@link FrameBatchDecoder} and reused across batches. Entry i of each array
+ * belongs to frame i, valid below {@link #getCount()}.
+ */
+public final class CanFrameBatch {
+
+    final int[] ids;
+    final int[] pgns;
+    final int[] sources;
+    final int[] destinations;
+    final int[] priorities;
+    final int[] lengths;
+    final long[] payloads;
+
+    int count;
+
+    public CanFrameBatch(final int capacity) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+
+        this.ids = new int[capacity];
+        this.pgns = new int[capacity];
+        this.sources = new int[capacity];
+        this.destinations = new int[capacity];
+        this.priorities = new int[capacity];
+        this.lengths = new int[capacity];
+        this.payloads = new long[capacity];
+
+    }
+
+    public int getCapacity() {
+        return ids.length;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getId(final int frame) {
+        return ids[frame];
+    }
+
+    public int getPgn(final int frame) {
+        return pgns[frame];
+    }
+
+    public int getSource(final int frame) {
+        return sources[frame];
+    }
+
+    public int getDestination(final int frame) {
+        return destinations[frame];
+    }
+
+    public int getPriority(final int frame) {
+        return priorities[frame];
+    }
+
+    public int getLength(final int frame) {
+        return lengths[frame];
+    }
+
+    /**
+     * Frame data, first byte least significant, see {@link CANFrame}.
+     */
+    public long getPayload(final int frame) {
+        return payloads[frame];
+    }
+
+    /**
+     * Passes the frames of the batch to a pipeline stage.
+     */
+    public void dispatch(final FrameListener listener, final long time) {
+        for (int i = 0; i < count; i++) {
+            listener.frame(ids[i], payloads[i], lengths[i], time);
+        }
+    }
+
+    /**
+     * Stores a decoded frame, used by the Java decoder.
+     */
+    void add(final int id, final int length, final long payload) {
+        final int i = count++;
+        ids[i] = id;
+        pgns[i] = CANID.pgn(id);
+        sources[i] = CANID.source(id);
+        destinations[i] = CANID.destination(id);
+        priorities[i] = CANID.priority(id);
+        lengths[i] = length;
+        payloads[i] = payload;
+    }
+}
@@ -0,0 +1,145 @@
+package llc.berserkr.nmea.n2k;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reader of the canboat plain text format read by the analyzer, one message
+ * per line as timestamp, priority, PGN, source, destination, length and the
+ * data bytes in hex:
+ * <pre>2011-11-24-22:42:04.388,2,127251,36,255,8,7d,0b,7d,02,00,ff,ff,ff</pre>
+ * Like the analyzer, messages longer than 8 bytes are taken as complete and
+ * passed to the packet listener, shorter ones are passed to the frame
+ * pipeline as they may be fast-packet frames.
+ */
+public class CanboatPlainReader extends N2KLineReader {
+
+    private final byte[] data = new byte[TransportSessionManager.MAX_LENGTH];
+
+    public CanboatPlainReader(final FrameListener frames, final PacketListener packets) {
+        super(frames, packets);
+    }
+
+    @Override
+    protected boolean line(final ByteBuffer buffer, final int end) {
+
+        skipSpaces(buffer, end);
+
+        if (cursor < end && buffer.get(cursor) == '#') {
+            return false;
+        }
+
+        final long time = timestamp(buffer, end);
+
+        if (time < 0 || !expect(buffer, end, ',')) {
+            error();
+            return false;
+        }
+
+        final long priority = field(buffer, end);
+        final long pgn = field(buffer, end);
+        final long source = field(buffer, end);
+        final long destination = field(buffer, end);
+        final long length = decimal(buffer, end);
+
+        if (priority < 0 || pgn < 0 || source < 0 || destination < 0 || length < 0 || length > data.length) {
+            error();
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            final long value = expect(buffer, end, ',') ? hexNumber(buffer, end) : -1;
+            if (value < 0 || value > 0xFF) {
+                error();
+                return false;
+            }
+            data[i] = (byte) value;
+        }
+
+        final int id = CANID.id((int) priority, (int) pgn, (int) destination, (int) source);
+
+        if (length > 8) {
+            packets.packet(id, data, 0, (int) length);
+        }
+        else {
+            frames.frame(id, CANFrame.payload(data, 0, (int) length), (int) length, time);
+        }
+
+        return true;
+
+    }
+
+    /**
+     * Parses a decimal field followed by a comma, -1 if malformed.
+     */
+    private long field(final ByteBuffer buffer, final int end) {
+        final long value = decimal(buffer, end);
+        return value >= 0 && expect(buffer, end, ',') ? value : -1;
+    }
+
+    /**
+     * Parses yyyy-MM-dd-HH:mm:ss.SSS, also with 'T' separator and trailing
+     * 'Z', to UTC epoch milliseconds.
+     */
+    private long timestamp(final ByteBuffer buffer, final int end) {
+
+        final long year = decimal(buffer, end);
+        if (year < 0 || !expect(buffer, end, '-')) {
+            return -1;
+        }
+        final long month = decimal(buffer, end);
+        if (month < 1 || month > 12 || !expect(buffer, end, '-')) {
+            return -1;
+        }
+        final long day = decimal(buffer, end);
+        if (day < 1 || !(expect(buffer, end, '-') || expect(buffer, end, 'T'))) {
+            return -1;
+        }
+        final long hours = decimal(buffer, end);
+        if (hours < 0 || !expect(buffer, end, ':')) {
+            return -1;
+        }
+        final long minutes = decimal(buffer, end);
+        if (minutes < 0 || !expect(buffer, end, ':')) {
+            return -1;
+        }
+        final long seconds = decimal(buffer, end);
+        if (seconds < 0) {
+            return -1;
+        }
+
+        long millis = 0;
+
+        if (expect(buffer, end, '.')) {
+            final int start = cursor;
+            final long fraction = decimal(buffer, end);
+            if (fraction < 0) {
+                return -1;
+            }
+            int digits = cursor - start;
+            millis = fraction;
+            for (; digits < 3; digits++) {
+                millis *= 10;
+            }
+            for (; digits > 3; digits--) {
+                millis /= 10;
+            }
+        }
+
+        expect(buffer, end, 'Z');
+
+        return ((epochDay(year, month, day) * 24 + hours) * 60 + minutes) * 60_000 + seconds * 1000 + millis;
+
+    }
+
+    /**
+     * Days since 1970-01-01 of a proleptic Gregorian date.
+     */
+    static long epochDay(final long year, final long month, final long day) {
+        final long y = month <= 2 ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yearOfEra = y - era * 400;
+        final long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+}
@@ -0,0 +1,151 @@
+package llc.berserkr.nmea.n2k;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reader of Linux can-utils candump captures, in log format
+ * <pre>(1436509052.249713) can0 09F80115#A0E7D81F0048C609</pre>
+ * and in console format, optionally with absolute timestamps
+ * <pre>(1436509052.249713)  can0  09F80115   [8]  A0 E7 D8 1F 00 48 C6 09</pre>
+ * Extended data frames are passed to the frame pipeline, standard id,
+ * remote and CAN FD frames are skipped. Frames without timestamp get the
+ * time they are read.
+ */
+public class CandumpReader extends N2KLineReader {
+
+    public CandumpReader(final FrameListener frames, final PacketListener packets) {
+        super(frames, packets);
+    }
+
+    @Override
+    protected boolean line(final ByteBuffer buffer, final int end) {
+
+        skipSpaces(buffer, end);
+
+        long time = -1;
+
+        if (expect(buffer, end, '(')) {
+            time = timestamp(buffer, end);
+            if (time < 0 || !expect(buffer, end, ')')) {
+                error();
+                return false;
+            }
+        }
+
+        //interface name
+        skipSpaces(buffer, end);
+        while (cursor < end && buffer.get(cursor) != ' ' && buffer.get(cursor) != '\t') {
+            cursor++;
+        }
+        skipSpaces(buffer, end);
+
+        final int idStart = cursor;
+        final long canId = hexNumber(buffer, end);
+        final int idDigits = cursor - idStart;
+
+        if (canId < 0) {
+            error();
+            return false;
+        }
+
+        long payload = 0;
+        int length = 0;
+
+        if (expect(buffer, end, '#')) {
+
+            if (cursor < end && (buffer.get(cursor) == '#' || buffer.get(cursor) == 'R')) {
+                //CAN FD or remote frame
+                return false;
+            }
+
+            while (cursor + 1 < end && length < 8) {
+                final int high = hex(buffer.get(cursor));
+                final int low = hex(buffer.get(cursor + 1));
+                if (high < 0 || low < 0) {
+                    break;
+                }
+                payload |= (long) ((high << 4) | low) << (length << 3);
+                length++;
+                cursor += 2;
+            }
+
+        }
+        else {
+
+            skipSpaces(buffer, end);
+
+            if (!expect(buffer, end, '[')) {
+                error();
+                return false;
+            }
+
+            final long count = decimal(buffer, end);
+
+            if (count < 0 || count > 8 || !expect(buffer, end, ']')) {
+                //remote frames are shown as "remote request", CAN FD as [12] etc.
+                return false;
+            }
+
+            for (; length < count; length++) {
+                skipSpaces(buffer, end);
+                final long value = hexNumber(buffer, end);
+                if (value < 0 || value > 0xFF) {
+                    error();
+                    return false;
+                }
+                payload |= value << (length << 3);
+            }
+
+        }
+
+        if (idDigits != 8) {
+            //standard frame
+            return false;
+        }
+
+        frames.frame(
+            (int) canId & 0x1FFFFFFF,
+            payload,
+            length,
+            time < 0 ? System.currentTimeMillis() : time
+        );
+
+        return true;
+
+    }
+
+    /**
+     * Parses seconds with fraction to milliseconds.
+     */
+    private long timestamp(final ByteBuffer buffer, final int end) {
+
+        final long seconds = decimal(buffer, end);
+
+        if (seconds < 0) {
+            return -1;
+        }
+
+        long millis = 0;
+
+        if (expect(buffer, end, '.')) {
+            int digits = 0;
+            while (cursor < end) {
+                final int digit = buffer.get(cursor) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                if (digits < 3) {
+                    millis = millis * 10 + digit;
+                    digits++;
+                }
+                cursor++;
+            }
+            for (; digits < 3; digits++) {
+                millis *= 10;
+            }
+        }
+
+        return seconds * 1000 + millis;
+
+    }
+}
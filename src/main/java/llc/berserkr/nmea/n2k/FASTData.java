@@ -1,4 +1,74 @@
 package llc.berserkr.nmea.n2k;
 
+/**
+ * Fast-packet framing of NMEA 2000 multi-frame PGNs. The first data byte of
+ * each frame holds a 3 bit sequence counter and a 5 bit frame index. Frame 0
+ * carries the total length in its second byte followed by 6 data bytes, the
+ * following frames carry 7 data bytes each, up to 223 bytes in 32 frames.
+ */
 public class FASTData {
+
+    public static final int MAX_LENGTH = 223;
+
+    public static final int FIRST_FRAME_DATA = 6;
+
+    public static final int FRAME_DATA = 7;
+
+    //pgns sent as fast-packets, from the canboat pgn database
+    private static final int[] FAST_PACKET_PGNS = {
+        126208, 126464, 126720, 126983, 126984, 126985, 126986, 126987, 126988,
+        126996, 126998, 127233, 127237, 127489, 127496, 127497, 127498, 127503,
+        127504, 127506, 127507, 127509, 127510, 127511, 127512, 127513, 127514,
+        128275, 128520, 129029, 129038, 129039, 129040, 129041, 129044, 129045,
+        129284, 129285, 129301, 129302, 129538, 129540, 129541, 129542, 129545,
+        129547, 129549, 129551, 129556, 129792, 129793, 129794, 129795, 129796,
+        129797, 129798, 129799, 129800, 129801, 129802, 129803, 129804, 129805,
+        129806, 129807, 129808, 129809, 129810, 130052, 130053, 130054, 130060,
+        130061, 130064, 130065, 130066, 130067, 130068, 130069, 130070, 130071,
+        130072, 130073, 130074, 130320, 130321, 130322, 130323, 130324, 130567,
+        130569, 130570, 130571, 130572, 130573, 130574, 130577, 130578, 130580,
+        130581, 130583, 130584, 130586, 130816
+    };
+
+    //one bit per 18 bit pgn
+    private final long[] fastPackets = new long[1 << 12];
+
+    /**
+     * Creates a registry of the standard fast-packet PGNs.
+     */
+    public FASTData() {
+        for (final int pgn : FAST_PACKET_PGNS) {
+            setFastPacket(pgn, true);
+        }
+    }
+
+    public void setFastPacket(final int pgn, final boolean fast) {
+        final int pgnBits = pgn & 0x3FFFF;
+        if (fast) {
+            fastPackets[pgnBits >>> 6] |= 1L << pgnBits;
+        }
+        else {
+            fastPackets[pgnBits >>> 6] &= ~(1L << pgnBits);
+        }
+    }
+
+    public boolean isFastPacket(final int pgn) {
+        final int pgnBits = pgn & 0x3FFFF;
+        return (fastPackets[pgnBits >>> 6] & (1L << pgnBits)) != 0;
+    }
+
+    public static int sequence(final long payload) {
+        return (int) (payload >>> 5) & 0x7;
+    }
+
+    public static int frameIndex(final long payload) {
+        return (int) payload & 0x1F;
+    }
+
+    /**
+     * Total length announced by frame 0.
+     */
+    public static int length(final long payload) {
+        return (int) (payload >>> 8) & 0xFF;
+    }
 }
@@ -0,0 +1,273 @@
+package llc.berserkr.nmea.n2k;
+
+import java.util.Arrays;
+
+/**
+ * Reassembles fast-packet PGNs from single CAN frames and passes complete
+ * payloads, as well as single frame PGNs, to a {@link PacketListener}.
+ * <p>
+ * Sequences in progress are tracked per source address and PGN in a fixed
+ * table of primitive arrays, a few slots per source address. Payloads are
+ * assembled into slices of one preallocated buffer, so no allocation is done
+ * per frame. A sequence is dropped if a frame is missing, the sequence
+ * counter changes or no frame arrives within the timeout; when all slots of
+ * a source are in use the oldest sequence is replaced.
+ * <p>
+ * Instances are not thread safe, frames of a bus are expected to be fed from
+ * a single reader thread.
+ */
+public class FastPacketAssembler implements FrameListener {
+
+    public static final long DEFAULT_TIMEOUT = 750;
+
+    public static final int DEFAULT_SLOTS_PER_SOURCE = 4;
+
+    private static final int SOURCES = 256;
+
+    private static final int FREE = -1;
+
+    private final PacketListener listener;
+    private final FASTData fastData;
+    private final int slotsPerSource;
+    private final long timeout;
+
+    //slot = source * slotsPerSource + n
+    private final int[] pgns;
+    private final int[] ids;
+    private final int[] sequences;
+    private final int[] nextIndexes;
+    private final int[] lengths;
+    private final int[] received;
+    private final long[] times;
+    private final byte[] buffers;
+
+    private final byte[] single = new byte[8];
+
+    private long completed;
+    private long dropped;
+
+    public FastPacketAssembler(final PacketListener listener) {
+        this(listener, new FASTData(), DEFAULT_SLOTS_PER_SOURCE, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * @param listener receives complete payloads
+     * @param fastData registry of PGNs to reassemble
+     * @param slotsPerSource concurrent sequences tracked per source address
+     * @param timeout milliseconds allowed between frames of a sequence
+     */
+    public FastPacketAssembler(
+        final PacketListener listener,
+        final FASTData fastData,
+        final int slotsPerSource,
+        final long timeout
+    ) {
+
+        if (listener == null || fastData == null) {
+            throw new IllegalArgumentException("listener and fast data cannot be null");
+        }
+        if (slotsPerSource < 1) {
+            throw new IllegalArgumentException("at least one slot per source is required");
+        }
+
+        this.listener = listener;
+        this.fastData = fastData;
+        this.slotsPerSource = slotsPerSource;
+        this.timeout = timeout;
+
+        final int slots = SOURCES * slotsPerSource;
+
+        this.pgns = new int[slots];
+        this.ids = new int[slots];
+        this.sequences = new int[slots];
+        this.nextIndexes = new int[slots];
+        this.lengths = new int[slots];
+        this.received = new int[slots];
+        this.times = new long[slots];
+        this.buffers = new byte[slots * FASTData.MAX_LENGTH];
+
+        Arrays.fill(pgns, FREE);
+
+    }
+
+    /**
+     * Feeds a single CAN frame.
+     *
+     * @param id 29 bit CAN id
+     * @param payload frame data, first byte least significant
+     * @param length frame data length 0..8
+     * @param time receive time in milliseconds
+     */
+    @Override
+    public void frame(final int id, final long payload, final int length, final long time) {
+
+        final int pgn = CANID.pgn(id);
+
+        if (!fastData.isFastPacket(pgn)) {
+            CANFrame.write(payload, single, 0, length);
+            listener.packet(id, single, 0, length);
+            return;
+        }
+
+        if (length < 2) {
+            dropped++;
+            return;
+        }
+
+        final int source = CANID.source(id);
+        final int index = FASTData.frameIndex(payload);
+        final int sequence = FASTData.sequence(payload);
+
+        final int slot;
+
+        if (index == 0) {
+
+            slot = claim(source, pgn, time);
+
+            pgns[slot] = pgn;
+            ids[slot] = id;
+            sequences[slot] = sequence;
+            lengths[slot] = Math.min(FASTData.length(payload), FASTData.MAX_LENGTH);
+            received[slot] = 0;
+
+            append(slot, payload, 2, length);
+
+        }
+        else {
+
+            slot = find(source, pgn);
+
+            if (slot == FREE) {
+                dropped++;
+                return;
+            }
+
+            if (sequences[slot] != sequence
+                || nextIndexes[slot] != index
+                || time - times[slot] > timeout) {
+                pgns[slot] = FREE;
+                dropped++;
+                return;
+            }
+
+            append(slot, payload, 1, length);
+
+        }
+
+        if (received[slot] >= lengths[slot]) {
+            pgns[slot] = FREE;
+            completed++;
+            listener.packet(ids[slot], buffers, slot * FASTData.MAX_LENGTH, lengths[slot]);
+        }
+        else {
+            nextIndexes[slot] = index + 1;
+            times[slot] = time;
+        }
+
+    }
+
+    /**
+     * Drops sequences that have not received a frame within the timeout.
+     *
+     * @param now current time in milliseconds
+     * @return number of sequences dropped
+     */
+    public int expire(final long now) {
+
+        int expired = 0;
+
+        for (int slot = 0; slot < pgns.length; slot++) {
+            if (pgns[slot] != FREE && now - times[slot] > timeout) {
+                pgns[slot] = FREE;
+                expired++;
+            }
+        }
+
+        dropped += expired;
+
+        return expired;
+
+    }
+
+    /**
+     * Number of fast-packet payloads emitted.
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Number of frames or sequences discarded as incomplete.
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    private void append(final int slot, final long payload, final int from, final int length) {
+
+        final int offset = slot * FASTData.MAX_LENGTH;
+        final int count = Math.min(length - from, lengths[slot] - received[slot]);
+
+        for (int i = 0; i < count; i++) {
+            buffers[offset + received[slot] + i] = (byte) (payload >>> ((from + i) << 3));
+        }
+
+        received[slot] += count;
+
+    }
+
+    private int find(final int source, final int pgn) {
+
+        final int first = source * slotsPerSource;
+
+        for (int slot = first; slot < first + slotsPerSource; slot++) {
+            if (pgns[slot] == pgn) {
+                return slot;
+            }
+        }
+
+        return FREE;
+
+    }
+
+    /**
+     * Returns the slot of the sequence in progress for source and pgn,
+     * otherwise a free, expired or the oldest slot of the source.
+     */
+    private int claim(final int source, final int pgn, final long time) {
+
+        final int existing = find(source, pgn);
+
+        if (existing != FREE) {
+            //new sequence restarts an unfinished one
+            dropped++;
+            return existing;
+        }
+
+        final int first = source * slotsPerSource;
+
+        int oldest = first;
+
+        for (int slot = first; slot < first + slotsPerSource; slot++) {
+
+            if (pgns[slot] == FREE) {
+                return slot;
+            }
+
+            if (time - times[slot] > timeout) {
+                dropped++;
+                return slot;
+            }
+
+            if (times[slot] < times[oldest]) {
+                oldest = slot;
+            }
+
+        }
+
+        dropped++;
+
+        return oldest;
+
+    }
+}
@@ -0,0 +1,402 @@
+package llc.berserkr.nmea.n2k;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Extracts a single field of a PGN payload. Instances are compiled from the
+ * field definition by {@link #compile}, which picks a specialized extractor
+ * for byte aligned 8, 16, 32 and 64 bit fields and a generic shifting one
+ * for other bit fields, so no field metadata is interpreted per frame. For
+ * encoding, {@link #write} stores a raw value back into the payload.
+ */
+public abstract class FieldDecoder {
+
+    private final String name;
+    private final int bitOffset;
+    private final int bitLength;
+    private final double resolution;
+    private final boolean signed;
+    private final String unit;
+    private final Map<Integer, String> lookup;
+
+    //raw value meaning "data not available"
+    private final long notAvailable;
+
+    FieldDecoder(
+        final String name,
+        final int bitOffset,
+        final int bitLength,
+        final double resolution,
+        final boolean signed,
+        final String unit,
+        final Map<Integer, String> lookup
+    ) {
+        this.name = name;
+        this.bitOffset = bitOffset;
+        this.bitLength = bitLength;
+        this.resolution = resolution;
+        this.signed = signed;
+        this.unit = unit;
+        this.lookup = lookup == null ? Collections.emptyMap() : lookup;
+
+        if (bitLength == 64) {
+            this.notAvailable = signed ? Long.MAX_VALUE : -1L;
+        }
+        else {
+            this.notAvailable = signed ? (1L << (bitLength - 1)) - 1 : (1L << bitLength) - 1;
+        }
+    }
+
+    /**
+     * Creates the extractor for a field definition.
+     *
+     * @throws IllegalArgumentException if the field does not fit in 64 bits
+     */
+    public static FieldDecoder compile(
+        final String name,
+        final int bitOffset,
+        final int bitLength,
+        final double resolution,
+        final boolean signed,
+        final String unit,
+        final Map<Integer, String> lookup
+    ) {
+
+        if (bitOffset < 0 || bitLength < 1 || bitLength > 64) {
+            throw new IllegalArgumentException("invalid bit range for field " + name);
+        }
+
+        final int byteOffset = bitOffset >>> 3;
+
+        if ((bitOffset & 7) == 0) {
+            switch (bitLength) {
+                case 8:
+                    return signed
+                        ? new Signed8(name, bitOffset, resolution, unit, lookup, byteOffset)
+                        : new Unsigned8(name, bitOffset, resolution, unit, lookup, byteOffset);
+                case 16:
+                    return new Aligned16(name, bitOffset, resolution, signed, unit, lookup, byteOffset);
+                case 32:
+                    return new Aligned32(name, bitOffset, resolution, signed, unit, lookup, byteOffset);
+                case 64:
+                    return new Aligned64(name, bitOffset, resolution, signed, unit, lookup, byteOffset);
+                default:
+                    break;
+            }
+        }
+
+        if ((bitOffset & 7) + bitLength > 64) {
+            throw new IllegalArgumentException("field " + name + " spans more than 8 bytes");
+        }
+
+        return new Bits(name, bitOffset, bitLength, resolution, signed, unit, lookup);
+
+    }
+
+    /**
+     * Reads the raw value, sign extended for signed fields. The caller must
+     * check that the field lies within the payload, see
+     * {@link #isPresent(int)}.
+     */
+    public abstract long raw(byte[] data, int offset);
+
+    /**
+     * True when the payload of given length covers the field.
+     */
+    public boolean isPresent(final int length) {
+        return bitOffset + bitLength <= length << 3;
+    }
+
+    /**
+     * True unless the raw value is the reserved "data not available" value,
+     * all ones for unsigned and the maximum for signed fields.
+     */
+    public boolean isAvailable(final long raw) {
+        return bitLength == 1 || raw != notAvailable;
+    }
+
+    /**
+     * Scaled value of the field, {@link Double#NaN} if it is not present or
+     * not available.
+     */
+    public double value(final byte[] data, final int offset, final int length) {
+
+        if (!isPresent(length)) {
+            return Double.NaN;
+        }
+
+        final long raw = raw(data, offset);
+
+        if (!isAvailable(raw)) {
+            return Double.NaN;
+        }
+
+        if (!signed && raw < 0) {
+            //unsigned 64 bit
+            return (((raw >>> 1) * 2.0) + (raw & 1)) * resolution;
+        }
+
+        return raw * resolution;
+
+    }
+
+    /**
+     * Raw value of a scaled value, rounded to the resolution and clamped to
+     * the valid range of the field. {@link Double#NaN} gives the "data not
+     * available" value.
+     */
+    public long toRaw(final double value) {
+
+        if (Double.isNaN(value)) {
+            return notAvailable;
+        }
+
+        final long max = bitLength == 1 ? 1 : bitLength == 64 ? Long.MAX_VALUE - 1 : notAvailable - 1;
+        final long min = !signed ? 0 : bitLength == 64 ? Long.MIN_VALUE : -(1L << (bitLength - 1));
+
+        final double raw = Math.rint(value / resolution);
+
+        if (raw >= max) {
+            return max;
+        }
+        if (raw <= min) {
+            return min;
+        }
+
+        return (long) raw;
+
+    }
+
+    /**
+     * Writes the low bits of the raw value into the field, leaving the rest
+     * of the payload untouched. The payload must cover the field.
+     */
+    public void write(final byte[] data, final int offset, final long raw) {
+
+        int bit = 0;
+
+        while (bit < bitLength) {
+
+            final int position = bitOffset + bit;
+            final int index = offset + (position >>> 3);
+            final int shift = position & 7;
+            final int count = Math.min(8 - shift, bitLength - bit);
+            final int mask = ((1 << count) - 1) << shift;
+
+            data[index] = (byte) ((data[index] & ~mask) | (((int) (raw >>> bit) << shift) & mask));
+
+            bit += count;
+
+        }
+
+    }
+
+    /**
+     * Name of the raw value in the lookup table of the field, or {@code null}.
+     */
+    public String lookup(final long raw) {
+        return lookup.get((int) raw);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getBitOffset() {
+        return bitOffset;
+    }
+
+    public int getBitLength() {
+        return bitLength;
+    }
+
+    public double getResolution() {
+        return resolution;
+    }
+
+    public boolean isSigned() {
+        return signed;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public Map<Integer, String> getLookup() {
+        return lookup;
+    }
+
+    private static long uint16(final byte[] data, final int i) {
+        return (data[i] & 0xFF) | ((data[i + 1] & 0xFF) << 8);
+    }
+
+    private static long uint32(final byte[] data, final int i) {
+        return uint16(data, i) | (uint16(data, i + 2) << 16);
+    }
+
+    private static final class Unsigned8 extends FieldDecoder {
+
+        private final int byteOffset;
+
+        Unsigned8(
+            final String name,
+            final int bitOffset,
+            final double resolution,
+            final String unit,
+            final Map<Integer, String> lookup,
+            final int byteOffset
+        ) {
+            super(name, bitOffset, 8, resolution, false, unit, lookup);
+            this.byteOffset = byteOffset;
+        }
+
+        @Override
+        public long raw(final byte[] data, final int offset) {
+            return data[offset + byteOffset] & 0xFF;
+        }
+    }
+
+    private static final class Signed8 extends FieldDecoder {
+
+        private final int byteOffset;
+
+        Signed8(
+            final String name,
+            final int bitOffset,
+            final double resolution,
+            final String unit,
+            final Map<Integer, String> lookup,
+            final int byteOffset
+        ) {
+            super(name, bitOffset, 8, resolution, true, unit, lookup);
+            this.byteOffset = byteOffset;
+        }
+
+        @Override
+        public long raw(final byte[] data, final int offset) {
+            return data[offset + byteOffset];
+        }
+    }
+
+    private static final class Aligned16 extends FieldDecoder {
+
+        private final int byteOffset;
+        private final boolean signed;
+
+        Aligned16(
+            final String name,
+            final int bitOffset,
+            final double resolution,
+            final boolean signed,
+            final String unit,
+            final Map<Integer, String> lookup,
+            final int byteOffset
+        ) {
+            super(name, bitOffset, 16, resolution, signed, unit, lookup);
+            this.byteOffset = byteOffset;
+            this.signed = signed;
+        }
+
+        @Override
+        public long raw(final byte[] data, final int offset) {
+            final long raw = uint16(data, offset + byteOffset);
+            return signed ? (short) raw : raw;
+        }
+    }
+
+    private static final class Aligned32 extends FieldDecoder {
+
+        private final int byteOffset;
+        private final boolean signed;
+
+        Aligned32(
+            final String name,
+            final int bitOffset,
+            final double resolution,
+            final boolean signed,
+            final String unit,
+            final Map<Integer, String> lookup,
+            final int byteOffset
+        ) {
+            super(name, bitOffset, 32, resolution, signed, unit, lookup);
+            this.byteOffset = byteOffset;
+            this.signed = signed;
+        }
+
+        @Override
+        public long raw(final byte[] data, final int offset) {
+            final long raw = uint32(data, offset + byteOffset);
+            return signed ? (int) raw : raw;
+        }
+    }
+
+    private static final class Aligned64 extends FieldDecoder {
+
+        private final int byteOffset;
+
+        Aligned64(
+            final String name,
+            final int bitOffset,
+            final double resolution,
+            final boolean signed,
+            final String unit,
+            final Map<Integer, String> lookup,
+            final int byteOffset
+        ) {
+            super(name, bitOffset, 64, resolution, signed, unit, lookup);
+            this.byteOffset = byteOffset;
+        }
+
+        @Override
+        public long raw(final byte[] data, final int offset) {
+            final int i = offset + byteOffset;
+            return uint32(data, i) | (uint32(data, i + 4) << 32);
+        }
+    }
+
+    private static final class Bits extends FieldDecoder {
+
+        private final int byteOffset;
+        private final int byteCount;
+        private final int shift;
+        private final int extend;
+        private final long mask;
+        private final boolean signed;
+
+        Bits(
+            final String name,
+            final int bitOffset,
+            final int bitLength,
+            final double resolution,
+            final boolean signed,
+            final String unit,
+            final Map<Integer, String> lookup
+        ) {
+            super(name, bitOffset, bitLength, resolution, signed, unit, lookup);
+            this.byteOffset = bitOffset >>> 3;
+            this.shift = bitOffset & 7;
+            this.byteCount = (shift + bitLength + 7) >>> 3;
+            this.extend = 64 - bitLength;
+            this.mask = bitLength == 64 ? -1L : (1L << bitLength) - 1;
+            this.signed = signed;
+        }
+
+        @Override
+        public long raw(final byte[] data, final int offset) {
+
+            final int start = offset + byteOffset;
+
+            long bits = 0;
+
+            for (int i = byteCount - 1; i >= 0; i--) {
+                bits = (bits << 8) | (data[start + i] & 0xFF);
+            }
+
+            final long raw = (bits >>> shift) & mask;
+
+            return signed ? (raw << extend) >> extend : raw;
+
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package llc.berserkr.nmea.n2k;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes raw Linux SocketCAN {@code struct can_frame} records, 16 bytes
+ * each in little endian order: 32 bit id with EFF/RTR/ERR flags, length,
+ * 3 padding bytes and 8 data bytes. Only extended data frames are emitted,
+ * standard, remote and error frames are skipped.
+ */
+public interface FrameBatchDecoder {
+
+    int FRAME_SIZE = 16;
+
+    int EFF_FLAG = 0x80000000;
+    int RTR_FLAG = 0x40000000;
+    int ERR_FLAG = 0x20000000;
+
+    /**
+     * Decodes whole frames from the position of the buffer into the batch,
+     * replacing its contents, until the buffer has no whole frame left or
+     * the batch is full. The buffer position is advanced past the frames
+     * consumed.
+     *
+     * @return number of frames in the batch
+     */
+    int decode(ByteBuffer frames, CanFrameBatch batch);
+
+    /**
+     * The native decoder if the canboat library is available, otherwise the
+     * Java decoder.
+     */
+    static FrameBatchDecoder create() {
+        return NativeFrameDecoder.isAvailable() ? new NativeFrameDecoder() : new JavaFrameDecoder();
+    }
+}
@@ -0,0 +1,17 @@
+package llc.berserkr.nmea.n2k;
+
+/**
+ * Receives single CAN frames, the common input of the frame pipeline stages
+ * and the output used for sending frames.
+ */
+public interface FrameListener {
+
+    /**
+     * @param id 29 bit CAN id, see {@link CANID}
+     * @param payload frame data, first byte least significant, see {@link CANFrame}
+     * @param length frame data length 0..8
+     * @param time receive or send time in milliseconds
+     */
+    void frame(int id, long payload, int length, long time);
+
+}
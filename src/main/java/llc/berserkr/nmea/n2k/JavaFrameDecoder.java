@@ -0,0 +1,54 @@
+package llc.berserkr.nmea.n2k;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Pure Java {@link FrameBatchDecoder}, producing the same output as
+ * {@link NativeFrameDecoder}.
+ */
+public class JavaFrameDecoder implements FrameBatchDecoder {
+
+    @Override
+    public int decode(final ByteBuffer frames, final CanFrameBatch batch) {
+
+        batch.count = 0;
+
+        final int capacity = batch.getCapacity();
+        final ByteOrder order = frames.order();
+
+        int position = frames.position();
+        final int limit = frames.limit();
+
+        frames.order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+
+            while (limit - position >= FRAME_SIZE && batch.count < capacity) {
+
+                final int canId = frames.getInt(position);
+
+                if ((canId & (EFF_FLAG | RTR_FLAG | ERR_FLAG)) == EFF_FLAG) {
+
+                    final int length = Math.min(frames.get(position + 4) & 0xFF, 8);
+                    final long data = frames.getLong(position + 8);
+
+                    batch.add(canId & 0x1FFFFFFF, length, length == 8 ? data : data & ((1L << (length << 3)) - 1));
+
+                }
+
+                position += FRAME_SIZE;
+
+            }
+
+        }
+        finally {
+            frames.order(order);
+        }
+
+        frames.position(position);
+
+        return batch.count;
+
+    }
+}
@@ -1,14 +1,67 @@
 package llc.berserkr.nmea.n2k;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+
 public class N2KDecoder {
 
-    public static void main(final String[] args) {
+    /**
+     * Replays a bus capture through the frame pipeline and prints the
+     * message count per PGN and the throughput.
+     *
+     * @param args format (candump, actisense or plain) and capture file
+     */
+    public static void main(final String[] args) throws IOException {
 
-        final N2KDecoder decoder = new N2KDecoder();
+        if (args.length != 2) {
+            System.err.println("usage: N2KDecoder candump|actisense|plain <file>");
+            System.exit(1);
+        }
 
+        final long[] counts = new long[1 << 18];
 
+        final PacketListener counter = (id, data, offset, length) -> counts[CANID.pgn(id)]++;
 
-    }
+        final FrameListener pipeline = new TransportSessionManager(new FastPacketAssembler(counter), counter);
+
+        final N2KStreamReader reader;
+
+        switch (args[0]) {
+            case "candump":
+                reader = new CandumpReader(pipeline, counter);
+                break;
+            case "actisense":
+                reader = new ActisenseReader(pipeline, counter);
+                break;
+            case "plain":
+                reader = new CanboatPlainReader(pipeline, counter);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown format " + args[0]);
+        }
 
+        final long start = System.nanoTime();
+        final long bytes = reader.readFile(Paths.get(args[1]));
+        final double seconds = (System.nanoTime() - start) / 1e9;
 
+        long messages = 0;
+
+        for (int pgn = 0; pgn < counts.length; pgn++) {
+            if (counts[pgn] > 0) {
+                System.out.printf("%6d %10d%n", pgn, counts[pgn]);
+                messages += counts[pgn];
+            }
+        }
+
+        System.out.printf(
+            "%d records, %d errors, %d messages in %.3f s, %.1f MB/s, %.0f records/s%n",
+            reader.getRecords(),
+            reader.getErrors(),
+            messages,
+            seconds,
+            bytes / seconds / 1e6,
+            reader.getRecords() / seconds
+        );
+
+    }
 }
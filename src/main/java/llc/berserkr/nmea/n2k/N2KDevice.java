@@ -0,0 +1,225 @@
+package llc.berserkr.nmea.n2k;
+
+/**
+ * Immutable state of a device at a source address, as tracked by
+ * {@link N2KNetworkMap}. The 64 bit ISO NAME is kept as claimed, its fields
+ * are decoded on request.
+ */
+public final class N2KDevice {
+
+    public static final long NO_NAME = 0;
+
+    private final int address;
+    private final long name;
+    private final long claimTime;
+    private final int conflicts;
+    private final long conflictName;
+
+    private final int productCode;
+    private final int nmea2000Version;
+    private final String modelId;
+    private final String softwareVersion;
+    private final String modelVersion;
+    private final String serialCode;
+    private final int certificationLevel;
+    private final int loadEquivalency;
+
+    N2KDevice(
+        final int address,
+        final long name,
+        final long claimTime,
+        final int conflicts,
+        final long conflictName,
+        final int productCode,
+        final int nmea2000Version,
+        final String modelId,
+        final String softwareVersion,
+        final String modelVersion,
+        final String serialCode,
+        final int certificationLevel,
+        final int loadEquivalency
+    ) {
+        this.address = address;
+        this.name = name;
+        this.claimTime = claimTime;
+        this.conflicts = conflicts;
+        this.conflictName = conflictName;
+        this.productCode = productCode;
+        this.nmea2000Version = nmea2000Version;
+        this.modelId = modelId;
+        this.softwareVersion = softwareVersion;
+        this.modelVersion = modelVersion;
+        this.serialCode = serialCode;
+        this.certificationLevel = certificationLevel;
+        this.loadEquivalency = loadEquivalency;
+    }
+
+    static N2KDevice empty(final int address) {
+        return claimed(address, NO_NAME, 0, 0, NO_NAME);
+    }
+
+    static N2KDevice claimed(
+        final int address,
+        final long name,
+        final long time,
+        final int conflicts,
+        final long conflictName
+    ) {
+        return new N2KDevice(address, name, time, conflicts, conflictName, -1, -1, null, null, null, null, -1, -1);
+    }
+
+    N2KDevice withClaim(final long name, final long time) {
+        return new N2KDevice(
+            address, name, time, conflicts, conflictName,
+            productCode, nmea2000Version, modelId, softwareVersion, modelVersion, serialCode,
+            certificationLevel, loadEquivalency
+        );
+    }
+
+    /**
+     * The holder defended the address against the losing NAME.
+     */
+    N2KDevice withConflict(final long loser) {
+        return new N2KDevice(
+            address, name, claimTime, conflicts + 1, loser,
+            productCode, nmea2000Version, modelId, softwareVersion, modelVersion, serialCode,
+            certificationLevel, loadEquivalency
+        );
+    }
+
+    N2KDevice withProduct(
+        final int productCode,
+        final int nmea2000Version,
+        final String modelId,
+        final String softwareVersion,
+        final String modelVersion,
+        final String serialCode,
+        final int certificationLevel,
+        final int loadEquivalency
+    ) {
+        return new N2KDevice(
+            address, name, claimTime, conflicts, conflictName,
+            productCode, nmea2000Version, modelId, softwareVersion, modelVersion, serialCode,
+            certificationLevel, loadEquivalency
+        );
+    }
+
+    public int getAddress() {
+        return address;
+    }
+
+    /**
+     * The claimed 64 bit NAME, {@link #NO_NAME} if no claim has been seen.
+     */
+    public long getName() {
+        return name;
+    }
+
+    public boolean isClaimed() {
+        return name != NO_NAME;
+    }
+
+    /**
+     * Time of the last address claim in milliseconds.
+     */
+    public long getClaimTime() {
+        return claimTime;
+    }
+
+    /**
+     * Number of claims of the address by another NAME.
+     */
+    public int getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * NAME that lost the last conflict, {@link #NO_NAME} if none.
+     */
+    public long getConflictName() {
+        return conflictName;
+    }
+
+    public int getUniqueNumber() {
+        return (int) (name & 0x1FFFFF);
+    }
+
+    public int getManufacturerCode() {
+        return (int) (name >>> 21) & 0x7FF;
+    }
+
+    public int getDeviceInstance() {
+        return (int) (name >>> 32) & 0xFF;
+    }
+
+    public int getDeviceFunction() {
+        return (int) (name >>> 40) & 0xFF;
+    }
+
+    public int getDeviceClass() {
+        return (int) (name >>> 49) & 0x7F;
+    }
+
+    public int getSystemInstance() {
+        return (int) (name >>> 56) & 0xF;
+    }
+
+    public int getIndustryGroup() {
+        return (int) (name >>> 60) & 0x7;
+    }
+
+    public boolean isArbitraryAddressCapable() {
+        return name < 0;
+    }
+
+    public boolean hasProductInformation() {
+        return productCode >= 0;
+    }
+
+    public int getProductCode() {
+        return productCode;
+    }
+
+    /**
+     * NMEA 2000 database version times 1000.
+     */
+    public int getNmea2000Version() {
+        return nmea2000Version;
+    }
+
+    public String getModelId() {
+        return modelId;
+    }
+
+    public String getSoftwareVersion() {
+        return softwareVersion;
+    }
+
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    public String getSerialCode() {
+        return serialCode;
+    }
+
+    public int getCertificationLevel() {
+        return certificationLevel;
+    }
+
+    public int getLoadEquivalency() {
+        return loadEquivalency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%3d %016X %s %s %s",
+            address,
+            name,
+            modelId == null ? "-" : modelId,
+            softwareVersion == null ? "-" : softwareVersion,
+            serialCode == null ? "-" : serialCode
+        );
+    }
+}
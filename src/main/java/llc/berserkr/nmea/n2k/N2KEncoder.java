@@ -0,0 +1,361 @@
+package llc.berserkr.nmea.n2k;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Encodes NMEA 2000 messages into SocketCAN {@code struct can_frame} records,
+ * the format read by {@link FrameBatchDecoder}, written to a caller supplied
+ * buffer of consecutive frames ready for a raw CAN socket or a capture.
+ * <p>
+ * A message is staged with {@link #begin(int)} and the field setters, which
+ * write raw values through the compiled {@link FieldDecoder} layouts, and is
+ * then split by {@link #encode(int, int, int, ByteBuffer)} into a single
+ * frame or a fast-packet sequence. Fast-packet sequence counters are kept per
+ * PGN and source address. Staging and encoding reuse preallocated buffers,
+ * nothing is allocated per message or frame once the counter of a PGN and
+ * source exists. Instances are not thread safe.
+ */
+public class N2KEncoder {
+
+    private final PgnDefinitions definitions;
+
+    private final byte[] data = new byte[FASTData.MAX_LENGTH];
+
+    private final Sequences sequences = new Sequences();
+
+    private PgnDecoder decoder;
+    private int length;
+
+    public N2KEncoder() {
+        this(PgnDefinitions.standard());
+    }
+
+    public N2KEncoder(final PgnDefinitions definitions) {
+        if (definitions == null) {
+            throw new IllegalArgumentException("definitions cannot be null");
+        }
+        this.definitions = definitions;
+    }
+
+    /**
+     * Starts a message of a defined PGN with every field set to "data not
+     * available". The length is 8 bytes for single frame PGNs and the length
+     * covering all defined fields for fast-packet PGNs.
+     *
+     * @throws IllegalArgumentException if the PGN has no definition
+     */
+    public N2KEncoder begin(final int pgn) {
+
+        final PgnDecoder decoder = definitions.get(pgn);
+
+        if (decoder == null) {
+            throw new IllegalArgumentException("no definition for pgn " + pgn);
+        }
+
+        this.decoder = decoder;
+        this.length = decoder.isFastPacket() ? decoder.getLength() : 8;
+
+        //reserved bits are ones, signed fields are not available at their maximum
+        Arrays.fill(data, 0, length, (byte) 0xFF);
+
+        for (int i = 0; i < decoder.getFieldCount(); i++) {
+            final FieldDecoder field = decoder.getField(i);
+            if (field.isSigned() && field.isPresent(length)) {
+                field.write(data, 0, field.toRaw(Double.NaN));
+            }
+        }
+
+        return this;
+
+    }
+
+    /**
+     * Sets the payload length of the message, for fast-packet PGNs with
+     * fields beyond the definition. New bytes are set to 0xFF.
+     *
+     * @throws IllegalArgumentException if the length does not fit the PGN
+     */
+    public N2KEncoder setLength(final int length) {
+
+        final int max = decoder().isFastPacket() ? FASTData.MAX_LENGTH : 8;
+
+        if (length < 0 || length > max) {
+            throw new IllegalArgumentException("length must be 0.." + max);
+        }
+
+        if (length > this.length) {
+            Arrays.fill(data, this.length, length, (byte) 0xFF);
+        }
+
+        this.length = length;
+
+        return this;
+
+    }
+
+    /**
+     * Sets a field to a scaled value, {@link Double#NaN} for not available.
+     *
+     * @param field field index of the decoder
+     */
+    public N2KEncoder set(final int field, final double value) {
+        final FieldDecoder decoder = field(field);
+        decoder.write(data, 0, decoder.toRaw(value));
+        return this;
+    }
+
+    /**
+     * Sets the named field to a scaled value.
+     *
+     * @throws IllegalArgumentException if the PGN has no such field
+     */
+    public N2KEncoder set(final String field, final double value) {
+        return set(indexOf(field), value);
+    }
+
+    /**
+     * Sets a field to a raw value, such as a lookup value or the parts of a
+     * NAME.
+     *
+     * @param field field index of the decoder
+     */
+    public N2KEncoder setRaw(final int field, final long raw) {
+        field(field).write(data, 0, raw);
+        return this;
+    }
+
+    /**
+     * Sets the named field to a raw value.
+     *
+     * @throws IllegalArgumentException if the PGN has no such field
+     */
+    public N2KEncoder setRaw(final String field, final long raw) {
+        return setRaw(indexOf(field), raw);
+    }
+
+    /**
+     * Copies bytes into the payload, for fields without a definition such as
+     * strings.
+     */
+    public N2KEncoder setBytes(final int index, final byte[] bytes, final int offset, final int count) {
+        if (index < 0 || index + count > length) {
+            throw new IllegalArgumentException("bytes " + index + ".." + (index + count) + " outside payload of " + length);
+        }
+        System.arraycopy(bytes, offset, data, index, count);
+        return this;
+    }
+
+    /**
+     * Decoder of the staged PGN.
+     */
+    public PgnDecoder getDecoder() {
+        return decoder;
+    }
+
+    /**
+     * Payload length of the staged message.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Writes the staged message as frames at the position of the buffer.
+     *
+     * @return number of frames written
+     * @throws BufferOverflowException if the buffer has no room for all
+     *             frames, nothing is written then
+     */
+    public int encode(final int priority, final int destination, final int source, final ByteBuffer frames) {
+        final PgnDecoder decoder = decoder();
+        return encode(
+            CANID.id(priority, decoder.getPgn(), destination, source),
+            data,
+            0,
+            length,
+            decoder.isFastPacket(),
+            frames
+        );
+    }
+
+    /**
+     * Splits a payload into a single frame, or into fast-packet frames with
+     * the next sequence counter of the PGN and source, at the position of
+     * the buffer. Unused bytes of the last frame are set to 0xFF.
+     *
+     * @return number of frames written
+     * @throws IllegalArgumentException if the payload is too long
+     * @throws BufferOverflowException if the buffer has no room for all
+     *             frames, nothing is written then
+     */
+    public int encode(
+        final int id,
+        final byte[] data,
+        final int offset,
+        final int length,
+        final boolean fastPacket,
+        final ByteBuffer frames
+    ) {
+
+        final int count = frameCount(length, fastPacket);
+
+        if (frames.remaining() < count * FrameBatchDecoder.FRAME_SIZE) {
+            throw new BufferOverflowException();
+        }
+
+        final ByteOrder order = frames.order();
+        frames.order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+
+            if (!fastPacket) {
+                frame(frames, id, length, payload(data, offset, length));
+                return 1;
+            }
+
+            final int sequence = sequences.next(CANID.source(id) << 18 | CANID.pgn(id)) << 5;
+
+            //first frame carries the sequence, frame index 0 and the length
+            final long first = payload(data, offset, Math.min(length, FASTData.FIRST_FRAME_DATA));
+            frame(frames, id, 8, sequence | length << 8 | first << 16);
+
+            int index = offset + FASTData.FIRST_FRAME_DATA;
+            final int end = offset + length;
+
+            for (int frame = 1; frame < count; frame++) {
+                frame(frames, id, 8, sequence | frame | payload(data, index, Math.min(end - index, FASTData.FRAME_DATA)) << 8);
+                index += FASTData.FRAME_DATA;
+            }
+
+            return count;
+
+        }
+        finally {
+            frames.order(order);
+        }
+
+    }
+
+    /**
+     * Number of frames of a payload.
+     *
+     * @throws IllegalArgumentException if the payload is too long
+     */
+    public static int frameCount(final int length, final boolean fastPacket) {
+
+        if (!fastPacket) {
+            if (length < 0 || length > 8) {
+                throw new IllegalArgumentException("single frame length must be 0..8");
+            }
+            return 1;
+        }
+
+        if (length < 0 || length > FASTData.MAX_LENGTH) {
+            throw new IllegalArgumentException("fast packet length must be 0.." + FASTData.MAX_LENGTH);
+        }
+
+        return length <= FASTData.FIRST_FRAME_DATA
+            ? 1
+            : 1 + (length - FASTData.FIRST_FRAME_DATA + FASTData.FRAME_DATA - 1) / FASTData.FRAME_DATA;
+
+    }
+
+    /**
+     * Packs up to 8 bytes, padded with 0xFF.
+     */
+    private static long payload(final byte[] data, final int offset, final int length) {
+        long payload = -1L;
+        for (int i = length - 1; i >= 0; i--) {
+            payload = (payload << 8) | (data[offset + i] & 0xFF);
+        }
+        return payload;
+    }
+
+    private static void frame(final ByteBuffer frames, final int id, final int length, final long payload) {
+        final int position = frames.position();
+        frames.putInt(position, FrameBatchDecoder.EFF_FLAG | id);
+        frames.putInt(position + 4, length);
+        frames.putLong(position + 8, payload);
+        frames.position(position + FrameBatchDecoder.FRAME_SIZE);
+    }
+
+    private FieldDecoder field(final int field) {
+        return decoder().getField(field);
+    }
+
+    private int indexOf(final String field) {
+        final int index = decoder().indexOf(field);
+        if (index < 0) {
+            throw new IllegalArgumentException("pgn " + decoder.getPgn() + " has no field " + field);
+        }
+        return index;
+    }
+
+    private PgnDecoder decoder() {
+        if (decoder == null) {
+            throw new IllegalStateException("no message begun");
+        }
+        return decoder;
+    }
+
+    /**
+     * Open addressing table of 3 bit fast-packet sequence counters keyed by
+     * source and PGN.
+     */
+    private static final class Sequences {
+
+        //keys are stored plus one, 0 marks a free slot
+        private int[] keys = new int[64];
+        private byte[] counters = new byte[64];
+        private int size;
+
+        int next(final int key) {
+
+            final int slot = slot(key);
+
+            if (keys[slot] == 0) {
+                keys[slot] = key + 1;
+                if (++size * 2 > keys.length) {
+                    grow();
+                    return next(key);
+                }
+            }
+
+            final int counter = counters[slot];
+            counters[slot] = (byte) ((counter + 1) & 7);
+
+            return counter;
+
+        }
+
+        private int slot(final int key) {
+            final int mask = keys.length - 1;
+            int slot = (key * 0x9E3779B9 >>> 16) & mask;
+            while (keys[slot] != 0 && keys[slot] != key + 1) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+
+            final int[] oldKeys = keys;
+            final byte[] oldCounters = counters;
+
+            keys = new int[oldKeys.length * 2];
+            counters = new byte[oldKeys.length * 2];
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    final int slot = slot(oldKeys[i] - 1);
+                    keys[slot] = oldKeys[i];
+                    counters[slot] = oldCounters[i];
+                }
+            }
+
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package llc.berserkr.nmea.n2k;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Base of the text capture readers, splitting the buffer into lines that are
+ * parsed in place.
+ */
+abstract class N2KLineReader extends N2KStreamReader {
+
+    //parse position within the current line
+    protected int cursor;
+
+    N2KLineReader(final FrameListener frames, final PacketListener packets) {
+        super(frames, packets);
+    }
+
+    @Override
+    protected void parse(final ByteBuffer buffer, final boolean endOfStream) {
+
+        int start = buffer.position();
+        final int limit = buffer.limit();
+
+        for (int i = start; i < limit; i++) {
+            final byte b = buffer.get(i);
+            if (b == '\n' || b == '\r') {
+                if (i > start) {
+                    parseLine(buffer, start, i);
+                }
+                start = i + 1;
+            }
+        }
+
+        if (endOfStream && start < limit) {
+            parseLine(buffer, start, limit);
+            start = limit;
+        }
+
+        buffer.position(start);
+
+    }
+
+    private void parseLine(final ByteBuffer buffer, final int start, final int end) {
+        cursor = start;
+        if (line(buffer, end)) {
+            record();
+        }
+    }
+
+    /**
+     * Parses a line ending at end, starting from {@link #cursor}.
+     *
+     * @return true if a record was passed on
+     */
+    protected abstract boolean line(ByteBuffer buffer, int end);
+
+    protected void skipSpaces(final ByteBuffer buffer, final int end) {
+        while (cursor < end && (buffer.get(cursor) == ' ' || buffer.get(cursor) == '\t')) {
+            cursor++;
+        }
+    }
+
+    /**
+     * Parses a decimal number at the cursor, -1 if there are no digits.
+     */
+    protected long decimal(final ByteBuffer buffer, final int end) {
+        long value = 0;
+        final int start = cursor;
+        while (cursor < end) {
+            final int digit = buffer.get(cursor) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            value = value * 10 + digit;
+            cursor++;
+        }
+        return cursor == start ? -1 : value;
+    }
+
+    /**
+     * Parses a hex number at the cursor, -1 if there are no digits.
+     */
+    protected long hexNumber(final ByteBuffer buffer, final int end) {
+        long value = 0;
+        final int start = cursor;
+        while (cursor < end) {
+            final int digit = hex(buffer.get(cursor));
+            if (digit < 0) {
+                break;
+            }
+            value = (value << 4) | digit;
+            cursor++;
+        }
+        return cursor == start ? -1 : value;
+    }
+
+    /**
+     * Consumes the expected character at the cursor.
+     */
+    protected boolean expect(final ByteBuffer buffer, final int end, final char c) {
+        if (cursor < end && buffer.get(cursor) == c) {
+            cursor++;
+            return true;
+        }
+        return false;
+    }
+}
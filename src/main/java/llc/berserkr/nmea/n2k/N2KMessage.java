@@ -0,0 +1,133 @@
+package llc.berserkr.nmea.n2k;
+
+import java.util.Arrays;
+
+/**
+ * View of a received NMEA 2000 message, reused for every message dispatched
+ * by {@link N2KMessageBus}. Fields are decoded only when asked for, with the
+ * compiled decoder of the PGN. The view and its data are valid only during
+ * the listener call; use {@link #copy()} to keep it. Field access throws
+ * {@link IllegalStateException} for PGNs without definition.
+ */
+public final class N2KMessage {
+
+    private int id;
+    private byte[] data;
+    private int offset;
+    private int length;
+    private PgnDecoder decoder;
+
+    N2KMessage() {
+    }
+
+    N2KMessage(final int id, final byte[] data, final int offset, final int length, final PgnDecoder decoder) {
+        set(id, data, offset, length, decoder);
+    }
+
+    void set(final int id, final byte[] data, final int offset, final int length, final PgnDecoder decoder) {
+        this.id = id;
+        this.data = data;
+        this.offset = offset;
+        this.length = length;
+        this.decoder = decoder;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getPgn() {
+        return CANID.pgn(id);
+    }
+
+    public int getSource() {
+        return CANID.source(id);
+    }
+
+    public int getDestination() {
+        return CANID.destination(id);
+    }
+
+    public int getPriority() {
+        return CANID.priority(id);
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Data byte at index.
+     */
+    public int getByte(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index " + index + " length " + length);
+        }
+        return data[offset + index] & 0xFF;
+    }
+
+    /**
+     * Decoder of the PGN, {@code null} if the PGN has no definition.
+     */
+    public PgnDecoder getDecoder() {
+        return decoder;
+    }
+
+    /**
+     * Scaled value of a field, {@link Double#NaN} if not present or not
+     * available.
+     *
+     * @param field field index of the decoder
+     */
+    public double value(final int field) {
+        return decoder().value(field, data, offset, length);
+    }
+
+    /**
+     * Scaled value of the named field, {@link Double#NaN} if the field is not
+     * defined, present or available.
+     */
+    public double value(final String field) {
+        final int index = decoder().indexOf(field);
+        return index < 0 ? Double.NaN : value(index);
+    }
+
+    /**
+     * Raw value of a field, 0 if not present.
+     *
+     * @param field field index of the decoder
+     */
+    public long raw(final int field) {
+        return decoder().raw(field, data, offset, length);
+    }
+
+    /**
+     * Raw value of the named field, 0 if not defined or present.
+     */
+    public long raw(final String field) {
+        final int index = decoder().indexOf(field);
+        return index < 0 ? 0 : raw(index);
+    }
+
+    /**
+     * Lookup table name of a field value, or {@code null}.
+     */
+    public String lookup(final String field) {
+        final int index = decoder().indexOf(field);
+        return index < 0 ? null : decoder.lookup(index, data, offset, length);
+    }
+
+    /**
+     * Copy of the message that remains valid after the listener call.
+     */
+    public N2KMessage copy() {
+        return new N2KMessage(id, Arrays.copyOfRange(data, offset, offset + length), 0, length, decoder);
+    }
+
+    private PgnDecoder decoder() {
+        if (decoder == null) {
+            throw new IllegalStateException("no definition for pgn " + getPgn());
+        }
+        return decoder;
+    }
+}
@@ -0,0 +1,315 @@
+package llc.berserkr.nmea.n2k;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dispatches complete NMEA 2000 messages to listeners subscribed by PGN,
+ * by PGN and source address or by PGN and device instance.
+ * <p>
+ * Routes are held in an immutable table keyed by the int PGN, rebuilt when
+ * subscriptions change, so dispatch takes no locks and messages of PGNs
+ * without subscribers are dropped after reading the CAN id. Placed in front
+ * of the frame pipeline with {@link #filter(FrameListener)}, frames of such
+ * PGNs are not even reassembled. Listeners receive a reused
+ * {@link N2KMessage} view that decodes fields only on request.
+ * <p>
+ * Subscriptions may change from any thread, messages are expected from a
+ * single pipeline thread.
+ */
+public class N2KMessageBus implements PacketListener {
+
+    public static final String INSTANCE_FIELD = "instance";
+
+    private static final N2KMessageListener[] NONE = new N2KMessageListener[0];
+
+    private final PgnDefinitions definitions;
+
+    private final N2KMessage message = new N2KMessage();
+
+    //subscriptions by pgn, guarded by itself
+    private final Map<Integer, List<Subscription>> subscriptions = new HashMap<>();
+
+    private volatile Table table = new Table(new HashMap<>(), null);
+
+    public N2KMessageBus() {
+        this(PgnDefinitions.standard());
+    }
+
+    public N2KMessageBus(final PgnDefinitions definitions) {
+        if (definitions == null) {
+            throw new IllegalArgumentException("definitions cannot be null");
+        }
+        this.definitions = definitions;
+    }
+
+    /**
+     * Subscribes to all messages of a PGN.
+     */
+    public void subscribe(final N2KMessageListener listener, final int pgn) {
+        add(new Subscription(listener, pgn, Subscription.ANY, Subscription.ANY));
+    }
+
+    /**
+     * Subscribes to messages of a PGN sent by a source address.
+     */
+    public void subscribeSource(final N2KMessageListener listener, final int pgn, final int source) {
+        add(new Subscription(listener, pgn, source & 0xFF, Subscription.ANY));
+    }
+
+    /**
+     * Subscribes to messages of a PGN for a device instance, such as engine
+     * or battery instance, read from the "instance" field of the PGN.
+     *
+     * @throws IllegalArgumentException if the PGN has no instance field
+     */
+    public void subscribeInstance(final N2KMessageListener listener, final int pgn, final int instance) {
+
+        final PgnDecoder decoder = definitions.get(pgn);
+
+        if (decoder == null || decoder.indexOf(INSTANCE_FIELD) < 0) {
+            throw new IllegalArgumentException("pgn " + pgn + " has no instance field");
+        }
+
+        add(new Subscription(listener, pgn, Subscription.ANY, instance & 0xFF));
+
+    }
+
+    /**
+     * Removes all subscriptions of the listener.
+     */
+    public void unsubscribe(final N2KMessageListener listener) {
+        synchronized (subscriptions) {
+            final Iterator<List<Subscription>> lists = subscriptions.values().iterator();
+            while (lists.hasNext()) {
+                final List<Subscription> list = lists.next();
+                list.removeIf(s -> s.listener == listener);
+                if (list.isEmpty()) {
+                    lists.remove();
+                }
+            }
+            rebuild();
+        }
+    }
+
+    /**
+     * True if any listener subscribes to the PGN.
+     */
+    public boolean isSubscribed(final int pgn) {
+        return table.contains(pgn);
+    }
+
+    /**
+     * Returns a pipeline stage that passes frames of subscribed PGNs to the
+     * next stage and drops the rest. Transport protocol announcements (BAM
+     * and RTS) are passed only for subscribed PGNs, so that no session is
+     * opened for them. Other connection management frames and all data
+     * transfer frames are passed, as the data frames carry no PGN and are
+     * dropped by the session stage when no session was opened.
+     */
+    public FrameListener filter(final FrameListener next) {
+        return (id, payload, length, time) -> {
+            final int pgn = CANID.pgn(id);
+            if (table.contains(pgn)
+                || pgn == CANID.ISO__DATA_TRANSPORT
+                || pgn == CANID.ISO_CONNECTION_RTS && isWanted(payload)) {
+                next.frame(id, payload, length, time);
+            }
+        };
+    }
+
+    /**
+     * False for a BAM or RTS announcing a PGN without subscribers.
+     */
+    private boolean isWanted(final long payload) {
+        final int control = CANFrame.uint8(payload, 0);
+        return control != TransportSessionManager.CONTROL_BAM && control != TransportSessionManager.CONTROL_RTS
+            || table.contains((int) CANFrame.bits(payload, 40, 18));
+    }
+
+    @Override
+    public void packet(final int id, final byte[] data, final int offset, final int length) {
+
+        final Route route = table.get(CANID.pgn(id));
+
+        if (route == null) {
+            return;
+        }
+
+        message.set(id, data, offset, length, route.decoder);
+
+        for (final N2KMessageListener listener : route.all) {
+            listener.messageReceived(message);
+        }
+
+        if (route.bySource != null) {
+            final N2KMessageListener[] listeners = route.bySource[CANID.source(id)];
+            if (listeners != null) {
+                for (final N2KMessageListener listener : listeners) {
+                    listener.messageReceived(message);
+                }
+            }
+        }
+
+        if (route.byInstance != null && route.instance.isPresent(length)) {
+            final N2KMessageListener[] listeners = route.byInstance[(int) route.instance.raw(data, offset) & 0xFF];
+            if (listeners != null) {
+                for (final N2KMessageListener listener : listeners) {
+                    listener.messageReceived(message);
+                }
+            }
+        }
+
+    }
+
+    private void add(final Subscription subscription) {
+        if (subscription.listener == null) {
+            throw new IllegalArgumentException("listener cannot be null");
+        }
+        synchronized (subscriptions) {
+            subscriptions.computeIfAbsent(subscription.pgn, k -> new ArrayList<>()).add(subscription);
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        table = new Table(subscriptions, definitions);
+    }
+
+    private static final class Subscription {
+
+        static final int ANY = -1;
+
+        final N2KMessageListener listener;
+        final int pgn;
+        final int source;
+        final int instance;
+
+        Subscription(final N2KMessageListener listener, final int pgn, final int source, final int instance) {
+            this.listener = listener;
+            this.pgn = pgn & 0x3FFFF;
+            this.source = source;
+            this.instance = instance;
+        }
+    }
+
+    /**
+     * Listeners of a PGN.
+     */
+    private static final class Route {
+
+        final PgnDecoder decoder;
+        final N2KMessageListener[] all;
+        final N2KMessageListener[][] bySource;
+        final N2KMessageListener[][] byInstance;
+        final FieldDecoder instance;
+
+        Route(final PgnDecoder decoder, final List<Subscription> subscriptions) {
+
+            this.decoder = decoder;
+
+            final List<N2KMessageListener> all = new ArrayList<>();
+            final List<List<N2KMessageListener>> bySource = keyed();
+            final List<List<N2KMessageListener>> byInstance = keyed();
+
+            for (final Subscription s : subscriptions) {
+                if (s.source != Subscription.ANY) {
+                    bySource.get(s.source).add(s.listener);
+                }
+                else if (s.instance != Subscription.ANY) {
+                    byInstance.get(s.instance).add(s.listener);
+                }
+                else {
+                    all.add(s.listener);
+                }
+            }
+
+            this.all = all.toArray(NONE);
+            this.bySource = toArrays(bySource);
+            this.byInstance = toArrays(byInstance);
+            this.instance = this.byInstance == null ? null : decoder.getField(decoder.indexOf(INSTANCE_FIELD));
+
+        }
+
+        private static List<List<N2KMessageListener>> keyed() {
+            final List<List<N2KMessageListener>> keyed = new ArrayList<>(256);
+            for (int i = 0; i < 256; i++) {
+                keyed.add(new ArrayList<>());
+            }
+            return keyed;
+        }
+
+        private static N2KMessageListener[][] toArrays(final List<List<N2KMessageListener>> keyed) {
+
+            N2KMessageListener[][] arrays = null;
+
+            for (int i = 0; i < keyed.size(); i++) {
+                if (!keyed.get(i).isEmpty()) {
+                    if (arrays == null) {
+                        arrays = new N2KMessageListener[256][];
+                    }
+                    arrays[i] = keyed.get(i).toArray(NONE);
+                }
+            }
+
+            return arrays;
+
+        }
+    }
+
+    /**
+     * Immutable open addressing table of routes by PGN.
+     */
+    private static final class Table {
+
+        private final int[] keys;
+        private final Route[] routes;
+        private final int mask;
+
+        Table(final Map<Integer, List<Subscription>> subscriptions, final PgnDefinitions definitions) {
+
+            int capacity = 16;
+            while (capacity < subscriptions.size() * 2) {
+                capacity <<= 1;
+            }
+
+            this.keys = new int[capacity];
+            this.routes = new Route[capacity];
+            this.mask = capacity - 1;
+
+            for (final Map.Entry<Integer, List<Subscription>> entry : subscriptions.entrySet()) {
+                final int pgn = entry.getKey();
+                int slot = hash(pgn) & mask;
+                while (routes[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = pgn;
+                routes[slot] = new Route(definitions.get(pgn), entry.getValue());
+            }
+
+        }
+
+        private static int hash(final int pgn) {
+            return pgn * 0x9E3779B9 >>> 16;
+        }
+
+        Route get(final int pgn) {
+            int slot = hash(pgn) & mask;
+            Route route;
+            while ((route = routes[slot]) != null) {
+                if (keys[slot] == pgn) {
+                    return route;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        boolean contains(final int pgn) {
+            return get(pgn) != null;
+        }
+    }
+}
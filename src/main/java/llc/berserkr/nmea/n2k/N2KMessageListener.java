@@ -0,0 +1,13 @@
+package llc.berserkr.nmea.n2k;
+
+/**
+ * Receives NMEA 2000 messages from {@link N2KMessageBus}.
+ */
+public interface N2KMessageListener {
+
+    /**
+     * @param message view of the message, reused after the call returns
+     */
+    void messageReceived(N2KMessage message);
+
+}
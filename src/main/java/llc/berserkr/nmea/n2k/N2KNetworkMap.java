@@ -0,0 +1,234 @@
+package llc.berserkr.nmea.n2k;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Live map of the devices on the bus, built from ISO Address Claim (60928)
+ * and Product Information (126996) messages.
+ * <p>
+ * Devices are held in a fixed table of 256 entries indexed by source
+ * address. Each entry is an immutable {@link N2KDevice} replaced on change,
+ * so readers such as a polling dashboard never lock or contend with the
+ * decode thread; {@link #getVersion()} tells whether anything changed since
+ * the last poll.
+ * <p>
+ * When two NAMEs claim the same address within the contention window, the
+ * lower NAME wins as in ISO 11783-5 and the conflict is counted on the
+ * address. A claim from the null address 254 means the device could not
+ * claim an address and removes its NAME from the map. Updates are expected
+ * from a single thread.
+ */
+public class N2KNetworkMap implements N2KMessageListener {
+
+    public static final int NULL_ADDRESS = 254;
+
+    /**
+     * Milliseconds within which a claim of the same address by another NAME
+     * is a conflict; ISO 11783-5 allows 250 ms plus bus delays for the
+     * holder to defend its address. Later claims replace the device.
+     */
+    public static final long CONTENTION_WINDOW = 1000;
+
+    //product information string fields, 32 bytes each
+    private static final int MODEL_ID = 4;
+    private static final int SOFTWARE_VERSION = 36;
+    private static final int MODEL_VERSION = 68;
+    private static final int SERIAL_CODE = 100;
+    private static final int STRING_LENGTH = 32;
+    private static final int CERTIFICATION_LEVEL = 132;
+    private static final int LOAD_EQUIVALENCY = 133;
+    private static final int PRODUCT_LENGTH = 134;
+
+    private final AtomicReferenceArray<N2KDevice> devices = new AtomicReferenceArray<>(256);
+
+    private final LongSupplier clock;
+
+    private final byte[] text = new byte[STRING_LENGTH];
+
+    private volatile long version;
+
+    public N2KNetworkMap() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock time source in milliseconds
+     */
+    public N2KNetworkMap(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Subscribes the map to the messages it tracks.
+     */
+    public void attach(final N2KMessageBus bus) {
+        bus.subscribe(this, CANID.ISO_CLAIM);
+        bus.subscribe(this, CANID.PRODUCT_INFORMATION);
+    }
+
+    @Override
+    public void messageReceived(final N2KMessage message) {
+        if (message.getPgn() == CANID.ISO_CLAIM) {
+            if (message.getLength() >= 8) {
+                claim(message.getSource(), name(message));
+            }
+        }
+        else if (message.getPgn() == CANID.PRODUCT_INFORMATION) {
+            if (message.getLength() >= PRODUCT_LENGTH) {
+                product(message);
+            }
+        }
+    }
+
+    /**
+     * Device at the address, {@code null} if nothing is known of it.
+     */
+    public N2KDevice get(final int address) {
+        return devices.get(address & 0xFF);
+    }
+
+    /**
+     * Address claimed by the NAME, -1 if not on the map.
+     */
+    public int addressOf(final long name) {
+        for (int address = 0; address < 256; address++) {
+            final N2KDevice device = devices.get(address);
+            if (device != null && device.getName() == name) {
+                return address;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Devices currently on the map, ordered by address.
+     */
+    public List<N2KDevice> snapshot() {
+        final List<N2KDevice> snapshot = new ArrayList<>();
+        for (int address = 0; address < 256; address++) {
+            final N2KDevice device = devices.get(address);
+            if (device != null) {
+                snapshot.add(device);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Counter increased on every change of the map.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Forgets all devices.
+     */
+    public void clear() {
+        for (int address = 0; address < 256; address++) {
+            devices.set(address, null);
+        }
+        version++;
+    }
+
+    void claim(final int address, final long name) {
+
+        final long time = clock.getAsLong();
+
+        //a NAME holds one address, drop it from a previous one
+        final int previous = addressOf(name);
+        if (previous >= 0 && previous != address) {
+            devices.set(previous, null);
+        }
+
+        if (address == NULL_ADDRESS) {
+            version++;
+            return;
+        }
+
+        final N2KDevice current = devices.get(address);
+
+        if (current == null) {
+            devices.set(address, N2KDevice.empty(address).withClaim(name, time));
+        }
+        else if (!current.isClaimed() || current.getName() == name) {
+            devices.set(address, current.withClaim(name, time));
+        }
+        else if (time - current.getClaimTime() > CONTENTION_WINDOW) {
+            //previous device is gone, nobody defended the address
+            devices.set(
+                address,
+                N2KDevice.claimed(address, name, time, current.getConflicts(), current.getConflictName())
+            );
+        }
+        else if (Long.compareUnsigned(name, current.getName()) < 0) {
+            //lower NAME has priority
+            devices.set(address, N2KDevice.claimed(address, name, time, current.getConflicts() + 1, current.getName()));
+        }
+        else {
+            devices.set(address, current.withConflict(name));
+        }
+
+        version++;
+
+    }
+
+    private void product(final N2KMessage message) {
+
+        final int address = message.getSource();
+
+        N2KDevice device = devices.get(address);
+        if (device == null) {
+            device = N2KDevice.empty(address);
+        }
+
+        devices.set(address, device.withProduct(
+            message.getByte(2) | (message.getByte(3) << 8),
+            message.getByte(0) | (message.getByte(1) << 8),
+            string(message, MODEL_ID),
+            string(message, SOFTWARE_VERSION),
+            string(message, MODEL_VERSION),
+            string(message, SERIAL_CODE),
+            message.getByte(CERTIFICATION_LEVEL),
+            message.getByte(LOAD_EQUIVALENCY)
+        ));
+
+        version++;
+
+    }
+
+    private static long name(final N2KMessage message) {
+        long name = 0;
+        for (int i = 7; i >= 0; i--) {
+            name = (name << 8) | message.getByte(i);
+        }
+        return name;
+    }
+
+    /**
+     * Fixed length string, padded with 0xFF, NUL, '@' or spaces.
+     */
+    private String string(final N2KMessage message, final int offset) {
+
+        int length = 0;
+
+        for (int i = 0; i < STRING_LENGTH; i++) {
+            final int b = message.getByte(offset + i);
+            if (b == 0xFF || b == 0) {
+                break;
+            }
+            text[length++] = (byte) b;
+        }
+
+        while (length > 0 && (text[length - 1] == ' ' || text[length - 1] == '@')) {
+            length--;
+        }
+
+        return new String(text, 0, length, StandardCharsets.ISO_8859_1);
+
+    }
+}
@@ -0,0 +1,621 @@
+package llc.berserkr.nmea.n2k;
+
+import net.sf.marineapi.nmea.io.SentenceReader;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.Checksum;
+import net.sf.marineapi.nmea.sentence.DPTSentence;
+import net.sf.marineapi.nmea.sentence.GGASentence;
+import net.sf.marineapi.nmea.sentence.HDTSentence;
+import net.sf.marineapi.nmea.sentence.MWVSentence;
+import net.sf.marineapi.nmea.sentence.RMCSentence;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.TalkerId;
+import net.sf.marineapi.nmea.sentence.VTGSentence;
+import net.sf.marineapi.nmea.util.CompassPoint;
+import net.sf.marineapi.nmea.util.DataStatus;
+import net.sf.marineapi.nmea.util.Date;
+import net.sf.marineapi.nmea.util.FaaMode;
+import net.sf.marineapi.nmea.util.GpsFixQuality;
+import net.sf.marineapi.nmea.util.Position;
+import net.sf.marineapi.nmea.util.Time;
+import net.sf.marineapi.nmea.util.Units;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Gateway stage converting NMEA 2000 messages to NMEA 0183 sentences, which
+ * are dispatched to the listeners of a {@link SentenceReader} like sentences
+ * read from its data source.
+ * <p>
+ * Position, course and speed, heading, depth and wind PGNs update the state
+ * of the gateway. Sentences built from the state are emitted at most once
+ * per output interval of their type, so rapid-update PGNs sent at 10 Hz are
+ * coalesced to the configured output rate with the latest values. AIS
+ * position reports are encoded to VDM, or VDO for the own vessel, one
+ * sentence per report.
+ * <p>
+ * Messages are expected from a single pipeline thread.
+ */
+public class N2KSentenceGateway implements N2KMessageListener {
+
+    public static final int POSITION_RAPID_UPDATE = 129025;
+    public static final int COG_SOG_RAPID_UPDATE = 129026;
+    public static final int GNSS_POSITION_DATA = 129029;
+    public static final int WATER_DEPTH = 128267;
+    public static final int WIND_DATA = 130306;
+    public static final int AIS_CLASS_A_POSITION_REPORT = 129038;
+    public static final int AIS_CLASS_B_POSITION_REPORT = 129039;
+
+    private static final int[] PGNS = {
+        POSITION_RAPID_UPDATE,
+        COG_SOG_RAPID_UPDATE,
+        GNSS_POSITION_DATA,
+        CANID.VESSEL_HEADING,
+        WATER_DEPTH,
+        WIND_DATA,
+        AIS_CLASS_A_POSITION_REPORT,
+        AIS_CLASS_B_POSITION_REPORT
+    };
+
+    /**
+     * Default output interval of coalesced sentences in milliseconds.
+     */
+    public static final long DEFAULT_INTERVAL = 1000;
+
+    //coalesced outputs
+    private static final int OUT_GGA = 0;
+    private static final int OUT_RMC = 1;
+    private static final int OUT_VTG = 2;
+    private static final int OUT_HDT = 3;
+    private static final int OUT_DPT = 4;
+    private static final int OUT_MWV_RELATIVE = 5;
+    private static final int OUT_MWV_TRUE = 6;
+    private static final int OUTPUTS = 7;
+
+    //DIRECTION_REFERENCE and WIND_REFERENCE lookups
+    private static final int MAGNETIC = 1;
+    private static final int APPARENT = 2;
+    private static final int TRUE_BOAT = 3;
+    private static final int TRUE_WATER = 4;
+
+    //0183 modes in the order of the GNSS_METHOD lookup, as is GpsFixQuality
+    private static final FaaMode[] MODES = {
+        FaaMode.NONE,
+        FaaMode.AUTOMATIC,
+        FaaMode.DGPS,
+        FaaMode.PRECISE,
+        FaaMode.RTK_FIXED,
+        FaaMode.RTK_FLOAT,
+        FaaMode.ESTIMATED,
+        FaaMode.MANUAL,
+        FaaMode.SIMULATED
+    };
+
+    private static final double KNOTS = 3600.0 / 1852.0;
+    private static final long DAY = 86_400_000L;
+
+    //AIS position reports are 168 bits, 28 six bit characters
+    private static final int AIS_BITS = 168;
+    private static final int AIS_LENGTH = 26;
+
+    private final SentenceReader reader;
+
+    private final LongSupplier clock;
+
+    private final SentenceFactory factory = SentenceFactory.getInstance();
+
+    private final long[] intervals = new long[OUTPUTS];
+    private final long[] next = new long[OUTPUTS];
+
+    private final char[] payload = new char[AIS_BITS / 6];
+
+    private double latitude = Double.NaN;
+    private double longitude = Double.NaN;
+    private double altitude = Double.NaN;
+    private double geoidalSeparation = Double.NaN;
+    private double hdop = Double.NaN;
+    private int satellites = -1;
+    private int method = -1;
+
+    //UTC of the last GNSS fix and the clock when it was received
+    private long fixTime = -1;
+    private long fixClock;
+
+    private double trueCourse = Double.NaN;
+    private double magneticCourse = Double.NaN;
+    private double speed = Double.NaN;
+    private double variation = Double.NaN;
+
+    public N2KSentenceGateway(final SentenceReader reader) {
+        this(reader, System::currentTimeMillis);
+    }
+
+    /**
+     * @param reader reader dispatching the sentences to its listeners
+     * @param clock time source in milliseconds
+     */
+    public N2KSentenceGateway(final SentenceReader reader, final LongSupplier clock) {
+        if (reader == null) {
+            throw new IllegalArgumentException("reader cannot be null");
+        }
+        this.reader = reader;
+        this.clock = clock;
+        Arrays.fill(intervals, DEFAULT_INTERVAL);
+        Arrays.fill(next, Long.MIN_VALUE);
+    }
+
+    /**
+     * Subscribes the gateway to the PGNs it converts.
+     */
+    public void attach(final N2KMessageBus bus) {
+        for (final int pgn : PGNS) {
+            bus.subscribe(this, pgn);
+        }
+    }
+
+    /**
+     * Subscribes the gateway to the PGNs it converts sent by one source, for
+     * buses with several GNSS receivers or instruments.
+     */
+    public void attach(final N2KMessageBus bus, final int source) {
+        for (final int pgn : PGNS) {
+            bus.subscribeSource(this, pgn, source);
+        }
+    }
+
+    /**
+     * Sets the minimum interval between sentences of a type, 0 to emit one
+     * sentence per message.
+     *
+     * @param type GGA, RMC, VTG, HDT, DPT or MWV
+     * @param millis interval in milliseconds
+     * @throws IllegalArgumentException if the type is not coalesced or the
+     *             interval is negative
+     */
+    public void setInterval(final SentenceId type, final long millis) {
+
+        if (millis < 0) {
+            throw new IllegalArgumentException("interval cannot be negative");
+        }
+
+        switch (type) {
+            case GGA:
+                intervals[OUT_GGA] = millis;
+                break;
+            case RMC:
+                intervals[OUT_RMC] = millis;
+                break;
+            case VTG:
+                intervals[OUT_VTG] = millis;
+                break;
+            case HDT:
+                intervals[OUT_HDT] = millis;
+                break;
+            case DPT:
+                intervals[OUT_DPT] = millis;
+                break;
+            case MWV:
+                intervals[OUT_MWV_RELATIVE] = millis;
+                intervals[OUT_MWV_TRUE] = millis;
+                break;
+            default:
+                throw new IllegalArgumentException("not a coalesced sentence " + type);
+        }
+
+    }
+
+    @Override
+    public void messageReceived(final N2KMessage message) {
+
+        final long now = clock.getAsLong();
+
+        switch (message.getPgn()) {
+            case POSITION_RAPID_UPDATE:
+                positionRapidUpdate(message, now);
+                break;
+            case GNSS_POSITION_DATA:
+                gnssPosition(message, now);
+                break;
+            case COG_SOG_RAPID_UPDATE:
+                cogSog(message, now);
+                break;
+            case CANID.VESSEL_HEADING:
+                heading(message, now);
+                break;
+            case WATER_DEPTH:
+                depth(message, now);
+                break;
+            case WIND_DATA:
+                wind(message, now);
+                break;
+            case AIS_CLASS_A_POSITION_REPORT:
+            case AIS_CLASS_B_POSITION_REPORT:
+                ais(message);
+                break;
+        }
+
+    }
+
+    private void positionRapidUpdate(final N2KMessage message, final long now) {
+
+        final double lat = message.value("latitude");
+        final double lon = message.value("longitude");
+
+        if (Double.isNaN(lat) || Double.isNaN(lon)) {
+            return;
+        }
+
+        latitude = lat;
+        longitude = lon;
+
+        position(now);
+
+    }
+
+    private void gnssPosition(final N2KMessage message, final long now) {
+
+        final double date = message.value("date");
+        final double time = message.value("time");
+
+        if (!Double.isNaN(date) && !Double.isNaN(time)) {
+            fixTime = (long) date * DAY + Math.round(time * 1000);
+            fixClock = now;
+        }
+
+        method = (int) message.raw("method");
+        satellites = (int) message.raw("numberOfSvs");
+        hdop = message.value("hdop");
+        altitude = message.value("altitude");
+        geoidalSeparation = message.value("geoidalSeparation");
+
+        final double lat = message.value("latitude");
+        final double lon = message.value("longitude");
+
+        if (method == 0 || Double.isNaN(lat) || Double.isNaN(lon)) {
+            return;
+        }
+
+        latitude = lat;
+        longitude = lon;
+
+        position(now);
+
+    }
+
+    private void position(final long now) {
+
+        if (due(OUT_GGA, now)) {
+
+            final GGASentence gga = (GGASentence) factory.createParser(TalkerId.GP, SentenceId.GGA);
+
+            if (fixTime >= 0) {
+                gga.setTime(time(now));
+            }
+
+            gga.setPosition(new Position(latitude, longitude, Double.isNaN(altitude) ? 0 : altitude));
+            gga.setFixQuality(quality());
+
+            if (satellites >= 0 && satellites < 0xFF) {
+                gga.setSatelliteCount(satellites);
+            }
+            if (!Double.isNaN(hdop)) {
+                gga.setHorizontalDOP(hdop);
+            }
+            if (!Double.isNaN(geoidalSeparation)) {
+                gga.setGeoidalHeight(geoidalSeparation);
+                gga.setGeoidalHeightUnits(Units.METER);
+            }
+
+            reader.fireSentenceEvent(gga);
+
+        }
+
+        if (due(OUT_RMC, now)) {
+
+            final RMCSentence rmc = (RMCSentence) factory.createParser(TalkerId.GP, SentenceId.RMC);
+
+            if (fixTime >= 0) {
+                rmc.setTime(time(now));
+                rmc.setDate(date(now));
+            }
+
+            rmc.setStatus(DataStatus.ACTIVE);
+            rmc.setPosition(new Position(latitude, longitude));
+
+            if (!Double.isNaN(trueCourse)) {
+                rmc.setCourse(trueCourse);
+            }
+            if (!Double.isNaN(speed)) {
+                rmc.setSpeed(speed * KNOTS);
+            }
+            if (!Double.isNaN(variation)) {
+                rmc.setVariation(Math.abs(variation));
+                rmc.setDirectionOfVariation(variation < 0 ? CompassPoint.WEST : CompassPoint.EAST);
+            }
+
+            rmc.setMode(mode());
+
+            reader.fireSentenceEvent(rmc);
+
+        }
+
+    }
+
+    private void cogSog(final N2KMessage message, final long now) {
+
+        final double cog = Math.toDegrees(message.value("cog"));
+
+        if (message.raw("cogReference") == MAGNETIC) {
+            magneticCourse = cog;
+            trueCourse = Double.isNaN(variation) ? Double.NaN : degrees(cog + variation);
+        }
+        else {
+            trueCourse = cog;
+            magneticCourse = Double.isNaN(variation) ? Double.NaN : degrees(cog - variation);
+        }
+
+        speed = message.value("sog");
+
+        if (!due(OUT_VTG, now)) {
+            return;
+        }
+
+        final VTGSentence vtg = (VTGSentence) factory.createParser(TalkerId.GP, SentenceId.VTG);
+
+        if (!Double.isNaN(trueCourse)) {
+            vtg.setTrueCourse(trueCourse);
+        }
+        if (!Double.isNaN(magneticCourse)) {
+            vtg.setMagneticCourse(magneticCourse);
+        }
+        if (!Double.isNaN(speed)) {
+            vtg.setSpeedKnots(speed * KNOTS);
+            vtg.setSpeedKmh(speed * 3.6);
+        }
+
+        vtg.setMode(mode());
+
+        reader.fireSentenceEvent(vtg);
+
+    }
+
+    private void heading(final N2KMessage message, final long now) {
+
+        final double messageVariation = Math.toDegrees(message.value("variation"));
+
+        if (!Double.isNaN(messageVariation)) {
+            variation = messageVariation;
+        }
+
+        double heading = Math.toDegrees(message.value("heading"));
+
+        if (message.raw("reference") == MAGNETIC) {
+            final double deviation = Math.toDegrees(message.value("deviation"));
+            heading += (Double.isNaN(deviation) ? 0 : deviation) + variation;
+        }
+
+        if (Double.isNaN(heading) || !due(OUT_HDT, now)) {
+            return;
+        }
+
+        final HDTSentence hdt = (HDTSentence) factory.createParser(TalkerId.II, SentenceId.HDT);
+        hdt.setHeading(degrees(heading));
+
+        reader.fireSentenceEvent(hdt);
+
+    }
+
+    private void depth(final N2KMessage message, final long now) {
+
+        final double depth = message.value("depth");
+
+        if (Double.isNaN(depth) || !due(OUT_DPT, now)) {
+            return;
+        }
+
+        final DPTSentence dpt = (DPTSentence) factory.createParser(TalkerId.II, SentenceId.DPT);
+        dpt.setDepth(depth);
+
+        final double offset = message.value("offset");
+        if (!Double.isNaN(offset)) {
+            dpt.setOffset(offset);
+        }
+
+        final double range = message.value("range");
+        if (!Double.isNaN(range)) {
+            dpt.setMaximum(range);
+        }
+
+        reader.fireSentenceEvent(dpt);
+
+    }
+
+    private void wind(final N2KMessage message, final long now) {
+
+        final long reference = message.raw("reference");
+
+        //ground referenced wind directions belong in MWD
+        final int output;
+        if (reference == APPARENT) {
+            output = OUT_MWV_RELATIVE;
+        }
+        else if (reference == TRUE_BOAT || reference == TRUE_WATER) {
+            output = OUT_MWV_TRUE;
+        }
+        else {
+            return;
+        }
+
+        final double windSpeed = message.value("windSpeed");
+        final double angle = Math.toDegrees(message.value("windAngle"));
+
+        if (Double.isNaN(windSpeed) || Double.isNaN(angle) || !due(output, now)) {
+            return;
+        }
+
+        final MWVSentence mwv = (MWVSentence) factory.createParser(TalkerId.II, SentenceId.MWV);
+        mwv.setAngle(degrees(angle));
+        mwv.setTrue(output == OUT_MWV_TRUE);
+        mwv.setSpeed(windSpeed);
+        mwv.setSpeedUnit(Units.METER);
+        mwv.setStatus(DataStatus.ACTIVE);
+
+        reader.fireSentenceEvent(mwv);
+
+    }
+
+    /**
+     * Encodes a class A or B position report to message 1 to 3 or 18.
+     */
+    private void ais(final N2KMessage message) {
+
+        if (message.getLength() < AIS_LENGTH) {
+            return;
+        }
+
+        final boolean classB = message.getPgn() == AIS_CLASS_B_POSITION_REPORT;
+
+        Arrays.fill(payload, (char) 0);
+
+        final long type = message.raw("messageId");
+
+        put(0, 6, classB ? 18 : type >= 1 && type <= 3 ? type : 1);
+        put(6, 2, message.raw("repeatIndicator"));
+        put(8, 30, message.raw("userId"));
+
+        //message 18 has no status and rate of turn, later fields start 4 bits earlier
+        final int shift = classB ? -4 : 0;
+
+        if (classB) {
+            put(38, 8, message.raw("regionalApplication"));
+        }
+        else {
+            put(38, 4, message.raw("navStatus"));
+            put(42, 8, rateOfTurn(message.value("rateOfTurn")));
+        }
+
+        final double sog = message.value("sog");
+        put(50 + shift, 10, Double.isNaN(sog) ? 1023 : Math.min(1022, Math.round(sog * KNOTS * 10)));
+        put(60 + shift, 1, message.raw("positionAccuracy"));
+
+        final double lon = message.value("longitude");
+        final double lat = message.value("latitude");
+        put(61 + shift, 28, Math.round((Double.isNaN(lon) ? 181 : lon) * 600_000));
+        put(89 + shift, 27, Math.round((Double.isNaN(lat) ? 91 : lat) * 600_000));
+
+        final double cog = Math.toDegrees(message.value("cog"));
+        put(116 + shift, 12, Double.isNaN(cog) ? 3600 : Math.round(degrees(cog) * 10) % 3600);
+
+        final double heading = Math.toDegrees(message.value("heading"));
+        put(128 + shift, 9, Double.isNaN(heading) ? 511 : Math.round(degrees(heading)) % 360);
+
+        final long second = message.raw("timeStamp");
+        put(137 + shift, 6, second == 63 ? 60 : second);
+
+        if (classB) {
+            put(139, 2, message.raw("regionalApplicationB"));
+            put(141, 1, message.raw("unitType"));
+            put(142, 1, message.raw("integratedDisplay"));
+            put(143, 1, message.raw("dsc"));
+            put(144, 1, message.raw("band"));
+            put(145, 1, message.raw("canHandleMsg22"));
+            put(146, 1, message.raw("aisMode"));
+            put(147, 1, message.raw("raim"));
+            put(148, 1, message.raw("aisCommunicationState"));
+        }
+        else {
+            final long maneuver = message.raw("specialManeuverIndicator");
+            put(143, 2, maneuver == 3 ? 0 : maneuver);
+            put(148, 1, message.raw("raim"));
+        }
+
+        put(149, 19, message.raw("communicationState"));
+
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] += payload[i] < 40 ? 48 : 56;
+        }
+
+        //reception on channel A or B, transmission of own vessel or own information
+        final int transceiver = (int) message.raw("aisTransceiverInformation");
+        final String sentence = transceiver >= 2 && transceiver <= 4 ? "VDO" : "VDM";
+        final String channel = transceiver <= 3 ? ((transceiver & 1) == 0 ? "A" : "B") : "";
+
+        final String nmea = "!AI" + sentence + ",1,1,," + channel + "," + new String(payload) + ",0";
+
+        reader.fireSentenceEvent(factory.createParser(Checksum.add(nmea)));
+
+    }
+
+    /**
+     * Writes the low bits of the value to the six bit payload, most
+     * significant first.
+     */
+    private void put(final int from, final int length, final long value) {
+        for (int i = 0; i < length; i++) {
+            if ((value >>> (length - 1 - i) & 1) != 0) {
+                final int bit = from + i;
+                payload[bit / 6] |= 1 << (5 - bit % 6);
+            }
+        }
+    }
+
+    /**
+     * AIS rate of turn indicator, 4.733 times the square root of the rate in
+     * degrees per minute.
+     */
+    private static long rateOfTurn(final double rate) {
+
+        if (Double.isNaN(rate)) {
+            return -128;
+        }
+
+        final double degreesPerMinute = Math.toDegrees(rate) * 60;
+        final long indicator = Math.min(126, Math.round(4.733 * Math.sqrt(Math.abs(degreesPerMinute))));
+
+        return degreesPerMinute < 0 ? -indicator : indicator;
+
+    }
+
+    private boolean due(final int output, final long now) {
+
+        if (now < next[output]) {
+            return false;
+        }
+
+        next[output] = now + intervals[output];
+
+        return true;
+
+    }
+
+    private GpsFixQuality quality() {
+        return method >= 0 && method < MODES.length ? GpsFixQuality.values()[method] : GpsFixQuality.NORMAL;
+    }
+
+    private FaaMode mode() {
+        return method >= 0 && method < MODES.length ? MODES[method] : FaaMode.AUTOMATIC;
+    }
+
+    /**
+     * UTC time of day of the last fix advanced by the clock.
+     */
+    private Time time(final long now) {
+        final long millis = Math.floorMod(fixTime + now - fixClock, DAY);
+        return new Time((int) (millis / 3_600_000), (int) (millis / 60_000 % 60), millis % 60_000 / 1000.0);
+    }
+
+    private Date date(final long now) {
+        final LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(fixTime + now - fixClock, DAY));
+        return new Date(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Normalizes an angle to [0, 360) degrees.
+     */
+    private static double degrees(final double angle) {
+        final double degrees = angle % 360;
+        return degrees < 0 ? degrees + 360 : degrees;
+    }
+}
@@ -0,0 +1,169 @@
+package llc.berserkr.nmea.n2k;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Base of the bus capture readers. Records are parsed straight from a byte
+ * buffer, without creating Strings, into single CAN frames for the frame
+ * pipeline or, for formats carrying complete messages, into PGN payloads.
+ * <p>
+ * Files are memory mapped in windows, live streams are read from a blocking
+ * channel into a reusable direct buffer. A record split by the end of a
+ * window or read is parsed once the rest of it is available.
+ */
+public abstract class N2KStreamReader {
+
+    public static final int DEFAULT_WINDOW_SIZE = 1 << 26;
+
+    public static final int BUFFER_SIZE = 1 << 16;
+
+    protected final FrameListener frames;
+    protected final PacketListener packets;
+
+    private long records;
+    private long errors;
+
+    /**
+     * @param frames receives single CAN frames
+     * @param packets receives complete messages
+     */
+    protected N2KStreamReader(final FrameListener frames, final PacketListener packets) {
+
+        if (frames == null || packets == null) {
+            throw new IllegalArgumentException("listeners cannot be null");
+        }
+
+        this.frames = frames;
+        this.packets = packets;
+
+    }
+
+    /**
+     * Parses the complete records from the position of the buffer and
+     * advances the position past them. At the end of stream trailing data is
+     * parsed or discarded as well.
+     */
+    protected abstract void parse(ByteBuffer buffer, boolean endOfStream);
+
+    /**
+     * Reads a capture file through memory mapped windows.
+     *
+     * @return number of bytes read
+     */
+    public long readFile(final Path path) throws IOException {
+        return readFile(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Reads a capture file through memory mapped windows of given size, which
+     * must be larger than any record.
+     *
+     * @return number of bytes read
+     */
+    public long readFile(final Path path, final int windowSize) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            final long size = channel.size();
+
+            long offset = 0;
+
+            while (offset < size) {
+
+                final long window = Math.min(windowSize, size - offset);
+                final boolean last = offset + window == size;
+
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, window);
+
+                parse(buffer, last);
+
+                if (!last && buffer.position() == 0) {
+                    throw new IOException("record at offset " + offset + " does not fit in window");
+                }
+
+                offset += last ? window : buffer.position();
+
+            }
+
+            return size;
+
+        }
+
+    }
+
+    /**
+     * Reads a blocking channel until end of stream.
+     */
+    public void read(final ReadableByteChannel channel) throws IOException {
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        while (true) {
+
+            final int read = channel.read(buffer);
+
+            buffer.flip();
+
+            parse(buffer, read < 0);
+
+            if (read < 0) {
+                return;
+            }
+
+            if (buffer.position() == 0 && buffer.limit() == buffer.capacity()) {
+                //record longer than buffer, drop it
+                error();
+                buffer.clear();
+            }
+            else {
+                buffer.compact();
+            }
+
+        }
+
+    }
+
+    /**
+     * Number of records passed on.
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Number of malformed records skipped.
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    protected void record() {
+        records++;
+    }
+
+    protected void error() {
+        errors++;
+    }
+
+    /**
+     * Value of a hex digit, -1 if not a hex digit.
+     */
+    protected static int hex(final byte b) {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        if (b >= 'a' && b <= 'f') {
+            return b - 'a' + 10;
+        }
+        if (b >= 'A' && b <= 'F') {
+            return b - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -1,9 +1,5 @@
 package llc.berserkr.nmea.n2k;
 
-import llc.berserkr.nmea.n2k.util.ByteUtils;
-
-import java.util.BitSet;
-
 public class NMEAData {
 
 
@@ -19,36 +15,58 @@ public class NMEAData {
     /**
      * Seperates the data from the PGN first 29 bits
      *
-     * @param bytesIn
-     * @return
+     * @param bytesIn 29 bit id followed by 64 data bits, most significant bit first
+     * @return the 8 data bytes
      */
     public static byte []  seperateData(final byte[] bytesIn) {
 
-        //TODO this will need to be converted to bitwise stuff for production
-        //using inefficient string methods for prototyping right now.
         if(bytesIn.length != 12) {
             throw new IllegalArgumentException("input array must be 12 in length");
         }
 
-        for(int i = 0; i < bytesIn.length; i++) {
-            bytesIn[i] = ByteUtils.reverse(bytesIn[i]);
+        final long data = bits(bytesIn, 0);
+
+        final byte[] out = new byte[8];
+
+        for(int i = 0; i < out.length; i++) {
+            out[i] = (byte) (data >>> (56 - (i << 3)));
         }
 
-        final BitSet bits = BitSet.valueOf(bytesIn);
+        return out;
+
+    }
+
+    /**
+     * Reads the 64 data bits following the 29 bit id of a 12 byte raw packet
+     * starting at offset, without allocating.
+     *
+     * @return the data bits, first data bit most significant
+     */
+    public static long bits(final byte[] bytesIn, final int offset) {
 
-        final StringBuilder builder = new StringBuilder();
+        long high = 0;
 
-        for(int i = 29; i < 93; i++) {
-            if(bits.length() > i) {
-                builder.append(bits.get(i) ? "1" : "0");
-            }
-            else {
-                builder.append("0");
-            }
+        for(int i = 0; i < 8; i++) {
+            high = (high << 8) | (bytesIn[offset + i] & 0xFF);
         }
 
-        return ByteUtils.bitStringToUnsignedByteArray(builder.toString());
+        final int low = ((bytesIn[offset + 8] & 0xFF) << 24)
+            | ((bytesIn[offset + 9] & 0xFF) << 16)
+            | ((bytesIn[offset + 10] & 0xFF) << 8)
+            | (bytesIn[offset + 11] & 0xFF);
+
+        return (high << 29) | (low >>> 3);
+
+    }
 
+    /**
+     * Reads the data of a 12 byte raw packet starting at offset as a frame
+     * payload, first data byte least significant.
+     *
+     * @see CANFrame
+     */
+    public static long payload(final byte[] bytesIn, final int offset) {
+        return Long.reverseBytes(bits(bytesIn, offset));
     }
 
 }
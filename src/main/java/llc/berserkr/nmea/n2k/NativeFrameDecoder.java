@@ -0,0 +1,77 @@
+package llc.berserkr.nmea.n2k;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link FrameBatchDecoder} implemented in the canboat native library,
+ * decoding a whole batch in a single JNI call to amortize the crossing.
+ * Requires a direct buffer.
+ */
+public class NativeFrameDecoder implements FrameBatchDecoder {
+
+    private static final boolean AVAILABLE = load();
+
+    private static boolean load() {
+        try {
+            System.loadLibrary("canboat");
+            return true;
+        }
+        catch (final UnsatisfiedLinkError | SecurityException e) {
+            return false;
+        }
+    }
+
+    public NativeFrameDecoder() {
+        if (!AVAILABLE) {
+            throw new IllegalStateException("canboat native library is not available");
+        }
+    }
+
+    /**
+     * True if the canboat library could be loaded from java.library.path.
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    @Override
+    public int decode(final ByteBuffer frames, final CanFrameBatch batch) {
+
+        if (!frames.isDirect()) {
+            throw new IllegalArgumentException("frames must be in a direct buffer");
+        }
+
+        final long result = decode(
+            frames,
+            frames.position(),
+            frames.limit(),
+            batch.ids,
+            batch.pgns,
+            batch.sources,
+            batch.destinations,
+            batch.priorities,
+            batch.lengths,
+            batch.payloads
+        );
+
+        //consumed bytes in high, frame count in low half
+        frames.position(frames.position() + (int) (result >>> 32));
+        batch.count = (int) result;
+
+        return batch.count;
+
+    }
+
+    private static native long decode(
+        ByteBuffer frames,
+        int position,
+        int limit,
+        int[] ids,
+        int[] pgns,
+        int[] sources,
+        int[] destinations,
+        int[] priorities,
+        int[] lengths,
+        long[] payloads
+    );
+}
@@ -0,0 +1,17 @@
+package llc.berserkr.nmea.n2k;
+
+/**
+ * Receives complete PGN payloads from the frame pipeline. The data array is
+ * owned by the caller and reused, it is only valid during the call.
+ */
+public interface PacketListener {
+
+    /**
+     * @param id 29 bit CAN id of the message, see {@link CANID}
+     * @param data array holding the payload
+     * @param offset payload start in data
+     * @param length payload length in bytes
+     */
+    void packet(int id, byte[] data, int offset, int length);
+
+}
@@ -0,0 +1,107 @@
+package llc.berserkr.nmea.n2k;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoder of a single PGN, holding the compiled extractors of its fields.
+ * Fields are addressed by index, resolved once from the field name with
+ * {@link #indexOf(String)}.
+ *
+ * @see PgnDefinitions
+ */
+public final class PgnDecoder {
+
+    private final int pgn;
+    private final String name;
+    private final boolean fastPacket;
+    private final FieldDecoder[] fields;
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final int length;
+
+    PgnDecoder(final int pgn, final String name, final boolean fastPacket, final List<FieldDecoder> fields) {
+
+        this.pgn = pgn;
+        this.name = name;
+        this.fastPacket = fastPacket;
+        this.fields = fields.toArray(new FieldDecoder[0]);
+
+        int bits = 0;
+
+        for (int i = 0; i < this.fields.length; i++) {
+            if (indexes.put(this.fields[i].getName(), i) != null) {
+                throw new IllegalArgumentException("duplicate field " + this.fields[i].getName() + " in pgn " + pgn);
+            }
+            bits = Math.max(bits, this.fields[i].getBitOffset() + this.fields[i].getBitLength());
+        }
+
+        this.length = (bits + 7) >>> 3;
+
+    }
+
+    public int getPgn() {
+        return pgn;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isFastPacket() {
+        return fastPacket;
+    }
+
+    /**
+     * Payload length in bytes covering all defined fields.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    public int getFieldCount() {
+        return fields.length;
+    }
+
+    public FieldDecoder getField(final int field) {
+        return fields[field];
+    }
+
+    public Map<String, Integer> getFieldIndexes() {
+        return Collections.unmodifiableMap(indexes);
+    }
+
+    /**
+     * Index of the named field, -1 if there is no such field.
+     */
+    public int indexOf(final String field) {
+        final Integer index = indexes.get(field);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Raw value of a field, sign extended for signed fields, or 0 if the
+     * payload does not cover the field.
+     */
+    public long raw(final int field, final byte[] data, final int offset, final int length) {
+        final FieldDecoder decoder = fields[field];
+        return decoder.isPresent(length) ? decoder.raw(data, offset) : 0;
+    }
+
+    /**
+     * Scaled value of a field, {@link Double#NaN} if not present or not
+     * available.
+     */
+    public double value(final int field, final byte[] data, final int offset, final int length) {
+        return fields[field].value(data, offset, length);
+    }
+
+    /**
+     * Lookup table name of a field value, or {@code null}.
+     */
+    public String lookup(final int field, final byte[] data, final int offset, final int length) {
+        final FieldDecoder decoder = fields[field];
+        return decoder.isPresent(length) ? decoder.lookup(decoder.raw(data, offset)) : null;
+    }
+}
@@ -0,0 +1,228 @@
+package llc.berserkr.nmea.n2k;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PGN field layouts loaded from a definition file and compiled into
+ * {@link PgnDecoder}s. The format follows the attributes of the canboat PGN
+ * database, one definition per line, '#' starting a comment:
+ *
+ * <pre>
+ * lookup DIRECTION_REFERENCE
+ *   0 True
+ *   1 Magnetic
+ *
+ * pgn 127250 vesselHeading single
+ *   field sid 0 8 1 unsigned
+ *   field heading 8 16 0.0001 unsigned rad
+ *   field reference 56 2 1 lookup:DIRECTION_REFERENCE
+ * </pre>
+ *
+ * A pgn line gives the number, name and "single" or "fast" packet type. A
+ * field line gives name, bit offset, bit length, resolution, type and an
+ * optional unit; the type is "signed", "unsigned" or "lookup:NAME" for an
+ * unsigned value named by a lookup table declared earlier. Lookup entries
+ * are a value followed by its name.
+ */
+public class PgnDefinitions {
+
+    public static final String STANDARD = "/llc/berserkr/nmea/n2k/pgns.txt";
+
+    private static PgnDefinitions standard;
+
+    private final Map<Integer, PgnDecoder> decoders = new LinkedHashMap<>();
+
+    private PgnDefinitions() {
+    }
+
+    /**
+     * Definitions of the PGNs bundled with the library.
+     */
+    public static synchronized PgnDefinitions standard() {
+        if (standard == null) {
+            try (InputStream in = PgnDefinitions.class.getResourceAsStream(STANDARD)) {
+                if (in == null) {
+                    throw new IllegalStateException("missing resource " + STANDARD);
+                }
+                standard = load(in);
+            }
+            catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return standard;
+    }
+
+    /**
+     * Reads and compiles definitions.
+     *
+     * @throws IOException on read failure
+     * @throws IllegalArgumentException on malformed definitions
+     */
+    public static PgnDefinitions load(final InputStream in) throws IOException {
+
+        final PgnDefinitions definitions = new PgnDefinitions();
+        final Map<String, Map<Integer, String>> lookups = new HashMap<>();
+
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+        Map<Integer, String> lookup = null;
+        int pgn = -1;
+        String name = null;
+        boolean fast = false;
+        List<FieldDecoder> fields = null;
+
+        String line;
+        int number = 0;
+
+        while ((line = reader.readLine()) != null) {
+
+            number++;
+
+            final int comment = line.indexOf('#');
+            final String trimmed = (comment >= 0 ? line.substring(0, comment) : line).trim();
+
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+
+            final String[] tokens = trimmed.split("\\s+");
+
+            try {
+
+                switch (tokens[0]) {
+
+                    case "lookup":
+                        expect(tokens, 2, 2);
+                        definitions.add(pgn, name, fast, fields);
+                        fields = null;
+                        lookup = new HashMap<>();
+                        lookups.put(tokens[1], lookup);
+                        break;
+
+                    case "pgn":
+                        expect(tokens, 4, 4);
+                        definitions.add(pgn, name, fast, fields);
+                        lookup = null;
+                        pgn = Integer.parseInt(tokens[1]);
+                        name = tokens[2];
+                        if (!tokens[3].equals("fast") && !tokens[3].equals("single")) {
+                            throw new IllegalArgumentException("packet type must be single or fast");
+                        }
+                        fast = tokens[3].equals("fast");
+                        fields = new ArrayList<>();
+                        break;
+
+                    case "field":
+                        expect(tokens, 6, 7);
+                        if (fields == null) {
+                            throw new IllegalArgumentException("field outside pgn");
+                        }
+                        fields.add(field(tokens, lookups));
+                        break;
+
+                    default:
+                        if (lookup == null) {
+                            throw new IllegalArgumentException("unknown definition " + tokens[0]);
+                        }
+                        lookup.put(Integer.parseInt(tokens[0]), trimmed.substring(tokens[0].length()).trim());
+                        break;
+
+                }
+
+            }
+            catch (final IllegalArgumentException e) {
+                throw new IllegalArgumentException("line " + number + ": " + e.getMessage(), e);
+            }
+
+        }
+
+        definitions.add(pgn, name, fast, fields);
+
+        return definitions;
+
+    }
+
+    private static void expect(final String[] tokens, final int min, final int max) {
+        if (tokens.length < min || tokens.length > max) {
+            throw new IllegalArgumentException("malformed " + tokens[0] + " definition");
+        }
+    }
+
+    private static FieldDecoder field(final String[] tokens, final Map<String, Map<Integer, String>> lookups) {
+
+        final String type = tokens[5];
+        final String unit = tokens.length > 6 ? tokens[6] : null;
+
+        Map<Integer, String> lookup = null;
+        final boolean signed;
+
+        if (type.equals("signed")) {
+            signed = true;
+        }
+        else if (type.equals("unsigned")) {
+            signed = false;
+        }
+        else if (type.startsWith("lookup:")) {
+            signed = false;
+            lookup = lookups.get(type.substring(7));
+            if (lookup == null) {
+                throw new IllegalArgumentException("unknown lookup " + type.substring(7));
+            }
+        }
+        else {
+            throw new IllegalArgumentException("unknown field type " + type);
+        }
+
+        return FieldDecoder.compile(
+            tokens[1],
+            Integer.parseInt(tokens[2]),
+            Integer.parseInt(tokens[3]),
+            Double.parseDouble(tokens[4]),
+            signed,
+            unit,
+            lookup == null ? null : Collections.unmodifiableMap(lookup)
+        );
+
+    }
+
+    private void add(final int pgn, final String name, final boolean fast, final List<FieldDecoder> fields) {
+        if (fields != null) {
+            if (decoders.put(pgn, new PgnDecoder(pgn, name, fast, fields)) != null) {
+                throw new IllegalArgumentException("duplicate pgn " + pgn);
+            }
+        }
+    }
+
+    /**
+     * Decoder of the PGN, or {@code null} if not defined.
+     */
+    public PgnDecoder get(final int pgn) {
+        return decoders.get(pgn);
+    }
+
+    public Collection<PgnDecoder> getDecoders() {
+        return Collections.unmodifiableCollection(decoders.values());
+    }
+
+    /**
+     * Registers the fast-packet PGNs of these definitions.
+     */
+    public void register(final FASTData fastData) {
+        for (final PgnDecoder decoder : decoders.values()) {
+            fastData.setFastPacket(decoder.getPgn(), decoder.isFastPacket());
+        }
+    }
+}
@@ -0,0 +1,453 @@
+package llc.berserkr.nmea.n2k;
+
+import java.util.Arrays;
+
+/**
+ * ISO 11783-3 / J1939-21 transport protocol receiver, reassembling messages
+ * of up to 1785 bytes sent as broadcast announce (BAM) or as connection mode
+ * (RTS/CTS) transfers over the connection management and data transfer PGNs.
+ * <p>
+ * Sessions are held in a fixed capacity table of primitive arrays with one
+ * preallocated buffer slice each, looked up directly by source and
+ * destination address. Timeouts are not run by threads; {@link #expire(long)}
+ * is expected to be called periodically from the reader or a shared timer.
+ * <p>
+ * Frames of other PGNs are passed on to the next pipeline stage unchanged,
+ * and complete messages are passed to a {@link PacketListener} with the id of
+ * the transported PGN. Connection mode transfers addressed to our own address
+ * are answered with CTS, end of message acknowledgement or abort frames
+ * through the sender; other connections are reassembled passively.
+ * <p>
+ * Instances are not thread safe.
+ */
+public class TransportSessionManager implements FrameListener {
+
+    public static final int MAX_LENGTH = 1785;
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    public static final int CONTROL_RTS = 16;
+    public static final int CONTROL_CTS = 17;
+    public static final int CONTROL_EOM = 19;
+    public static final int CONTROL_BAM = 32;
+    public static final int CONTROL_ABORT = 255;
+
+    public static final int ABORT_RESOURCES = 2;
+    public static final int ABORT_TIMEOUT = 3;
+    public static final int ABORT_BAD_SEQUENCE = 7;
+
+    //timeouts of J1939-21, milliseconds
+    public static final long T1 = 750;
+    public static final long T2 = 1250;
+
+    private static final int DATA_PER_FRAME = 7;
+
+    private static final int TP_PRIORITY = 7;
+
+    private static final int FREE = -1;
+
+    private static final int BAM = 1;
+    private static final int CONNECTION = 2;
+
+    private final FrameListener next;
+    private final PacketListener listener;
+    private final int capacity;
+
+    //slot by source << 8 | destination, slot + 1, 0 when no session
+    private final int[] slots = new int[1 << 16];
+
+    private final int[] keys;
+    private final int[] modes;
+    private final int[] pgns;
+    private final int[] priorities;
+    private final int[] sizes;
+    private final int[] packets;
+    private final int[] received;
+    private final int[] nextSequences;
+    private final int[] maxPerCts;
+    private final int[] windowEnds;
+    private final long[] deadlines;
+    private final byte[] buffers;
+
+    private final int[] freeSlots;
+    private int freeCount;
+
+    private FrameListener sender;
+    private int address = CANID.GLOBAL_ADDRESS;
+
+    private long completed;
+    private long dropped;
+
+    public TransportSessionManager(final FrameListener next, final PacketListener listener) {
+        this(next, listener, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param next stage receiving frames of other PGNs
+     * @param listener receives complete messages
+     * @param capacity maximum number of concurrent sessions
+     */
+    public TransportSessionManager(final FrameListener next, final PacketListener listener, final int capacity) {
+
+        if (next == null || listener == null) {
+            throw new IllegalArgumentException("next stage and listener cannot be null");
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+
+        this.next = next;
+        this.listener = listener;
+        this.capacity = capacity;
+
+        this.keys = new int[capacity];
+        this.modes = new int[capacity];
+        this.pgns = new int[capacity];
+        this.priorities = new int[capacity];
+        this.sizes = new int[capacity];
+        this.packets = new int[capacity];
+        this.received = new int[capacity];
+        this.nextSequences = new int[capacity];
+        this.maxPerCts = new int[capacity];
+        this.windowEnds = new int[capacity];
+        this.deadlines = new long[capacity];
+        this.buffers = new byte[capacity * MAX_LENGTH];
+
+        this.freeSlots = new int[capacity];
+
+        Arrays.fill(keys, FREE);
+
+        for (int i = 0; i < capacity; i++) {
+            freeSlots[i] = capacity - 1 - i;
+        }
+        freeCount = capacity;
+
+    }
+
+    /**
+     * Sets our own source address and the stage sending frames to the bus.
+     * Connection mode transfers to the address are answered, with the
+     * global address no frames are sent.
+     */
+    public void setAddress(final int address, final FrameListener sender) {
+        this.address = address & 0xFF;
+        this.sender = sender;
+    }
+
+    @Override
+    public void frame(final int id, final long payload, final int length, final long time) {
+
+        final int pgn = CANID.pgn(id);
+
+        if (pgn == CANID.ISO_CONNECTION_RTS) {
+            if (length == 8) {
+                connection(id, payload, time);
+            }
+            else {
+                dropped++;
+            }
+        }
+        else if (pgn == CANID.ISO__DATA_TRANSPORT) {
+            if (length == 8) {
+                data(id, payload, time);
+            }
+            else {
+                dropped++;
+            }
+        }
+        else {
+            next.frame(id, payload, length, time);
+        }
+
+    }
+
+    /**
+     * Closes sessions past their deadline, aborting connections addressed to
+     * us.
+     *
+     * @param now current time in milliseconds
+     * @return number of sessions closed
+     */
+    public int expire(final long now) {
+
+        int expired = 0;
+
+        for (int slot = 0; slot < capacity; slot++) {
+            if (keys[slot] != FREE && now > deadlines[slot]) {
+                if (isOurs(slot)) {
+                    abort(keys[slot] >>> 8, pgns[slot], ABORT_TIMEOUT, now);
+                }
+                close(slot);
+                expired++;
+            }
+        }
+
+        dropped += expired;
+
+        return expired;
+
+    }
+
+    /**
+     * Number of sessions in progress.
+     */
+    public int getActive() {
+        return capacity - freeCount;
+    }
+
+    /**
+     * Number of messages emitted.
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Number of frames and sessions discarded.
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    private void connection(final int id, final long payload, final long time) {
+
+        final int source = CANID.source(id);
+        final int destination = CANID.destination(id);
+        final int control = CANFrame.uint8(payload, 0);
+        final int pgn = (int) CANFrame.bits(payload, 40, 18);
+
+        switch (control) {
+
+            case CONTROL_BAM:
+            case CONTROL_RTS: {
+
+                final int size = CANFrame.uint16(payload, 1);
+                final int count = CANFrame.uint8(payload, 3);
+                final boolean bam = control == CONTROL_BAM;
+
+                if (size > MAX_LENGTH || count == 0 || count != (size + DATA_PER_FRAME - 1) / DATA_PER_FRAME) {
+                    dropped++;
+                    return;
+                }
+
+                final int slot = open(key(source, bam ? CANID.GLOBAL_ADDRESS : destination));
+
+                if (slot == FREE) {
+                    dropped++;
+                    if (!bam && destination == address) {
+                        abort(source, pgn, ABORT_RESOURCES, time);
+                    }
+                    return;
+                }
+
+                modes[slot] = bam ? BAM : CONNECTION;
+                pgns[slot] = pgn;
+                priorities[slot] = CANID.priority(id);
+                sizes[slot] = size;
+                packets[slot] = count;
+                received[slot] = 0;
+                nextSequences[slot] = 1;
+                maxPerCts[slot] = bam || CANFrame.uint8(payload, 4) == 0 ? 0xFF : CANFrame.uint8(payload, 4);
+                windowEnds[slot] = count;
+                deadlines[slot] = time + (bam ? T1 : T2);
+
+                if (isOurs(slot)) {
+                    clearToSend(slot, time);
+                }
+
+                break;
+
+            }
+            case CONTROL_CTS: {
+
+                //sent by the receiver, refresh the session of the originator
+                final int slot = find(key(destination, source));
+
+                if (slot != FREE) {
+                    deadlines[slot] = time + T2;
+                }
+
+                break;
+
+            }
+            case CONTROL_ABORT: {
+
+                final int forward = find(key(source, destination));
+                if (forward != FREE) {
+                    close(forward);
+                    dropped++;
+                }
+
+                final int backward = find(key(destination, source));
+                if (backward != FREE) {
+                    close(backward);
+                    dropped++;
+                }
+
+                break;
+
+            }
+            default:
+                //end of message acknowledgements need no action
+                break;
+
+        }
+
+    }
+
+    private void data(final int id, final long payload, final long time) {
+
+        final int slot = find(key(CANID.source(id), CANID.destination(id)));
+
+        if (slot == FREE) {
+            dropped++;
+            return;
+        }
+
+        final int sequence = CANFrame.uint8(payload, 0);
+
+        if (sequence != nextSequences[slot]) {
+            if (isOurs(slot)) {
+                abort(keys[slot] >>> 8, pgns[slot], ABORT_BAD_SEQUENCE, time);
+            }
+            close(slot);
+            dropped++;
+            return;
+        }
+
+        final int offset = slot * MAX_LENGTH + received[slot];
+        final int count = Math.min(DATA_PER_FRAME, sizes[slot] - received[slot]);
+
+        for (int i = 0; i < count; i++) {
+            buffers[offset + i] = (byte) (payload >>> ((i + 1) << 3));
+        }
+
+        received[slot] += count;
+        nextSequences[slot] = sequence + 1;
+
+        if (received[slot] >= sizes[slot]) {
+
+            final int source = keys[slot] >>> 8;
+            final int destination = keys[slot] & 0xFF;
+
+            if (isOurs(slot)) {
+                send(
+                    source,
+                    CONTROL_EOM
+                        | ((long) sizes[slot] << 8)
+                        | ((long) packets[slot] << 24)
+                        | (0xFFL << 32)
+                        | ((long) pgns[slot] << 40),
+                    time
+                );
+            }
+
+            completed++;
+
+            listener.packet(
+                CANID.id(priorities[slot], pgns[slot], destination, source),
+                buffers,
+                slot * MAX_LENGTH,
+                sizes[slot]
+            );
+
+            close(slot);
+
+        }
+        else if (isOurs(slot) && sequence == windowEnds[slot]) {
+            clearToSend(slot, time);
+        }
+        else {
+            deadlines[slot] = time + (modes[slot] == BAM ? T1 : T2);
+        }
+
+    }
+
+    /**
+     * Requests the next window of data frames from the originator.
+     */
+    private void clearToSend(final int slot, final long time) {
+
+        final int nextSequence = nextSequences[slot];
+        final int window = Math.min(packets[slot] - nextSequence + 1, maxPerCts[slot]);
+
+        windowEnds[slot] = nextSequence + window - 1;
+        deadlines[slot] = time + T2;
+
+        send(
+            keys[slot] >>> 8,
+            CONTROL_CTS
+                | ((long) window << 8)
+                | ((long) nextSequence << 16)
+                | (0xFFFFL << 24)
+                | ((long) pgns[slot] << 40),
+            time
+        );
+
+    }
+
+    private void abort(final int destination, final int pgn, final int reason, final long time) {
+        send(
+            destination,
+            CONTROL_ABORT | ((long) reason << 8) | (0xFFFFFFL << 16) | ((long) pgn << 40),
+            time
+        );
+    }
+
+    private void send(final int destination, final long payload, final long time) {
+        if (sender != null) {
+            sender.frame(
+                CANID.id(TP_PRIORITY, CANID.ISO_CONNECTION_CTS, destination, address),
+                payload,
+                8,
+                time
+            );
+        }
+    }
+
+    private boolean isOurs(final int slot) {
+        return modes[slot] == CONNECTION
+            && address != CANID.GLOBAL_ADDRESS
+            && (keys[slot] & 0xFF) == address;
+    }
+
+    private static int key(final int source, final int destination) {
+        return (source << 8) | destination;
+    }
+
+    private int find(final int key) {
+        return slots[key] - 1;
+    }
+
+    /**
+     * Returns the slot for a new session, replacing a session in progress
+     * between the same addresses.
+     */
+    private int open(final int key) {
+
+        final int existing = find(key);
+
+        if (existing != FREE) {
+            dropped++;
+            return existing;
+        }
+
+        if (freeCount == 0) {
+            return FREE;
+        }
+
+        final int slot = freeSlots[--freeCount];
+
+        keys[slot] = key;
+        slots[key] = slot + 1;
+
+        return slot;
+
+    }
+
+    private void close(final int slot) {
+        slots[keys[slot]] = 0;
+        keys[slot] = FREE;
+        freeSlots[freeCount++] = slot;
+    }
+}
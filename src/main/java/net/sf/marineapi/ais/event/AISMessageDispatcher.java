@@ -0,0 +1,417 @@
+/*
+ * AISMessageDispatcher.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.parser.AISMessageFactory;
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.io.SentenceReader;
+import net.sf.marineapi.nmea.parser.DataNotAvailableException;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+
+/**
+ * Shared AIS decoding stage of a {@link SentenceReader}. Reassembles VDM and
+ * VDO fragments, decodes each message once and passes the decoded message
+ * to the listeners of its message type.
+ * <p>
+ * Fragments are collected per source, radio channel and sequential message
+ * id, so fragments from channels A and B, from different message ids or
+ * from different sources of a {@link net.sf.marineapi.nmea.io.SentenceReaderHub}
+ * may interleave freely. Incomplete messages are dropped when the remaining
+ * fragments do not arrive within the timeout.
+ * <p>
+ * Unlike {@link AbstractAISMessageListener} registered on the reader, which
+ * reassembles and decodes messages by itself, any number of listeners can
+ * share the work done here. An {@code AbstractAISMessageListener} may also
+ * be added to the dispatcher, but should then not be registered on the
+ * reader.
+ *
+ * @author Berserkr LLC
+ * @see AISMessageListener
+ */
+public class AISMessageDispatcher implements SentenceListener {
+
+    /** Default time in milliseconds to wait for the fragments of a message */
+    public static final long DEFAULT_TIMEOUT = 2000;
+
+    private static final Logger LOGGER = Logger.getLogger(AISMessageDispatcher.class.getName());
+
+    // six bit message type
+    private static final int TYPES = 64;
+    private static final int ANY = -1;
+
+    private final AISMessageFactory factory = AISMessageFactory.getInstance();
+    private final long timeout;
+    private final LongSupplier clock;
+
+    // incomplete messages, guarded by itself
+    private final Map<Key, Fragments> pending = new HashMap<>();
+
+    // registrations, guarded by itself
+    private final List<Registration> registrations = new ArrayList<>();
+    private volatile AISMessageListener[][] listeners = build(registrations);
+
+    private final AtomicLong decoded = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Creates a dispatcher with the default timeout.
+     */
+    public AISMessageDispatcher() {
+        this(DEFAULT_TIMEOUT, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param timeout Milliseconds to wait for the fragments of a message
+     * @param clock Time source in milliseconds
+     */
+    public AISMessageDispatcher(long timeout, LongSupplier clock) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive");
+        }
+        this.timeout = timeout;
+        this.clock = clock;
+    }
+
+    /**
+     * Registers the dispatcher for VDM and VDO sentences of the reader.
+     *
+     * @param reader Reader to attach to
+     */
+    public void attach(SentenceReader reader) {
+        reader.addSentenceListener(this, SentenceId.VDM);
+        reader.addSentenceListener(this, SentenceId.VDO);
+    }
+
+    /**
+     * Adds a listener of all message types.
+     *
+     * @param listener Listener to add
+     */
+    public void addMessageListener(AISMessageListener listener) {
+        register(listener, ANY);
+    }
+
+    /**
+     * Adds a listener of a message type.
+     *
+     * @param listener Listener to add
+     * @param type Message type, 1 to 27
+     */
+    public void addMessageListener(AISMessageListener listener, int type) {
+        if (type < 0 || type >= TYPES) {
+            throw new IllegalArgumentException("Invalid message type " + type);
+        }
+        register(listener, type);
+    }
+
+    /**
+     * Removes all registrations of the listener.
+     *
+     * @param listener Listener to remove
+     */
+    public void removeMessageListener(AISMessageListener listener) {
+        synchronized (registrations) {
+            registrations.removeIf(r -> r.listener == listener);
+            listeners = build(registrations);
+        }
+    }
+
+    /**
+     * Returns the number of messages decoded.
+     *
+     * @return Message count
+     */
+    public long getDecoded() {
+        return decoded.get();
+    }
+
+    /**
+     * Returns the number of messages dropped as incomplete, expired,
+     * malformed or of unsupported type.
+     *
+     * @return Message count
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Returns the number of messages waiting for fragments.
+     *
+     * @return Message count
+     */
+    public int getPending() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    @Override
+    public void sentenceRead(SentenceEvent event) {
+
+        Sentence sentence = event.getSentence();
+        if (!(sentence instanceof AISSentence)) {
+            return;
+        }
+
+        AISMessage message = reassemble(event.getSourceId(), (AISSentence) sentence);
+        if (message == null) {
+            return;
+        }
+
+        AISMessageListener[] targets = listeners[message.getMessageType() & (TYPES - 1)];
+        for (AISMessageListener listener : targets) {
+            try {
+                listener.messageReceived(message);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Exception caught from AISMessageListener", e);
+            }
+        }
+    }
+
+    /**
+     * Drops incomplete messages.
+     */
+    @Override
+    public void readingStopped() {
+        synchronized (pending) {
+            dropped.addAndGet(pending.size());
+            pending.clear();
+        }
+    }
+
+    /**
+     * Empty implementation.
+     */
+    @Override
+    public void readingPaused() {
+    }
+
+    /**
+     * Empty implementation.
+     */
+    @Override
+    public void readingStarted() {
+    }
+
+    /**
+     * Adds the sentence to its message, returns the decoded message when
+     * complete.
+     */
+    private AISMessage reassemble(String sourceId, AISSentence sentence) {
+
+        int count;
+        int number;
+        try {
+            count = sentence.getNumberOfFragments();
+            number = sentence.getFragmentNumber();
+        } catch (RuntimeException e) {
+            dropped.incrementAndGet();
+            return null;
+        }
+
+        if (count == 1 && number == 1) {
+            return decode(sentence);
+        }
+
+        if (number < 1 || number > count) {
+            dropped.incrementAndGet();
+            return null;
+        }
+
+        AISSentence[] parts;
+
+        synchronized (pending) {
+
+            long now = clock.getAsLong();
+            expire(now);
+
+            Key key = new Key(sourceId, optional(sentence, true), optional(sentence, false));
+            Fragments fragments = pending.get(key);
+
+            // a new first fragment or count restarts the message
+            if (fragments == null || fragments.parts.length != count
+                || (number == 1 && fragments.parts[0] != null)) {
+                if (fragments != null) {
+                    dropped.incrementAndGet();
+                }
+                fragments = new Fragments(count, now);
+                pending.put(key, fragments);
+            }
+
+            if (fragments.parts[number - 1] == null) {
+                fragments.received++;
+            }
+            fragments.parts[number - 1] = sentence;
+
+            if (fragments.received < count) {
+                return null;
+            }
+
+            pending.remove(key);
+            parts = fragments.parts;
+        }
+
+        return decode(parts);
+    }
+
+    private AISMessage decode(AISSentence... sentences) {
+        try {
+            AISMessage message = factory.create(sentences);
+            decoded.incrementAndGet();
+            return message;
+        } catch (RuntimeException e) {
+            // malformed or reserved message type
+            dropped.incrementAndGet();
+            return null;
+        }
+    }
+
+    private void expire(long now) {
+        Iterator<Fragments> it = pending.values().iterator();
+        while (it.hasNext()) {
+            if (now - it.next().started > timeout) {
+                it.remove();
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Radio channel or sequential message id, {@code null} if empty.
+     */
+    private static String optional(AISSentence sentence, boolean channel) {
+        try {
+            return channel ? sentence.getRadioChannel() : sentence.getMessageId();
+        } catch (DataNotAvailableException e) {
+            return null;
+        }
+    }
+
+    private void register(AISMessageListener listener, int type) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        synchronized (registrations) {
+            registrations.add(new Registration(listener, type));
+            listeners = build(registrations);
+        }
+    }
+
+    /**
+     * Listeners by message type, each merged with the listeners of all
+     * types.
+     */
+    private static AISMessageListener[][] build(List<Registration> registrations) {
+
+        List<Set<AISMessageListener>> byType = new ArrayList<>(TYPES);
+        for (int i = 0; i < TYPES; i++) {
+            byType.add(new LinkedHashSet<>());
+        }
+
+        for (Registration r : registrations) {
+            if (r.type == ANY) {
+                for (Set<AISMessageListener> set : byType) {
+                    set.add(r.listener);
+                }
+            } else {
+                byType.get(r.type).add(r.listener);
+            }
+        }
+
+        AISMessageListener[][] table = new AISMessageListener[TYPES][];
+        for (int i = 0; i < TYPES; i++) {
+            table[i] = byType.get(i).toArray(new AISMessageListener[0]);
+        }
+        return table;
+    }
+
+    private static final class Registration {
+
+        final AISMessageListener listener;
+        final int type;
+
+        Registration(AISMessageListener listener, int type) {
+            this.listener = listener;
+            this.type = type;
+        }
+    }
+
+    private static final class Key {
+
+        final String sourceId;
+        final String channel;
+        final String messageId;
+
+        Key(String sourceId, String channel, String messageId) {
+            this.sourceId = sourceId;
+            this.channel = channel;
+            this.messageId = messageId;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key k = (Key) obj;
+            return Objects.equals(sourceId, k.sourceId)
+                && Objects.equals(channel, k.channel)
+                && Objects.equals(messageId, k.messageId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sourceId, channel, messageId);
+        }
+    }
+
+    private static final class Fragments {
+
+        final AISSentence[] parts;
+        final long started;
+        int received;
+
+        Fragments(int count, long started) {
+            this.parts = new AISSentence[count];
+            this.started = started;
+        }
+    }
+}
@@ -36,6 +36,11 @@ import java.util.Queue;
  * for a specific AIS message type and register it in a
  * {@link net.sf.marineapi.nmea.io.SentenceReader}.</p>
  * <p>
+ * Each listener registered in the reader reassembles and decodes the
+ * messages by itself. When several listeners are used, register them in a
+ * shared {@link AISMessageDispatcher} instead, which decodes each message
+ * once.</p>
+ * <p>
  * To listen to all incoming AIS sentences, extend the {@link
  * AbstractSentenceListener} using {@link AISSentence} as type. However, in this
  * case you also need to implement the message concatenation to parse messages
@@ -52,7 +57,7 @@ import java.util.Queue;
  * @see GenericTypeResolver
  */
 public abstract class AbstractAISMessageListener<T extends AISMessage>
-    extends AbstractSentenceListener<AISSentence> {
+    extends AbstractSentenceListener<AISSentence> implements AISMessageListener {
 
     final Class<?> messageType;
     private final Queue<AISSentence> queue = new LinkedList<>();
@@ -94,7 +99,6 @@ public abstract class AbstractAISMessageListener<T extends AISMessage>
      * handling of received sentences.</p>
      */
     @Override
-    @SuppressWarnings("unchecked")    
     public final void sentenceRead(AISSentence sentence) {
 
         if (sentence.isFirstFragment()) {
@@ -106,16 +110,27 @@ public abstract class AbstractAISMessageListener<T extends AISMessage>
         if (sentence.isLastFragment()) {
             AISSentence[] sentences = queue.toArray(new AISSentence[queue.size()]);
             try {
-                AISMessage message = factory.create(sentences);
-                if (messageType.isAssignableFrom(message.getClass())) {
-                    onMessage((T) message);
-                }
+                messageReceived(factory.create(sentences));
             } catch (IllegalArgumentException iae) {
-                // never mind incorrect order or unsupported message types
+                // never mind incorrect order or reserved message types
             }
         }
     }
 
+    /**
+     * Invoked when a decoded AIS message of any type is received, for
+     * example from {@link AISMessageDispatcher}. Invokes the
+     * {@link #onMessage(AISMessage)} method when the type matches the generic
+     * type {@code T}.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final void messageReceived(AISMessage message) {
+        if (messageType.isAssignableFrom(message.getClass())) {
+            onMessage((T) message);
+        }
+    }
+
     /**
      * Invoked when AIS message has been received.
      * @param msg AISMessage of type {@code T}
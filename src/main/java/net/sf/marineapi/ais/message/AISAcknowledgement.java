@@ -0,0 +1,57 @@
+/*
+ * AISAcknowledgement.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Common interface for binary and safety related acknowledgements, of up to
+ * four addressed messages.
+ *
+ * @author Berserkr LLC
+ */
+public interface AISAcknowledgement extends AISMessage {
+
+    /**
+     * Returns the number of acknowledged messages.
+     *
+     * @return Number of acknowledgements (1-4)
+     */
+    int getNumberOfAcknowledgements();
+
+    /**
+     * Returns the MMSI of the sender of an acknowledged message.
+     *
+     * @param index Acknowledgement index, from zero.
+     * @return MMSI
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             acknowledgements.
+     */
+    int getAcknowledgedMMSI(int index);
+
+    /**
+     * Returns the sequence number of an acknowledged message.
+     *
+     * @param index Acknowledgement index, from zero.
+     * @return Sequence number (0-3)
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             acknowledgements.
+     */
+    int getSequenceNumber(int index);
+}
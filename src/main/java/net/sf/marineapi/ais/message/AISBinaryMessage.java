@@ -0,0 +1,60 @@
+/*
+ * AISBinaryMessage.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Common interface for AIS messages carrying binary data of an application,
+ * identified by its designated area code (DAC) and function identifier (FI).
+ *
+ * @author Berserkr LLC
+ */
+public interface AISBinaryMessage extends AISMessage {
+
+    /**
+     * Returns the designated area code of the application, e.g. 1 for
+     * international applications.
+     *
+     * @return DAC (0-1023)
+     */
+    int getDesignatedAreaCode();
+
+    /**
+     * Returns the function identifier of the application.
+     *
+     * @return FI (0-63)
+     */
+    int getFunctionalId();
+
+    /**
+     * Returns the application data following the DAC and FI.
+     *
+     * @return Data bytes, last byte padded with zero bits.
+     * @see #getDataLength()
+     */
+    byte[] getData();
+
+    /**
+     * Returns the length of application data.
+     *
+     * @return Number of data bits.
+     */
+    int getDataLength();
+}
@@ -0,0 +1,38 @@
+/*
+ * AISMessage10.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * UTC/Date Inquiry
+ *
+ * Requests the UTC and date from a station, answered with message 11.
+ *
+ * @author Berserkr LLC
+ */
+public interface AISMessage10 extends AISMessage {
+
+    /**
+     * Returns the MMSI of the inquired station.
+     *
+     * @return MMSI
+     */
+    int getDestinationMMSI();
+}
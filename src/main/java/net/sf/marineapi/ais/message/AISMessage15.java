@@ -0,0 +1,69 @@
+/*
+ * AISMessage15.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Interrogation
+ *
+ * Requests specific messages from one or two stations, either one or two
+ * messages from the first station, or one from each.
+ *
+ * @author Berserkr LLC
+ */
+public interface AISMessage15 extends AISMessage {
+
+    /**
+     * Returns the number of requested messages.
+     *
+     * @return Number of requests (1-3)
+     */
+    int getNumberOfRequests();
+
+    /**
+     * Returns the MMSI of the interrogated station of a request.
+     *
+     * @param index Request index, from zero.
+     * @return MMSI
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             requests.
+     */
+    int getInterrogatedMMSI(int index);
+
+    /**
+     * Returns the requested message type.
+     *
+     * @param index Request index, from zero.
+     * @return Message type
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             requests.
+     */
+    int getRequestedMessageType(int index);
+
+    /**
+     * Returns the slot offset of the response.
+     *
+     * @param index Request index, from zero.
+     * @return Slot offset, 0 if the station may choose.
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             requests.
+     */
+    int getSlotOffset(int index);
+}
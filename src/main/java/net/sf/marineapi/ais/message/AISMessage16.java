@@ -0,0 +1,69 @@
+/*
+ * AISMessage16.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Assignment Mode Command
+ *
+ * Assigns the reporting schedule of one or two stations by a base station.
+ *
+ * @author Berserkr LLC
+ */
+public interface AISMessage16 extends AISMessage {
+
+    /**
+     * Returns the number of assigned stations.
+     *
+     * @return Number of assignments (1-2)
+     */
+    int getNumberOfAssignments();
+
+    /**
+     * Returns the MMSI of an assigned station.
+     *
+     * @param index Assignment index, from zero.
+     * @return MMSI
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             assignments.
+     */
+    int getAssignedMMSI(int index);
+
+    /**
+     * Returns the slot offset of the first assigned transmission.
+     *
+     * @param index Assignment index, from zero.
+     * @return Slot offset
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             assignments.
+     */
+    int getSlotOffset(int index);
+
+    /**
+     * Returns the increment to the following transmissions, in slots, or
+     * the reporting rate if zero.
+     *
+     * @param index Assignment index, from zero.
+     * @return Increment
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             assignments.
+     */
+    int getIncrement(int index);
+}
@@ -0,0 +1,75 @@
+/*
+ * AISMessage17.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * GNSS Broadcast Binary Message
+ *
+ * Differential corrections of a reference station, in the format of
+ * ITU-R M.823 (RTCM SC-104).
+ *
+ * @author Berserkr LLC
+ */
+public interface AISMessage17 extends AISMessage {
+
+    /**
+     * Returns the longitude of the reference station.
+     *
+     * @return Longitude, in degrees.
+     */
+    double getLongitudeInDegrees();
+
+    /**
+     * Returns the latitude of the reference station.
+     *
+     * @return Latitude, in degrees.
+     */
+    double getLatitudeInDegrees();
+
+    /**
+     * Tells if the longitude is available in the message.
+     *
+     * @return {@code true} if available, otherwise {@code false}.
+     */
+    boolean hasLongitude();
+
+    /**
+     * Tells if the latitude is available in the message.
+     *
+     * @return {@code true} if available, otherwise {@code false}.
+     */
+    boolean hasLatitude();
+
+    /**
+     * Returns the correction data.
+     *
+     * @return Data bytes, last byte padded with zero bits.
+     * @see #getDataLength()
+     */
+    byte[] getData();
+
+    /**
+     * Returns the length of correction data.
+     *
+     * @return Number of data bits.
+     */
+    int getDataLength();
+}
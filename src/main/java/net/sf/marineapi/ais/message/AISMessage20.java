@@ -0,0 +1,78 @@
+/*
+ * AISMessage20.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Data Link Management Message
+ *
+ * Reserves slots for base station transmissions.
+ *
+ * @author Berserkr LLC
+ */
+public interface AISMessage20 extends AISMessage {
+
+    /**
+     * Returns the number of slot reservations.
+     *
+     * @return Number of reservations (1-4)
+     */
+    int getNumberOfReservations();
+
+    /**
+     * Returns the offset of the first reserved slot.
+     *
+     * @param index Reservation index, from zero.
+     * @return Slot offset
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             reservations.
+     */
+    int getSlotOffset(int index);
+
+    /**
+     * Returns the number of consecutive reserved slots.
+     *
+     * @param index Reservation index, from zero.
+     * @return Number of slots (1-15)
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             reservations.
+     */
+    int getNumberOfSlots(int index);
+
+    /**
+     * Returns the time-out of the reservation.
+     *
+     * @param index Reservation index, from zero.
+     * @return Time-out in minutes (1-7)
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             reservations.
+     */
+    int getTimeout(int index);
+
+    /**
+     * Returns the increment to repeat the reservation, in slots.
+     *
+     * @param index Reservation index, from zero.
+     * @return Increment, 0 if reserved once per frame.
+     * @throws IndexOutOfBoundsException If index is not below the number of
+     *             reservations.
+     */
+    int getIncrement(int index);
+}
@@ -0,0 +1,131 @@
+/*
+ * AISMessage22.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Channel Management
+ *
+ * Sets the VHF channels and transmission modes of stations in a region, or
+ * of up to two addressed stations.
+ *
+ * @author Berserkr LLC
+ */
+public interface AISMessage22 extends AISMessage {
+
+    /**
+     * Returns the VHF channel number of AIS channel A.
+     *
+     * @return Channel number
+     */
+    int getChannelA();
+
+    /**
+     * Returns the VHF channel number of AIS channel B.
+     *
+     * @return Channel number
+     */
+    int getChannelB();
+
+    /**
+     * Returns the transmit and receive mode.
+     *
+     * @return 0 = Tx A and B, Rx A and B; 1 = Tx A, Rx A and B;
+     *         2 = Tx B, Rx A and B
+     */
+    int getTxRxMode();
+
+    /**
+     * Tells if stations should transmit at low power.
+     *
+     * @return {@code true} if low power, otherwise {@code false}.
+     */
+    boolean isLowPower();
+
+    /**
+     * Tells if the command is addressed to stations instead of a region.
+     *
+     * @return {@code true} if addressed, otherwise {@code false}.
+     */
+    boolean isAddressed();
+
+    /**
+     * Returns the longitude of the north-east corner of the region.
+     *
+     * @return Longitude, in degrees, or {@link Double#NaN} if addressed.
+     */
+    double getNorthEastLongitude();
+
+    /**
+     * Returns the latitude of the north-east corner of the region.
+     *
+     * @return Latitude, in degrees, or {@link Double#NaN} if addressed.
+     */
+    double getNorthEastLatitude();
+
+    /**
+     * Returns the longitude of the south-west corner of the region.
+     *
+     * @return Longitude, in degrees, or {@link Double#NaN} if addressed.
+     */
+    double getSouthWestLongitude();
+
+    /**
+     * Returns the latitude of the south-west corner of the region.
+     *
+     * @return Latitude, in degrees, or {@link Double#NaN} if addressed.
+     */
+    double getSouthWestLatitude();
+
+    /**
+     * Returns the MMSI of the first addressed station.
+     *
+     * @return MMSI, or 0 if not addressed.
+     */
+    int getFirstDestinationMMSI();
+
+    /**
+     * Returns the MMSI of the second addressed station.
+     *
+     * @return MMSI, or 0 if not addressed.
+     */
+    int getSecondDestinationMMSI();
+
+    /**
+     * Tells if channel A uses reduced bandwidth.
+     *
+     * @return {@code true} if 12.5 kHz, {@code false} if default.
+     */
+    boolean isChannelABandwidthReduced();
+
+    /**
+     * Tells if channel B uses reduced bandwidth.
+     *
+     * @return {@code true} if 12.5 kHz, {@code false} if default.
+     */
+    boolean isChannelBBandwidthReduced();
+
+    /**
+     * Returns the size of the transitional zone.
+     *
+     * @return Zone size in nautical miles (1-8)
+     */
+    int getZoneSize();
+}
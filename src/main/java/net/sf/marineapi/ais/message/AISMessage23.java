@@ -0,0 +1,98 @@
+/*
+ * AISMessage23.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Group Assignment Command
+ *
+ * Assigns the reporting schedule of a group of stations in a region, by
+ * station and ship type.
+ *
+ * @author Berserkr LLC
+ */
+public interface AISMessage23 extends AISMessage {
+
+    /**
+     * Returns the longitude of the north-east corner of the region.
+     *
+     * @return Longitude, in degrees.
+     */
+    double getNorthEastLongitude();
+
+    /**
+     * Returns the latitude of the north-east corner of the region.
+     *
+     * @return Latitude, in degrees.
+     */
+    double getNorthEastLatitude();
+
+    /**
+     * Returns the longitude of the south-west corner of the region.
+     *
+     * @return Longitude, in degrees.
+     */
+    double getSouthWestLongitude();
+
+    /**
+     * Returns the latitude of the south-west corner of the region.
+     *
+     * @return Latitude, in degrees.
+     */
+    double getSouthWestLatitude();
+
+    /**
+     * Returns the type of assigned stations.
+     *
+     * @return 0 = all types of mobiles, 2 = all Class B, 3 = SAR airborne,
+     *         4 = Class B SO, 5 = Class B CS, 6 = inland waterways,
+     *         10 = base station coverage area
+     */
+    int getStationType();
+
+    /**
+     * Returns the type of ship and cargo of assigned stations.
+     *
+     * @return Ship and cargo type, 0 for all types
+     */
+    int getTypeOfShipAndCargoType();
+
+    /**
+     * Returns the transmit and receive mode.
+     *
+     * @return 0 = Tx A and B, Rx A and B; 1 = Tx A, Rx A and B;
+     *         2 = Tx B, Rx A and B
+     */
+    int getTxRxMode();
+
+    /**
+     * Returns the assigned reporting interval.
+     *
+     * @return Reporting interval code (0-11)
+     */
+    int getReportingInterval();
+
+    /**
+     * Returns the quiet time before reporting.
+     *
+     * @return Quiet time in minutes (0-15)
+     */
+    int getQuietTime();
+}
@@ -0,0 +1,53 @@
+/*
+ * AISMessage25.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Single Slot Binary Message
+ *
+ * Binary data of up to one slot, either broadcast or addressed.
+ *
+ * @author Berserkr LLC
+ */
+public interface AISMessage25 extends AISBinaryMessage {
+
+    /**
+     * Tells if the message is addressed to a specific station.
+     *
+     * @return {@code true} if addressed, {@code false} if broadcast.
+     */
+    boolean isAddressed();
+
+    /**
+     * Tells if the data is structured with an application identifier. If
+     * not, the designated area code and function identifier are zero.
+     *
+     * @return {@code true} if structured, otherwise {@code false}.
+     */
+    boolean isStructured();
+
+    /**
+     * Returns the MMSI of the destination station.
+     *
+     * @return MMSI, or 0 if broadcast.
+     */
+    int getDestinationMMSI();
+}
@@ -0,0 +1,232 @@
+/*
+ * AISMeteoHydroReport.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Meteorological and Hydrographic Data
+ *
+ * International application of binary broadcast message 8, with DAC 1 and
+ * FI 31 (IMO SN.1/Circ.289). Measurements that are not available are
+ * returned as {@link Double#NaN}.
+ *
+ * @author Berserkr LLC
+ */
+public interface AISMeteoHydroReport extends AISMessage08, AISPositionInfo {
+
+    /**
+     * Returns the UTC day of the observation.
+     *
+     * @return Day (1-31), 0 if not available.
+     */
+    int getUtcDay();
+
+    /**
+     * Returns the UTC hour of the observation.
+     *
+     * @return Hour (0-23), 24 if not available.
+     */
+    int getUtcHour();
+
+    /**
+     * Returns the UTC minute of the observation.
+     *
+     * @return Minute (0-59), 60 if not available.
+     */
+    int getUtcMinute();
+
+    /**
+     * Returns the average wind speed of the last ten minutes.
+     *
+     * @return Speed in knots, 126 meaning 126 knots or more.
+     */
+    double getWindSpeed();
+
+    /**
+     * Returns the wind gust speed of the last ten minutes.
+     *
+     * @return Speed in knots, 126 meaning 126 knots or more.
+     */
+    double getWindGust();
+
+    /**
+     * Returns the wind direction.
+     *
+     * @return Direction in degrees (0-359)
+     */
+    double getWindDirection();
+
+    /**
+     * Returns the wind gust direction.
+     *
+     * @return Direction in degrees (0-359)
+     */
+    double getWindGustDirection();
+
+    /**
+     * Returns the dry bulb air temperature.
+     *
+     * @return Temperature in degrees Celsius
+     */
+    double getAirTemperature();
+
+    /**
+     * Returns the relative humidity.
+     *
+     * @return Humidity in percents (0-100)
+     */
+    double getRelativeHumidity();
+
+    /**
+     * Returns the dew point.
+     *
+     * @return Dew point in degrees Celsius
+     */
+    double getDewPoint();
+
+    /**
+     * Returns the air pressure.
+     *
+     * @return Pressure in hPa, 799 meaning 799 hPa or less and 1201 meaning
+     *         1201 hPa or more.
+     */
+    double getAirPressure();
+
+    /**
+     * Returns the air pressure tendency.
+     *
+     * @return 0 = steady, 1 = decreasing, 2 = increasing, 3 = not available
+     */
+    int getAirPressureTendency();
+
+    /**
+     * Returns the horizontal visibility.
+     *
+     * @return Visibility in nautical miles
+     */
+    double getVisibility();
+
+    /**
+     * Returns the water level, including tide, relative to the local
+     * chart datum.
+     *
+     * @return Water level in meters
+     */
+    double getWaterLevel();
+
+    /**
+     * Returns the water level trend.
+     *
+     * @return 0 = steady, 1 = decreasing, 2 = increasing, 3 = not available
+     */
+    int getWaterLevelTrend();
+
+    /**
+     * Returns the speed of the surface current.
+     *
+     * @return Speed in knots
+     */
+    double getSurfaceCurrentSpeed();
+
+    /**
+     * Returns the direction of the surface current.
+     *
+     * @return Direction in degrees (0-359)
+     */
+    double getSurfaceCurrentDirection();
+
+    /**
+     * Returns the significant wave height.
+     *
+     * @return Height in meters
+     */
+    double getWaveHeight();
+
+    /**
+     * Returns the wave period.
+     *
+     * @return Period in seconds
+     */
+    double getWavePeriod();
+
+    /**
+     * Returns the wave direction.
+     *
+     * @return Direction in degrees (0-359)
+     */
+    double getWaveDirection();
+
+    /**
+     * Returns the swell height.
+     *
+     * @return Height in meters
+     */
+    double getSwellHeight();
+
+    /**
+     * Returns the swell period.
+     *
+     * @return Period in seconds
+     */
+    double getSwellPeriod();
+
+    /**
+     * Returns the swell direction.
+     *
+     * @return Direction in degrees (0-359)
+     */
+    double getSwellDirection();
+
+    /**
+     * Returns the sea state.
+     *
+     * @return Beaufort scale (0-12), 13 if not available.
+     */
+    int getSeaState();
+
+    /**
+     * Returns the water temperature.
+     *
+     * @return Temperature in degrees Celsius
+     */
+    double getWaterTemperature();
+
+    /**
+     * Returns the type of precipitation.
+     *
+     * @return 1 = rain, 2 = thunderstorm, 3 = freezing rain, 4 = mixed/ice,
+     *         5 = snow, 7 = not available
+     */
+    int getPrecipitationType();
+
+    /**
+     * Returns the salinity.
+     *
+     * @return Salinity in parts per thousand
+     */
+    double getSalinity();
+
+    /**
+     * Returns the ice indication.
+     *
+     * @return 0 = no, 1 = yes, 3 = not available
+     */
+    int getIce();
+}
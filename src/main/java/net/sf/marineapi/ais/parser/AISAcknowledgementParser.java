@@ -0,0 +1,100 @@
+/*
+ * AISAcknowledgementParser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISAcknowledgement;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS binary and safety related acknowledgement of up to four messages.
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID                                    6    (   1,   6)
+ *  2     repeatIndicator                              2    (   7,   8)
+ *  3     sourceID                                    30    (   9,  38)
+ *  4     spare                                        2    (  39,  40)
+ *  5     destinationID1                              30    (  41,  70)
+ *  6     sequenceNumber1                              2    (  71,  72)
+ *  7     destinationID2                              30    (  73, 102)
+ *  8     sequenceNumber2                              2    ( 103, 104)
+ *  9     destinationID3                              30    ( 105, 134)
+ * 10     sequenceNumber3                              2    ( 135, 136)
+ * 11     destinationID4                              30    ( 137, 166)
+ * 12     sequenceNumber4                              2    ( 167, 168)
+ *                                                  ---- +
+ *                                          sum 72 - 168
+ * </pre>
+ *
+ * @author Berserkr LLC
+ */
+class AISAcknowledgementParser extends AISMessageParser implements AISAcknowledgement {
+
+    private static final String SEPARATOR = "\n\t";
+    private static final int MMSI = 0;
+    private static final int SEQUENCE = 1;
+    private static final int[] FROM = { 40, 70 };
+    private static final int[] TO = { 70, 72 };
+    // length of destination and sequence number
+    private static final int STRIDE = 32;
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISAcknowledgementParser(Sixbit content) {
+        super(content, 72, 168);
+    }
+
+    private int field(int field, int index) {
+        if (index < 0 || index >= getNumberOfAcknowledgements()) {
+            throw new IndexOutOfBoundsException("Acknowledgement " + index);
+        }
+        int offset = index * STRIDE;
+        return getSixbit().getInt(FROM[field] + offset, TO[field] + offset);
+    }
+
+    @Override
+    public int getNumberOfAcknowledgements() {
+        return Math.min(4, (getSixbit().length() - FROM[MMSI]) / STRIDE);
+    }
+
+    @Override
+    public int getAcknowledgedMMSI(int index) {
+        return field(MMSI, index);
+    }
+
+    @Override
+    public int getSequenceNumber(int index) {
+        return field(SEQUENCE, index);
+    }
+
+    @Override
+    public String toString() {
+        String result = "\tAcks:    " + getNumberOfAcknowledgements();
+        for (int i = 0; i < getNumberOfAcknowledgements(); i++) {
+            result += SEPARATOR + "MMSI:    " + getAcknowledgedMMSI(i) + ", Seq: " + getSequenceNumber(i);
+        }
+        return result;
+    }
+}
@@ -84,24 +84,6 @@ class AISMessage05Parser extends AISMessageParser implements AISMessage05 {
 		40, 70, 112, 232, 240, 249, 258, 264, 270, 274, 278, 283, 288, 294, 302, 422, 423
 	};
 
-	private int			fAISVersion;
-	private int			fIMONumber;
-	private String		fCallSign;
-	private String		fName;
-	private int			fShipAndCargoType;
-	private int			fBow;
-	private int			fStern;
-	private int			fPort;
-	private int			fStarboard;
-	private int			fTypeOfEPFD;
-	private int			fETAMinute;
-	private int			fETAHour;
-	private int			fETADay;
-	private int			fETAMonth;
-	private int			fMaximumDraught;
-	private String		fDestination;
-	private boolean		fDte;
-
 	/**
 	 * Constructor.
 	 *
@@ -109,77 +91,124 @@ class AISMessage05Parser extends AISMessageParser implements AISMessage05 {
 	 */
 	public AISMessage05Parser(Sixbit content) {
 		super(content, 424);
-		fAISVersion = content.getInt(FROM[AISVERSION], TO[AISVERSION]);
-		fIMONumber = content.getInt(FROM[IMONUMBER], TO[IMONUMBER]);
-		fCallSign = content.getString(FROM[CALLSIGN], TO[CALLSIGN]).trim();
-		fName = content.getString(FROM[NAME], TO[NAME]).trim();
-		fShipAndCargoType = content.getInt(FROM[TYPEOFSHIPANDCARGO], TO[TYPEOFSHIPANDCARGO]);
-
-		fBow = content.getInt(FROM[BOW], TO[BOW]); 
-		fStern = content.getInt(FROM[STERN], TO[STERN]);
-		fPort = content.getInt(FROM[PORT], TO[PORT]);
-		fStarboard = content.getInt(FROM[STARBOARD], TO[STARBOARD]);
-
-		fTypeOfEPFD = content.getInt(FROM[TYPEOFEPFD], TO[TYPEOFEPFD]);
-
-		fETAMonth = content.getInt(FROM[MONTH], TO[MONTH]); 
-		fETADay = content.getInt(FROM[DAY], TO[DAY]);
-		fETAHour = content.getInt(FROM[HOUR], TO[HOUR]); 
-		fETAMinute = content.getInt(FROM[MINUTE], TO[MINUTE]); 
-
-		fMaximumDraught = content.getInt(FROM[DRAUGHT], TO[DRAUGHT]);
-		fDestination = content.getString(FROM[DESTINATION], TO[DESTINATION]).trim();
-		fDte = content.getBoolean(TO[DTE]);
+	}
+
+	private int aisVersion() {
+		return getSixbit().getInt(FROM[AISVERSION], TO[AISVERSION]);
+	}
+
+	private int imoNumber() {
+		return getSixbit().getInt(FROM[IMONUMBER], TO[IMONUMBER]);
+	}
+
+	private String callSign() {
+		return getSixbit().getString(FROM[CALLSIGN], TO[CALLSIGN]).trim();
+	}
+
+	private String name() {
+		return getSixbit().getString(FROM[NAME], TO[NAME]).trim();
+	}
+
+	private int shipAndCargoType() {
+		return getSixbit().getInt(FROM[TYPEOFSHIPANDCARGO], TO[TYPEOFSHIPANDCARGO]);
+	}
+
+	private int bow() {
+		return getSixbit().getInt(FROM[BOW], TO[BOW]);
+	}
+
+	private int stern() {
+		return getSixbit().getInt(FROM[STERN], TO[STERN]);
+	}
+
+	private int port() {
+		return getSixbit().getInt(FROM[PORT], TO[PORT]);
+	}
+
+	private int starboard() {
+		return getSixbit().getInt(FROM[STARBOARD], TO[STARBOARD]);
+	}
+
+	private int typeOfEPFD() {
+		return getSixbit().getInt(FROM[TYPEOFEPFD], TO[TYPEOFEPFD]);
+	}
+
+	private int etaMonth() {
+		return getSixbit().getInt(FROM[MONTH], TO[MONTH]);
+	}
+
+	private int etaDay() {
+		return getSixbit().getInt(FROM[DAY], TO[DAY]);
+	}
+
+	private int etaHour() {
+		return getSixbit().getInt(FROM[HOUR], TO[HOUR]);
+	}
+
+	private int etaMinute() {
+		return getSixbit().getInt(FROM[MINUTE], TO[MINUTE]);
+	}
+
+	private int maximumDraught() {
+		return getSixbit().getInt(FROM[DRAUGHT], TO[DRAUGHT]);
+	}
+
+	private String destination() {
+		return getSixbit().getString(FROM[DESTINATION], TO[DESTINATION]).trim();
+	}
+
+	private boolean dte() {
+		return getSixbit().getBoolean(TO[DTE]);
 	}    
 
-	public int getAISVersionIndicator() { return fAISVersion; }
+	public int getAISVersionIndicator() { return aisVersion(); }
 
-	public int getIMONumber() { return fIMONumber; }
+	public int getIMONumber() { return imoNumber(); }
 
-	public String getCallSign() { return fCallSign; }
+	public String getCallSign() { return callSign(); }
 
-	public String getName() { return fName; }
+	public String getName() { return name(); }
 
-	public int getTypeOfShipAndCargoType() { return fShipAndCargoType; }
+	public int getTypeOfShipAndCargoType() { return shipAndCargoType(); }
 
-	public int getBow() { return fBow; }
+	public int getBow() { return bow(); }
 
-	public int getStern() { return fStern; }
+	public int getStern() { return stern(); }
 
-	public int getPort() { return fPort; }
+	public int getPort() { return port(); }
 
-	public int getStarboard() { return fStarboard; }
+	public int getStarboard() { return starboard(); }
 
-	public int getTypeOfEPFD() { return fTypeOfEPFD; }
+	public int getTypeOfEPFD() { return typeOfEPFD(); }
 
-	public int getETAMonth() { return fETAMonth; }
+	public int getETAMonth() { return etaMonth(); }
 
-	public int getETADay() { return fETADay; }
+	public int getETADay() { return etaDay(); }
 	
-	public int getETAHour() { return fETAHour; }
+	public int getETAHour() { return etaHour(); }
 	
-	public int getETAMinute() { return fETAMinute; }
+	public int getETAMinute() { return etaMinute(); }
 	
-	public double getMaximumDraught() { return fMaximumDraught / 10.0; }
+	public double getMaximumDraught() { return maximumDraught() / 10.0; }
 
-	public String getDestination() { return fDestination; }
+	public String getDestination() { return destination(); }
 
-	public boolean isDteReady() { return fDte; }
+	public boolean isDteReady() { return dte(); }
 
 	public String toString() {
-		String result =     "\tIMO:       " + Integer.toString(fIMONumber);
-		result += SEPARATOR + "Call sign: " + fCallSign;
-		result += SEPARATOR + "Name:      " + fName;
-		result += SEPARATOR + "Type:      " + ShipType.shipTypeToString(fShipAndCargoType);
-		String dim = "Bow: " + fBow + ", Stern: " + fStern +
-				", Port: " + fPort + ", Starboard: " + fStarboard + " [m]";
+		String result =     "\tIMO:       " + Integer.toString(imoNumber());
+		result += SEPARATOR + "Call sign: " + callSign();
+		result += SEPARATOR + "Name:      " + name();
+		result += SEPARATOR + "Type:      " + ShipType.shipTypeToString(shipAndCargoType());
+		String dim = "Bow: " + bow() + ", Stern: " + stern() +
+				", Port: " + port() + ", Starboard: " + starboard() + " [m]";
 		result += SEPARATOR + "Dim:       " + dim;
-		result += SEPARATOR + "ETA:       " + "Month: " + fETAMonth + ", D: " + fETADay +
-				", H: " + fETAHour + ", M: " + fETAMinute;
-		result += SEPARATOR + "Draft:     " + Float.toString(fMaximumDraught / 10f);
-		result += SEPARATOR + "EPFD:      " + PositioningDevice.toString(fTypeOfEPFD);
-		result += SEPARATOR + "Dest:      " + fDestination;
-		result += SEPARATOR + "DTE:       " + fDte;
+		result += SEPARATOR + "ETA:       " + "Month: " + etaMonth() + ", D: " + etaDay() +
+				", H: " + etaHour() + ", M: " + etaMinute();
+		result += SEPARATOR + "Draft:     " + Float.toString(maximumDraught() / 10f);
+		result += SEPARATOR + "EPFD:      " + PositioningDevice.toString(typeOfEPFD());
+		result += SEPARATOR + "Dest:      " + destination();
+		result += SEPARATOR + "DTE:       " + dte();
 		return result;
 	}
 }
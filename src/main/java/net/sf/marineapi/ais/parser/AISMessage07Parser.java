@@ -0,0 +1,42 @@
+/*
+ * AISMessage07Parser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage07;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 7 implementation: Binary Acknowledge.
+ *
+ * @author Berserkr LLC
+ * @see AISAcknowledgementParser
+ */
+class AISMessage07Parser extends AISAcknowledgementParser implements AISMessage07 {
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content to parse.
+     */
+    public AISMessage07Parser(Sixbit content) {
+        super(content);
+    }
+}
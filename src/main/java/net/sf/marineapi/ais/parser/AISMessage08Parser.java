@@ -0,0 +1,117 @@
+/*
+ * AISMessage08Parser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage08;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 8 implementation: Binary Broadcast Message.
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID                                    6    (   1,    6)
+ *  2     repeatIndicator                              2    (   7,    8)
+ *  3     sourceID                                    30    (   9,   38)
+ *  4     spare                                        2    (  39,   40)
+ *  5     designatedAreaCode                          10    (  41,   50)
+ *  6     functionalID                                 6    (  51,   56)
+ *  7     data                                     0-952    (  57, 1008)
+ *                                                  ---- +
+ *                                         sum 56 - 1008
+ * </pre>
+ *
+ * @author Berserkr LLC
+ * @see AISMeteoHydroParser
+ */
+class AISMessage08Parser extends AISMessageParser implements AISMessage08 {
+
+    private static final String SEPARATOR = "\n\t";
+    private static final int DAC = 0;
+    private static final int FI = 1;
+    private static final int[] FROM = { 40, 50 };
+    private static final int[] TO = { 50, 56 };
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISMessage08Parser(Sixbit content) {
+        super(content, 56, 1008);
+    }
+
+    /**
+     * Constructor for application specific messages.
+     *
+     * @param content Six-bit message content.
+     * @param min Expected minimum length of message (bits)
+     * @param max Expected maximum length of message (bits)
+     */
+    protected AISMessage08Parser(Sixbit content, int min, int max) {
+        super(content, min, max);
+    }
+
+    /**
+     * Creates a parser for the application of given message, or a generic
+     * binary broadcast parser if the application is not known.
+     *
+     * @param content Six-bit message content.
+     * @return Message parser
+     */
+    static AISMessage08Parser create(Sixbit content) {
+        int dac = content.getInt(FROM[DAC], TO[DAC]);
+        int fi = content.getInt(FROM[FI], TO[FI]);
+        if (AISMeteoHydroParser.isMeteoHydro(dac, fi, content.length())) {
+            return new AISMeteoHydroParser(content);
+        }
+        return new AISMessage08Parser(content);
+    }
+
+    @Override
+    public int getDesignatedAreaCode() {
+        return getSixbit().getInt(FROM[DAC], TO[DAC]);
+    }
+
+    @Override
+    public int getFunctionalId() {
+        return getSixbit().getInt(FROM[FI], TO[FI]);
+    }
+
+    @Override
+    public byte[] getData() {
+        return getSixbit().getBytes(TO[FI], getSixbit().length());
+    }
+
+    @Override
+    public int getDataLength() {
+        return getSixbit().length() - TO[FI];
+    }
+
+    @Override
+    public String toString() {
+        String result = "\tDAC:     " + getDesignatedAreaCode();
+        result += SEPARATOR + "FI:      " + getFunctionalId();
+        result += SEPARATOR + "Data:    " + getDataLength() + " bits";
+        return result;
+    }
+}
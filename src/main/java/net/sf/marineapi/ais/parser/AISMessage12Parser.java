@@ -0,0 +1,101 @@
+/*
+ * AISMessage12Parser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage12;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 12 implementation: Addressed Safety Related Message.
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID                                    6    (   1,    6)
+ *  2     repeatIndicator                              2    (   7,    8)
+ *  3     sourceID                                    30    (   9,   38)
+ *  4     sequenceNumber                               2    (  39,   40)
+ *  5     destinationID                               30    (  41,   70)
+ *  6     retransmitFlag                               1    (  71,   71)
+ *  7     spare                                        1    (  72,   72)
+ *  8     safetyRelatedText                        0-936    (  73, 1008)
+ *                                                  ---- +
+ *                                         sum 72 - 1008
+ * </pre>
+ *
+ * @author Berserkr LLC
+ */
+class AISMessage12Parser extends AISMessageParser implements AISMessage12 {
+
+    private static final String SEPARATOR = "\n\t";
+    private static final int SEQUENCE = 0;
+    private static final int DESTINATION = 1;
+    private static final int RETRANSMIT = 2;
+    private static final int TEXT = 3;
+    private static final int[] FROM = { 38, 40, 70, 72 };
+    private static final int[] TO = { 40, 70, 71, 1008 };
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISMessage12Parser(Sixbit content) {
+        super(content, 72, 1008);
+    }
+
+    @Override
+    public int getSequenceNumber() {
+        return getSixbit().getInt(FROM[SEQUENCE], TO[SEQUENCE]);
+    }
+
+    @Override
+    public int getDestinationMMSI() {
+        return getSixbit().getInt(FROM[DESTINATION], TO[DESTINATION]);
+    }
+
+    @Override
+    public boolean isRetransmitted() {
+        return getSixbit().getBoolean(TO[RETRANSMIT]);
+    }
+
+    @Override
+    public String getText() {
+        return text(getSixbit(), FROM[TEXT], TO[TEXT]);
+    }
+
+    /**
+     * Returns the text of whole characters from a variable length field.
+     */
+    static String text(Sixbit content, int from, int to) {
+        int end = Math.min(to, content.length());
+        int chars = Math.max(0, end - from) / Sixbit.BITS_PER_CHAR;
+        return content.getString(from, from + chars * Sixbit.BITS_PER_CHAR);
+    }
+
+    @Override
+    public String toString() {
+        String result = "\tSeq:     " + getSequenceNumber();
+        result += SEPARATOR + "Dest:    " + getDestinationMMSI();
+        result += SEPARATOR + "Text:    " + getText();
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * AISMessage14Parser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage14;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 14 implementation: Safety Related Broadcast Message.
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID                                    6    (   1,    6)
+ *  2     repeatIndicator                              2    (   7,    8)
+ *  3     sourceID                                    30    (   9,   38)
+ *  4     spare                                        2    (  39,   40)
+ *  5     safetyRelatedText                        0-968    (  41, 1008)
+ *                                                  ---- +
+ *                                         sum 40 - 1008
+ * </pre>
+ *
+ * @author Berserkr LLC
+ */
+class AISMessage14Parser extends AISMessageParser implements AISMessage14 {
+
+    private static final int TEXT = 0;
+    private static final int[] FROM = { 40 };
+    private static final int[] TO = { 1008 };
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISMessage14Parser(Sixbit content) {
+        super(content, 40, 1008);
+    }
+
+    @Override
+    public String getText() {
+        return AISMessage12Parser.text(getSixbit(), FROM[TEXT], TO[TEXT]);
+    }
+
+    @Override
+    public String toString() {
+        return "\tText:    " + getText();
+    }
+}
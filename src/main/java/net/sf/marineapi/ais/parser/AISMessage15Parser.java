@@ -0,0 +1,135 @@
+/*
+ * AISMessage15Parser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage15;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 15 implementation: Interrogation.
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID                                    6    (   1,   6)
+ *  2     repeatIndicator                              2    (   7,   8)
+ *  3     sourceID                                    30    (   9,  38)
+ *  4     spare                                        2    (  39,  40)
+ *  5     destinationID1                              30    (  41,  70)
+ *  6     messageID1.1                                 6    (  71,  76)
+ *  7     slotOffset1.1                               12    (  77,  88)
+ *  8     spare                                        2    (  89,  90)
+ *  9     messageID1.2                                 6    (  91,  96)
+ * 10     slotOffset1.2                               12    (  97, 108)
+ * 11     spare                                        2    ( 109, 110)
+ * 12     destinationID2                              30    ( 111, 140)
+ * 13     messageID2.1                                 6    ( 141, 146)
+ * 14     slotOffset2.1                               12    ( 147, 158)
+ * 15     spare                                        2    ( 159, 160)
+ *                                                  ---- +
+ *                                          sum 88 - 160
+ * </pre>
+ *
+ * Fields 9 - 10 are present only when two messages are requested from the
+ * first station, and fields 12 - 15 when a second station is interrogated.
+ *
+ * @author Berserkr LLC
+ */
+class AISMessage15Parser extends AISMessageParser implements AISMessage15 {
+
+    private static final String SEPARATOR = "\n\t";
+    private static final int DESTINATION_1 = 0;
+    private static final int MESSAGE_1_1 = 1;
+    private static final int OFFSET_1_1 = 2;
+    private static final int MESSAGE_1_2 = 3;
+    private static final int OFFSET_1_2 = 4;
+    private static final int DESTINATION_2 = 5;
+    private static final int MESSAGE_2_1 = 6;
+    private static final int OFFSET_2_1 = 7;
+    private static final int[] FROM = { 40, 70, 76, 90, 96, 110, 140, 146 };
+    private static final int[] TO = { 70, 76, 88, 96, 108, 140, 146, 158 };
+
+    // fields of each possible request
+    private static final int[] DESTINATION = { DESTINATION_1, DESTINATION_1, DESTINATION_2 };
+    private static final int[] MESSAGE = { MESSAGE_1_1, MESSAGE_1_2, MESSAGE_2_1 };
+    private static final int[] OFFSET = { OFFSET_1_1, OFFSET_1_2, OFFSET_2_1 };
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISMessage15Parser(Sixbit content) {
+        super(content, 88, 168);
+    }
+
+    private int field(int field) {
+        return getSixbit().getInt(FROM[field], TO[field]);
+    }
+
+    private boolean hasSecondMessage() {
+        return getSixbit().length() >= TO[OFFSET_1_2] && field(MESSAGE_1_2) != 0;
+    }
+
+    private boolean hasSecondStation() {
+        return getSixbit().length() >= TO[OFFSET_2_1] && field(DESTINATION_2) != 0;
+    }
+
+    /**
+     * Returns the index of the possible request of given index.
+     */
+    private int request(int index) {
+        if (index < 0 || index >= getNumberOfRequests()) {
+            throw new IndexOutOfBoundsException("Request " + index);
+        }
+        return index == 1 && !hasSecondMessage() ? 2 : index;
+    }
+
+    @Override
+    public int getNumberOfRequests() {
+        return 1 + (hasSecondMessage() ? 1 : 0) + (hasSecondStation() ? 1 : 0);
+    }
+
+    @Override
+    public int getInterrogatedMMSI(int index) {
+        return field(DESTINATION[request(index)]);
+    }
+
+    @Override
+    public int getRequestedMessageType(int index) {
+        return field(MESSAGE[request(index)]);
+    }
+
+    @Override
+    public int getSlotOffset(int index) {
+        return field(OFFSET[request(index)]);
+    }
+
+    @Override
+    public String toString() {
+        String result = "\tRequests: " + getNumberOfRequests();
+        for (int i = 0; i < getNumberOfRequests(); i++) {
+            result += SEPARATOR + "MMSI:    " + getInterrogatedMMSI(i)
+                + ", Type: " + getRequestedMessageType(i) + ", Offset: " + getSlotOffset(i);
+        }
+        return result;
+    }
+}
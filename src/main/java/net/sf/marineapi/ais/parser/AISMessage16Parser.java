@@ -0,0 +1,108 @@
+/*
+ * AISMessage16Parser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage16;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 16 implementation: Assignment Mode Command.
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID                                    6    (   1,   6)
+ *  2     repeatIndicator                              2    (   7,   8)
+ *  3     sourceID                                    30    (   9,  38)
+ *  4     spare                                        2    (  39,  40)
+ *  5     destinationIDA                              30    (  41,  70)
+ *  6     offsetA                                     12    (  71,  82)
+ *  7     incrementA                                  10    (  83,  92)
+ *  8     destinationIDB                              30    (  93, 122)
+ *  9     offsetB                                     12    ( 123, 134)
+ * 10     incrementB                                  10    ( 135, 144)
+ *                                                  ---- +
+ *                                          sum 96 - 144
+ * </pre>
+ *
+ * Fields 8 - 10 are present only when two stations are assigned, otherwise
+ * the message is padded with 4 spare bits.
+ *
+ * @author Berserkr LLC
+ */
+class AISMessage16Parser extends AISMessageParser implements AISMessage16 {
+
+    private static final String SEPARATOR = "\n\t";
+    private static final int DESTINATION = 0;
+    private static final int OFFSET = 1;
+    private static final int INCREMENT = 2;
+    private static final int[] FROM = { 40, 70, 82 };
+    private static final int[] TO = { 70, 82, 92 };
+    // length of an assignment
+    private static final int STRIDE = 52;
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISMessage16Parser(Sixbit content) {
+        super(content, 96, 144);
+    }
+
+    private int field(int field, int index) {
+        if (index < 0 || index >= getNumberOfAssignments()) {
+            throw new IndexOutOfBoundsException("Assignment " + index);
+        }
+        int offset = index * STRIDE;
+        return getSixbit().getInt(FROM[field] + offset, TO[field] + offset);
+    }
+
+    @Override
+    public int getNumberOfAssignments() {
+        return getSixbit().length() >= TO[INCREMENT] + STRIDE ? 2 : 1;
+    }
+
+    @Override
+    public int getAssignedMMSI(int index) {
+        return field(DESTINATION, index);
+    }
+
+    @Override
+    public int getSlotOffset(int index) {
+        return field(OFFSET, index);
+    }
+
+    @Override
+    public int getIncrement(int index) {
+        return field(INCREMENT, index);
+    }
+
+    @Override
+    public String toString() {
+        String result = "\tAssignments: " + getNumberOfAssignments();
+        for (int i = 0; i < getNumberOfAssignments(); i++) {
+            result += SEPARATOR + "MMSI:    " + getAssignedMMSI(i)
+                + ", Offset: " + getSlotOffset(i) + ", Increment: " + getIncrement(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * AISMessage17Parser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage17;
+import net.sf.marineapi.ais.util.AISRuleViolation;
+import net.sf.marineapi.ais.util.Latitude17;
+import net.sf.marineapi.ais.util.Longitude18;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 17 implementation: GNSS Broadcast Binary Message.
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID                                    6    (   1,   6)
+ *  2     repeatIndicator                              2    (   7,   8)
+ *  3     sourceID                                    30    (   9,  38)
+ *  4     spare                                        2    (  39,  40)
+ *  5     longitude                                   18    (  41,  58)
+ *  6     latitude                                    17    (  59,  75)
+ *  7     spare                                        5    (  76,  80)
+ *  8     data                                     0-736    (  81, 816)
+ *                                                  ---- +
+ *                                          sum 80 - 816
+ * </pre>
+ *
+ * @author Berserkr LLC
+ */
+class AISMessage17Parser extends AISMessageParser implements AISMessage17 {
+
+    private static final String SEPARATOR = "\n\t";
+    private static final int LONGITUDE = 0;
+    private static final int LATITUDE = 1;
+    private static final int SPARE = 2;
+    private static final int[] FROM = { 40, 58, 75 };
+    private static final int[] TO = { 58, 75, 80 };
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISMessage17Parser(Sixbit content) {
+        super(content, 80, 816);
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        if (!Longitude18.isCorrect(longitude()))
+            addViolation(new AISRuleViolation("LongitudeInDegrees", longitude(), Longitude18.RANGE));
+        if (!Latitude17.isCorrect(latitude()))
+            addViolation(new AISRuleViolation("LatitudeInDegrees", latitude(), Latitude17.RANGE));
+    }
+
+    private int longitude() {
+        return getSixbit().getSignedInt(FROM[LONGITUDE], TO[LONGITUDE]);
+    }
+
+    private int latitude() {
+        return getSixbit().getSignedInt(FROM[LATITUDE], TO[LATITUDE]);
+    }
+
+    @Override
+    public double getLongitudeInDegrees() {
+        return Longitude18.toDegrees(longitude());
+    }
+
+    @Override
+    public double getLatitudeInDegrees() {
+        return Latitude17.toDegrees(latitude());
+    }
+
+    @Override
+    public boolean hasLongitude() {
+        return Longitude18.isAvailable(longitude());
+    }
+
+    @Override
+    public boolean hasLatitude() {
+        return Latitude17.isAvailable(latitude());
+    }
+
+    @Override
+    public byte[] getData() {
+        return getSixbit().getBytes(TO[SPARE], getSixbit().length());
+    }
+
+    @Override
+    public int getDataLength() {
+        return getSixbit().length() - TO[SPARE];
+    }
+
+    @Override
+    public String toString() {
+        String result = "\tLon:     " + Longitude18.toString(longitude());
+        result += SEPARATOR + "Lat:     " + Latitude17.toString(latitude());
+        result += SEPARATOR + "Data:    " + getDataLength() + " bits";
+        return result;
+    }
+}
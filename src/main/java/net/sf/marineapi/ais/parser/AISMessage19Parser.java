@@ -62,14 +62,6 @@ class AISMessage19Parser extends AISPositionReportBParser implements AISMessage1
 	private final static int[]	TO					= {
 		263, 271, 280, 289, 295, 301, 305};
 
-	private String		fName;
-	private int			fShipAndCargoType;
-	private int			fBow;
-	private int			fStern;
-	private int			fPort;
-	private int			fStarboard;
-	private int			fTypeOfEPFD;
-
 	/**
 	 * Constructor.
 	 *
@@ -77,40 +69,58 @@ class AISMessage19Parser extends AISPositionReportBParser implements AISMessage1
 	 */
 	public AISMessage19Parser(Sixbit content) {
 		super(content, 312);
+	}
+
+	private String name() {
+		return getSixbit().getString(FROM[NAME], TO[NAME]);
+	}
+
+	private int shipAndCargoType() {
+		return getSixbit().getInt(FROM[TYPEOFSHIPANDCARGO], TO[TYPEOFSHIPANDCARGO]);
+	}
 
-		fName = content.getString(FROM[NAME], TO[NAME]);
-		fShipAndCargoType = content.getInt(FROM[TYPEOFSHIPANDCARGO], TO[TYPEOFSHIPANDCARGO]);
+	private int bow() {
+		return getSixbit().getInt(FROM[BOW], TO[BOW]);
+	}
+
+	private int stern() {
+		return getSixbit().getInt(FROM[STERN], TO[STERN]);
+	}
 
-		fBow = content.getInt(FROM[BOW], TO[BOW]); 
-		fStern = content.getInt(FROM[STERN], TO[STERN]);
-		fPort = content.getInt(FROM[PORT], TO[PORT]);
-		fStarboard = content.getInt(FROM[STARBOARD], TO[STARBOARD]);
+	private int port() {
+		return getSixbit().getInt(FROM[PORT], TO[PORT]);
+	}
+
+	private int starboard() {
+		return getSixbit().getInt(FROM[STARBOARD], TO[STARBOARD]);
+	}
 
-		fTypeOfEPFD = content.getInt(FROM[TYPEOFEPFD], TO[TYPEOFEPFD]);
+	private int typeOfEPFD() {
+		return getSixbit().getInt(FROM[TYPEOFEPFD], TO[TYPEOFEPFD]);
 	}
 
-	public String getName() { return fName; }
+	public String getName() { return name(); }
 
-	public int getTypeOfShipAndCargoType() { return fShipAndCargoType; }
+	public int getTypeOfShipAndCargoType() { return shipAndCargoType(); }
 
-	public int getBow() { return fBow; }
+	public int getBow() { return bow(); }
 
-	public int getStern() { return fStern; }
+	public int getStern() { return stern(); }
 
-	public int getPort() { return fPort; }
+	public int getPort() { return port(); }
 
-	public int getStarboard() { return fStarboard; }
+	public int getStarboard() { return starboard(); }
 
-	public int getTypeOfEPFD() { return fTypeOfEPFD; }
+	public int getTypeOfEPFD() { return typeOfEPFD(); }
 
 	public String toString () {
 		String result = super.toString();
-		result += SEPARATOR + "Name:    " + fName;
-		result += SEPARATOR + "Type:    " + ShipType.shipTypeToString(fShipAndCargoType);
-		String dim = "Bow: " + fBow + ", Stern: " + fStern +
-				", Port: " + fPort + ", Starboard: " + fStarboard + " [m]";
+		result += SEPARATOR + "Name:    " + name();
+		result += SEPARATOR + "Type:    " + ShipType.shipTypeToString(shipAndCargoType());
+		String dim = "Bow: " + bow() + ", Stern: " + stern() +
+				", Port: " + port() + ", Starboard: " + starboard() + " [m]";
 		result += SEPARATOR + "Dim:     " + dim;
-		result += SEPARATOR + "EPFD:    " + PositioningDevice.toString(fTypeOfEPFD);
+		result += SEPARATOR + "EPFD:    " + PositioningDevice.toString(typeOfEPFD());
 		return result;		
 	}
 }
@@ -0,0 +1,115 @@
+/*
+ * AISMessage20Parser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage20;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 20 implementation: Data Link Management Message.
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID                                    6    (   1,   6)
+ *  2     repeatIndicator                              2    (   7,   8)
+ *  3     sourceID                                    30    (   9,  38)
+ *  4     spare                                        2    (  39,  40)
+ *  5     offsetNumber1                               12    (  41,  52)
+ *  6     numberOfSlots1                               4    (  53,  56)
+ *  7     timeout1                                     3    (  57,  59)
+ *  8     increment1                                  11    (  60,  70)
+ *  9     offsetNumber2 .. increment2                 30    (  71, 100)
+ * 10     offsetNumber3 .. increment3                 30    ( 101, 130)
+ * 11     offsetNumber4 .. increment4                 30    ( 131, 160)
+ *                                                  ---- +
+ *                                          sum 72 - 160
+ * </pre>
+ *
+ * Reservations 2 - 4 are optional, padded with spare bits to a byte
+ * boundary.
+ *
+ * @author Berserkr LLC
+ */
+class AISMessage20Parser extends AISMessageParser implements AISMessage20 {
+
+    private static final String SEPARATOR = "\n\t";
+    private static final int OFFSET = 0;
+    private static final int SLOTS = 1;
+    private static final int TIMEOUT = 2;
+    private static final int INCREMENT = 3;
+    private static final int[] FROM = { 40, 52, 56, 59 };
+    private static final int[] TO = { 52, 56, 59, 70 };
+    // length of a reservation
+    private static final int STRIDE = 30;
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISMessage20Parser(Sixbit content) {
+        super(content, 72, 160);
+    }
+
+    private int field(int field, int index) {
+        if (index < 0 || index >= getNumberOfReservations()) {
+            throw new IndexOutOfBoundsException("Reservation " + index);
+        }
+        int offset = index * STRIDE;
+        return getSixbit().getInt(FROM[field] + offset, TO[field] + offset);
+    }
+
+    @Override
+    public int getNumberOfReservations() {
+        return Math.min(4, (getSixbit().length() - FROM[OFFSET]) / STRIDE);
+    }
+
+    @Override
+    public int getSlotOffset(int index) {
+        return field(OFFSET, index);
+    }
+
+    @Override
+    public int getNumberOfSlots(int index) {
+        return field(SLOTS, index);
+    }
+
+    @Override
+    public int getTimeout(int index) {
+        return field(TIMEOUT, index);
+    }
+
+    @Override
+    public int getIncrement(int index) {
+        return field(INCREMENT, index);
+    }
+
+    @Override
+    public String toString() {
+        String result = "\tReservations: " + getNumberOfReservations();
+        for (int i = 0; i < getNumberOfReservations(); i++) {
+            result += SEPARATOR + "Offset:  " + getSlotOffset(i) + ", Slots: " + getNumberOfSlots(i)
+                + ", Timeout: " + getTimeout(i) + ", Increment: " + getIncrement(i);
+        }
+        return result;
+    }
+}
@@ -86,24 +86,6 @@ class AISMessage21Parser extends AISMessageParser implements AISMessage21 {
     private static final int[] FROM = new int[]{38, 43,163,164,192,219,228,237,243,249,253,259,260,268,269,270,271,272};
     private static final int[] TO =   new int[]{43,163,164,192,219,228,237,243,249,253,259,260,268,269,270,271,272,360};
 
-    private int fAidType;
-    private String fName;
-    private boolean	fPositionAccuracy;
-    private int	fLongitude;
-    private int	fLatitude;
-    private int fBow;
-    private int fStern;
-    private int fPort;
-    private int fStarboard;
-    private int	fTypeOfEPFD;
-    private int	fUTCSecond;
-    private boolean	fOffPositionIndicator;
-    private int	fRegional;
-    private boolean	fRAIMFlag;
-    private boolean	fVirtualAidFlag;
-    private boolean	fAssignedModeFlag;
-    private String fNameExtension;
-
     /**
      * Constructor.
      *
@@ -111,114 +93,170 @@ class AISMessage21Parser extends AISMessageParser implements AISMessage21 {
      */
     public AISMessage21Parser(Sixbit content) {
         super(content, 272, 361);
-        fAidType = content.getInt(FROM[AIDTYPE], TO[AIDTYPE]);
-        fName = content.getString(FROM[NAME], TO[NAME]);
-        fPositionAccuracy = content.getBoolean(TO[POSITIONACCURACY]);
-        fLongitude = content.getAs28BitInt(FROM[LONGITUDE], TO[LONGITUDE]);
-        if (!Longitude28.isCorrect(fLongitude))
-            addViolation(new AISRuleViolation("LongitudeInDegrees", fLongitude, Longitude28.RANGE));
-        fLatitude = content.getAs27BitInt(FROM[LATITUDE], TO[LATITUDE]);
-        if (!Latitude27.isCorrect(fLatitude))
-            addViolation(new AISRuleViolation("LatitudeInDegrees", fLatitude, Latitude27.RANGE));
-        fBow = content.getInt(FROM[BOW], TO[BOW]);
-        fStern = content.getInt(FROM[STERN], TO[STERN]);
-        fPort = content.getInt(FROM[PORT], TO[PORT]);
-        fStarboard = content.getInt(FROM[STARBOARD], TO[STARBOARD]);
-        fTypeOfEPFD = content.getInt(FROM[TYPEOFEPFD], TO[TYPEOFEPFD]);
-        fUTCSecond = content.getInt(FROM[UTC_SECOND], TO[UTC_SECOND]);
-        fOffPositionIndicator = content.getBoolean(TO[OFFPOSITIONINDICATOR]);
-        fRegional = content.getInt(FROM[REGIONAL], TO[REGIONAL]);
-        fRAIMFlag = content.getBoolean(TO[RAIMFLAG]);
-        fVirtualAidFlag = content.getBoolean(TO[VIRTUALAIDFLAG]);
-        fAssignedModeFlag = content.getBoolean(TO[ASSIGNEDMODEFLAG]);
-        fNameExtension = content.getString(FROM[NAMEEXTENSION], TO[NAMEEXTENSION]).trim();
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        if (!Longitude28.isCorrect(longitude()))
+            addViolation(new AISRuleViolation("LongitudeInDegrees", longitude(), Longitude28.RANGE));
+        if (!Latitude27.isCorrect(latitude()))
+            addViolation(new AISRuleViolation("LatitudeInDegrees", latitude(), Latitude27.RANGE));
+    }
+
+    private int aidType() {
+        return getSixbit().getInt(FROM[AIDTYPE], TO[AIDTYPE]);
+    }
+
+    private String name() {
+        return getSixbit().getString(FROM[NAME], TO[NAME]);
+    }
+
+    private boolean positionAccuracy() {
+        return getSixbit().getBoolean(TO[POSITIONACCURACY]);
+    }
+
+    private int longitude() {
+        return getSixbit().getSignedInt(FROM[LONGITUDE], TO[LONGITUDE]);
+    }
+
+    private int latitude() {
+        return getSixbit().getSignedInt(FROM[LATITUDE], TO[LATITUDE]);
+    }
+
+    private int bow() {
+        return getSixbit().getInt(FROM[BOW], TO[BOW]);
+    }
+
+    private int stern() {
+        return getSixbit().getInt(FROM[STERN], TO[STERN]);
+    }
+
+    private int port() {
+        return getSixbit().getInt(FROM[PORT], TO[PORT]);
+    }
+
+    private int starboard() {
+        return getSixbit().getInt(FROM[STARBOARD], TO[STARBOARD]);
+    }
+
+    private int typeOfEPFD() {
+        return getSixbit().getInt(FROM[TYPEOFEPFD], TO[TYPEOFEPFD]);
+    }
+
+    private int utcSecond() {
+        return getSixbit().getInt(FROM[UTC_SECOND], TO[UTC_SECOND]);
+    }
+
+    private boolean offPositionIndicator() {
+        return getSixbit().getBoolean(TO[OFFPOSITIONINDICATOR]);
+    }
+
+    private int regional() {
+        return getSixbit().getInt(FROM[REGIONAL], TO[REGIONAL]);
+    }
+
+    private boolean raimFlag() {
+        return getSixbit().getBoolean(TO[RAIMFLAG]);
+    }
+
+    private boolean virtualAidFlag() {
+        return getSixbit().getBoolean(TO[VIRTUALAIDFLAG]);
+    }
+
+    private boolean assignedModeFlag() {
+        return getSixbit().getBoolean(TO[ASSIGNEDMODEFLAG]);
+    }
+
+    private String nameExtension() {
+        return getSixbit().getString(FROM[NAMEEXTENSION], TO[NAMEEXTENSION]).trim();
     }
 
     public int getAidType() {
-        return fAidType;
+        return aidType();
     }
 
     public String getName() {
-        return this.fName;
+        return name();
     }
 
     public boolean isAccurate() {
-        return fPositionAccuracy;
+        return positionAccuracy();
     }
 
-    public double getLongitudeInDegrees() { return Longitude28.toDegrees(fLongitude); }
+    public double getLongitudeInDegrees() { return Longitude28.toDegrees(longitude()); }
 
-    public double getLatitudeInDegrees() { return Latitude27.toDegrees(fLatitude); }
+    public double getLatitudeInDegrees() { return Latitude27.toDegrees(latitude()); }
 
     public int getBow() {
-        return this.fBow;
+        return bow();
     }
 
     public int getStern() {
-        return this.fStern;
+        return stern();
     }
 
     public int getPort() {
-        return this.fPort;
+        return port();
     }
 
     public int getStarboard() {
-        return this.fStarboard;
+        return starboard();
     }
 
-    public int getTypeOfEPFD() { return fTypeOfEPFD; }
+    public int getTypeOfEPFD() { return typeOfEPFD(); }
 
-    public int getUtcSecond() { return fUTCSecond; }
+    public int getUtcSecond() { return utcSecond(); }
 
     public boolean getOffPositionIndicator() {
-        return fOffPositionIndicator;
+        return offPositionIndicator();
     }
 
     public int getRegional() {
-        return fRegional;
+        return regional();
     }
 
     public boolean getRAIMFlag() {
-        return fRAIMFlag;
+        return raimFlag();
     }
 
     public boolean getVirtualAidFlag() {
-        return fVirtualAidFlag;
+        return virtualAidFlag();
     }
 
     public boolean getAssignedModeFlag() {
-        return fAssignedModeFlag;
+        return assignedModeFlag();
     }
 
     public String getNameExtension() {
-        return fNameExtension;
+        return nameExtension();
     }
 
     @Override
     public boolean hasLongitude() {
-        return Longitude28.isAvailable(fLongitude);
+        return Longitude28.isAvailable(longitude());
     }
 
     @Override
     public boolean hasLatitude() {
-        return Latitude27.isAvailable(fLatitude);
+        return Latitude27.isAvailable(latitude());
     }
 
     public String toString() {
-        String result = "\tAid Type:      " + NavAidType.toString(fAidType);
-        result += SEPARATOR + "Name:      " + this.fName;
-        result += SEPARATOR + "Pos acc: " + (fPositionAccuracy ? "high" : "low") + " accuracy";
-        result += SEPARATOR + "Lon:     " + Longitude28.toString(fLongitude);
-        result += SEPARATOR + "Lat:     " + Latitude27.toString(fLatitude);
-        String dim = "Bow: " + this.fBow + ", Stern: " + this.fStern + ", Port: " + this.fPort + ", Starboard: " + this.fStarboard + " [m]";
+        String result = "\tAid Type:      " + NavAidType.toString(aidType());
+        result += SEPARATOR + "Name:      " + name();
+        result += SEPARATOR + "Pos acc: " + (positionAccuracy() ? "high" : "low") + " accuracy";
+        result += SEPARATOR + "Lon:     " + Longitude28.toString(longitude());
+        result += SEPARATOR + "Lat:     " + Latitude27.toString(latitude());
+        String dim = "Bow: " + bow() + ", Stern: " + stern() + ", Port: " + port() + ", Starboard: " + starboard() + " [m]";
         result += SEPARATOR + "Dim:       " + dim;
         result += SEPARATOR + "Sec:     " + getUtcSecond();
-        result += SEPARATOR + "Off Position Indicator: " + (fOffPositionIndicator ? "yes" : "no");
+        result += SEPARATOR + "Off Position Indicator: " + (offPositionIndicator() ? "yes" : "no");
         result += SEPARATOR + "Regional:     " + getRegional();
-        result += SEPARATOR + "RAIM Flag: " + (fRAIMFlag ? "yes" : "no");
-        result += SEPARATOR + "Virtual Aid Flag: " + (fVirtualAidFlag ? "yes" : "no");
-        result += SEPARATOR + "Assigned Mode Flag: " + (fAssignedModeFlag ? "yes" : "no");
-        result += SEPARATOR + "Name Extension:      " + this.fNameExtension;
+        result += SEPARATOR + "RAIM Flag: " + (raimFlag() ? "yes" : "no");
+        result += SEPARATOR + "Virtual Aid Flag: " + (virtualAidFlag() ? "yes" : "no");
+        result += SEPARATOR + "Assigned Mode Flag: " + (assignedModeFlag() ? "yes" : "no");
+        result += SEPARATOR + "Name Extension:      " + nameExtension();
         return result;
     }
 }
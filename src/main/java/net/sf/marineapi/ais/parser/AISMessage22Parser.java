@@ -0,0 +1,187 @@
+/*
+ * AISMessage22Parser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage22;
+import net.sf.marineapi.ais.util.Latitude17;
+import net.sf.marineapi.ais.util.Longitude18;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 22 implementation: Channel Management.
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID                                    6    (   1,   6)
+ *  2     repeatIndicator                              2    (   7,   8)
+ *  3     sourceID                                    30    (   9,  38)
+ *  4     spare                                        2    (  39,  40)
+ *  5     channelA                                    12    (  41,  52)
+ *  6     channelB                                    12    (  53,  64)
+ *  7     txRxMode                                     4    (  65,  68)
+ *  8     power                                        1    (  69,  69)
+ *  9     longitude1 / destinationID1                 18    (  70,  87)
+ * 10     latitude1 / destinationID1                  17    (  88, 104)
+ * 11     longitude2 / destinationID2                 18    ( 105, 122)
+ * 12     latitude2 / destinationID2                  17    ( 123, 139)
+ * 13     addressed                                    1    ( 140, 140)
+ * 14     channelABandwidth                            1    ( 141, 141)
+ * 15     channelBBandwidth                            1    ( 142, 142)
+ * 16     zoneSize                                     3    ( 143, 145)
+ * 17     spare                                       23    ( 146, 168)
+ *                                                  ---- +
+ *                                               sum 168
+ * </pre>
+ *
+ * When addressed, fields 9 - 10 and 11 - 12 hold a destination ID of 30 bits
+ * followed by 5 spare bits, instead of the corners of the region.
+ *
+ * @author Berserkr LLC
+ */
+class AISMessage22Parser extends AISMessageParser implements AISMessage22 {
+
+    private static final String SEPARATOR = "\n\t";
+    private static final int CHANNEL_A = 0;
+    private static final int CHANNEL_B = 1;
+    private static final int TXRX_MODE = 2;
+    private static final int POWER = 3;
+    private static final int NE_LONGITUDE = 4;
+    private static final int NE_LATITUDE = 5;
+    private static final int SW_LONGITUDE = 6;
+    private static final int SW_LATITUDE = 7;
+    private static final int DESTINATION_1 = 8;
+    private static final int DESTINATION_2 = 9;
+    private static final int ADDRESSED = 10;
+    private static final int BANDWIDTH_A = 11;
+    private static final int BANDWIDTH_B = 12;
+    private static final int ZONE_SIZE = 13;
+    private static final int[] FROM = { 40, 52, 64, 68, 69, 87, 104, 122, 69, 104, 139, 140, 141, 142 };
+    private static final int[] TO = { 52, 64, 68, 69, 87, 104, 122, 139, 99, 134, 140, 141, 142, 145 };
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISMessage22Parser(Sixbit content) {
+        super(content, 168);
+    }
+
+    private int field(int field) {
+        return getSixbit().getInt(FROM[field], TO[field]);
+    }
+
+    private double longitude(int field) {
+        return isAddressed() ? Double.NaN
+            : Longitude18.toDegrees(getSixbit().getSignedInt(FROM[field], TO[field]));
+    }
+
+    private double latitude(int field) {
+        return isAddressed() ? Double.NaN
+            : Latitude17.toDegrees(getSixbit().getSignedInt(FROM[field], TO[field]));
+    }
+
+    @Override
+    public int getChannelA() {
+        return field(CHANNEL_A);
+    }
+
+    @Override
+    public int getChannelB() {
+        return field(CHANNEL_B);
+    }
+
+    @Override
+    public int getTxRxMode() {
+        return field(TXRX_MODE);
+    }
+
+    @Override
+    public boolean isLowPower() {
+        return getSixbit().getBoolean(TO[POWER]);
+    }
+
+    @Override
+    public boolean isAddressed() {
+        return getSixbit().getBoolean(TO[ADDRESSED]);
+    }
+
+    @Override
+    public double getNorthEastLongitude() {
+        return longitude(NE_LONGITUDE);
+    }
+
+    @Override
+    public double getNorthEastLatitude() {
+        return latitude(NE_LATITUDE);
+    }
+
+    @Override
+    public double getSouthWestLongitude() {
+        return longitude(SW_LONGITUDE);
+    }
+
+    @Override
+    public double getSouthWestLatitude() {
+        return latitude(SW_LATITUDE);
+    }
+
+    @Override
+    public int getFirstDestinationMMSI() {
+        return isAddressed() ? field(DESTINATION_1) : 0;
+    }
+
+    @Override
+    public int getSecondDestinationMMSI() {
+        return isAddressed() ? field(DESTINATION_2) : 0;
+    }
+
+    @Override
+    public boolean isChannelABandwidthReduced() {
+        return getSixbit().getBoolean(TO[BANDWIDTH_A]);
+    }
+
+    @Override
+    public boolean isChannelBBandwidthReduced() {
+        return getSixbit().getBoolean(TO[BANDWIDTH_B]);
+    }
+
+    @Override
+    public int getZoneSize() {
+        return field(ZONE_SIZE) + 1;
+    }
+
+    @Override
+    public String toString() {
+        String result = "\tChannels: " + getChannelA() + ", " + getChannelB();
+        result += SEPARATOR + "Tx/Rx:   " + getTxRxMode();
+        result += SEPARATOR + "Power:   " + (isLowPower() ? "low" : "high");
+        if (isAddressed()) {
+            result += SEPARATOR + "Dest:    " + getFirstDestinationMMSI() + ", " + getSecondDestinationMMSI();
+        } else {
+            result += SEPARATOR + "NE:      " + getNorthEastLatitude() + ", " + getNorthEastLongitude();
+            result += SEPARATOR + "SW:      " + getSouthWestLatitude() + ", " + getSouthWestLongitude();
+        }
+        result += SEPARATOR + "Zone:    " + getZoneSize() + " NM";
+        return result;
+    }
+}
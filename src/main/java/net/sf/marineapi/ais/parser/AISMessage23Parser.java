@@ -0,0 +1,143 @@
+/*
+ * AISMessage23Parser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage23;
+import net.sf.marineapi.ais.util.Latitude17;
+import net.sf.marineapi.ais.util.Longitude18;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 23 implementation: Group Assignment Command.
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID                                    6    (   1,   6)
+ *  2     repeatIndicator                              2    (   7,   8)
+ *  3     sourceID                                    30    (   9,  38)
+ *  4     spare                                        2    (  39,  40)
+ *  5     longitude1                                  18    (  41,  58)
+ *  6     latitude1                                   17    (  59,  75)
+ *  7     longitude2                                  18    (  76,  93)
+ *  8     latitude2                                   17    (  94, 110)
+ *  9     stationType                                  4    ( 111, 114)
+ * 10     shipAndCargoType                             8    ( 115, 122)
+ * 11     spare                                       22    ( 123, 144)
+ * 12     txRxMode                                     2    ( 145, 146)
+ * 13     reportingInterval                            4    ( 147, 150)
+ * 14     quietTime                                    4    ( 151, 154)
+ * 15     spare                                        6    ( 155, 160)
+ *                                                  ---- +
+ *                                               sum 160
+ * </pre>
+ *
+ * @author Berserkr LLC
+ */
+class AISMessage23Parser extends AISMessageParser implements AISMessage23 {
+
+    private static final String SEPARATOR = "\n\t";
+    private static final int NE_LONGITUDE = 0;
+    private static final int NE_LATITUDE = 1;
+    private static final int SW_LONGITUDE = 2;
+    private static final int SW_LATITUDE = 3;
+    private static final int STATION_TYPE = 4;
+    private static final int SHIP_TYPE = 5;
+    private static final int TXRX_MODE = 6;
+    private static final int INTERVAL = 7;
+    private static final int QUIET_TIME = 8;
+    private static final int[] FROM = { 40, 58, 75, 93, 110, 114, 144, 146, 150 };
+    private static final int[] TO = { 58, 75, 93, 110, 114, 122, 146, 150, 154 };
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISMessage23Parser(Sixbit content) {
+        super(content, 160);
+    }
+
+    private int field(int field) {
+        return getSixbit().getInt(FROM[field], TO[field]);
+    }
+
+    private int signed(int field) {
+        return getSixbit().getSignedInt(FROM[field], TO[field]);
+    }
+
+    @Override
+    public double getNorthEastLongitude() {
+        return Longitude18.toDegrees(signed(NE_LONGITUDE));
+    }
+
+    @Override
+    public double getNorthEastLatitude() {
+        return Latitude17.toDegrees(signed(NE_LATITUDE));
+    }
+
+    @Override
+    public double getSouthWestLongitude() {
+        return Longitude18.toDegrees(signed(SW_LONGITUDE));
+    }
+
+    @Override
+    public double getSouthWestLatitude() {
+        return Latitude17.toDegrees(signed(SW_LATITUDE));
+    }
+
+    @Override
+    public int getStationType() {
+        return field(STATION_TYPE);
+    }
+
+    @Override
+    public int getTypeOfShipAndCargoType() {
+        return field(SHIP_TYPE);
+    }
+
+    @Override
+    public int getTxRxMode() {
+        return field(TXRX_MODE);
+    }
+
+    @Override
+    public int getReportingInterval() {
+        return field(INTERVAL);
+    }
+
+    @Override
+    public int getQuietTime() {
+        return field(QUIET_TIME);
+    }
+
+    @Override
+    public String toString() {
+        String result = "\tNE:      " + getNorthEastLatitude() + ", " + getNorthEastLongitude();
+        result += SEPARATOR + "SW:      " + getSouthWestLatitude() + ", " + getSouthWestLongitude();
+        result += SEPARATOR + "Station: " + getStationType();
+        result += SEPARATOR + "Ship:    " + getTypeOfShipAndCargoType();
+        result += SEPARATOR + "Tx/Rx:   " + getTxRxMode();
+        result += SEPARATOR + "Interval: " + getReportingInterval();
+        result += SEPARATOR + "Quiet:   " + getQuietTime() + " min";
+        return result;
+    }
+}
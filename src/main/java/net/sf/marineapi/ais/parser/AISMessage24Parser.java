@@ -88,18 +88,6 @@ class AISMessage24Parser extends AISMessageParser implements AISMessage24 {
     private static final int[] FROM_B = { 38, 40, 48, 66, 70, 90, 132, 141, 150, 156 };
     private static final int[] TO_B = { 40, 48, 66, 70, 90, 132, 141, 150, 156, 162 };
 
-    private int fPartNumber;
-    private String fName;
-    private int fShipAndCargoType;
-    private String fVendorId;
-    private int fUnitModelCode;
-    private int fSerialNumber;
-    private String fCallSign;
-    private int fBow;
-    private int fStern;
-    private int fPort;
-    private int fStarboard;
-
     /**
      * Constructor.
      *
@@ -107,81 +95,92 @@ class AISMessage24Parser extends AISMessageParser implements AISMessage24 {
      */
     public AISMessage24Parser(Sixbit content) {
         super(content, 160, 168);
-        this.fPartNumber = content.getInt(FROM_A[PARTNUMBER], TO_A[PARTNUMBER]);
-        this.fPartNumber = content.getInt(FROM_A[PARTNUMBER], TO_A[PARTNUMBER]);
-        if(this.fPartNumber == 0 && (content.length() == 160 || content.length() == 168) ){
-            // Part A
-            this.fName = content.getString(FROM_A[NAME], TO_A[NAME]);
-        } else if(this.fPartNumber == 1 && content.length() == 168){
-            //Part B
-            this.fShipAndCargoType = content.getInt(FROM_B[TYPEOFSHIPANDCARGO], TO_B[TYPEOFSHIPANDCARGO]);
-            this.fVendorId = content.getString(FROM_B[VENDORID], TO_B[VENDORID]);
-            this.fUnitModelCode = content.getInt(FROM_B[UNITMODELCODE], TO_B[UNITMODELCODE]);
-            this.fSerialNumber = content.getInt(FROM_B[SERIALNUMBER], TO_B[SERIALNUMBER]);
-            this.fCallSign = content.getString(FROM_B[CALLSIGN], TO_B[CALLSIGN]);
-            this.fBow = content.getInt(FROM_B[BOW], TO_B[BOW]);
-            this.fStern = content.getInt(FROM_B[STERN], TO_B[STERN]);
-            this.fPort = content.getInt(FROM_B[PORT], TO_B[PORT]);
-            this.fStarboard = content.getInt(FROM_B[STARBOARD], TO_B[STARBOARD]);
-        } else {
+        int part = content.getInt(FROM_A[PARTNUMBER], TO_A[PARTNUMBER]);
+        if (!isPartA(part, content) && !isPartB(part, content)) {
             throw new IllegalArgumentException("Invalid part number or message length");
         }
     }
 
+    private static boolean isPartA(int part, Sixbit content) {
+        return part == 0 && (content.length() == 160 || content.length() == 168);
+    }
+
+    private static boolean isPartB(int part, Sixbit content) {
+        return part == 1 && content.length() == 168;
+    }
+
+    private boolean isPartA() {
+        return isPartA(getPartNumber(), getSixbit());
+    }
+
+    private boolean isPartB() {
+        return isPartB(getPartNumber(), getSixbit());
+    }
+
+    private String partA(int field) {
+        return isPartA() ? getSixbit().getString(FROM_A[field], TO_A[field]) : null;
+    }
+
+    private String partBString(int field) {
+        return isPartB() ? getSixbit().getString(FROM_B[field], TO_B[field]) : null;
+    }
+
+    private int partB(int field) {
+        return isPartB() ? getSixbit().getInt(FROM_B[field], TO_B[field]) : 0;
+    }
+
     public int getPartNumber() {
-        return this.fPartNumber;
+        return getSixbit().getInt(FROM_A[PARTNUMBER], TO_A[PARTNUMBER]);
     }
 
     public String getName() {
-        return this.fName;
+        return partA(NAME);
     }
 
     public int getTypeOfShipAndCargoType() {
-        return this.fShipAndCargoType;
+        return partB(TYPEOFSHIPANDCARGO);
     }
 
     public String getVendorId() {
-        return this.fVendorId;
+        return partBString(VENDORID);
     }
 
     public int getUnitModelCode() {
-        return this.fUnitModelCode;
+        return partB(UNITMODELCODE);
     }
 
     public int getSerialNumber() {
-        return this.fSerialNumber;
+        return partB(SERIALNUMBER);
     }
 
     public String getCallSign() {
-        return this.fCallSign;
+        return partBString(CALLSIGN);
     }
 
     public int getBow() {
-        return this.fBow;
+        return partB(BOW);
     }
 
     public int getStern() {
-        return this.fStern;
+        return partB(STERN);
     }
 
     public int getPort() {
-        return this.fPort;
+        return partB(PORT);
     }
 
     public int getStarboard() {
-        return this.fStarboard;
+        return partB(STARBOARD);
     }
 
-
-
     public String toString() {
-        String result = "\tName:      " + this.fName;
-        result = result + "\n\tType:      " + ShipType.shipTypeToString(this.fShipAndCargoType);
-        result = result + "\n\tVendor id:      " + this.fVendorId;
-        result = result + "\n\tUnit Model Code:      " + this.fUnitModelCode;
-        result = result + "\n\tSerial Number:      " + this.fSerialNumber;
-        result = result + "\n\tCall sign: " + this.fCallSign;
-        String dim = "Bow: " + this.fBow + ", Stern: " + this.fStern + ", Port: " + this.fPort + ", Starboard: " + this.fStarboard + " [m]";
+        String result = "\tName:      " + getName();
+        result = result + "\n\tType:      " + ShipType.shipTypeToString(getTypeOfShipAndCargoType());
+        result = result + "\n\tVendor id:      " + getVendorId();
+        result = result + "\n\tUnit Model Code:      " + getUnitModelCode();
+        result = result + "\n\tSerial Number:      " + getSerialNumber();
+        result = result + "\n\tCall sign: " + getCallSign();
+        String dim = "Bow: " + getBow() + ", Stern: " + getStern() + ", Port: " + getPort() + ", Starboard: " + getStarboard() + " [m]";
         result = result + "\n\tDim:       " + dim;
         return result;
     }
@@ -0,0 +1,48 @@
+/*
+ * AISMessage25Parser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage25;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 25 implementation: Single Slot Binary Message, of 40 - 168
+ * bits with data until the end of message.
+ *
+ * @author Berserkr LLC
+ * @see AISSlotBinaryParser
+ */
+class AISMessage25Parser extends AISSlotBinaryParser implements AISMessage25 {
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISMessage25Parser(Sixbit content) {
+        super(content, 40, 168);
+    }
+
+    @Override
+    protected int dataEnd() {
+        return getSixbit().length();
+    }
+}
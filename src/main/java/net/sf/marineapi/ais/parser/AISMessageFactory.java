@@ -20,9 +20,7 @@
  */
 package net.sf.marineapi.ais.parser;
 
-import java.lang.reflect.Constructor;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.function.Function;
 
 import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.util.Sixbit;
@@ -36,24 +34,41 @@ import net.sf.marineapi.nmea.sentence.AISSentence;
 public class AISMessageFactory {
 
     private static AISMessageFactory instance;
-    private Map<Integer, Class<? extends AISMessage>> parsers;
+
+    // parser constructors indexed by message type
+    private final Function<?, ?>[] parsers = new Function<?, ?>[28];
 
     /**
      * Hidden constructor.
      */
     private AISMessageFactory() {
-        parsers = new HashMap<Integer, Class<? extends AISMessage>>(7);
-        parsers.put(1, AISMessage01Parser.class);
-        parsers.put(2, AISMessage02Parser.class);
-        parsers.put(3, AISMessage03Parser.class);
-        parsers.put(4, AISMessage04Parser.class);
-        parsers.put(5, AISMessage05Parser.class);
-        parsers.put(9, AISMessage09Parser.class);
-        parsers.put(18, AISMessage18Parser.class);
-        parsers.put(19, AISMessage19Parser.class);
-        parsers.put(21, AISMessage21Parser.class);
-        parsers.put(24, AISMessage24Parser.class);
-        parsers.put(27, AisMessage27Parser.class);
+        register(1, AISMessage01Parser::new);
+        register(2, AISMessage02Parser::new);
+        register(3, AISMessage03Parser::new);
+        register(4, AISMessage04Parser::new);
+        register(5, AISMessage05Parser::new);
+        register(6, AISMessage06Parser::new);
+        register(7, AISMessage07Parser::new);
+        register(8, AISMessage08Parser::create);
+        register(9, AISMessage09Parser::new);
+        register(10, AISMessage10Parser::new);
+        register(11, AISMessage11Parser::new);
+        register(12, AISMessage12Parser::new);
+        register(13, AISMessage13Parser::new);
+        register(14, AISMessage14Parser::new);
+        register(15, AISMessage15Parser::new);
+        register(16, AISMessage16Parser::new);
+        register(17, AISMessage17Parser::new);
+        register(18, AISMessage18Parser::new);
+        register(19, AISMessage19Parser::new);
+        register(20, AISMessage20Parser::new);
+        register(21, AISMessage21Parser::new);
+        register(22, AISMessage22Parser::new);
+        register(23, AISMessage23Parser::new);
+        register(24, AISMessage24Parser::new);
+        register(25, AISMessage25Parser::new);
+        register(26, AISMessage26Parser::new);
+        register(27, AisMessage27Parser::new);
     }
 
 
@@ -61,7 +76,7 @@ public class AISMessageFactory {
      * Creates a new AIS message parser based on given sentences.
      *
      * @param sentences One or more AIS sentences in correct sequence order.
-     * @throws IllegalArgumentException If given message type is not supported
+     * @throws IllegalArgumentException If given message type is reserved
      *          or sequence order is incorrect.
      * @throws IllegalStateException If message parser cannot be constructed
      *          due to illegal state, e.g. invalid or empty message.
@@ -71,23 +86,40 @@ public class AISMessageFactory {
 
         AISMessageParser parser = new AISMessageParser(sentences);
 
-        if (!parsers.containsKey(parser.getMessageType())) {
+        Function<Sixbit, AISMessage> constructor = get(parser.getMessageType());
+        if (constructor == null) {
             String msg = String.format("no parser for message type %d", parser.getMessageType());
             throw new IllegalArgumentException(msg);
         }
 
         AISMessage result;
-        Class<? extends AISMessage> c = parsers.get(parser.getMessageType());
         try {
-            Constructor<? extends AISMessage> co = c.getConstructor(Sixbit.class);
-            result = co.newInstance(parser.getSixbit());
-        } catch (Exception e) {
-            throw new IllegalStateException(e.getCause());
+            result = constructor.apply(parser.getSixbit());
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(e);
         }
 
         return result;
     }
 
+    /**
+     * Registers a message parser constructor for given message type.
+     */
+    private void register(int type, Function<Sixbit, AISMessage> constructor) {
+        parsers[type] = constructor;
+    }
+
+    /**
+     * Returns the parser constructor for given message type, or null.
+     */
+    @SuppressWarnings("unchecked")
+    private Function<Sixbit, AISMessage> get(int type) {
+        if (type < 0 || type >= parsers.length) {
+            return null;
+        }
+        return (Function<Sixbit, AISMessage>) parsers[type];
+    }
+
     /**
      * Returns the factory singleton.
      *
@@ -30,6 +30,10 @@ import net.sf.marineapi.nmea.sentence.AISSentence;
 
 /**
  * Base class for all AIS messages.
+ * <p>
+ * The message content is retained in six-bit decoder and fields are decoded
+ * only when requested. Likewise, field values are validated only when the
+ * rule violations are requested.
  *
  * @author Lázár József, Kimmo Tuukkanen
  */
@@ -47,7 +51,8 @@ public class AISMessageParser implements AISMessage {
     private int fillBits = 0;
     private int lastFragmentNr = 0;
 
-    private List<Violation> fViolations = new ArrayList<>();
+    private List<Violation> fViolations;
+    private boolean validated = false;
 
 
     /**
@@ -123,16 +128,29 @@ public class AISMessageParser implements AISMessage {
      * @param v Violation to add
      */
     protected void addViolation(Violation v) {
+        if (fViolations == null) {
+            fViolations = new ArrayList<>();
+        }
         fViolations.add(v);
     }
 
+    /**
+     * Validates the message fields and adds a violation for each incorrect
+     * value. Called once when violations are requested for the first time.
+     * Subclasses must call the super implementation.
+     *
+     * @see #addViolation(Violation)
+     */
+    protected void validate() {
+    }
+
     /**
      * Returns the number of violations.
      *
      * @return Number of violations.
      */
     public int getNrOfViolations() {
-        return fViolations.size();
+        return getViolations().size();
     }
 
     /**
@@ -141,6 +159,13 @@ public class AISMessageParser implements AISMessage {
      * @return Number of violations.
      */
     public List<Violation> getViolations() {
+        if (!validated) {
+            validated = true;
+            validate();
+        }
+        if (fViolations == null) {
+            fViolations = new ArrayList<>();
+        }
         return fViolations;
     }
 
@@ -170,7 +195,10 @@ public class AISMessageParser implements AISMessage {
         if (decoder == null && message.isEmpty()) {
             throw new IllegalStateException("Message is empty!");
         }
-        return decoder == null ? new Sixbit(message, fillBits) : decoder;
+        if (decoder == null) {
+            decoder = new Sixbit(message, fillBits);
+        }
+        return decoder;
     }
 
     /**
@@ -191,6 +219,7 @@ public class AISMessageParser implements AISMessage {
         if (fillBits < 0) {
             throw new IllegalArgumentException("Fill bits cannot be negative");
         }
+        this.decoder = null;
         this.lastFragmentNr = fragmentIndex;
         this.message += fragment;
         this.fillBits = fillBits; // we always use the last
@@ -0,0 +1,365 @@
+/*
+ * AISMeteoHydroParser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMeteoHydroReport;
+import net.sf.marineapi.ais.util.AISRuleViolation;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 8 application DAC 1, FI 31: Meteorological and Hydrographic
+ * Data (IMO SN.1/Circ.289).
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID .. functionalID                   56    (   1,  56)
+ *  2     longitude                                   25    (  57,  81)
+ *  3     latitude                                    24    (  82, 105)
+ *  4     positionAccuracy                             1    ( 106, 106)
+ *  5     utcDay                                       5    ( 107, 111)
+ *  6     utcHour                                      5    ( 112, 116)
+ *  7     utcMinute                                    6    ( 117, 122)
+ *  8     averageWindSpeed                             7    ( 123, 129)
+ *  9     windGust                                     7    ( 130, 136)
+ * 10     windDirection                                9    ( 137, 145)
+ * 11     windGustDirection                            9    ( 146, 154)
+ * 12     airTemperature                              11    ( 155, 165)
+ * 13     relativeHumidity                             7    ( 166, 172)
+ * 14     dewPoint                                    10    ( 173, 182)
+ * 15     airPressure                                  9    ( 183, 191)
+ * 16     airPressureTendency                          2    ( 192, 193)
+ * 17     visibilityGreaterThan                        1    ( 194, 194)
+ * 18     horizontalVisibility                         7    ( 195, 201)
+ * 19     waterLevel                                  12    ( 202, 213)
+ * 20     waterLevelTrend                              2    ( 214, 215)
+ * 21     surfaceCurrentSpeed                          8    ( 216, 223)
+ * 22     surfaceCurrentDirection                      9    ( 224, 232)
+ * 23     currents at two depths                      44    ( 233, 276)
+ * 24     significantWaveHeight                        8    ( 277, 284)
+ * 25     wavePeriod                                   6    ( 285, 290)
+ * 26     waveDirection                                9    ( 291, 299)
+ * 27     swellHeight                                  8    ( 300, 307)
+ * 28     swellPeriod                                  6    ( 308, 313)
+ * 29     swellDirection                               9    ( 314, 322)
+ * 30     seaState                                     4    ( 323, 326)
+ * 31     waterTemperature                            10    ( 327, 336)
+ * 32     precipitationType                            3    ( 337, 339)
+ * 33     salinity                                     9    ( 340, 348)
+ * 34     ice                                          2    ( 349, 350)
+ * 35     spare                                       10    ( 351, 360)
+ *                                                  ---- +
+ *                                               sum 360
+ * </pre>
+ *
+ * @author Berserkr LLC
+ */
+class AISMeteoHydroParser extends AISMessage08Parser implements AISMeteoHydroReport {
+
+    private static final String SEPARATOR = "\n\t";
+    private static final int LONGITUDE = 0;
+    private static final int LATITUDE = 1;
+    private static final int POSITION_ACCURACY = 2;
+    private static final int DAY = 3;
+    private static final int HOUR = 4;
+    private static final int MINUTE = 5;
+    private static final int WIND_SPEED = 6;
+    private static final int WIND_GUST = 7;
+    private static final int WIND_DIRECTION = 8;
+    private static final int WIND_GUST_DIRECTION = 9;
+    private static final int AIR_TEMPERATURE = 10;
+    private static final int HUMIDITY = 11;
+    private static final int DEW_POINT = 12;
+    private static final int AIR_PRESSURE = 13;
+    private static final int PRESSURE_TENDENCY = 14;
+    private static final int VISIBILITY = 15;
+    private static final int WATER_LEVEL = 16;
+    private static final int WATER_LEVEL_TREND = 17;
+    private static final int CURRENT_SPEED = 18;
+    private static final int CURRENT_DIRECTION = 19;
+    private static final int WAVE_HEIGHT = 20;
+    private static final int WAVE_PERIOD = 21;
+    private static final int WAVE_DIRECTION = 22;
+    private static final int SWELL_HEIGHT = 23;
+    private static final int SWELL_PERIOD = 24;
+    private static final int SWELL_DIRECTION = 25;
+    private static final int SEA_STATE = 26;
+    private static final int WATER_TEMPERATURE = 27;
+    private static final int PRECIPITATION = 28;
+    private static final int SALINITY = 29;
+    private static final int ICE = 30;
+    private static final int[] FROM = {
+        56, 81, 105, 106, 111, 116, 122, 129, 136, 145, 154, 165, 172, 182, 191, 194,
+        201, 213, 215, 223, 276, 284, 290, 299, 307, 313, 322, 326, 336, 339, 348 };
+    private static final int[] TO = {
+        81, 105, 106, 111, 116, 122, 129, 136, 145, 154, 165, 172, 182, 191, 193, 201,
+        213, 215, 223, 232, 284, 290, 299, 307, 313, 322, 326, 336, 339, 348, 350 };
+
+    /** Designated area code of the application */
+    static final int DAC = 1;
+
+    /** Function identifier of the application */
+    static final int FI = 31;
+
+    // position in 1/1000 minutes
+    private static final double MINUTE_PART_MULTIPLIER = 60 * 1000;
+    private static final int MIN_LENGTH = 350;
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     */
+    public AISMeteoHydroParser(Sixbit content) {
+        super(content, MIN_LENGTH, 1008);
+    }
+
+    /**
+     * Tells if a binary broadcast message holds meteorological and
+     * hydrographic data.
+     *
+     * @param dac Designated area code
+     * @param fi Function identifier
+     * @param length Message length (bits)
+     * @return {@code true} if DAC 1, FI 31 of sufficient length.
+     */
+    static boolean isMeteoHydro(int dac, int fi, int length) {
+        return dac == DAC && fi == FI && length >= MIN_LENGTH;
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        if (!hasLongitude() && longitude() != 181 * MINUTE_PART_MULTIPLIER)
+            addViolation(new AISRuleViolation("LongitudeInDegrees", longitude(), "[-10800000,10800000] + {10860000}"));
+        if (!hasLatitude() && latitude() != 91 * MINUTE_PART_MULTIPLIER)
+            addViolation(new AISRuleViolation("LatitudeInDegrees", latitude(), "[-5400000,5400000] + {5460000}"));
+    }
+
+    private int field(int field) {
+        return getSixbit().getInt(FROM[field], TO[field]);
+    }
+
+    private int signed(int field) {
+        return getSixbit().getSignedInt(FROM[field], TO[field]);
+    }
+
+    /**
+     * Returns the scaled value of a field, or NaN if above the maximum.
+     */
+    private double value(int field, int max, double scale) {
+        int value = field(field);
+        return value > max ? Double.NaN : value * scale;
+    }
+
+    /**
+     * Returns the scaled value of a signed field, or NaN if out of range.
+     */
+    private double value(int field, int min, int max, double scale) {
+        int value = signed(field);
+        return value < min || value > max ? Double.NaN : value * scale;
+    }
+
+    private int longitude() {
+        return signed(LONGITUDE);
+    }
+
+    private int latitude() {
+        return signed(LATITUDE);
+    }
+
+    @Override
+    public boolean isAccurate() {
+        return getSixbit().getBoolean(TO[POSITION_ACCURACY]);
+    }
+
+    @Override
+    public double getLongitudeInDegrees() {
+        return longitude() / MINUTE_PART_MULTIPLIER;
+    }
+
+    @Override
+    public double getLatitudeInDegrees() {
+        return latitude() / MINUTE_PART_MULTIPLIER;
+    }
+
+    @Override
+    public boolean hasLongitude() {
+        return Math.abs(longitude()) <= 180 * MINUTE_PART_MULTIPLIER;
+    }
+
+    @Override
+    public boolean hasLatitude() {
+        return Math.abs(latitude()) <= 90 * MINUTE_PART_MULTIPLIER;
+    }
+
+    @Override
+    public int getUtcDay() {
+        return field(DAY);
+    }
+
+    @Override
+    public int getUtcHour() {
+        return field(HOUR);
+    }
+
+    @Override
+    public int getUtcMinute() {
+        return field(MINUTE);
+    }
+
+    @Override
+    public double getWindSpeed() {
+        return value(WIND_SPEED, 126, 1);
+    }
+
+    @Override
+    public double getWindGust() {
+        return value(WIND_GUST, 126, 1);
+    }
+
+    @Override
+    public double getWindDirection() {
+        return value(WIND_DIRECTION, 359, 1);
+    }
+
+    @Override
+    public double getWindGustDirection() {
+        return value(WIND_GUST_DIRECTION, 359, 1);
+    }
+
+    @Override
+    public double getAirTemperature() {
+        return value(AIR_TEMPERATURE, -600, 600, 0.1);
+    }
+
+    @Override
+    public double getRelativeHumidity() {
+        return value(HUMIDITY, 100, 1);
+    }
+
+    @Override
+    public double getDewPoint() {
+        return value(DEW_POINT, -200, 500, 0.1);
+    }
+
+    @Override
+    public double getAirPressure() {
+        return value(AIR_PRESSURE, 402, 1) + 799;
+    }
+
+    @Override
+    public int getAirPressureTendency() {
+        return field(PRESSURE_TENDENCY);
+    }
+
+    @Override
+    public double getVisibility() {
+        return value(VISIBILITY, 126, 0.1);
+    }
+
+    @Override
+    public double getWaterLevel() {
+        return value(WATER_LEVEL, 4000, 0.01) - 10;
+    }
+
+    @Override
+    public int getWaterLevelTrend() {
+        return field(WATER_LEVEL_TREND);
+    }
+
+    @Override
+    public double getSurfaceCurrentSpeed() {
+        return value(CURRENT_SPEED, 250, 0.1);
+    }
+
+    @Override
+    public double getSurfaceCurrentDirection() {
+        return value(CURRENT_DIRECTION, 359, 1);
+    }
+
+    @Override
+    public double getWaveHeight() {
+        return value(WAVE_HEIGHT, 250, 0.1);
+    }
+
+    @Override
+    public double getWavePeriod() {
+        return value(WAVE_PERIOD, 60, 1);
+    }
+
+    @Override
+    public double getWaveDirection() {
+        return value(WAVE_DIRECTION, 359, 1);
+    }
+
+    @Override
+    public double getSwellHeight() {
+        return value(SWELL_HEIGHT, 250, 0.1);
+    }
+
+    @Override
+    public double getSwellPeriod() {
+        return value(SWELL_PERIOD, 60, 1);
+    }
+
+    @Override
+    public double getSwellDirection() {
+        return value(SWELL_DIRECTION, 359, 1);
+    }
+
+    @Override
+    public int getSeaState() {
+        return field(SEA_STATE);
+    }
+
+    @Override
+    public double getWaterTemperature() {
+        return value(WATER_TEMPERATURE, -100, 500, 0.1);
+    }
+
+    @Override
+    public int getPrecipitationType() {
+        return field(PRECIPITATION);
+    }
+
+    @Override
+    public double getSalinity() {
+        return value(SALINITY, 500, 0.1);
+    }
+
+    @Override
+    public int getIce() {
+        return field(ICE);
+    }
+
+    @Override
+    public String toString() {
+        String result = "\tLon:     " + getLongitudeInDegrees();
+        result += SEPARATOR + "Lat:     " + getLatitudeInDegrees();
+        result += SEPARATOR + "Time:    " + getUtcDay() + " " + getUtcHour() + ":" + getUtcMinute();
+        result += SEPARATOR + "Wind:    " + getWindSpeed() + " kn, gust " + getWindGust() + " kn, " + getWindDirection();
+        result += SEPARATOR + "Air:     " + getAirTemperature() + " C, " + getAirPressure() + " hPa";
+        result += SEPARATOR + "Water:   " + getWaterLevel() + " m, " + getWaterTemperature() + " C";
+        result += SEPARATOR + "Waves:   " + getWaveHeight() + " m, " + getWavePeriod() + " s";
+        return result;
+    }
+}
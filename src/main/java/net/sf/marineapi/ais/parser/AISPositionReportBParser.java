@@ -69,14 +69,6 @@ class AISPositionReportBParser extends AISMessageParser implements AISPositionRe
 	private final static int[]		TO					= {
 		56, 57, 85, 112, 124, 133, 139};
 
-	private int		fSOG;
-	private boolean	fPositionAccuracy;
-	private int		fLongitude;
-	private int		fLatitude;
-	private int		fCOG;
-	private int		fTrueHeading;
-	private int		fTimeStamp;
-
 	/**
 	 * Constructor.
 	 *
@@ -84,7 +76,6 @@ class AISPositionReportBParser extends AISMessageParser implements AISPositionRe
 	 */
 	public AISPositionReportBParser(Sixbit content) {
 		super(content);
-		this.parse(content);
 	}
 
 	/**
@@ -96,79 +87,101 @@ class AISPositionReportBParser extends AISMessageParser implements AISPositionRe
 	 */
 	public AISPositionReportBParser(Sixbit content, int len) {
 		super(content, len);
-		this.parse(content);
 	}
 
-	private void parse(Sixbit content) {
-		fSOG = content.getInt(FROM[SPEEDOVERGROUND], TO[SPEEDOVERGROUND]);
-		fPositionAccuracy = content.getBoolean(FROM[POSITIONACCURACY]);
-		fLongitude = content.getAs28BitInt(FROM[LONGITUDE], TO[LONGITUDE]);
-		if (!Longitude28.isCorrect(fLongitude))
-			addViolation(new AISRuleViolation("LongitudeInDegrees", fLongitude, Longitude28.RANGE));
-		fLatitude = content.getAs27BitInt(FROM[LATITUDE], TO[LATITUDE]);
-		if (!Latitude27.isCorrect(fLatitude))
-			addViolation(new AISRuleViolation("LatitudeInDegrees", fLatitude, Latitude27.RANGE));
-		fCOG = content.getInt(FROM[COURSEOVERGROUND], TO[COURSEOVERGROUND]);
-		if (!Angle12.isCorrect(fCOG))
-			addViolation(new AISRuleViolation("getCourseOverGround", fCOG, Angle12.RANGE));
-		fTrueHeading = content.getInt(FROM[TRUEHEADING], TO[TRUEHEADING]);
-		if (!Angle9.isCorrect(fTrueHeading))
-			addViolation(new AISRuleViolation("getTrueHeading",fTrueHeading, Angle9.RANGE));
-		fTimeStamp = content.getInt(FROM[TIMESTAMP], TO[TIMESTAMP]);
+	@Override
+	protected void validate() {
+		super.validate();
+		if (!Longitude28.isCorrect(longitude()))
+			addViolation(new AISRuleViolation("LongitudeInDegrees", longitude(), Longitude28.RANGE));
+		if (!Latitude27.isCorrect(latitude()))
+			addViolation(new AISRuleViolation("LatitudeInDegrees", latitude(), Latitude27.RANGE));
+		if (!Angle12.isCorrect(cog()))
+			addViolation(new AISRuleViolation("getCourseOverGround", cog(), Angle12.RANGE));
+		if (!Angle9.isCorrect(trueHeading()))
+			addViolation(new AISRuleViolation("getTrueHeading",trueHeading(), Angle9.RANGE));
+	}
+
+	private int sog() {
+		return getSixbit().getInt(FROM[SPEEDOVERGROUND], TO[SPEEDOVERGROUND]);
+	}
+
+	private boolean positionAccuracy() {
+		return getSixbit().getBoolean(FROM[POSITIONACCURACY]);
+	}
+
+	private int longitude() {
+		return getSixbit().getSignedInt(FROM[LONGITUDE], TO[LONGITUDE]);
+	}
+
+	private int latitude() {
+		return getSixbit().getSignedInt(FROM[LATITUDE], TO[LATITUDE]);
+	}
+
+	private int cog() {
+		return getSixbit().getInt(FROM[COURSEOVERGROUND], TO[COURSEOVERGROUND]);
+	}
+
+	private int trueHeading() {
+		return getSixbit().getInt(FROM[TRUEHEADING], TO[TRUEHEADING]);
+	}
+
+	private int timeStamp() {
+		return getSixbit().getInt(FROM[TIMESTAMP], TO[TIMESTAMP]);
 	}
 
-	public double getSpeedOverGround() { return SpeedOverGround.toKnots(fSOG); }
+	public double getSpeedOverGround() { return SpeedOverGround.toKnots(sog()); }
 
-	public boolean isAccurate() { return fPositionAccuracy; }
+	public boolean isAccurate() { return positionAccuracy(); }
 
-	public double getLongitudeInDegrees() { return Longitude28.toDegrees(fLongitude); }
+	public double getLongitudeInDegrees() { return Longitude28.toDegrees(longitude()); }
 
-	public double getLatitudeInDegrees() { return Latitude27.toDegrees(fLatitude); }
+	public double getLatitudeInDegrees() { return Latitude27.toDegrees(latitude()); }
 
-	public double getCourseOverGround() { return Angle12.toDegrees(fCOG); }
+	public double getCourseOverGround() { return Angle12.toDegrees(cog()); }
 
 	@Override
 	public boolean hasSpeedOverGround() {
-		return SpeedOverGround.isAvailable(fSOG);
+		return SpeedOverGround.isAvailable(sog());
 	}
 
 	@Override
 	public boolean hasCourseOverGround() {
-		return Angle12.isAvailable(fCOG);
+		return Angle12.isAvailable(cog());
 	}
 
 	@Override
 	public boolean hasTrueHeading() {
-		return Angle9.isAvailable(fTrueHeading);
+		return Angle9.isAvailable(trueHeading());
 	}
 
 	@Override
 	public boolean hasTimeStamp() {
-		return TimeStamp.isAvailable(fTimeStamp);
+		return TimeStamp.isAvailable(timeStamp());
 	}
 
 	@Override
 	public boolean hasLongitude() {
-		return Longitude28.isAvailable(fLongitude);
+		return Longitude28.isAvailable(longitude());
 	}
 
 	@Override
 	public boolean hasLatitude() {
-		return Latitude27.isAvailable(fLatitude);
+		return Latitude27.isAvailable(latitude());
 	}
 
-	public int getTrueHeading() { return fTrueHeading; }
+	public int getTrueHeading() { return trueHeading(); }
 
-	public int getTimeStamp() { return fTimeStamp; }
+	public int getTimeStamp() { return timeStamp(); }
 
 	public String toString() {
-		String result =     "\tSOG:     " + SpeedOverGround.toString(fSOG);
-		result += SEPARATOR + "Pos acc: " + (fPositionAccuracy ? "high" : "low") + " accuracy";
-		result += SEPARATOR + "Lon:     " + Longitude28.toString(fLongitude);
-		result += SEPARATOR + "Lat:     " + Latitude27.toString(fLatitude);
-		result += SEPARATOR + "COG:     " + Angle12.toString(fCOG);
-		result += SEPARATOR + "Heading: " + Angle9.getTrueHeadingString(fTrueHeading);
-		result += SEPARATOR + "Time:    " + TimeStamp.toString(fTimeStamp);
+		String result =     "\tSOG:     " + SpeedOverGround.toString(sog());
+		result += SEPARATOR + "Pos acc: " + (positionAccuracy() ? "high" : "low") + " accuracy";
+		result += SEPARATOR + "Lon:     " + Longitude28.toString(longitude());
+		result += SEPARATOR + "Lat:     " + Latitude27.toString(latitude());
+		result += SEPARATOR + "COG:     " + Angle12.toString(cog());
+		result += SEPARATOR + "Heading: " + Angle9.getTrueHeadingString(trueHeading());
+		result += SEPARATOR + "Time:    " + TimeStamp.toString(timeStamp());
 		return result;		
 	}
 }
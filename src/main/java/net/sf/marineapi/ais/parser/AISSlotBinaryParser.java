@@ -0,0 +1,133 @@
+/*
+ * AISSlotBinaryParser.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISBinaryMessage;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS single and multiple slot binary messages, of which the layout depends
+ * on the addressed and structured flags.
+ *
+ * <pre>
+ * Field  Name                                      Bits    (from, to )
+ * ------------------------------------------------------------------------
+ *  1     messageID                                    6    (   1,   6)
+ *  2     repeatIndicator                              2    (   7,   8)
+ *  3     sourceID                                    30    (   9,  38)
+ *  4     addressed                                    1    (  39,  39)
+ *  5     structured                                   1    (  40,  40)
+ *  6     destinationID                             0/30    (  41,  70)
+ *  7     designatedAreaCode                        0/10
+ *  8     functionalID                               0/6
+ *  9     data                                  variable
+ * </pre>
+ *
+ * Fields 7 - 9 follow the destination ID if addressed, or the structured
+ * flag if not. Fields 7 - 8 are present only when structured.
+ *
+ * @author Berserkr LLC
+ */
+abstract class AISSlotBinaryParser extends AISMessageParser implements AISBinaryMessage {
+
+    private static final String SEPARATOR = "\n\t";
+    private static final int ADDRESSED = 0;
+    private static final int STRUCTURED = 1;
+    private static final int DESTINATION = 2;
+    private static final int[] FROM = { 38, 39, 40 };
+    private static final int[] TO = { 39, 40, 70 };
+    private static final int DAC_BITS = 10;
+    private static final int FI_BITS = 6;
+
+    /**
+     * Constructor.
+     *
+     * @param content Six-bit message content.
+     * @param min Expected minimum length of message (bits)
+     * @param max Expected maximum length of message (bits)
+     */
+    protected AISSlotBinaryParser(Sixbit content, int min, int max) {
+        super(content, min, max);
+    }
+
+    /**
+     * Returns the end index of binary data.
+     *
+     * @return Index of the bit following data.
+     */
+    protected abstract int dataEnd();
+
+    /**
+     * Start index of the application identifier, or data if not structured.
+     */
+    private int header() {
+        return isAddressed() ? TO[DESTINATION] : TO[STRUCTURED];
+    }
+
+    private int dataStart() {
+        return Math.min(dataEnd(), header() + (isStructured() ? DAC_BITS + FI_BITS : 0));
+    }
+
+    public boolean isAddressed() {
+        return getSixbit().getBoolean(TO[ADDRESSED]);
+    }
+
+    public boolean isStructured() {
+        return getSixbit().getBoolean(TO[STRUCTURED]);
+    }
+
+    public int getDestinationMMSI() {
+        return isAddressed() ? getSixbit().getInt(FROM[DESTINATION], TO[DESTINATION]) : 0;
+    }
+
+    @Override
+    public int getDesignatedAreaCode() {
+        int from = header();
+        return isStructured() ? getSixbit().getInt(from, from + DAC_BITS) : 0;
+    }
+
+    @Override
+    public int getFunctionalId() {
+        int from = header() + DAC_BITS;
+        return isStructured() ? getSixbit().getInt(from, from + FI_BITS) : 0;
+    }
+
+    @Override
+    public byte[] getData() {
+        return getSixbit().getBytes(dataStart(), dataEnd());
+    }
+
+    @Override
+    public int getDataLength() {
+        return Math.max(0, dataEnd() - dataStart());
+    }
+
+    @Override
+    public String toString() {
+        String result = "\tDest:    " + (isAddressed() ? String.valueOf(getDestinationMMSI()) : "broadcast");
+        if (isStructured()) {
+            result += SEPARATOR + "DAC:     " + getDesignatedAreaCode();
+            result += SEPARATOR + "FI:      " + getFunctionalId();
+        }
+        result += SEPARATOR + "Data:    " + getDataLength() + " bits";
+        return result;
+    }
+}
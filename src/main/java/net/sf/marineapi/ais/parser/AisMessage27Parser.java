@@ -53,55 +53,69 @@ class AisMessage27Parser extends AISMessageParser implements AISMessage27 {
     private final static int[] TO = {
             38, 39, 44, 62, 79, 85, 94, 95, 96};
 
-
-    private boolean fPositionAccuracy;
-    private boolean fRaimFlag;
-    private int fNavigationalStatus;
-    private int fLongitude;
-    private int fLatitude;
-    private int fSOG;
-    private int fCOG;
-    private int fPositionLatency;
-
     // not available in this Message27 Position Report, filled in with defaults
     private int fTrueHeading = 511;
     private int fRateOfTurn = -128;
     private int fTimeStamp = 60;
     private int fManouverIndicator = 0;
 
-
     public AisMessage27Parser(Sixbit content) {
         super(content, 96, 96);
-        fPositionAccuracy = content.getBoolean(TO[POSITIONACCURACY]);
-        fRaimFlag = content.getBoolean(TO[RAIMFLAG]);
-        fNavigationalStatus = content.getInt(FROM[NAVIGATIONALSTATUS], TO[NAVIGATIONALSTATUS]);
-        if (!NavigationalStatus.isCorrect(fNavigationalStatus))
-            addViolation(new AISRuleViolation("NavigationalStatus", fNavigationalStatus, NavigationalStatus.RANGE));
+    }
+
+    @Override
+    protected void validate() {
+        super.validate();
+        if (!NavigationalStatus.isCorrect(navigationalStatus()))
+            addViolation(new AISRuleViolation("NavigationalStatus", navigationalStatus(), NavigationalStatus.RANGE));
+        if (!Longitude18.isCorrect(longitude()))
+            addViolation(new AISRuleViolation("LongitudeInDegrees", longitude(), Longitude18.RANGE));
+        if (!Latitude17.isCorrect(latitude()))
+            addViolation(new AISRuleViolation("LatitudeInDegrees", latitude(), Latitude17.RANGE));
+        if (!Angle9.isCorrect(cog()))
+            addViolation(new AISRuleViolation("CourseOverGround", cog(), Angle9.RANGE));
+    }
+
+    private boolean positionAccuracy() {
+        return getSixbit().getBoolean(TO[POSITIONACCURACY]);
+    }
 
-        fLongitude = content.getAs18BitInt(FROM[LONGITUDE], TO[LONGITUDE]);
-        if (!Longitude18.isCorrect(fLongitude))
-            addViolation(new AISRuleViolation("LongitudeInDegrees", fLongitude, Longitude18.RANGE));
-        fLatitude = content.getAs17BitInt(FROM[LATITUDE], TO[LATITUDE]);
-        if (!Latitude17.isCorrect(fLatitude))
-            addViolation(new AISRuleViolation("LatitudeInDegrees", fLatitude, Latitude17.RANGE));
+    private boolean raimFlag() {
+        return getSixbit().getBoolean(TO[RAIMFLAG]);
+    }
 
-        fSOG = content.getInt(FROM[SPEEDOVERGROUND], TO[SPEEDOVERGROUND]);
-        fCOG = content.getInt(FROM[COURSEOVERGROUND], TO[COURSEOVERGROUND]);
+    private int navigationalStatus() {
+        return getSixbit().getInt(FROM[NAVIGATIONALSTATUS], TO[NAVIGATIONALSTATUS]);
+    }
 
-        if (!Angle9.isCorrect(fCOG))
-            addViolation(new AISRuleViolation("CourseOverGround", fCOG, Angle9.RANGE));
+    private int longitude() {
+        return getSixbit().getSignedInt(FROM[LONGITUDE], TO[LONGITUDE]);
+    }
+
+    private int latitude() {
+        return getSixbit().getSignedInt(FROM[LATITUDE], TO[LATITUDE]);
+    }
+
+    private int sog() {
+        return getSixbit().getInt(FROM[SPEEDOVERGROUND], TO[SPEEDOVERGROUND]);
+    }
+
+    private int cog() {
+        return getSixbit().getInt(FROM[COURSEOVERGROUND], TO[COURSEOVERGROUND]);
+    }
 
-        fPositionLatency = content.getInt(FROM[POSITIONLATENCY], TO[POSITIONLATENCY]);
+    private int positionLatency() {
+        return getSixbit().getInt(FROM[POSITIONLATENCY], TO[POSITIONLATENCY]);
     }
 
     @Override
     public boolean getRAIMFlag() {
-        return fRaimFlag;
+        return raimFlag();
     }
 
     @Override
     public int getNavigationalStatus() {
-        return fNavigationalStatus;
+        return navigationalStatus();
     }
 
     @Override
@@ -111,27 +125,27 @@ class AisMessage27Parser extends AISMessageParser implements AISMessage27 {
 
     @Override
     public double getSpeedOverGround() {
-        return fSOG;
+        return sog();
     }
 
     @Override
     public boolean isAccurate() {
-        return fPositionAccuracy;
+        return positionAccuracy();
     }
 
     @Override
     public double getLongitudeInDegrees() {
-        return Longitude18.toDegrees(fLongitude);
+        return Longitude18.toDegrees(longitude());
     }
 
     @Override
     public double getLatitudeInDegrees() {
-        return Latitude17.toDegrees(fLatitude);
+        return Latitude17.toDegrees(latitude());
     }
 
     @Override
     public double getCourseOverGround() {
-        return fCOG;
+        return cog();
     }
 
     @Override
@@ -156,12 +170,12 @@ class AisMessage27Parser extends AISMessageParser implements AISMessage27 {
 
     @Override
     public boolean hasSpeedOverGround() {
-        return SpeedOverGround.isAvailable(fSOG);
+        return SpeedOverGround.isAvailable(sog());
     }
 
     @Override
     public boolean hasCourseOverGround() {
-        return Angle12.isAvailable(fCOG);
+        return Angle12.isAvailable(cog());
     }
 
     @Override
@@ -176,31 +190,31 @@ class AisMessage27Parser extends AISMessageParser implements AISMessage27 {
 
     @Override
     public boolean hasLongitude() {
-        return Longitude18.isAvailable(fLongitude);
+        return Longitude18.isAvailable(longitude());
     }
 
     @Override
     public boolean hasLatitude() {
-        return Latitude17.isAvailable(fLatitude);
+        return Latitude17.isAvailable(latitude());
     }
 
     @Override
     public int getPositionLatency() {
-        return fPositionLatency;
+        return positionLatency();
     }
 
     public String toString() {
-        String result = "\tNav st:  " + NavigationalStatus.toString(fNavigationalStatus);
+        String result = "\tNav st:  " + NavigationalStatus.toString(navigationalStatus());
         result += SEPARATOR + "ROT:     " + RateOfTurn.toString(fRateOfTurn);
-        result += SEPARATOR + "SOG:     " + SpeedOverGround.toString(fSOG);
-        result += SEPARATOR + "Pos acc: " + (fPositionAccuracy ? "high" : "low") + " accuracy";
-        result += SEPARATOR + "Lon:     " + Longitude18.toString(fLongitude);
-        result += SEPARATOR + "Lat:     " + Latitude17.toString(fLatitude);
-        result += SEPARATOR + "COG:     " + Angle9.toString(fCOG);
+        result += SEPARATOR + "SOG:     " + SpeedOverGround.toString(sog());
+        result += SEPARATOR + "Pos acc: " + (positionAccuracy() ? "high" : "low") + " accuracy";
+        result += SEPARATOR + "Lon:     " + Longitude18.toString(longitude());
+        result += SEPARATOR + "Lat:     " + Latitude17.toString(latitude());
+        result += SEPARATOR + "COG:     " + Angle9.toString(cog());
         result += SEPARATOR + "Heading: " + Angle9.getTrueHeadingString(fTrueHeading);
         result += SEPARATOR + "Time:    " + TimeStamp.toString(fTimeStamp);
         result += SEPARATOR + "Man ind: " + ManeuverIndicator.toString(fManouverIndicator);
-        result += SEPARATOR + "Latency: " + (fPositionLatency == 0 ? "<5s" : ">5s");
+        result += SEPARATOR + "Latency: " + (positionLatency() == 0 ? "<5s" : ">5s");
         return result;
     }
 }
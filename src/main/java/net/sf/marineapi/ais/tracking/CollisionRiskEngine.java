@@ -0,0 +1,666 @@
+/*
+ * CollisionRiskEngine.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.tracking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import net.sf.marineapi.nmea.util.Position;
+import net.sf.marineapi.provider.event.PositionEvent;
+import net.sf.marineapi.provider.event.PositionListener;
+
+/**
+ * <p>
+ * Computes the closest point of approach (CPA) and the time to it (TCPA)
+ * of AIS targets, and notifies {@link CollisionRiskListener}s when a pair
+ * of vessels becomes dangerous or safe again. A pair is dangerous when the
+ * vessels approach each other closer than the CPA limit within the TCPA
+ * limit.</p>
+ * <p>
+ * Targets are read from a {@link VesselStore}, and own ship is compared
+ * only to the vessels within range in a {@link VesselIndex}, so both must
+ * be kept up to date with the same messages. Positions are dead reckoned
+ * to the time of evaluation by speed and course over ground, and targets
+ * without a position within the maximum position age are skipped. Targets
+ * without speed or course are taken as stationary.</p>
+ * <p>
+ * As a {@link PositionListener} of a
+ * {@link net.sf.marineapi.provider.PositionProvider}, own ship is evaluated
+ * against the targets around it on each position update, or on each call
+ * of {@link #evaluate()} from a scheduled tick. For shore based monitoring,
+ * {@link #assessAll()} evaluates all pairs of tracked vessels within range,
+ * found from a grid of the dead reckoned positions and partitioned over the
+ * threads of a {@link ForkJoinPool}.</p>
+ *
+ * @author Berserkr LLC
+ * @see CollisionRiskEvent
+ */
+public class CollisionRiskEngine implements PositionListener {
+
+    /** Default CPA limit in nautical miles */
+    public static final double DEFAULT_CPA_LIMIT = 0.5;
+
+    /** Default TCPA limit in minutes */
+    public static final double DEFAULT_TCPA_LIMIT = 15;
+
+    /** Default range of compared vessels in nautical miles */
+    public static final double DEFAULT_RANGE = 12;
+
+    /** Default maximum age of target positions in milliseconds */
+    public static final long DEFAULT_MAX_POSITION_AGE = 10 * 60 * 1000L;
+
+    private static final Logger LOGGER = Logger.getLogger(CollisionRiskEngine.class.getName());
+
+    private static final double METERS_PER_MILE = 1852;
+
+    // vessels per fork-join task
+    private static final int THRESHOLD = 64;
+
+    private final VesselStore store;
+    private final VesselIndex index;
+    private final LongSupplier clock;
+    private final ForkJoinPool pool;
+
+    private final List<CollisionRiskListener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile double cpaLimit = DEFAULT_CPA_LIMIT;
+    private volatile double tcpaLimit = DEFAULT_TCPA_LIMIT;
+    private volatile double range = DEFAULT_RANGE;
+    private volatile long maxPositionAge = DEFAULT_MAX_POSITION_AGE;
+    private volatile int ownMMSI = CollisionRiskEvent.OWN_SHIP;
+
+    // own ship, guarded by this
+    private final Track own = new Track();
+    private long ownTime;
+    private Set<Integer> ownRisks = new HashSet<>();
+
+    // dangerous pairs of all vessels, guarded by this
+    private Set<Long> pairRisks = new HashSet<>();
+
+    /**
+     * Creates an engine using the system clock and the common fork-join
+     * pool.
+     *
+     * @param store Store of target states
+     * @param index Index of target positions
+     */
+    public CollisionRiskEngine(VesselStore store, VesselIndex index) {
+        this(store, index, System::currentTimeMillis, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an engine.
+     *
+     * @param store Store of target states
+     * @param index Index of target positions
+     * @param clock Time source in milliseconds, the same as of the store
+     * @param pool Pool running the evaluation of all pairs
+     */
+    public CollisionRiskEngine(VesselStore store, VesselIndex index, LongSupplier clock, ForkJoinPool pool) {
+        this.store = store;
+        this.index = index;
+        this.clock = clock;
+        this.pool = pool;
+        own.latitude = Double.NaN;
+    }
+
+    /**
+     * Adds a listener of risk changes.
+     *
+     * @param listener Listener to add
+     */
+    public void addCollisionRiskListener(CollisionRiskListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener of risk changes.
+     *
+     * @param listener Listener to remove
+     */
+    public void removeCollisionRiskListener(CollisionRiskListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Sets the distance at CPA under which vessels are in danger.
+     *
+     * @param miles Distance in nautical miles
+     */
+    public void setCPALimit(double miles) {
+        if (!(miles > 0)) {
+            throw new IllegalArgumentException("CPA limit must be positive");
+        }
+        this.cpaLimit = miles;
+    }
+
+    /**
+     * Sets the time within which a close CPA is dangerous.
+     *
+     * @param minutes Time in minutes
+     */
+    public void setTCPALimit(double minutes) {
+        if (!(minutes > 0)) {
+            throw new IllegalArgumentException("TCPA limit must be positive");
+        }
+        this.tcpaLimit = minutes;
+    }
+
+    /**
+     * Sets the distance within which vessels are compared. Should cover the
+     * distance closing vessels may travel within the TCPA limit.
+     *
+     * @param miles Distance in nautical miles
+     */
+    public void setRange(double miles) {
+        if (!(miles > 0)) {
+            throw new IllegalArgumentException("Range must be positive");
+        }
+        this.range = miles;
+    }
+
+    /**
+     * Sets the age after which target positions are not trusted.
+     *
+     * @param millis Age in milliseconds
+     */
+    public void setMaxPositionAge(long millis) {
+        if (millis <= 0) {
+            throw new IllegalArgumentException("Maximum age must be positive");
+        }
+        this.maxPositionAge = millis;
+    }
+
+    /**
+     * Sets the MMSI of own ship, excluded from the targets of own ship.
+     *
+     * @param mmsi MMSI of own ship
+     */
+    public void setOwnMMSI(int mmsi) {
+        this.ownMMSI = mmsi;
+    }
+
+    /**
+     * Updates own ship and evaluates it against the targets around it.
+     *
+     * @param evt Position, speed and course of own ship
+     */
+    @Override
+    public synchronized void providerUpdate(PositionEvent evt) {
+        Position p = evt.getPosition();
+        // speed of the event is in km/h
+        Double speed = evt.getSpeed();
+        Double cog = evt.getCourse();
+        own.set(p.getLatitude(), p.getLongitude(),
+            speed == null ? Double.NaN : speed * 1000 / METERS_PER_MILE,
+            cog == null ? Double.NaN : cog);
+        ownTime = clock.getAsLong();
+        evaluate();
+    }
+
+    /**
+     * Evaluates own ship, dead reckoned from the latest update, against the
+     * targets around it. Does nothing before the first position update.
+     */
+    public synchronized void evaluate() {
+
+        if (Double.isNaN(own.latitude)) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        Track ship = new Track();
+        ship.copy(own);
+        ship.reckon(now - ownTime);
+
+        int[] targets = index.findWithin(new Position(ship.latitude, ship.longitude), range * METERS_PER_MILE);
+
+        VesselState state = new VesselState();
+        Track target = new Track();
+        double[] approach = new double[2];
+        Set<Integer> risks = new HashSet<>();
+        int self = ownMMSI;
+
+        for (int mmsi : targets) {
+            if (mmsi != self && store.get(mmsi, state) && target.set(state, now, maxPositionAge)) {
+                approach(ship, target, approach);
+                if (isDangerous(approach)) {
+                    risks.add(mmsi);
+                    if (!ownRisks.contains(mmsi)) {
+                        fire(mmsi, CollisionRiskEvent.OWN_SHIP, approach, true);
+                    }
+                }
+            }
+        }
+
+        for (int mmsi : ownRisks) {
+            if (!risks.contains(mmsi)) {
+                if (store.get(mmsi, state) && target.set(state, now, maxPositionAge)) {
+                    approach(ship, target, approach);
+                } else {
+                    approach[0] = approach[1] = Double.NaN;
+                }
+                fire(mmsi, CollisionRiskEvent.OWN_SHIP, approach, false);
+            }
+        }
+
+        ownRisks = risks;
+    }
+
+    /**
+     * Evaluates all pairs of tracked vessels within range of each other, in
+     * parallel.
+     */
+    public synchronized void assessAll() {
+
+        long now = clock.getAsLong();
+        Snapshot snapshot = new Snapshot(now, range);
+
+        List<Risk> found = pool.invoke(new PairTask(snapshot, 0, snapshot.size, range, cpaLimit, tcpaLimit));
+
+        Map<Long, Risk> risks = new HashMap<>();
+        for (Risk r : found) {
+            risks.put(r.key(), r);
+        }
+
+        double[] approach = new double[2];
+
+        for (Risk r : found) {
+            if (!pairRisks.contains(r.key())) {
+                approach[0] = r.cpa;
+                approach[1] = r.tcpa;
+                fire(r.mmsi, r.other, approach, true);
+            }
+        }
+
+        for (long key : pairRisks) {
+            if (!risks.containsKey(key)) {
+                int mmsi = (int) (key >>> 32);
+                int other = (int) key;
+                int a = snapshot.find(mmsi);
+                int b = snapshot.find(other);
+                if (a >= 0 && b >= 0) {
+                    snapshot.approach(a, b, approach);
+                } else {
+                    approach[0] = approach[1] = Double.NaN;
+                }
+                fire(mmsi, other, approach, false);
+            }
+        }
+
+        pairRisks = risks.keySet();
+    }
+
+    /**
+     * Computes the CPA of two tracks on a plane tangent at their midpoint.
+     *
+     * @param result Distance at CPA in nautical miles and time to CPA in
+     *            minutes
+     * @return Current distance in nautical miles
+     */
+    static double approach(Track a, Track b, double[] result) {
+        return approach(a.latitude, a.longitude, a.north, a.east,
+            b.latitude, b.longitude, b.north, b.east, result);
+    }
+
+    private static double approach(double lat1, double lon1, double north1, double east1,
+        double lat2, double lon2, double north2, double east2, double[] result) {
+
+        double dLon = lon2 - lon1;
+        if (dLon > 180) {
+            dLon -= 360;
+        } else if (dLon < -180) {
+            dLon += 360;
+        }
+
+        // miles and knots
+        double x = dLon * 60 * Math.cos(Math.toRadians((lat1 + lat2) / 2));
+        double y = (lat2 - lat1) * 60;
+        double vx = east2 - east1;
+        double vy = north2 - north1;
+
+        double v2 = vx * vx + vy * vy;
+        double hours = v2 < 1e-9 ? 0 : -(x * vx + y * vy) / v2;
+        double cx = x + vx * hours;
+        double cy = y + vy * hours;
+
+        result[0] = Math.sqrt(cx * cx + cy * cy);
+        result[1] = hours * 60;
+
+        return Math.sqrt(x * x + y * y);
+    }
+
+    private boolean isDangerous(double[] approach) {
+        return isDangerous(approach, cpaLimit, tcpaLimit);
+    }
+
+    private static boolean isDangerous(double[] approach, double cpaLimit, double tcpaLimit) {
+        return approach[0] <= cpaLimit && approach[1] >= 0 && approach[1] <= tcpaLimit;
+    }
+
+    private void fire(int mmsi, int other, double[] approach, boolean dangerous) {
+        CollisionRiskEvent event = new CollisionRiskEvent(this, mmsi, other, approach[0], approach[1], dangerous);
+        for (CollisionRiskListener listener : listeners) {
+            try {
+                listener.riskChanged(event);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Exception caught from CollisionRiskListener", e);
+            }
+        }
+    }
+
+    /**
+     * Position and velocity of a vessel.
+     */
+    static final class Track {
+
+        double latitude;
+        double longitude;
+        // knots
+        double north;
+        double east;
+
+        void set(double lat, double lon, double sog, double cog) {
+            latitude = lat;
+            longitude = lon;
+            if (Double.isNaN(sog) || Double.isNaN(cog)) {
+                north = east = 0;
+            } else {
+                north = sog * Math.cos(Math.toRadians(cog));
+                east = sog * Math.sin(Math.toRadians(cog));
+            }
+        }
+
+        /**
+         * @return false if the vessel has no recent position
+         */
+        boolean set(VesselState s, long now, long maxAge) {
+            if (!s.hasPosition() || now - s.getPositionTime() > maxAge) {
+                return false;
+            }
+            set(s.getLatitude(), s.getLongitude(), s.getSpeedOverGround(), s.getCourseOverGround());
+            reckon(now - s.getPositionTime());
+            return true;
+        }
+
+        void copy(Track t) {
+            latitude = t.latitude;
+            longitude = t.longitude;
+            north = t.north;
+            east = t.east;
+        }
+
+        void reckon(long millis) {
+            double hours = millis / 3_600_000.0;
+            double lat = latitude + north * hours / 60;
+            longitude += east * hours / (60 * Math.cos(Math.toRadians((latitude + lat) / 2)));
+            latitude = Math.max(-90, Math.min(90, lat));
+            if (longitude > 180) {
+                longitude -= 360;
+            } else if (longitude < -180) {
+                longitude += 360;
+            }
+        }
+    }
+
+    /**
+     * Dangerous pair found by a task.
+     */
+    private static final class Risk {
+
+        final int mmsi;
+        final int other;
+        final double cpa;
+        final double tcpa;
+
+        Risk(int mmsi, int other, double cpa, double tcpa) {
+            this.mmsi = mmsi;
+            this.other = other;
+            this.cpa = cpa;
+            this.tcpa = tcpa;
+        }
+
+        long key() {
+            return (long) mmsi << 32 | other;
+        }
+    }
+
+    /**
+     * Dead reckoned tracks of all vessels, ordered by a grid of cells at
+     * least the range wide.
+     */
+    private final class Snapshot {
+
+        int size;
+        int[] ids;
+        double[] latitude;
+        double[] longitude;
+        double[] north;
+        double[] east;
+
+        // cell of each track, ascending
+        long[] cells;
+        // MMSI and position of each track, ascending
+        long[] byMMSI;
+
+        final double cellLat;
+        final double cellLon;
+        final int rows;
+        final int columns;
+
+        Snapshot(long now, double range) {
+
+            long maxAge = maxPositionAge;
+            List<Track> tracks = new ArrayList<>(store.size());
+            List<Integer> mmsi = new ArrayList<>(store.size());
+            Track track = new Track();
+
+            store.forEach(state -> {
+                if (track.set(state, now, maxAge)) {
+                    Track t = new Track();
+                    t.copy(track);
+                    tracks.add(t);
+                    mmsi.add(state.getMMSI());
+                }
+            });
+
+            size = tracks.size();
+            double maxLat = 0;
+            for (Track t : tracks) {
+                maxLat = Math.max(maxLat, Math.abs(t.latitude));
+            }
+
+            // cells of at least 0.01 degrees keep the cell and position in a long
+            cellLat = Math.max(0.01, Math.min(180, range / 60));
+            cellLon = Math.min(360, cellLat / Math.cos(Math.toRadians(Math.min(maxLat + cellLat, 89.9))));
+            rows = (int) Math.ceil(180 / cellLat);
+            columns = (int) Math.ceil(360 / cellLon);
+
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                Track t = tracks.get(i);
+                order[i] = cell(row(t.latitude), column(t.longitude)) << 28 | i;
+            }
+            Arrays.sort(order);
+
+            ids = new int[size];
+            latitude = new double[size];
+            longitude = new double[size];
+            north = new double[size];
+            east = new double[size];
+            cells = new long[size];
+            byMMSI = new long[size];
+
+            for (int i = 0; i < size; i++) {
+                int from = (int) (order[i] & ((1 << 28) - 1));
+                Track t = tracks.get(from);
+                ids[i] = mmsi.get(from);
+                latitude[i] = t.latitude;
+                longitude[i] = t.longitude;
+                north[i] = t.north;
+                east[i] = t.east;
+                cells[i] = order[i] >>> 28;
+                byMMSI[i] = (long) ids[i] << 32 | i;
+            }
+            Arrays.sort(byMMSI);
+        }
+
+        int row(double lat) {
+            return Math.min(rows - 1, (int) ((lat + 90) / cellLat));
+        }
+
+        int column(double lon) {
+            return Math.min(columns - 1, (int) ((lon + 180) / cellLon));
+        }
+
+        long cell(int row, int column) {
+            return (long) row * columns + column;
+        }
+
+        double approach(int a, int b, double[] result) {
+            return CollisionRiskEngine.approach(latitude[a], longitude[a], north[a], east[a],
+                latitude[b], longitude[b], north[b], east[b], result);
+        }
+
+        /**
+         * @return First position in a cell, or -1 if the cell is empty.
+         */
+        int first(long cell) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (cells[middle] < cell) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low < size && cells[low] == cell ? low : -1;
+        }
+
+        /**
+         * @return Position of a vessel, or -1 if not tracked.
+         */
+        int find(int mmsi) {
+            int i = Arrays.binarySearch(byMMSI, (long) mmsi << 32);
+            int at = i >= 0 ? i : -i - 1;
+            return at < size && (int) (byMMSI[at] >>> 32) == mmsi ? (int) byMMSI[at] : -1;
+        }
+    }
+
+    /**
+     * Compares the vessels of a range of the snapshot to the vessels of
+     * higher MMSI in the surrounding cells.
+     */
+    private final class PairTask extends RecursiveTask<List<Risk>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Snapshot snapshot;
+        private final int from;
+        private final int to;
+        private final double range;
+        private final double cpaLimit;
+        private final double tcpaLimit;
+
+        PairTask(Snapshot snapshot, int from, int to, double range, double cpaLimit, double tcpaLimit) {
+            this.snapshot = snapshot;
+            this.from = from;
+            this.to = to;
+            this.range = range;
+            this.cpaLimit = cpaLimit;
+            this.tcpaLimit = tcpaLimit;
+        }
+
+        @Override
+        protected List<Risk> compute() {
+
+            if (to - from > THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                PairTask left = new PairTask(snapshot, from, middle, range, cpaLimit, tcpaLimit);
+                PairTask right = new PairTask(snapshot, middle, to, range, cpaLimit, tcpaLimit);
+                left.fork();
+                List<Risk> risks = right.compute();
+                risks.addAll(left.join());
+                return risks;
+            }
+
+            Snapshot s = snapshot;
+            List<Risk> risks = new ArrayList<>();
+            double[] approach = new double[2];
+            int[] columns = new int[3];
+            double limit = range * range;
+
+            for (int i = from; i < to; i++) {
+
+                int mmsi = s.ids[i];
+                double lat = s.latitude[i];
+                double lon = s.longitude[i];
+                // smallest scale of longitude within range, not to miss any pairs
+                double scale = 60 * Math.cos(Math.toRadians(Math.min(90, Math.abs(lat) + range / 60)));
+                int row = s.row(lat);
+                int column = s.column(lon);
+
+                // neighbouring columns wrap at the 180th meridian
+                int count = 0;
+                for (int dc = -1; dc <= 1; dc++) {
+                    int c = Math.floorMod(column + dc, s.columns);
+                    if (count == 0 || (c != columns[0] && (count == 1 || c != columns[1]))) {
+                        columns[count++] = c;
+                    }
+                }
+
+                for (int r = Math.max(0, row - 1); r <= Math.min(s.rows - 1, row + 1); r++) {
+                    for (int k = 0; k < count; k++) {
+                        long cell = s.cell(r, columns[k]);
+                        for (int j = s.first(cell); j >= 0 && j < s.size && s.cells[j] == cell; j++) {
+                            if (s.ids[j] <= mmsi) {
+                                continue;
+                            }
+                            double dy = (s.latitude[j] - lat) * 60;
+                            double dLon = Math.abs(s.longitude[j] - lon);
+                            double dx = Math.min(dLon, 360 - dLon) * scale;
+                            if (dx * dx + dy * dy <= limit
+                                && s.approach(i, j, approach) <= range
+                                && isDangerous(approach, cpaLimit, tcpaLimit)) {
+                                risks.add(new Risk(mmsi, s.ids[j], approach[0], approach[1]));
+                            }
+                        }
+                    }
+                }
+            }
+
+            return risks;
+        }
+    }
+}
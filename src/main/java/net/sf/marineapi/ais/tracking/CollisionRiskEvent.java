@@ -0,0 +1,122 @@
+/*
+ * CollisionRiskEvent.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.tracking;
+
+import java.util.EventObject;
+
+/**
+ * Change of the collision risk of two vessels, or of a target and own ship.
+ * The distance and time of the closest point of approach are given in the
+ * units of {@link net.sf.marineapi.nmea.sentence.TTMSentence}.
+ *
+ * @author Berserkr LLC
+ * @see CollisionRiskEngine
+ */
+public class CollisionRiskEvent extends EventObject {
+
+    private static final long serialVersionUID = 1L;
+
+    /** MMSI denoting own ship */
+    public static final int OWN_SHIP = -1;
+
+    private final int mmsi;
+    private final int otherMMSI;
+    private final double distanceOfCPA;
+    private final double timeToCPA;
+    private final boolean dangerous;
+
+    /**
+     * Creates a new event.
+     *
+     * @param source Source engine
+     * @param mmsi MMSI of the target
+     * @param otherMMSI MMSI of the other vessel, or {@link #OWN_SHIP}
+     * @param distanceOfCPA Distance at CPA in nautical miles
+     * @param timeToCPA Time to CPA in minutes
+     * @param dangerous Whether the risk became dangerous or safe
+     */
+    public CollisionRiskEvent(Object source, int mmsi, int otherMMSI,
+        double distanceOfCPA, double timeToCPA, boolean dangerous) {
+        super(source);
+        this.mmsi = mmsi;
+        this.otherMMSI = otherMMSI;
+        this.distanceOfCPA = distanceOfCPA;
+        this.timeToCPA = timeToCPA;
+        this.dangerous = dangerous;
+    }
+
+    /**
+     * Returns the MMSI of the target.
+     *
+     * @return MMSI
+     */
+    public int getMMSI() {
+        return mmsi;
+    }
+
+    /**
+     * Returns the MMSI of the other vessel.
+     *
+     * @return MMSI, or {@link #OWN_SHIP}
+     */
+    public int getOtherMMSI() {
+        return otherMMSI;
+    }
+
+    /**
+     * Returns the distance at the closest point of approach.
+     *
+     * @return Distance in nautical miles, {@link Double#NaN} if a vessel is
+     *         no longer tracked.
+     */
+    public double getDistanceOfCPA() {
+        return distanceOfCPA;
+    }
+
+    /**
+     * Returns the time to the closest point of approach, negative if the
+     * vessels are moving apart.
+     *
+     * @return Time in minutes, {@link Double#NaN} if a vessel is no longer
+     *         tracked.
+     */
+    public double getTimeToCPA() {
+        return timeToCPA;
+    }
+
+    /**
+     * Tells if the vessels are in danger of collision.
+     *
+     * @return true if the risk became dangerous, false if it became safe.
+     */
+    public boolean isDangerous() {
+        return dangerous;
+    }
+
+    @Override
+    public String toString() {
+        return "MMSI: " + mmsi
+            + ", Other: " + (otherMMSI == OWN_SHIP ? "own ship" : String.valueOf(otherMMSI))
+            + ", CPA: " + distanceOfCPA
+            + ", TCPA: " + timeToCPA
+            + ", Dangerous: " + dangerous;
+    }
+}
@@ -0,0 +1,681 @@
+/*
+ * VesselIndex.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.tracking;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+
+import net.sf.marineapi.ais.event.AISMessageListener;
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISPositionInfo;
+import net.sf.marineapi.nmea.util.Position;
+
+/**
+ * <p>
+ * Spatial index of the latest positions of vessels by MMSI, for bounding
+ * box, radius and nearest neighbour queries. Register the index in an
+ * {@link net.sf.marineapi.ais.event.AISMessageDispatcher} to index the
+ * positions of all position reporting messages.</p>
+ * <p>
+ * The earth is divided into a uniform grid of cells of equal size in
+ * degrees, and the cells are hashed into a fixed number of buckets holding
+ * doubly linked lists of entries. Entries are preallocated, so moving a
+ * vessel from one cell to another is a constant time relink that allocates
+ * nothing. Distances are great circle distances in meters as by
+ * {@link Position#distanceTo(Position)}.</p>
+ * <p>
+ * Updates must be done by a single thread. Queries may be run by any number
+ * of threads concurrently with the updates. Buckets are guarded by striped
+ * locks, and a query reads each bucket optimistically, falling back to a
+ * read lock only when the bucket changed during the read. A query sees each
+ * bucket in a consistent state, but not the whole index at a single point
+ * in time.</p>
+ *
+ * @author Berserkr LLC
+ * @see VesselStore
+ */
+public class VesselIndex implements AISMessageListener {
+
+    /** Default number of vessels */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /** Default cell size in degrees */
+    public static final double DEFAULT_CELL_SIZE = 0.1;
+
+    /** Default age in milliseconds after which silent vessels are evicted */
+    public static final long DEFAULT_MAX_AGE = VesselStore.DEFAULT_MAX_AGE;
+
+    // earth radius in meters, as in Position
+    private static final double EARTH_RADIUS = 6366707.02;
+
+    private static final int NONE = -1;
+    private static final int STRIPES = 256;
+
+    private final int capacity;
+    private final long maxAge;
+    private final LongSupplier clock;
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+
+    // bucket lists, guarded by the stripe of the bucket
+    private final int[] heads;
+    private final StampedLock[] locks = new StampedLock[STRIPES];
+
+    // entry fields, guarded by the stripe of the bucket of the entry
+    private final int[] mmsi;
+    private final double[] latitude;
+    private final double[] longitude;
+    private final int[] cell;
+    private final int[] next;
+    private final int[] previous;
+
+    // writer only
+    private final long[] updated;
+    private final int[] free;
+    private int freeCount;
+    // time after which the oldest vessel can be evicted, writer only
+    private long nextEviction = Long.MIN_VALUE;
+    private final int[] keys;
+    private final int[] entries;
+
+    private volatile int size;
+    private volatile long dropped;
+
+    /**
+     * Creates an index with default capacity, cell size and maximum age.
+     */
+    public VesselIndex() {
+        this(DEFAULT_CAPACITY, DEFAULT_CELL_SIZE, DEFAULT_MAX_AGE, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates an index.
+     *
+     * @param capacity Maximum number of vessels
+     * @param cellSize Grid cell size in degrees, a divisor of 180 degrees
+     *            from 0.01 to 90 works best
+     * @param maxAge Milliseconds after which a silent vessel is evicted
+     * @param clock Time source in milliseconds
+     */
+    public VesselIndex(int capacity, double cellSize, long maxAge, LongSupplier clock) {
+
+        if (capacity <= 0 || capacity > 1 << 28) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        if (!(cellSize >= 0.01 && cellSize <= 90)) {
+            throw new IllegalArgumentException("Cell size must be 0.01..90 degrees");
+        }
+        if (maxAge <= 0) {
+            throw new IllegalArgumentException("Maximum age must be positive");
+        }
+
+        this.capacity = capacity;
+        this.maxAge = maxAge;
+        this.clock = clock;
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(360 / cellSize);
+        this.rows = (int) Math.ceil(180 / cellSize);
+
+        int buckets = Integer.highestOneBit(capacity - 1 | 1) << 1;
+        heads = new int[Math.max(buckets, STRIPES)];
+        Arrays.fill(heads, NONE);
+
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new StampedLock();
+        }
+
+        mmsi = new int[capacity];
+        latitude = new double[capacity];
+        longitude = new double[capacity];
+        cell = new int[capacity];
+        next = new int[capacity];
+        previous = new int[capacity];
+        updated = new long[capacity];
+        Arrays.fill(cell, NONE);
+
+        free = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            free[i] = capacity - 1 - i;
+        }
+        freeCount = capacity;
+
+        keys = new int[Integer.highestOneBit(capacity - 1 | 1) << 2];
+        entries = new int[keys.length];
+        Arrays.fill(keys, NONE);
+    }
+
+    /**
+     * Indexes the position of a position reporting message. Other messages
+     * and messages without a valid position are ignored.
+     *
+     * @param message Decoded message
+     */
+    @Override
+    public void messageReceived(AISMessage message) {
+        if (message instanceof AISPositionInfo) {
+            AISPositionInfo m = (AISPositionInfo) message;
+            if (m.hasLatitude() && m.hasLongitude()
+                && isValid(m.getLatitudeInDegrees(), m.getLongitudeInDegrees())) {
+                update(m.getMMSI(), m.getLatitudeInDegrees(), m.getLongitudeInDegrees());
+            }
+        }
+    }
+
+    /**
+     * Adds or moves a vessel, by the writer thread. Silent vessels are
+     * evicted if the index is full.
+     *
+     * @param id MMSI of the vessel
+     * @param lat Latitude in degrees
+     * @param lon Longitude in degrees
+     * @return false if the index is full and the vessel was not added
+     * @throws IllegalArgumentException If the position is not valid
+     */
+    public boolean update(int id, double lat, double lon) {
+
+        if (!isValid(lat, lon)) {
+            throw new IllegalArgumentException("Invalid position " + lat + ", " + lon);
+        }
+
+        int e = find(id);
+
+        if (e == NONE) {
+            // the index is not scanned again until its oldest vessel may
+            // have expired
+            if (freeCount == 0
+                && (clock.getAsLong() <= nextEviction || evict() == 0)) {
+                dropped++;
+                return false;
+            }
+            e = free[--freeCount];
+            insertKey(id, e);
+            updated[e] = clock.getAsLong();
+            link(e, id, lat, lon, cellOf(lat, lon));
+            size = capacity - freeCount;
+            return true;
+        }
+
+        updated[e] = clock.getAsLong();
+
+        int from = cell[e];
+        int to = cellOf(lat, lon);
+        int fromStripe = bucket(from) & (STRIPES - 1);
+        int toStripe = bucket(to) & (STRIPES - 1);
+
+        StampedLock first = locks[Math.min(fromStripe, toStripe)];
+        StampedLock second = locks[Math.max(fromStripe, toStripe)];
+
+        long s1 = first.writeLock();
+        long s2 = first == second ? 0 : second.writeLock();
+        try {
+            if (from != to) {
+                unlinkLocked(e);
+                linkLocked(e, to);
+            }
+            latitude[e] = lat;
+            longitude[e] = lon;
+        } finally {
+            if (first != second) {
+                second.unlockWrite(s2);
+            }
+            first.unlockWrite(s1);
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes a vessel, by the writer thread.
+     *
+     * @param id MMSI of the vessel
+     * @return true if the vessel was removed
+     */
+    public boolean remove(int id) {
+        int e = find(id);
+        if (e == NONE) {
+            return false;
+        }
+        release(e);
+        return true;
+    }
+
+    /**
+     * Removes vessels not updated within the maximum age, by the writer
+     * thread. Invoked when the index is full.
+     *
+     * @return Number of vessels evicted
+     */
+    public int evict() {
+        long limit = clock.getAsLong() - maxAge;
+        long oldest = Long.MAX_VALUE;
+        int evicted = 0;
+        for (int e = 0; e < capacity; e++) {
+            if (cell[e] != NONE) {
+                if (updated[e] < limit) {
+                    release(e);
+                    evicted++;
+                } else if (updated[e] < oldest) {
+                    oldest = updated[e];
+                }
+            }
+        }
+        nextEviction = oldest == Long.MAX_VALUE ? Long.MIN_VALUE : oldest + maxAge;
+        return evicted;
+    }
+
+    /**
+     * Finds the vessels within a bounding box. A box with west greater than
+     * east crosses the 180th meridian.
+     *
+     * @param south Southern latitude in degrees
+     * @param west Western longitude in degrees
+     * @param north Northern latitude in degrees
+     * @param east Eastern longitude in degrees
+     * @return MMSIs of the vessels in no particular order
+     */
+    public int[] findInBox(double south, double west, double north, double east) {
+        Hits hits = new Hits();
+        box(south, west, north, east, hits);
+        return hits.mmsis();
+    }
+
+    /**
+     * Finds the vessels within a distance of a position.
+     *
+     * @param center Center position
+     * @param meters Distance in meters
+     * @return MMSIs of the vessels, nearest first
+     */
+    public int[] findWithin(Position center, double meters) {
+        Hits hits = within(center.getLatitude(), center.getLongitude(), meters);
+        hits.sort();
+        return hits.mmsis();
+    }
+
+    /**
+     * Finds the vessels nearest to a position.
+     *
+     * @param center Center position
+     * @param k Maximum number of vessels
+     * @return MMSIs of at most {@code k} vessels, nearest first
+     */
+    public int[] findNearest(Position center, int k) {
+
+        if (k <= 0) {
+            return new int[0];
+        }
+
+        double lat = center.getLatitude();
+        double lon = center.getLongitude();
+
+        // widen the search until k vessels are within the radius, all vessels
+        // closer than the k-th one are then found
+        double meters = cellSize * 60 * 1852;
+        for (;;) {
+            Hits hits = within(lat, lon, meters);
+            if (hits.size >= k || meters > Math.PI * EARTH_RADIUS) {
+                hits.sort();
+                hits.size = Math.min(hits.size, k);
+                return hits.mmsis();
+            }
+            meters *= 4;
+        }
+    }
+
+    /**
+     * Returns the number of vessels.
+     *
+     * @return Vessel count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of updates dropped because the index was full.
+     *
+     * @return Update count
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Great circle distance as in {@link Position#distanceTo(Position)}.
+     */
+    static double distance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private Hits within(double lat, double lon, double meters) {
+
+        Hits hits = new Hits();
+        hits.center(lat, lon, meters);
+
+        double dLat = Math.toDegrees(meters / EARTH_RADIUS);
+        double south = lat - dLat;
+        double north = lat + dLat;
+
+        if (south <= -90 || north >= 90) {
+            // the circle covers a pole
+            box(Math.max(south, -90), -180, Math.min(north, 90), 180, hits);
+        } else {
+            double dLon = Math.toDegrees(Math.asin(
+                Math.min(1, Math.sin(meters / EARTH_RADIUS) / Math.cos(Math.toRadians(lat)))));
+            if (dLon >= 180 || meters >= Math.PI / 2 * EARTH_RADIUS) {
+                box(south, -180, north, 180, hits);
+            } else {
+                box(south, wrap(lon - dLon), north, wrap(lon + dLon), hits);
+            }
+        }
+
+        return hits;
+    }
+
+    /**
+     * Collects the vessels of a box, either by the cells of the box or by
+     * all buckets when the box has more cells than there are buckets.
+     */
+    private void box(double south, double west, double north, double east, Hits hits) {
+
+        hits.box(south, west, north, east);
+
+        int row0 = row(south);
+        int row1 = row(north);
+        int col0 = column(west);
+        int col1 = column(east);
+        int cols = west <= east ? col1 - col0 + 1 : columns - col0 + col1 + 1;
+
+        if ((long) (row1 - row0 + 1) * cols > heads.length) {
+            for (int b = 0; b < heads.length; b++) {
+                scan(b, NONE, hits);
+            }
+            return;
+        }
+
+        for (int r = row0; r <= row1; r++) {
+            for (int i = 0; i < cols; i++) {
+                int c = r * columns + (col0 + i) % columns;
+                scan(bucket(c), c, hits);
+            }
+        }
+    }
+
+    /**
+     * Collects the matching entries of a bucket, of one cell or of all cells
+     * if {@code c} is {@link #NONE}.
+     */
+    private void scan(int b, int c, Hits hits) {
+
+        StampedLock lock = locks[b & (STRIPES - 1)];
+
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int mark = hits.size;
+            if (collect(b, c, hits) && lock.validate(stamp)) {
+                return;
+            }
+            hits.size = mark;
+        }
+
+        stamp = lock.readLock();
+        try {
+            collect(b, c, hits);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return false if the list was inconsistent, possible in an optimistic
+     *         read only
+     */
+    private boolean collect(int b, int c, Hits hits) {
+        int steps = 0;
+        for (int e = heads[b]; e != NONE; e = next[e]) {
+            if (++steps > capacity) {
+                return false;
+            }
+            if (c == NONE || cell[e] == c) {
+                hits.offer(mmsi[e], latitude[e], longitude[e]);
+            }
+        }
+        return true;
+    }
+
+    private void link(int e, int id, double lat, double lon, int c) {
+        StampedLock lock = locks[bucket(c) & (STRIPES - 1)];
+        long stamp = lock.writeLock();
+        try {
+            mmsi[e] = id;
+            latitude[e] = lat;
+            longitude[e] = lon;
+            linkLocked(e, c);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void linkLocked(int e, int c) {
+        int b = bucket(c);
+        int head = heads[b];
+        cell[e] = c;
+        previous[e] = NONE;
+        next[e] = head;
+        if (head != NONE) {
+            previous[head] = e;
+        }
+        heads[b] = e;
+    }
+
+    private void unlinkLocked(int e) {
+        int p = previous[e];
+        int n = next[e];
+        if (p == NONE) {
+            heads[bucket(cell[e])] = n;
+        } else {
+            next[p] = n;
+        }
+        if (n != NONE) {
+            previous[n] = p;
+        }
+    }
+
+    private void release(int e) {
+
+        StampedLock lock = locks[bucket(cell[e]) & (STRIPES - 1)];
+        long stamp = lock.writeLock();
+        try {
+            unlinkLocked(e);
+            cell[e] = NONE;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        removeKey(mmsi[e]);
+        free[freeCount++] = e;
+        size = capacity - freeCount;
+    }
+
+    private int cellOf(double lat, double lon) {
+        return row(lat) * columns + column(lon);
+    }
+
+    private int row(double lat) {
+        return Math.min(rows - 1, Math.max(0, (int) ((lat + 90) / cellSize)));
+    }
+
+    private int column(double lon) {
+        return Math.min(columns - 1, Math.max(0, (int) ((lon + 180) / cellSize)));
+    }
+
+    private int bucket(int c) {
+        int h = c * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (heads.length - 1);
+    }
+
+    private static boolean isValid(double lat, double lon) {
+        return lat >= -90 && lat <= 90 && lon >= -180 && lon <= 180;
+    }
+
+    private static double wrap(double lon) {
+        return lon < -180 ? lon + 360 : lon > 180 ? lon - 360 : lon;
+    }
+
+    private int find(int id) {
+        int mask = keys.length - 1;
+        for (int i = hash(id) & mask; keys[i] != NONE; i = (i + 1) & mask) {
+            if (keys[i] == id) {
+                return entries[i];
+            }
+        }
+        return NONE;
+    }
+
+    private void insertKey(int id, int e) {
+        int mask = keys.length - 1;
+        int i = hash(id) & mask;
+        while (keys[i] != NONE) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = id;
+        entries[i] = e;
+    }
+
+    /**
+     * Removes a key by shifting the following keys of its probe sequence
+     * back, leaving no removed markers behind.
+     */
+    private void removeKey(int id) {
+
+        int mask = keys.length - 1;
+        int i = hash(id) & mask;
+        while (keys[i] != id) {
+            if (keys[i] == NONE) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+
+        for (int j = (i + 1) & mask; keys[j] != NONE; j = (j + 1) & mask) {
+            int home = hash(keys[j]) & mask;
+            // move keys whose home is not between the hole and their slot
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                entries[i] = entries[j];
+                i = j;
+            }
+        }
+        keys[i] = NONE;
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Matches of a query, filtered by a box and optionally by a distance.
+     */
+    private static final class Hits {
+
+        int[] mmsi = new int[16];
+        double[] distance = new double[16];
+        int size;
+
+        double south;
+        double west;
+        double north;
+        double east;
+
+        double centerLat;
+        double centerLon;
+        double radius = Double.NaN;
+
+        void box(double south, double west, double north, double east) {
+            this.south = south;
+            this.west = west;
+            this.north = north;
+            this.east = east;
+        }
+
+        void center(double lat, double lon, double meters) {
+            centerLat = lat;
+            centerLon = lon;
+            radius = meters;
+        }
+
+        void offer(int id, double lat, double lon) {
+
+            if (lat < south || lat > north) {
+                return;
+            }
+            if (west <= east ? lon < west || lon > east : lon < west && lon > east) {
+                return;
+            }
+
+            double d = 0;
+            if (!Double.isNaN(radius)) {
+                d = distance(centerLat, centerLon, lat, lon);
+                if (d > radius) {
+                    return;
+                }
+            }
+
+            if (size == mmsi.length) {
+                mmsi = Arrays.copyOf(mmsi, size * 2);
+                distance = Arrays.copyOf(distance, size * 2);
+            }
+            mmsi[size] = id;
+            distance[size] = d;
+            size++;
+        }
+
+        /**
+         * Sorts by distance.
+         */
+        void sort() {
+            // non-negative floats order as their bits, the index in low bits
+            long[] order = new long[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = (long) Float.floatToIntBits((float) distance[i]) << 32 | i;
+            }
+            Arrays.sort(order);
+            int[] sorted = new int[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = mmsi[(int) order[i]];
+            }
+            mmsi = sorted;
+        }
+
+        int[] mmsis() {
+            return Arrays.copyOf(mmsi, size);
+        }
+    }
+}
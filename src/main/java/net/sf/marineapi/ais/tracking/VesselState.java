@@ -0,0 +1,261 @@
+/*
+ * VesselState.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.tracking;
+
+/**
+ * Consistent copy of the state of one vessel in a {@link VesselStore}. The
+ * store fills a caller supplied instance, which may be reused for any number
+ * of reads.
+ * <p>
+ * Values that have not been received, or were reported as not available,
+ * are {@link Double#NaN} for decimal values, -1 for the true heading and
+ * navigational status, 0 for the IMO number, ship type and dimensions, and
+ * {@code null} for texts.
+ *
+ * @author Berserkr LLC
+ * @see VesselStore#get(int, VesselState)
+ */
+public class VesselState {
+
+    int mmsi = -1;
+    int positionType;
+    double latitude = Double.NaN;
+    double longitude = Double.NaN;
+    double speedOverGround = Double.NaN;
+    double courseOverGround = Double.NaN;
+    int trueHeading = -1;
+    int navigationalStatus = -1;
+    long positionTime;
+    long staticTime;
+    int imoNumber;
+    int shipType;
+    int bow;
+    int stern;
+    int port;
+    int starboard;
+    double draught = Double.NaN;
+    String name;
+    String callSign;
+    String destination;
+
+    /**
+     * Returns the MMSI of the vessel.
+     *
+     * @return MMSI
+     */
+    public int getMMSI() {
+        return mmsi;
+    }
+
+    /**
+     * Returns the type of the latest position report, e.g. 1-3 and 27 for
+     * class A and 18 and 19 for class B transponders.
+     *
+     * @return Message type, 0 if no position has been received.
+     */
+    public int getPositionType() {
+        return positionType;
+    }
+
+    /**
+     * Returns the latest known latitude.
+     *
+     * @return Latitude in degrees
+     */
+    public double getLatitude() {
+        return latitude;
+    }
+
+    /**
+     * Returns the latest known longitude.
+     *
+     * @return Longitude in degrees
+     */
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Returns the speed over ground.
+     *
+     * @return Speed in knots
+     */
+    public double getSpeedOverGround() {
+        return speedOverGround;
+    }
+
+    /**
+     * Returns the course over ground.
+     *
+     * @return Course in degrees
+     */
+    public double getCourseOverGround() {
+        return courseOverGround;
+    }
+
+    /**
+     * Returns the true heading.
+     *
+     * @return Heading in degrees
+     */
+    public int getTrueHeading() {
+        return trueHeading;
+    }
+
+    /**
+     * Returns the navigational status of class A transponders.
+     *
+     * @return Status code
+     * @see net.sf.marineapi.ais.util.NavigationalStatus
+     */
+    public int getNavigationalStatus() {
+        return navigationalStatus;
+    }
+
+    /**
+     * Returns the store time of the latest position report.
+     *
+     * @return Time in milliseconds, 0 if not received.
+     */
+    public long getPositionTime() {
+        return positionTime;
+    }
+
+    /**
+     * Returns the store time of the latest static data.
+     *
+     * @return Time in milliseconds, 0 if not received.
+     */
+    public long getStaticTime() {
+        return staticTime;
+    }
+
+    /**
+     * Tells if a position has been received.
+     *
+     * @return true if latitude and longitude are known.
+     */
+    public boolean hasPosition() {
+        return !Double.isNaN(latitude);
+    }
+
+    /**
+     * Returns the IMO number.
+     *
+     * @return IMO number
+     */
+    public int getIMONumber() {
+        return imoNumber;
+    }
+
+    /**
+     * Returns the type of ship and cargo.
+     *
+     * @return Ship type code
+     * @see net.sf.marineapi.ais.util.ShipType
+     */
+    public int getTypeOfShipAndCargoType() {
+        return shipType;
+    }
+
+    /**
+     * Returns the distance from the reference point to bow.
+     *
+     * @return Distance in meters
+     */
+    public int getBow() {
+        return bow;
+    }
+
+    /**
+     * Returns the distance from the reference point to stern.
+     *
+     * @return Distance in meters
+     */
+    public int getStern() {
+        return stern;
+    }
+
+    /**
+     * Returns the distance from the reference point to port side.
+     *
+     * @return Distance in meters
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Returns the distance from the reference point to starboard side.
+     *
+     * @return Distance in meters
+     */
+    public int getStarboard() {
+        return starboard;
+    }
+
+    /**
+     * Returns the maximum present static draught.
+     *
+     * @return Draught in meters
+     */
+    public double getMaximumDraught() {
+        return draught;
+    }
+
+    /**
+     * Returns the vessel name.
+     *
+     * @return Name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the call sign.
+     *
+     * @return Call sign
+     */
+    public String getCallSign() {
+        return callSign;
+    }
+
+    /**
+     * Returns the destination.
+     *
+     * @return Destination
+     */
+    public String getDestination() {
+        return destination;
+    }
+
+    @Override
+    public String toString() {
+        return "MMSI: " + mmsi
+            + ", Name: " + name
+            + ", Latitude: " + latitude
+            + ", Longitude: " + longitude
+            + ", SOG: " + speedOverGround
+            + ", COG: " + courseOverGround
+            + ", Heading: " + trueHeading;
+    }
+}
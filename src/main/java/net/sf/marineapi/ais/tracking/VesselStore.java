@@ -0,0 +1,582 @@
+/*
+ * VesselStore.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.tracking;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import net.sf.marineapi.ais.event.AISMessageListener;
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage05;
+import net.sf.marineapi.ais.message.AISMessage19;
+import net.sf.marineapi.ais.message.AISMessage24;
+import net.sf.marineapi.ais.message.AISPositionReport;
+import net.sf.marineapi.ais.message.AISPositionReportB;
+
+/**
+ * <p>
+ * Latest state of each vessel by MMSI, merged from dynamic reports (messages
+ * 1, 2, 3, 18, 19 and 27) and static data (messages 5, 19 and 24 parts A
+ * and B). Register the store in an
+ * {@link net.sf.marineapi.ais.event.AISMessageDispatcher} to keep it up to
+ * date.</p>
+ * <p>
+ * The state is kept in fixed capacity, primitive per-field arrays indexed by
+ * vessel slot, and the slots are found by MMSI in an open addressing table
+ * of {@code int} keys, so the store allocates nothing per vessel or message
+ * apart from the texts of static data. A vessel not heard of within the
+ * maximum age is evicted to free its slot. Messages of new vessels are
+ * dropped if the store is full after eviction.</p>
+ * <p>
+ * Updates must be done by a single thread. Any number of threads may read
+ * concurrently with the writer, each read returns a consistent copy of one
+ * vessel. A position report without latitude and longitude keeps the latest
+ * known position.</p>
+ *
+ * @author Berserkr LLC
+ * @see VesselState
+ */
+public class VesselStore implements AISMessageListener {
+
+    /** Default number of vessels */
+    public static final int DEFAULT_CAPACITY = 1 << 18;
+
+    /** Default age in milliseconds after which silent vessels are evicted */
+    public static final long DEFAULT_MAX_AGE = 20 * 60 * 1000L;
+
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    // index keys of free and removed entries, MMSIs are positive
+    private static final int EMPTY = -1;
+    private static final int REMOVED = -2;
+
+    private final int capacity;
+    private final long maxAge;
+    private final LongSupplier clock;
+
+    // slot fields, written under the version of the slot
+    private final int[] versions;
+    private final int[] mmsi;
+    private final byte[] positionType;
+    private final double[] latitude;
+    private final double[] longitude;
+    private final float[] speedOverGround;
+    private final float[] courseOverGround;
+    private final short[] trueHeading;
+    private final byte[] navigationalStatus;
+    private final long[] positionTime;
+    private final long[] staticTime;
+    private final int[] imoNumber;
+    private final short[] shipType;
+    // bow, stern, port and starboard of each slot
+    private final short[] dimensions;
+    private final float[] draught;
+    private final String[] name;
+    private final String[] callSign;
+    private final String[] destination;
+
+    // free slots, writer only
+    private final int[] free;
+    private int freeCount;
+
+    // time after which the oldest vessel can be evicted, writer only
+    private long nextEviction = Long.MIN_VALUE;
+
+    private volatile Index index;
+    private volatile int size;
+    private volatile long dropped;
+
+    /**
+     * Creates a store with default capacity and maximum age.
+     */
+    public VesselStore() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_AGE, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a store.
+     *
+     * @param capacity Maximum number of vessels
+     * @param maxAge Milliseconds after which a silent vessel is evicted
+     * @param clock Time source in milliseconds
+     */
+    public VesselStore(int capacity, long maxAge, LongSupplier clock) {
+
+        if (capacity <= 0 || capacity > 1 << 28) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        if (maxAge <= 0) {
+            throw new IllegalArgumentException("Maximum age must be positive");
+        }
+
+        this.capacity = capacity;
+        this.maxAge = maxAge;
+        this.clock = clock;
+
+        versions = new int[capacity];
+        mmsi = new int[capacity];
+        positionType = new byte[capacity];
+        latitude = new double[capacity];
+        longitude = new double[capacity];
+        speedOverGround = new float[capacity];
+        courseOverGround = new float[capacity];
+        trueHeading = new short[capacity];
+        navigationalStatus = new byte[capacity];
+        positionTime = new long[capacity];
+        staticTime = new long[capacity];
+        imoNumber = new int[capacity];
+        shipType = new short[capacity];
+        dimensions = new short[capacity * 4];
+        draught = new float[capacity];
+        name = new String[capacity];
+        callSign = new String[capacity];
+        destination = new String[capacity];
+
+        Arrays.fill(mmsi, EMPTY);
+
+        free = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            free[i] = capacity - 1 - i;
+        }
+        freeCount = capacity;
+
+        index = new Index(tableSize(capacity));
+    }
+
+    /**
+     * Merges a position report or static data into the state of the vessel.
+     * Other message types are ignored.
+     *
+     * @param message Decoded message
+     */
+    @Override
+    public void messageReceived(AISMessage message) {
+
+        if (!(message instanceof AISPositionReportB)
+            && !(message instanceof AISMessage05)
+            && !(message instanceof AISMessage24)) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        int id = message.getMMSI();
+
+        Index idx = index;
+        int i = find(idx, id);
+        boolean added = i < 0;
+        int slot = added ? allocate() : idx.slots[i];
+
+        if (slot < 0) {
+            dropped++;
+            return;
+        }
+
+        // a throwing getter must not leave the slot locked
+        int v = begin(slot);
+        try {
+            if (added) {
+                clear(slot, id);
+            }
+            if (message instanceof AISPositionReportB) {
+                position(slot, (AISPositionReportB) message, now);
+            }
+            if (message instanceof AISMessage19) {
+                AISMessage19 m = (AISMessage19) message;
+                name[slot] = m.getName();
+                shipType[slot] = (short) m.getTypeOfShipAndCargoType();
+                dimensions(slot, m.getBow(), m.getStern(), m.getPort(), m.getStarboard());
+                staticTime[slot] = now;
+            } else if (message instanceof AISMessage05) {
+                AISMessage05 m = (AISMessage05) message;
+                imoNumber[slot] = m.getIMONumber();
+                callSign[slot] = m.getCallSign();
+                name[slot] = m.getName();
+                shipType[slot] = (short) m.getTypeOfShipAndCargoType();
+                dimensions(slot, m.getBow(), m.getStern(), m.getPort(), m.getStarboard());
+                draught[slot] = (float) m.getMaximumDraught();
+                destination[slot] = m.getDestination();
+                staticTime[slot] = now;
+            } else if (message instanceof AISMessage24) {
+                AISMessage24 m = (AISMessage24) message;
+                if (m.getPartNumber() == 0) {
+                    name[slot] = m.getName();
+                } else {
+                    shipType[slot] = (short) m.getTypeOfShipAndCargoType();
+                    callSign[slot] = m.getCallSign();
+                    dimensions(slot, m.getBow(), m.getStern(), m.getPort(), m.getStarboard());
+                }
+                staticTime[slot] = now;
+            }
+        } finally {
+            end(slot, v);
+        }
+
+        // readers find a new vessel only with its first message
+        if (added) {
+            publish(id, slot);
+        }
+    }
+
+    /**
+     * Copies the state of a vessel.
+     *
+     * @param mmsi MMSI of the vessel
+     * @param state State to fill
+     * @return true if the vessel was found
+     */
+    public boolean get(int mmsi, VesselState state) {
+
+        Index idx = index;
+        int mask = idx.keys.length - 1;
+
+        for (int i = hash(mmsi) & mask; ; i = (i + 1) & mask) {
+            int key = (int) INTS.getAcquire(idx.keys, i);
+            if (key == EMPTY) {
+                return false;
+            }
+            if (key == mmsi) {
+                return read(idx.slots[i], mmsi, state);
+            }
+        }
+    }
+
+    /**
+     * Tells if the store has a vessel.
+     *
+     * @param mmsi MMSI of the vessel
+     * @return true if found
+     */
+    public boolean contains(int mmsi) {
+        return get(mmsi, new VesselState());
+    }
+
+    /**
+     * Passes a copy of each vessel to the consumer. The same state instance
+     * is reused for all vessels. Vessels added or evicted during the
+     * iteration may or may not be seen.
+     *
+     * @param consumer Consumer of states
+     */
+    public void forEach(Consumer<VesselState> consumer) {
+        VesselState state = new VesselState();
+        for (int slot = 0; slot < capacity; slot++) {
+            if (read(slot, EMPTY, state)) {
+                consumer.accept(state);
+            }
+        }
+    }
+
+    /**
+     * Removes vessels not heard of within the maximum age. Invoked by the
+     * writer when the store is full, and may be invoked periodically by the
+     * writer thread to release memory of static data.
+     *
+     * @return Number of vessels evicted
+     */
+    public int evict() {
+
+        long limit = clock.getAsLong() - maxAge;
+        long oldest = Long.MAX_VALUE;
+        int evicted = 0;
+
+        for (int slot = 0; slot < capacity; slot++) {
+            if (mmsi[slot] != EMPTY) {
+                long heard = Math.max(positionTime[slot], staticTime[slot]);
+                if (heard < limit) {
+                    release(slot);
+                    evicted++;
+                } else if (heard < oldest) {
+                    oldest = heard;
+                }
+            }
+        }
+
+        nextEviction = oldest == Long.MAX_VALUE ? Long.MIN_VALUE : oldest + maxAge;
+        return evicted;
+    }
+
+    /**
+     * Removes a vessel, by the writer thread.
+     *
+     * @param mmsi MMSI of the vessel
+     * @return true if the vessel was removed
+     */
+    public boolean remove(int mmsi) {
+        Index idx = index;
+        int i = find(idx, mmsi);
+        if (i < 0) {
+            return false;
+        }
+        release(idx.slots[i]);
+        return true;
+    }
+
+    /**
+     * Returns the number of vessels.
+     *
+     * @return Vessel count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of vessels.
+     *
+     * @return Capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of messages dropped because the store was full.
+     *
+     * @return Message count
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    private void position(int slot, AISPositionReportB m, long now) {
+
+        if (m.hasLatitude() && m.hasLongitude()) {
+            latitude[slot] = m.getLatitudeInDegrees();
+            longitude[slot] = m.getLongitudeInDegrees();
+            positionTime[slot] = now;
+        }
+
+        positionType[slot] = (byte) m.getMessageType();
+        speedOverGround[slot] = m.hasSpeedOverGround() ? (float) m.getSpeedOverGround() : Float.NaN;
+        courseOverGround[slot] = m.hasCourseOverGround() ? (float) m.getCourseOverGround() : Float.NaN;
+        trueHeading[slot] = (short) (m.hasTrueHeading() ? m.getTrueHeading() : -1);
+        navigationalStatus[slot] = (byte) (m instanceof AISPositionReport
+            ? ((AISPositionReport) m).getNavigationalStatus() : -1);
+    }
+
+    private void dimensions(int slot, int bow, int stern, int port, int starboard) {
+        int d = slot * 4;
+        dimensions[d] = (short) bow;
+        dimensions[d + 1] = (short) stern;
+        dimensions[d + 2] = (short) port;
+        dimensions[d + 3] = (short) starboard;
+    }
+
+    /**
+     * Reads a slot until an unchanged version is seen.
+     *
+     * @param expected MMSI the slot must have, or {@link #EMPTY} for any
+     */
+    private boolean read(int slot, int expected, VesselState s) {
+
+        for (;;) {
+
+            int v = (int) INTS.getAcquire(versions, slot);
+            if ((v & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            int id = mmsi[slot];
+            s.mmsi = id;
+            s.positionType = positionType[slot];
+            s.latitude = latitude[slot];
+            s.longitude = longitude[slot];
+            s.speedOverGround = speedOverGround[slot];
+            s.courseOverGround = courseOverGround[slot];
+            s.trueHeading = trueHeading[slot];
+            s.navigationalStatus = navigationalStatus[slot];
+            s.positionTime = positionTime[slot];
+            s.staticTime = staticTime[slot];
+            s.imoNumber = imoNumber[slot];
+            s.shipType = shipType[slot];
+            int d = slot * 4;
+            s.bow = dimensions[d];
+            s.stern = dimensions[d + 1];
+            s.port = dimensions[d + 2];
+            s.starboard = dimensions[d + 3];
+            s.draught = draught[slot];
+            s.name = name[slot];
+            s.callSign = callSign[slot];
+            s.destination = destination[slot];
+
+            VarHandle.acquireFence();
+            if ((int) INTS.getVolatile(versions, slot) == v) {
+                return id != EMPTY && (expected == EMPTY || id == expected);
+            }
+        }
+    }
+
+    /**
+     * Marks the slot as being written.
+     */
+    private int begin(int slot) {
+        int v = versions[slot] + 1;
+        INTS.setOpaque(versions, slot, v);
+        VarHandle.releaseFence();
+        return v;
+    }
+
+    private void end(int slot, int v) {
+        INTS.setRelease(versions, slot, v + 1);
+    }
+
+    /**
+     * Takes a free slot, evicting silent vessels if there is none. The store
+     * is not scanned again until its oldest vessel may have expired.
+     *
+     * @return Slot, or -1 if the store is full
+     */
+    private int allocate() {
+        if (freeCount == 0
+            && (clock.getAsLong() <= nextEviction || evict() == 0)) {
+            return -1;
+        }
+        return free[--freeCount];
+    }
+
+    private void clear(int slot, int id) {
+        mmsi[slot] = id;
+        positionType[slot] = 0;
+        latitude[slot] = Double.NaN;
+        longitude[slot] = Double.NaN;
+        speedOverGround[slot] = Float.NaN;
+        courseOverGround[slot] = Float.NaN;
+        trueHeading[slot] = -1;
+        navigationalStatus[slot] = -1;
+        positionTime[slot] = 0;
+        staticTime[slot] = 0;
+        imoNumber[slot] = 0;
+        shipType[slot] = 0;
+        dimensions(slot, 0, 0, 0, 0);
+        draught[slot] = Float.NaN;
+    }
+
+    private void publish(int id, int slot) {
+
+        // evicted vessels may have left the index full of removed entries
+        Index idx = index;
+        if ((idx.used + 1) * 4 > idx.keys.length * 3) {
+            idx = rebuild();
+        }
+        insert(idx, id, slot);
+
+        size = capacity - freeCount;
+    }
+
+    private void release(int slot) {
+
+        Index idx = index;
+        int i = find(idx, mmsi[slot]);
+        if (i >= 0) {
+            INTS.setRelease(idx.keys, i, REMOVED);
+        }
+
+        int v = begin(slot);
+        mmsi[slot] = EMPTY;
+        name[slot] = null;
+        callSign[slot] = null;
+        destination[slot] = null;
+        end(slot, v);
+
+        free[freeCount++] = slot;
+        size = capacity - freeCount;
+    }
+
+    /**
+     * Returns the index entry of a key, by the writer.
+     */
+    private static int find(Index idx, int id) {
+        int mask = idx.keys.length - 1;
+        for (int i = hash(id) & mask; ; i = (i + 1) & mask) {
+            int key = idx.keys[i];
+            if (key == EMPTY) {
+                return -1;
+            }
+            if (key == id) {
+                return i;
+            }
+        }
+    }
+
+    private static void insert(Index idx, int id, int slot) {
+
+        int mask = idx.keys.length - 1;
+        int i = hash(id) & mask;
+
+        // reuse the first removed entry, readers skip it until the key is set
+        while (idx.keys[i] != EMPTY && idx.keys[i] != REMOVED) {
+            i = (i + 1) & mask;
+        }
+
+        if (idx.keys[i] == EMPTY) {
+            idx.used++;
+        }
+
+        idx.slots[i] = slot;
+        INTS.setRelease(idx.keys, i, id);
+    }
+
+    /**
+     * Publishes a new index without removed entries. Readers of the old
+     * index are not disturbed.
+     */
+    private Index rebuild() {
+        Index idx = new Index(tableSize(capacity));
+        for (int slot = 0; slot < capacity; slot++) {
+            if (mmsi[slot] != EMPTY) {
+                insert(idx, mmsi[slot], slot);
+            }
+        }
+        index = idx;
+        return idx;
+    }
+
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(capacity - 1 | 1) << 2;
+    }
+
+    private static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Open addressing table of MMSIs and their slots.
+     */
+    private static final class Index {
+
+        final int[] keys;
+        final int[] slots;
+
+        // entries not empty, writer only
+        int used;
+
+        Index(int size) {
+            keys = new int[size];
+            slots = new int[size];
+            Arrays.fill(keys, EMPTY);
+        }
+    }
+}
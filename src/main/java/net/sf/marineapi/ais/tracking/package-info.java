@@ -0,0 +1,4 @@
+/**
+ * Live state of AIS targets built from decoded AIS messages.
+ */
+package net.sf.marineapi.ais.tracking;
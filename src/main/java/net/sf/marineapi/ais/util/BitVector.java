@@ -20,17 +20,24 @@
  */
 package net.sf.marineapi.ais.util;
 
+import java.util.Arrays;
 import java.util.BitSet;
 
 /**
  * Class holding bit values in an array and implementing put/get
  * integer/string operations on it.
+ * <p>
+ * Bits are packed in an array of {@code long} words, most significant bit
+ * first, so that any field of up to 64 bits is extracted with a couple of
+ * shifts regardless of its alignment. Bits outside the vector read as zero.
  *
  * @author Lázár József
  */
 public class BitVector {
 
-	private BitSet		fBitVector;
+	private static final int WORD_BITS = 64;
+
+	private long[]		fWords;
 
 	/**
 	 * Creates a new instance with given length.
@@ -38,7 +45,7 @@ public class BitVector {
 	 * @param bits Vector length
 	 */
 	public BitVector(int bits) {
-		fBitVector = new BitSet(bits);
+		fWords = new long[(bits >>> 6) + 1];
 	}
 
 	/**
@@ -47,7 +54,20 @@ public class BitVector {
 	 * @param vector BitSet
 	 */
 	public BitVector(BitSet vector) {
-		fBitVector = vector;
+		this(vector.length());
+		for (int i = vector.nextSetBit(0); i >= 0; i = vector.nextSetBit(i + 1)) {
+			set(i);
+		}
+	}
+
+	/**
+	 * Creates a new instance with given words, bit at index zero being the
+	 * most significant bit of the first word.
+	 *
+	 * @param words Bit words, not copied.
+	 */
+	BitVector(long[] words) {
+		fWords = words;
 	}
 
 	/**
@@ -56,7 +76,11 @@ public class BitVector {
 	 * @param index Index of bit to set.
 	 */
 	public void set(int index) {
-		fBitVector.set(index);
+		int word = index >>> 6;
+		if (word >= fWords.length) {
+			fWords = Arrays.copyOf(fWords, Math.max(word + 1, fWords.length * 2));
+		}
+		fWords[word] |= Long.MIN_VALUE >>> (index & 63);
 	}
 
 	/**
@@ -65,11 +89,21 @@ public class BitVector {
 	 * @param from Start index
 	 * @param to End index
 	 * @return BitVector with specified range
+	 * @throws IndexOutOfBoundsException If start index is negative or
+	 *             greater than the end index.
 	 */
 	public BitVector get(int from, int to) {
-		to++;
-		from++;
-		return new BitVector(fBitVector.get(from, to));
+		if (from + 1 < 0 || from > to) {
+			throw new IndexOutOfBoundsException(
+				"from: " + from + ", to: " + to);
+		}
+		int length = to - from;
+		long[] words = new long[(length >>> 6) + 1];
+		for (int i = 0; i < length; i += WORD_BITS) {
+			int n = Math.min(WORD_BITS, length - i);
+			words[i >>> 6] = bits(from + 1 + i, n) << (WORD_BITS - n);
+		}
+		return new BitVector(words);
 	}
 
 	/**
@@ -79,7 +113,7 @@ public class BitVector {
 	 * @return {@code true} if bit is set, otherwise {@code false}.
 	 */
 	public boolean getBoolean(int index) {
-		return fBitVector.get(index);
+		return (word(index >>> 6) << (index & 63)) < 0;
 	}
 
 	/**
@@ -90,11 +124,45 @@ public class BitVector {
 	 * @return unsigned int value
 	 */
 	public int getUInt(int from, int to) {
-		int value = 0;
-		for (int i = fBitVector.previousSetBit(to); i > from; i = fBitVector.previousSetBit(i - 1)) {
-			value += (1 << (to - i));
-		}
-		return value;
+		return (int) getULong(from, to);
+	}
+
+	/**
+	 * Returns the requested bits interpreted as an unsigned integer (MSB
+	 * first), for fields up to 64 bits wide.
+	 *
+	 * @param from begin index (inclusive)
+	 * @param to end index (inclusive)
+	 * @return unsigned long value
+	 */
+	public long getULong(int from, int to) {
+		return bits(from + 1, to - from);
+	}
+
+	/**
+	 * Returns the requested bits interpreted as a two's complement signed
+	 * integer (MSB first) of the field width, i.e. the most significant bit
+	 * of the field is the sign bit.
+	 *
+	 * @param from begin index (inclusive)
+	 * @param to end index (inclusive)
+	 * @return signed int value
+	 */
+	public int getSignedInt(int from, int to) {
+		return (int) getSignedLong(from, to);
+	}
+
+	/**
+	 * Returns the requested bits interpreted as a two's complement signed
+	 * integer (MSB first) of the field width, for fields up to 64 bits wide.
+	 *
+	 * @param from begin index (inclusive)
+	 * @param to end index (inclusive)
+	 * @return signed long value
+	 */
+	public long getSignedLong(int from, int to) {
+		int n = to - from;
+		return (bits(from + 1, n) << (WORD_BITS - n)) >> (WORD_BITS - n);
 	}
 
 	/**
@@ -103,12 +171,13 @@ public class BitVector {
 	 * @param from Start index
 	 * @param to End index
 	 * @return Integer value
+	 * @deprecated Use {@link #getSignedInt(int, int)} for any field width.
+	 *             Unlike it, this method takes the sign at fixed width of
+	 *             8 bits regardless of the range.
 	 */
+	@Deprecated
 	public int getAs8BitInt(int from, int to) {
-		int retval = getUInt(from, to);
-		if (retval >= 0x80)
-	        retval -= 0x100;
-		return retval;
+		return signed(getUInt(from, to), 8);
 	}
 
 	/**
@@ -117,12 +186,13 @@ public class BitVector {
 	 * @param from Start index
 	 * @param to End index
 	 * @return Integer value
+	 * @deprecated Use {@link #getSignedInt(int, int)} for any field width.
+	 *             Unlike it, this method takes the sign at fixed width of
+	 *             17 bits regardless of the range.
 	 */
+	@Deprecated
 	public int getAs17BitInt(int from, int to) {
-		int retval = getUInt(from, to);
-		if (retval >= 0x10000)
-	        retval -= 0x20000;
-		return retval;
+		return signed(getUInt(from, to), 17);
 	}
 
 	/**
@@ -131,12 +201,13 @@ public class BitVector {
 	 * @param from Start index
 	 * @param to End index
 	 * @return Integer value
+	 * @deprecated Use {@link #getSignedInt(int, int)} for any field width.
+	 *             Unlike it, this method takes the sign at fixed width of
+	 *             18 bits regardless of the range.
 	 */
+	@Deprecated
 	public int getAs18BitInt(int from, int to) {
-		int retval = getUInt(from, to);
-		if (retval >= 0x20000)
-	        retval -= 0x40000;
-		return retval;
+		return signed(getUInt(from, to), 18);
 	}
 
 	/**
@@ -145,12 +216,13 @@ public class BitVector {
 	 * @param from Start index
 	 * @param to End index
 	 * @return Integer value
+	 * @deprecated Use {@link #getSignedInt(int, int)} for any field width.
+	 *             Unlike it, this method takes the sign at fixed width of
+	 *             27 bits regardless of the range.
 	 */
+	@Deprecated
 	public int getAs27BitInt(int from, int to) {
-		int retval = getUInt(from, to);
-		if (retval >= 0x4000000)
-	        retval -= 0x8000000;
-		return retval;
+		return signed(getUInt(from, to), 27);
 	}
 
 	/**
@@ -159,11 +231,46 @@ public class BitVector {
 	 * @param from Start index
 	 * @param to End index
 	 * @return Integer value
+	 * @deprecated Use {@link #getSignedInt(int, int)} for any field width.
+	 *             Unlike it, this method takes the sign at fixed width of
+	 *             28 bits regardless of the range.
 	 */
+	@Deprecated
 	public int getAs28BitInt(int from, int to) {
-		int retval = getUInt(from, to);
-		if (retval >= 0x8000000)
-	        retval -= 0x10000000;
-		return retval;
+		return signed(getUInt(from, to), 28);
+	}
+
+	/**
+	 * Interprets an unsigned value as two's complement of given width, as
+	 * the deprecated fixed width getters always did.
+	 */
+	private static int signed(int value, int bits) {
+		return value >= 1 << (bits - 1) ? value - (1 << bits) : value;
+	}
+
+	/**
+	 * Returns {@code n} bits starting at given index, right-aligned. The
+	 * field is read from at most two adjacent words; shifting the second word
+	 * in two steps makes it vanish when the field starts at word boundary.
+	 *
+	 * @param index Index of the most significant bit
+	 * @param n Number of bits, 0 to 64
+	 * @return Bits as unsigned value
+	 */
+	private long bits(int index, int n) {
+		if (n <= 0) {
+			return 0;
+		}
+		int word = index >>> 6;
+		int offset = index & 63;
+		long value = (word(word) << offset) | ((word(word + 1) >>> 1) >>> (63 - offset));
+		return value >>> (WORD_BITS - n);
+	}
+
+	/**
+	 * Returns the word at given index, or zero if out of range.
+	 */
+	private long word(int index) {
+		return index < fWords.length ? fWords[index] : 0L;
 	}
 }
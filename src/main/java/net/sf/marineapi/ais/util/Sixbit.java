@@ -32,6 +32,22 @@ public class Sixbit {
 	/** Number of bits per character */
 	public static final int BITS_PER_CHAR = 6;
 
+	// shift that places a char at bit index zero of a word
+	private static final int WORD_SHIFT = Long.SIZE - BITS_PER_CHAR;
+
+	// transport character values indexed by ASCII code, -1 if invalid
+	private static final byte[] TRANSPORT = new byte[128];
+
+	static {
+		for (int c = 0; c < TRANSPORT.length; c++) {
+			if (c < 0x30 || c > 0x77 || (c > 0x57 && c < 0x60)) {
+				TRANSPORT[c] = -1;
+			} else {
+				TRANSPORT[c] = (byte) (c < 0x60 ? c - 0x30 : c - 0x38);
+			}
+		}
+	}
+
 	private final String	fPayload;
 	private BitVector		fBitVector;
 	private final int	    fFillBits; // Number of padding bits at end
@@ -50,28 +66,34 @@ public class Sixbit {
             throw new IllegalArgumentException("Fill bits cannot be negative");
         }
 		fPayload = payload;
-		if (!isValidString(fPayload))
-			throw new IllegalArgumentException("Invalid payload characters");
-
-		fBitVector = new BitVector(fPayload.length() * BITS_PER_CHAR);
-		for (int i = 0; i < fPayload.length(); i++) {
-			char c = fPayload.charAt(i);
-			int b = transportToBinary(c);
-			convert(b, i * BITS_PER_CHAR, BITS_PER_CHAR);
-		}
+		fBitVector = new BitVector(convert(payload));
 		fFillBits = fillBits;
 	}
 
-	private void convert(int value, int from, int length) {
-		int index = from + BITS_PER_CHAR;
-		while (value != 0L && length > 0) {
-			if (value % 2L != 0) {
-				fBitVector.set(index);
+	/**
+	 * Packs the payload characters in bit words, six bits at a time. Bit
+	 * indices start from 1 for compatibility with the field definitions.
+	 */
+	private static long[] convert(String payload) {
+		long[] words = new long[(payload.length() * BITS_PER_CHAR + 1 >>> 6) + 1];
+		int index = 1;
+		for (int i = 0; i < payload.length(); i++) {
+			char c = payload.charAt(i);
+			int value = c < TRANSPORT.length ? TRANSPORT[c] : -1;
+			if (value < 0) {
+				throw new IllegalArgumentException("Invalid payload characters");
 			}
-			index--;
-			value = value >>> 1;
-			length--;
+			int word = index >>> 6;
+			int shift = WORD_SHIFT - (index & 63);
+			if (shift >= 0) {
+				words[word] |= (long) value << shift;
+			} else {
+				words[word] |= (long) value >>> -shift;
+				words[word + 1] |= (long) value << (Long.SIZE + shift);
+			}
+			index += BITS_PER_CHAR;
 		}
+		return words;
 	}
 
 	/**
@@ -85,22 +107,6 @@ public class Sixbit {
 		return fBitVector.get(from, to);
 	}
 
-	private boolean isValidCharacter(char ascii) {
-		return ((ascii >= 0x30) && (ascii <= 0x77)) &&
-				((ascii <= 0x57) || (ascii >= 0x60));
-	}
-
-	private boolean isValidString(String bits) {
-		boolean valid = true;
-		for (int i = 0; i < bits.length(); i++) {
-			if (!isValidCharacter(bits.charAt(i))) {
-				valid = false;
-				break;
-			}
-		}
-		return valid;
-	}
-
 	/**
 	 * Returns the payload length.
 	 *
@@ -110,23 +116,6 @@ public class Sixbit {
 		return fPayload.length() * BITS_PER_CHAR - fFillBits;
 	}
 
-	/**
-	 * Decode a transport character to a binary value.
-	 * 
-	 * @param ascii character to decode
-	 * @return decoded value in 6-bit binary representation
-	 */
-	private int transportToBinary(char ascii) {
-		if (!isValidCharacter(ascii))
-			throw new IllegalArgumentException("Invalid transport character: " + ascii);
-		int retval;
-		if (ascii < 0x60)
-			retval = (ascii - 0x30);
-		else
-			retval = (ascii - 0x38);
-		return retval;
-	}
-
 	/** Decode a binary value to a content character.
 	 * 
 	 * @param value to be decoded
@@ -168,13 +157,27 @@ public class Sixbit {
 		return fBitVector.getUInt(from, to);
 	}
 
+	/**
+	 * Returns the requested bits interpreted as a two's complement signed
+	 * integer (MSB first) of the field width.
+	 *
+	 * @param from begin index (inclusive)
+	 * @param to end index (inclusive)
+	 * @return signed int value
+	 */
+	public int getSignedInt(int from, int to) {
+		return fBitVector.getSignedInt(from, to);
+	}
+
 	/**
 	 * Get 8-bit integer value.
 	 *
 	 * @param from Start index
 	 * @param to End index
 	 * @return Integer value
+	 * @deprecated Use {@link #getSignedInt(int, int)} for any field width.
 	 */
+	@Deprecated
 	public int getAs8BitInt(int from, int to) {
 		return fBitVector.getAs8BitInt(from, to);
 	}
@@ -185,7 +188,9 @@ public class Sixbit {
 	 * @param from Start index
 	 * @param to End index
 	 * @return Integer value
+	 * @deprecated Use {@link #getSignedInt(int, int)} for any field width.
 	 */
+	@Deprecated
 	public int getAs17BitInt(int from, int to) {
 		return fBitVector.getAs17BitInt(from, to);
 	}
@@ -196,7 +201,9 @@ public class Sixbit {
 	 * @param from Start index
 	 * @param to End index
 	 * @return Integer value
+	 * @deprecated Use {@link #getSignedInt(int, int)} for any field width.
 	 */
+	@Deprecated
 	public int getAs18BitInt(int from, int to) {
 		return fBitVector.getAs18BitInt(from, to);
 	}
@@ -207,7 +214,9 @@ public class Sixbit {
 	 * @param from Start index
 	 * @param to End index
 	 * @return Integer value
+	 * @deprecated Use {@link #getSignedInt(int, int)} for any field width.
 	 */
+	@Deprecated
 	public int getAs27BitInt(int from, int to) {
 		return fBitVector.getAs27BitInt(from, to);
 	}
@@ -218,7 +227,9 @@ public class Sixbit {
 	 * @param from Start index
 	 * @param to End index
 	 * @return Integer value
+	 * @deprecated Use {@link #getSignedInt(int, int)} for any field width.
 	 */
+	@Deprecated
 	public int getAs28BitInt(int from, int to) {
 		return fBitVector.getAs28BitInt(from, to);
 	}
@@ -239,6 +250,25 @@ public class Sixbit {
 		return stripAtSigns(sb.toString());
 	}
 
+	/**
+	 * Returns binary data from bit vector, eight bits per byte and the last
+	 * byte padded with zero bits.
+	 *
+	 * @param fromIndex begin index (inclusive)
+	 * @param toIndex end index (inclusive)
+	 * @return Data bytes, empty if the range is empty.
+	 */
+	public byte[] getBytes(int fromIndex, int toIndex) {
+		int length = Math.max(0, toIndex - fromIndex);
+		byte[] bytes = new byte[(length + 7) >>> 3];
+		for (int i = 0; i < bytes.length; i++) {
+			int from = fromIndex + i * 8;
+			int n = Math.min(8, toIndex - from);
+			bytes[i] = (byte) (getInt(from, from + n) << (8 - n));
+		}
+		return bytes;
+	}
+
 	/**
 	 * Strips the @ characters from specified String.
 	 */
@@ -37,6 +37,7 @@ public class SentenceEvent extends EventObject {
 	private static final long serialVersionUID = -2756954014186470514L;
 	private final long timestamp = System.currentTimeMillis();
 	private final Sentence sentence;
+	private final String sourceId;
 
 	/**
 	 * Creates a new SentenceEvent object.
@@ -46,11 +47,25 @@ public class SentenceEvent extends EventObject {
 	 * @throws IllegalArgumentException If specified sentence is {@code null}
 	 */
 	public SentenceEvent(Object src, Sentence s) {
+		this(src, s, null);
+	}
+
+	/**
+	 * Creates a new SentenceEvent object tagged with data source id.
+	 *
+	 * @param src Object that fired the event
+	 * @param s Sentence that triggered the event
+	 * @param sourceId Id of the data source, or {@code null}.
+	 * @throws IllegalArgumentException If specified sentence is {@code null}
+	 * @see net.sf.marineapi.nmea.io.SentenceReaderHub
+	 */
+	public SentenceEvent(Object src, Sentence s, String sourceId) {
 		super(src);
 		if (s == null) {
 			throw new IllegalArgumentException("Sentence cannot be null");
 		}
 		this.sentence = s;
+		this.sourceId = sourceId;
 	}
 
 	/**
@@ -62,6 +77,16 @@ public class SentenceEvent extends EventObject {
 		return sentence;
 	}
 
+	/**
+	 * Returns the id of data source the sentence was read from, when read by
+	 * {@link net.sf.marineapi.nmea.io.SentenceReaderHub}.
+	 *
+	 * @return Source id, or {@code null} if not set.
+	 */
+	public String getSourceId() {
+		return sourceId;
+	}
+
 	/**
 	 * Get system time when this event was created.
 	 * 
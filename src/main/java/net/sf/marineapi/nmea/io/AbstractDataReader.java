@@ -27,6 +27,7 @@ import net.sf.marineapi.nmea.sentence.SentenceValidator;
 
 import java.io.InputStream;
 import java.net.DatagramSocket;
+import java.nio.charset.StandardCharsets;
 import java.util.logging.Logger;
 
 /**
@@ -100,6 +101,17 @@ public abstract class AbstractDataReader implements Runnable {
 		return isRunning;
 	}
 
+	/**
+	 * Tells if this reader runs in a thread of its own, started by the parent
+	 * {@code SentenceReader}. Readers driven by the event loop of
+	 * {@link SentenceReaderHub} return {@code false}.
+	 *
+	 * @return {@code true} by default.
+	 */
+	boolean isThreaded() {
+		return true;
+	}
+
 	/**
 	 * Read one NMEA-0183 sentence and return it.
 	 *
@@ -116,22 +128,16 @@ public abstract class AbstractDataReader implements Runnable {
 	public void run() {
 
 		ActivityMonitor monitor = new ActivityMonitor(parent);
-		SentenceFactory factory = SentenceFactory.getInstance();
 
 		while (isRunning) {
 			try {
 				String data = read();
 				if (data == null) {
 					Thread.sleep(SLEEP_TIME);
-				} else if (SentenceValidator.isValid(data)) {
-					monitor.refresh();
-					Sentence s = factory.createParser(data);
-					parent.fireSentenceEvent(s);
-				} else if (!SentenceValidator.isSentence(data)) {
-					parent.fireDataEvent(data);
+				} else {
+					byte[] line = data.getBytes(StandardCharsets.ISO_8859_1);
+					dispatch(line, data, monitor);
 				}
-			} catch (UnsupportedSentenceException use) {
-				LOGGER.warning(use.getMessage());
 			} catch (Exception e) {
 				parent.handleException("Data read failed", e);
 				try {
@@ -145,6 +151,54 @@ public abstract class AbstractDataReader implements Runnable {
 		parent.fireReadingStopped();
 	}
 
+	/**
+	 * Parses and dispatches a single line of ASCII bytes to the parent reader.
+	 * Non-NMEA data is decoded to String only if a DataListener is set.
+	 *
+	 * @param line Line bytes without terminator
+	 * @param monitor Activity monitor to refresh on valid sentences
+	 */
+	void dispatch(byte[] line, ActivityMonitor monitor) {
+		dispatch(line, null, monitor);
+	}
+
+	/**
+	 * Parses and dispatches a single line. The sentence is validated only by
+	 * the parser, while locating the fields; lines it rejects are inspected
+	 * again to tell invalid sentences from other data.
+	 *
+	 * @param line Line bytes without terminator
+	 * @param text Line as String, or {@code null} to decode when needed
+	 * @param monitor Activity monitor to refresh on valid sentences
+	 */
+	private void dispatch(byte[] line, String text, ActivityMonitor monitor) {
+		Sentence s;
+		try {
+			s = SentenceFactory.getInstance().createParser(line, 0, line.length);
+		} catch (UnsupportedSentenceException use) {
+			if (SentenceValidator.isValid(line, 0, line.length)) {
+				monitor.refresh();
+				LOGGER.warning(use.getMessage());
+			}
+			return;
+		} catch (Exception e) {
+			if (SentenceValidator.isValid(line, 0, line.length)) {
+				parent.handleException("Data parsing failed", e);
+			} else if (parent.hasDataListener()
+				&& !SentenceValidator.isSentence(line, 0, line.length)) {
+				parent.fireDataEvent(text != null ? text
+					: new String(line, StandardCharsets.US_ASCII));
+			}
+			return;
+		}
+		try {
+			monitor.refresh();
+			parent.fireSentenceEvent(s);
+		} catch (Exception e) {
+			parent.handleException("Data parsing failed", e);
+		}
+	}
+
 	/**
 	 * Stops the reader permanently.
 	 */
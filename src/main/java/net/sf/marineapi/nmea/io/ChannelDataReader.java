@@ -0,0 +1,208 @@
+/*
+ * ChannelDataReader.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+
+
+/**
+ * DataReader implementation using {@link ReadableByteChannel} as data source,
+ * e.g. a {@code SocketChannel}, {@code Pipe.SourceChannel} or
+ * {@code FileChannel}.
+ * <p>
+ * Data is read into a reusable direct buffer and split into lines at CR/LF
+ * without charset decoding. Each line is copied into its own byte array that
+ * is handed to {@link SentenceFactory#createParser(byte[], int, int)}, so no
+ * Strings are created for sentences. Non-NMEA lines are decoded only when a
+ * {@link DataListener} is set.
+ * <p>
+ * Blocking channels are read with blocking reads. Channels in non-blocking
+ * mode are waited on with a {@link Selector}, waking up at least once per
+ * pause timeout to fire the reading paused event. Reading ends when the
+ * channel reaches end-of-stream or the reader is stopped; a blocking read is
+ * interrupted only by data or by closing the channel.
+ *
+ * @author Berserkr LLC
+ */
+class ChannelDataReader extends AbstractDataReader {
+
+	/** Default buffer size, fits dozens of maximum length sentences. */
+	static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final Logger LOGGER = Logger.getLogger(ChannelDataReader.class.getName());
+
+	private final ReadableByteChannel channel;
+	private final LineFramer framer;
+	private Selector selector;
+
+	/**
+	 * Creates a new instance of ChannelDataReader with default buffer size.
+	 *
+	 * @param channel Channel to be used as data source.
+	 * @param parent SentenceReader dispatching events for this reader.
+	 */
+	ChannelDataReader(ReadableByteChannel channel, SentenceReader parent) {
+		this(channel, parent, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a new instance of ChannelDataReader.
+	 *
+	 * @param channel Channel to be used as data source.
+	 * @param parent SentenceReader dispatching events for this reader.
+	 * @param bufferSize Read buffer size in bytes, also the maximum line length.
+	 * @throws IllegalArgumentException If channel is {@code null} or buffer
+	 *             size is less than 128 bytes.
+	 */
+	ChannelDataReader(ReadableByteChannel channel, SentenceReader parent, int bufferSize) {
+		super(parent);
+		if (channel == null) {
+			throw new IllegalArgumentException("Channel cannot be null");
+		}
+		if (bufferSize < 128) {
+			throw new IllegalArgumentException("Buffer size must be at least 128 bytes");
+		}
+		this.channel = channel;
+		this.framer = new LineFramer(bufferSize);
+	}
+
+	/**
+	 * Reads the next line from channel. Only used when the reader is driven
+	 * by other means than {@link #run()}, as the run loop dispatches byte
+	 * slices without String conversion.
+	 *
+	 * @return Line String without terminator, or {@code null} if channel
+	 *         has no complete line available.
+	 * @throws IOException On read failure.
+	 */
+	@Override
+	public String read() throws IOException {
+		byte[] line = framer.next();
+		if (line == null && fill() > 0) {
+			line = framer.next();
+		}
+		return line == null ? null : new String(line, StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Reads the channel until stopped or end-of-stream is reached, dispatching
+	 * each framed line to the parent reader.
+	 */
+	@Override
+	public void run() {
+
+		SentenceReader parent = getParent();
+		ActivityMonitor monitor = new ActivityMonitor(parent);
+
+		try {
+			while (isRunning()) {
+				try {
+					if (fill() < 0) {
+						byte[] last = framer.rest();
+						if (last != null) {
+							dispatch(last, monitor);
+						}
+						break;
+					}
+					byte[] line;
+					while ((line = framer.next()) != null) {
+						dispatch(line, monitor);
+					}
+				} catch (IOException e) {
+					if (!channel.isOpen()) {
+						break;
+					}
+					parent.handleException("Data read failed", e);
+				} finally {
+					monitor.tick();
+				}
+			}
+		} finally {
+			closeSelector();
+			monitor.reset();
+			parent.fireReadingStopped();
+		}
+	}
+
+	/**
+	 * Stops the reader permanently, waking up a pending selector wait.
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		Selector s = selector;
+		if (s != null) {
+			s.wakeup();
+		}
+	}
+
+	/**
+	 * Reads more data from channel into buffer, waiting on selector if the
+	 * channel is non-blocking.
+	 *
+	 * @return Number of bytes read, or -1 on end-of-stream.
+	 */
+	private int fill() throws IOException {
+		ByteBuffer buffer = framer.writable();
+		if (channel instanceof SelectableChannel
+			&& !((SelectableChannel) channel).isBlocking()) {
+			int n = channel.read(buffer);
+			if (n != 0) {
+				return n;
+			}
+			select((SelectableChannel) channel);
+		}
+		return channel.read(buffer);
+	}
+
+	/**
+	 * Waits until channel is readable, reader is stopped or pause timeout
+	 * elapses.
+	 */
+	private void select(SelectableChannel ch) throws IOException {
+		if (selector == null) {
+			selector = Selector.open();
+			ch.register(selector, SelectionKey.OP_READ);
+		}
+		selector.select(Math.max(1, getParent().getPauseTimeout()));
+		selector.selectedKeys().clear();
+	}
+
+	private void closeSelector() {
+		if (selector != null) {
+			try {
+				selector.close();
+			} catch (IOException e) {
+				LOGGER.fine(e.getMessage());
+			}
+			selector = null;
+		}
+	}
+}
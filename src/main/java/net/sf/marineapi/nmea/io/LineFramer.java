@@ -0,0 +1,135 @@
+/*
+ * LineFramer.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.nio.ByteBuffer;
+import java.util.logging.Logger;
+
+/**
+ * Splits bytes read into a buffer to CR/LF terminated lines, without charset
+ * decoding. The buffer is filled in write mode through {@link #writable()}
+ * and lines are taken out with {@link #next()}; partial lines are retained
+ * for the next fill.
+ *
+ * @author Berserkr LLC
+ */
+class LineFramer {
+
+	private static final Logger LOGGER = Logger.getLogger(LineFramer.class.getName());
+
+	private static final byte CR = '\r';
+	private static final byte LF = '\n';
+
+	private final ByteBuffer buffer;
+
+	// index of first unconsumed byte in buffer, data ends at buffer position
+	private int head;
+
+	/**
+	 * Creates a new framer over a direct buffer of given size.
+	 *
+	 * @param size Buffer size in bytes, also the maximum line length.
+	 */
+	LineFramer(int size) {
+		this(ByteBuffer.allocateDirect(size));
+	}
+
+	/**
+	 * Creates a new framer over given buffer.
+	 *
+	 * @param buffer Buffer to use, contents are discarded.
+	 */
+	LineFramer(ByteBuffer buffer) {
+		this.buffer = buffer;
+		buffer.clear();
+	}
+
+	/**
+	 * Discards consumed data and returns the buffer for writing more data at
+	 * its position. If the buffer is full of data without line terminators,
+	 * the data is discarded.
+	 *
+	 * @return Buffer in write mode.
+	 */
+	ByteBuffer writable() {
+		if (head > 0) {
+			buffer.flip();
+			buffer.position(head);
+			buffer.compact();
+			head = 0;
+		}
+		if (!buffer.hasRemaining()) {
+			// line exceeds buffer, drop it and resync on next terminator
+			LOGGER.warning("Discarding " + buffer.position() + " bytes without line terminator");
+			buffer.clear();
+		}
+		return buffer;
+	}
+
+	/**
+	 * Returns the next complete line in buffer, or {@code null} if the
+	 * remaining data contains no line terminator. Empty lines are skipped.
+	 *
+	 * @return Line bytes without terminator, or {@code null}.
+	 */
+	byte[] next() {
+		int end = buffer.position();
+		for (int i = head; i < end; i++) {
+			byte b = buffer.get(i);
+			if (b == CR || b == LF) {
+				if (i == head) {
+					head++;
+					continue;
+				}
+				byte[] line = new byte[i - head];
+				buffer.get(head, line);
+				head = i + 1;
+				return line;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the unterminated data left in buffer and consumes it, e.g. on
+	 * end-of-stream or at the end of datagram.
+	 *
+	 * @return Remaining bytes, or {@code null} if none.
+	 */
+	byte[] rest() {
+		int end = buffer.position();
+		if (head >= end) {
+			return null;
+		}
+		byte[] rest = new byte[end - head];
+		buffer.get(head, rest);
+		head = end;
+		return rest;
+	}
+
+	/**
+	 * Discards all data in buffer.
+	 */
+	void clear() {
+		buffer.clear();
+		head = 0;
+	}
+}
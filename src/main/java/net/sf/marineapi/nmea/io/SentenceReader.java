@@ -22,13 +22,22 @@ package net.sf.marineapi.nmea.io;
 
 import java.io.InputStream;
 import java.net.DatagramSocket;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -57,6 +66,9 @@ public class SentenceReader {
 	/** Default timeout value in milliseconds. */
 	public static final int DEFAULT_TIMEOUT = 5000;
 
+	/** Default max number of pending events per listener. */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
 	// Map key for listeners that listen any kind of sentences, type
 	// specific listeners are registered with sentence type String
 	private static final String DISPATCH_ALL = "DISPATCH_ALL";
@@ -71,12 +83,35 @@ public class SentenceReader {
 	// worker that reads the data source (input stream, socket etc)
 	private AbstractDataReader reader;
 
-	// map of sentence listeners
-	private ConcurrentMap<String, List<SentenceListener>> listeners = new ConcurrentHashMap<>();
+	// registered sentence listeners by sentence type, guarded by itself
+	private final Map<String, List<SentenceListener>> listeners = new HashMap<>();
+
+	// immutable dispatch table, rebuilt and swapped on each registry change
+	private volatile Listeners dispatchTable = Listeners.EMPTY;
 
 	// timeout for "reading paused" in ms
 	private volatile int pauseTimeout = DEFAULT_TIMEOUT;
 
+	// id of data source when managed by SentenceReaderHub
+	private volatile String sourceId;
+
+	// creates the thread for running the worker
+	private volatile ThreadFactory threadFactory = Thread::new;
+
+	// executor for listener notifications, null for synchronous dispatch
+	private volatile Executor listenerExecutor;
+
+	// per-listener serial executors preserving the order of events, kept
+	// while the listener is registered so that it is never notified by two
+	// strands at once
+	private final ConcurrentMap<SentenceListener, SerialExecutor> strands = new ConcurrentHashMap<>();
+
+	// max number of pending events per listener
+	private volatile int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	// events dropped due to full listener queues
+	private final LongAdder droppedEvents = new LongAdder();
+
 	// Non-NMEA data listener
 	private DataListener dataListener;
 
@@ -101,6 +136,41 @@ public class SentenceReader {
 		reader = new DefaultDataReader(source, this);
 	}
 
+	/**
+	 * Creates a new instance of SentenceReader for NIO channel, e.g. a
+	 * {@code SocketChannel}. Lines are framed directly from a byte buffer
+	 * without charset decoding or sleep-polling; channels in non-blocking
+	 * mode are read using a selector.
+	 *
+	 * @param source Channel from which to read NMEA data
+	 */
+	public SentenceReader(ReadableByteChannel source) {
+		reader = new ChannelDataReader(source, this);
+	}
+
+	/**
+	 * Creates a SentenceReader for UDP/DatagramChannel. The channel is
+	 * switched to non-blocking mode, and all pending datagrams are received
+	 * into a reusable buffer on each wake-up.
+	 *
+	 * @param source Channel from which to read NMEA data
+	 */
+	public SentenceReader(DatagramChannel source) {
+		reader = new UDPChannelDataReader(source, this);
+	}
+
+	/**
+	 * Creates a SentenceReader for UDP/DatagramChannel with given receive
+	 * buffer size. The default size fits the largest possible datagram.
+	 *
+	 * @param source Channel from which to read NMEA data
+	 * @param bufferSize Receive buffer size in bytes
+	 * @see #SentenceReader(DatagramChannel)
+	 */
+	public SentenceReader(DatagramChannel source, int bufferSize) {
+		reader = new UDPChannelDataReader(source, this, bufferSize);
+	}
+
     /**
      * Creates a new instance of SentenceReader with custom data reader.
      *
@@ -162,16 +232,22 @@ public class SentenceReader {
 		}
 	}
 	
+	/**
+	 * Tells if a DataListener is set, allowing readers to skip decoding
+	 * non-NMEA data nobody listens to.
+	 *
+	 * @return {@code true} if listener is set, otherwise {@code false}.
+	 */
+	boolean hasDataListener() {
+		return dataListener != null;
+	}
+
 	/**
 	 * Notifies all listeners that reader has paused due to timeout.
 	 */
 	void fireReadingPaused() {
-		for (SentenceListener listener : getSentenceListeners()) {
-			try {
-				listener.readingPaused();
-			} catch (Exception e) {
-				LOGGER.log(Level.WARNING, LOG_MSG, e);
-			}
+		for (SentenceListener listener : dispatchTable.all) {
+			dispatch(listener, SentenceListener::readingPaused, true);
 		}
 	}
 
@@ -180,12 +256,8 @@ public class SentenceReader {
 	 * events will be dispatched until stopped or timeout occurs.
 	 */
 	void fireReadingStarted() {
-		for (SentenceListener listener : getSentenceListeners()) {
-			try {
-				listener.readingStarted();
-			} catch (Exception e) {
-				LOGGER.log(Level.WARNING, LOG_MSG, e);
-			}
+		for (SentenceListener listener : dispatchTable.all) {
+			dispatch(listener, SentenceListener::readingStarted, true);
 		}
 	}
 
@@ -193,41 +265,70 @@ public class SentenceReader {
 	 * Notifies all listeners that data reading has stopped.
 	 */
 	void fireReadingStopped() {
-		for (SentenceListener listener : getSentenceListeners()) {
-			try {
-				listener.readingStopped();
-			} catch (Exception e) {
-				LOGGER.log(Level.WARNING, LOG_MSG, e);
-			}
+		for (SentenceListener listener : dispatchTable.all) {
+			dispatch(listener, SentenceListener::readingStopped, true);
 		}
 	}
 
 	/**
-	 * Dispatch data to all listeners.
+	 * Dispatch data to all listeners. Called by the data reader for each
+	 * sentence read, and may be called to inject sentences from other
+	 * sources, such as a NMEA 2000 gateway. Without a listener executor,
+	 * listeners are called on the calling thread.
 	 *
 	 * @param sentence sentence string.
 	 */
-	void fireSentenceEvent(Sentence sentence) {
+	public void fireSentenceEvent(Sentence sentence) {
 
-		String type = sentence.getSentenceId();
-		Set<SentenceListener> targets = new HashSet<>();
-
-		if (listeners.containsKey(type)) {
-			targets.addAll(listeners.get(type));
-		}
-		if (listeners.containsKey(DISPATCH_ALL)) {
-			targets.addAll(listeners.get(DISPATCH_ALL));
+		SentenceListener[] targets = dispatchTable.get(sentence.getSentenceId());
+		if (targets.length == 0) {
+			return;
 		}
 
+		SentenceEvent se = new SentenceEvent(this, sentence, sourceId);
+		Executor executor = listenerExecutor;
+
 		for (SentenceListener listener : targets) {
-			try {
-				SentenceEvent se = new SentenceEvent(this, sentence);
-				listener.sentenceRead(se);
-			} catch (Exception e) {
-				LOGGER.log(Level.WARNING, LOG_MSG, e);
+			if (executor == null && strands.isEmpty()) {
+				try {
+					listener.sentenceRead(se);
+				} catch (Exception e) {
+					LOGGER.log(Level.WARNING, LOG_MSG, e);
+				}
+			} else {
+				dispatch(listener, l -> l.sentenceRead(se), false);
 			}
 		}
 	}
+
+	/**
+	 * Notifies the listener directly, or using its serial executor if
+	 * listener executor is set or has been used for the listener. Sentence
+	 * events that do not fit in the listener queue are dropped and counted,
+	 * while lifecycle events are always queued.
+	 */
+	private void dispatch(SentenceListener listener, Consumer<SentenceListener> call,
+		boolean lifecycle) {
+		SerialExecutor strand = listenerExecutor == null
+			? strands.get(listener)
+			: strands.computeIfAbsent(listener,
+				l -> new SerialExecutor(() -> listenerExecutor, queueCapacity));
+		if (strand == null) {
+			notify(listener, call);
+		} else if (lifecycle) {
+			strand.submit(() -> notify(listener, call));
+		} else if (!strand.offer(() -> notify(listener, call))) {
+			droppedEvents.increment();
+		}
+	}
+
+	private static void notify(SentenceListener listener, Consumer<SentenceListener> call) {
+		try {
+			call.accept(listener);
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, LOG_MSG, e);
+		}
+	}
 	
 	/**
 	 * Returns the exception call-back listener.
@@ -248,17 +349,32 @@ public class SentenceReader {
 		return this.pauseTimeout;
 	}
 
+	/**
+	 * Returns the id of data source, when reader is managed by
+	 * {@link SentenceReaderHub}.
+	 *
+	 * @return Source id, or {@code null} if not set.
+	 */
+	public String getSourceId() {
+		return sourceId;
+	}
+
+	/**
+	 * Sets the data source id to tag sentence events with.
+	 *
+	 * @param id Id to set
+	 */
+	void setSourceId(String id) {
+		this.sourceId = id;
+	}
+
 	/**
 	 * Returns all currently registered SentenceListeners.
 	 * 
 	 * @return List of SentenceListeners or empty list.
 	 */
 	List<SentenceListener> getSentenceListeners() {
-		Set<SentenceListener> all = new HashSet<>();
-		for (List<SentenceListener> sl : listeners.values()) {
-			all.addAll(sl);
-		}
-		return new ArrayList<>(all);
+		return new ArrayList<>(Arrays.asList(dispatchTable.all));
 	}
 
 	/**
@@ -287,23 +403,25 @@ public class SentenceReader {
 	 * @param type Sentence type to register for
 	 */
 	private void registerListener(SentenceListener listener, String type) {
-		if (listeners.containsKey(type)) {
-			listeners.get(type).add(listener);
-		} else {
-			List<SentenceListener> list = new Vector<>();
-			list.add(listener);
-			listeners.put(type, list);
+		synchronized (listeners) {
+			listeners.computeIfAbsent(type, t -> new ArrayList<>()).add(listener);
+			dispatchTable = new Listeners(listeners);
 		}
 	}
 
 	/**
 	 * Removes the specified sentence listener regardless of sentence type(s)
-	 * it was added for.
+	 * it was added for. Events already queued for the listener are still
+	 * delivered.
 	 *
 	 * @param listener {@link SentenceListener} to be removed.
 	 */
 	public void removeSentenceListener(SentenceListener listener) {
-		listeners.values().forEach(v -> v.remove(listener));
+		synchronized (listeners) {
+			listeners.values().forEach(v -> v.remove(listener));
+			dispatchTable = new Listeners(listeners);
+			strands.remove(listener);
+		}
 	}
 
 
@@ -325,7 +443,15 @@ public class SentenceReader {
 	 * @see #removeSentenceListener(SentenceListener, SentenceId)
 	 */
 	public void removeSentenceListener(SentenceListener listener, String type) {
-		listeners.getOrDefault(type, new ArrayList<>()).remove(listener);
+		synchronized (listeners) {
+			List<SentenceListener> list = listeners.get(type);
+			if (list != null && list.remove(listener)) {
+				dispatchTable = new Listeners(listeners);
+				if (listeners.values().stream().noneMatch(v -> v.contains(listener))) {
+					strands.remove(listener);
+				}
+			}
+		}
 	}
 
 	/**
@@ -341,6 +467,19 @@ public class SentenceReader {
 		reader = new UDPDataReader(socket, this);
 	}
 	
+	/**
+	 * Sets the channel to be used as data source. If reader is running, it is
+	 * first stopped and you must call {@link #start()} to resume reading.
+	 *
+	 * @param channel Channel to set.
+	 */
+	public void setChannel(ReadableByteChannel channel) {
+		if (reader.isRunning()) {
+			stop();
+		}
+		reader = new ChannelDataReader(channel, this);
+	}
+
 	/**
 	 * Set listener for any data that is not recognized as NMEA 0183. 
 	 * devices and environments that produce mixed content with both NMEA and
@@ -374,6 +513,65 @@ public class SentenceReader {
 		reader = new DefaultDataReader(stream, this);
 	}
 
+	/**
+	 * Sets the executor for notifying listeners, e.g.
+	 * {@link VirtualThreads#newThreadPerTaskExecutor()}, so that slow
+	 * listeners do not stall reading. Each listener receives its events in
+	 * the order they were read, one at a time, while different listeners are
+	 * notified concurrently. By default listeners are notified synchronously
+	 * in the reader thread.
+	 * <p>
+	 * Pending events are queued per listener up to the capacity set with
+	 * {@link #setListenerQueueCapacity(int)}. When a listener falls that far
+	 * behind, new events for it are dropped and counted in {@link
+	 * #getDroppedEventCount()}, so that reading is never blocked and memory
+	 * use stays bounded. Events already queued are delivered in order even
+	 * if the executor is changed or reset to {@code null}.
+	 *
+	 * @param executor Executor to set, or {@code null} for synchronous
+	 *            dispatch.
+	 */
+	public void setListenerExecutor(Executor executor) {
+		this.listenerExecutor = executor;
+	}
+
+	/**
+	 * Sets the max number of events queued for each listener when using a
+	 * listener executor. Affects only the listeners that have not yet been
+	 * notified asynchronously. Default is {@link #DEFAULT_QUEUE_CAPACITY}.
+	 *
+	 * @param capacity Queue capacity, must be greater than zero.
+	 * @see #setListenerExecutor(Executor)
+	 */
+	public void setListenerQueueCapacity(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be greater than zero");
+		}
+		this.queueCapacity = capacity;
+	}
+
+	/**
+	 * Returns the number of events dropped because a listener queue was
+	 * full.
+	 *
+	 * @return Number of dropped events
+	 * @see #setListenerExecutor(Executor)
+	 */
+	public long getDroppedEventCount() {
+		return droppedEvents.sum();
+	}
+
+	/**
+	 * Sets the factory for creating the reader thread in {@link #start()},
+	 * e.g. {@link VirtualThreads#factory()} to run readers in virtual
+	 * threads. By default, a new platform thread is created.
+	 *
+	 * @param factory ThreadFactory to set, or {@code null} to reset.
+	 */
+	public void setThreadFactory(ThreadFactory factory) {
+		this.threadFactory = factory == null ? Thread::new : factory;
+	}
+
 	/**
 	 * Set timeout time for reading paused events. Default is 5000 ms.
 	 *
@@ -386,14 +584,18 @@ public class SentenceReader {
 	/**
 	 * Starts reading the input stream and dispatching events.
 	 *
-	 * @throws IllegalStateException If reader is already running.
+	 * @throws IllegalStateException If reader is already running, or if it
+	 *             is driven by {@link SentenceReaderHub}.
 	 */
 	public void start() {
+		if (!reader.isThreaded()) {
+			throw new IllegalStateException("Reader is started by SentenceReaderHub");
+		}
 		if (thread != null && thread.isAlive() && reader != null
 			&& reader.isRunning()) {
 			throw new IllegalStateException("Reader is already running");
 		}
-		thread = new Thread(reader);
+		thread = threadFactory.newThread(reader);
 		thread.start();
 	}
 	
@@ -405,4 +607,47 @@ public class SentenceReader {
 			reader.stop();
 		}
 	}
+
+	/**
+	 * Immutable snapshot of registered listeners, with the listeners of each
+	 * sentence type merged with the listeners of all sentences.
+	 */
+	private static final class Listeners {
+
+		private static final SentenceListener[] NONE = new SentenceListener[0];
+
+		static final Listeners EMPTY = new Listeners(Collections.emptyMap());
+
+		// listeners of all sentences, for types without specific listeners
+		final SentenceListener[] any;
+
+		// all registered listeners, for lifecycle events
+		final SentenceListener[] all;
+
+		private final Map<String, SentenceListener[]> byType = new HashMap<>();
+
+		Listeners(Map<String, List<SentenceListener>> registered) {
+			Set<SentenceListener> anySet = new LinkedHashSet<>(
+				registered.getOrDefault(DISPATCH_ALL, Collections.emptyList()));
+			Set<SentenceListener> allSet = new LinkedHashSet<>();
+			for (Map.Entry<String, List<SentenceListener>> e : registered.entrySet()) {
+				allSet.addAll(e.getValue());
+				if (!DISPATCH_ALL.equals(e.getKey()) && !e.getValue().isEmpty()) {
+					Set<SentenceListener> targets = new LinkedHashSet<>(e.getValue());
+					targets.addAll(anySet);
+					byType.put(e.getKey(), targets.toArray(NONE));
+				}
+			}
+			any = anySet.toArray(NONE);
+			all = allSet.toArray(NONE);
+		}
+
+		/**
+		 * Returns the listeners of given sentence type.
+		 */
+		SentenceListener[] get(String type) {
+			SentenceListener[] targets = byType.get(type);
+			return targets != null ? targets : any;
+		}
+	}
 }
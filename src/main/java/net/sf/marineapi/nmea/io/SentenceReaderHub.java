@@ -0,0 +1,646 @@
+/*
+ * SentenceReaderHub.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+
+/**
+ * Reads NMEA data from many TCP and UDP sources using a small, fixed number
+ * of event loop threads, each multiplexing its share of the sources over a
+ * {@link Selector}.
+ * <p>
+ * Each source is represented by a {@link SentenceReader} returned by
+ * {@link #addSource(String, SocketChannel)} or
+ * {@link #addSource(String, DatagramChannel)}. It can be used to register
+ * listeners for that source only, and it monitors its own activity; reading
+ * started, paused and stopped events are fired per source. Listeners
+ * registered on the hub receive events from all sources. Sentence events are
+ * tagged with the source id, see {@link
+ * net.sf.marineapi.nmea.event.SentenceEvent#getSourceId()}.
+ * <p>
+ * Listeners are called on the event loop thread that reads the source, so
+ * they should return quickly to avoid delaying the other sources of the same
+ * loop, unless a listener executor is set. Channels are not closed by the
+ * hub.
+ *
+ * @author Berserkr LLC
+ * @see SentenceReader
+ */
+public class SentenceReaderHub {
+
+	/** Interval of checking the sources for reading paused timeouts, in ms. */
+	static final int TICK_INTERVAL = 100;
+
+	// max number of reads per source on single wake-up, for fairness
+	private static final int MAX_READS = 16;
+
+	// enough for any UDP datagram
+	private static final int DATAGRAM_BUFFER_SIZE = 65536;
+
+	private static final Logger LOGGER = Logger.getLogger(SentenceReaderHub.class.getName());
+
+	private final EventLoop[] loops;
+	private final ConcurrentMap<String, Source> sources = new ConcurrentHashMap<>();
+	private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+	private final AtomicInteger nextLoop = new AtomicInteger();
+	private volatile int pauseTimeout = SentenceReader.DEFAULT_TIMEOUT;
+	private final ThreadFactory threadFactory;
+	private volatile ExceptionListener exceptionListener;
+	private volatile Executor listenerExecutor;
+	private volatile boolean started;
+	private volatile boolean stopped;
+
+	/**
+	 * Creates a new hub with single event loop thread.
+	 *
+	 * @throws IOException If selector cannot be opened.
+	 */
+	public SentenceReaderHub() throws IOException {
+		this(1);
+	}
+
+	/**
+	 * Creates a new hub with given number of event loop threads.
+	 *
+	 * @param threads Number of event loop threads.
+	 * @throws IllegalArgumentException If number of threads is less than one.
+	 * @throws IOException If selector cannot be opened.
+	 */
+	public SentenceReaderHub(int threads) throws IOException {
+		this(threads, Thread::new);
+	}
+
+	/**
+	 * Creates a new hub with given number of event loop threads, created
+	 * with given factory.
+	 *
+	 * @param threads Number of event loop threads.
+	 * @param factory Factory for creating the event loop threads.
+	 * @throws IllegalArgumentException If number of threads is less than one
+	 *             or factory is {@code null}.
+	 * @throws IOException If selector cannot be opened.
+	 */
+	public SentenceReaderHub(int threads, ThreadFactory factory) throws IOException {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Number of threads must be at least one");
+		}
+		if (factory == null) {
+			throw new IllegalArgumentException("Thread factory cannot be null");
+		}
+		threadFactory = factory;
+		loops = new EventLoop[threads];
+		for (int i = 0; i < threads; i++) {
+			loops[i] = new EventLoop(Selector.open());
+		}
+	}
+
+	/**
+	 * Adds a TCP source. The channel is switched to non-blocking mode.
+	 *
+	 * @param id Unique source id to tag sentence events with
+	 * @param channel Connected socket channel to read
+	 * @return SentenceReader representing the source.
+	 * @throws IllegalArgumentException If id or channel is {@code null}, or
+	 *             if a source with given id already exists.
+	 * @throws IllegalStateException If hub has been stopped.
+	 * @throws IOException If channel mode cannot be changed.
+	 */
+	public SentenceReader addSource(String id, SocketChannel channel) throws IOException {
+		return add(id, channel, false);
+	}
+
+	/**
+	 * Adds a UDP source. The channel is switched to non-blocking mode. Each
+	 * datagram may contain one or more sentences.
+	 *
+	 * @param id Unique source id to tag sentence events with
+	 * @param channel Bound datagram channel to read
+	 * @return SentenceReader representing the source.
+	 * @throws IllegalArgumentException If id or channel is {@code null}, or
+	 *             if a source with given id already exists.
+	 * @throws IllegalStateException If hub has been stopped.
+	 * @throws IOException If channel mode cannot be changed.
+	 */
+	public SentenceReader addSource(String id, DatagramChannel channel) throws IOException {
+		return add(id, channel, true);
+	}
+
+	private SentenceReader add(String id, SelectableChannel channel, boolean datagram)
+		throws IOException {
+
+		if (id == null || channel == null) {
+			throw new IllegalArgumentException("Source id and channel cannot be null");
+		}
+		if (stopped) {
+			throw new IllegalStateException("Hub has been stopped");
+		}
+
+		EventLoop loop = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+		Source source = new Source(id, channel, datagram, loop);
+		SentenceReader reader = new SentenceReader(source);
+		reader.setSourceId(id);
+		reader.setPauseTimeout(pauseTimeout);
+		reader.setExceptionListener(exceptionListener);
+		reader.setListenerExecutor(listenerExecutor);
+
+		// registrations are copied and the source published atomically, so
+		// that concurrently added hub listeners reach the new source
+		synchronized (registrations) {
+			if (sources.containsKey(id)) {
+				throw new IllegalArgumentException("Source already exists: " + id);
+			}
+			channel.configureBlocking(false);
+			for (Registration r : registrations) {
+				r.register(reader);
+			}
+			sources.put(id, source);
+		}
+		loop.add(source);
+		return reader;
+	}
+
+	/**
+	 * Returns the reader of given source.
+	 *
+	 * @param id Source id
+	 * @return SentenceReader or {@code null} if no such source.
+	 */
+	public SentenceReader getSource(String id) {
+		Source source = sources.get(id);
+		return source == null ? null : source.getParent();
+	}
+
+	/**
+	 * Returns the ids of current sources.
+	 *
+	 * @return Unmodifiable set of source ids.
+	 */
+	public Set<String> getSourceIds() {
+		return Collections.unmodifiableSet(sources.keySet());
+	}
+
+	/**
+	 * Removes and stops reading given source. Same as calling
+	 * {@link SentenceReader#stop()} on the source reader.
+	 *
+	 * @param id Id of source to remove
+	 */
+	public void removeSource(String id) {
+		Source source = sources.get(id);
+		if (source != null) {
+			source.stop();
+		}
+	}
+
+	/**
+	 * Adds a listener to receive all sentences from all sources.
+	 *
+	 * @param listener Listener to add
+	 */
+	public void addSentenceListener(SentenceListener listener) {
+		addRegistration(new Registration(listener, null));
+	}
+
+	/**
+	 * Adds a listener to receive sentences of given type from all sources.
+	 *
+	 * @param listener Listener to add
+	 * @param type Sentence type to listen
+	 */
+	public void addSentenceListener(SentenceListener listener, SentenceId type) {
+		addSentenceListener(listener, type.toString());
+	}
+
+	/**
+	 * Adds a listener to receive sentences of given type from all sources.
+	 *
+	 * @param listener Listener to add
+	 * @param type Sentence type to listen
+	 */
+	public void addSentenceListener(SentenceListener listener, String type) {
+		addRegistration(new Registration(listener, type));
+	}
+
+	private void addRegistration(Registration r) {
+		synchronized (registrations) {
+			registrations.add(r);
+			for (Source source : sources.values()) {
+				r.register(source.getParent());
+			}
+		}
+	}
+
+	/**
+	 * Removes a listener added with any of the {@code addSentenceListener}
+	 * methods of hub.
+	 *
+	 * @param listener Listener to remove
+	 */
+	public void removeSentenceListener(SentenceListener listener) {
+		synchronized (registrations) {
+			registrations.removeIf(r -> r.listener == listener);
+			for (Source source : sources.values()) {
+				source.getParent().removeSentenceListener(listener);
+			}
+		}
+	}
+
+	/**
+	 * Sets the exception listener of all current and future sources.
+	 *
+	 * @param listener Listener to set, or {@code null} to reset.
+	 */
+	public void setExceptionListener(ExceptionListener listener) {
+		this.exceptionListener = listener;
+		for (Source source : sources.values()) {
+			source.getParent().setExceptionListener(listener);
+		}
+	}
+
+	/**
+	 * Sets the listener executor of all current and future sources, see
+	 * {@link SentenceReader#setListenerExecutor(Executor)}. Recommended when
+	 * listeners may block, as they otherwise delay the event loop.
+	 *
+	 * @param executor Executor to set, or {@code null} for synchronous
+	 *            dispatch.
+	 */
+	public void setListenerExecutor(Executor executor) {
+		this.listenerExecutor = executor;
+		for (Source source : sources.values()) {
+			source.getParent().setListenerExecutor(executor);
+		}
+	}
+
+	/**
+	 * Sets the reading paused timeout of all current and future sources.
+	 * Default is {@link SentenceReader#DEFAULT_TIMEOUT}.
+	 *
+	 * @param millis Timeout in milliseconds.
+	 */
+	public void setPauseTimeout(int millis) {
+		this.pauseTimeout = millis;
+		for (Source source : sources.values()) {
+			source.getParent().setPauseTimeout(millis);
+		}
+	}
+
+	/**
+	 * Starts the event loop threads.
+	 *
+	 * @throws IllegalStateException If hub has already been started or if
+	 *             it has been stopped.
+	 */
+	public synchronized void start() {
+		if (started) {
+			throw new IllegalStateException("Hub has already been started");
+		}
+		if (stopped) {
+			throw new IllegalStateException("Hub has been stopped");
+		}
+		started = true;
+		for (int i = 0; i < loops.length; i++) {
+			Thread t = threadFactory.newThread(loops[i]);
+			t.start();
+		}
+	}
+
+	/**
+	 * Stops all sources and the event loop threads permanently. If the hub
+	 * was never started, sources are closed and selectors released in the
+	 * calling thread.
+	 */
+	public synchronized void stop() {
+		if (stopped) {
+			return;
+		}
+		stopped = true;
+		for (EventLoop loop : loops) {
+			loop.stop();
+			if (!started) {
+				loop.close();
+			}
+		}
+	}
+
+	/**
+	 * Listener registered on the hub, applied to each source.
+	 */
+	private static final class Registration {
+
+		final SentenceListener listener;
+		final String type;
+
+		Registration(SentenceListener listener, String type) {
+			this.listener = listener;
+			this.type = type;
+		}
+
+		void register(SentenceReader reader) {
+			if (type == null) {
+				reader.addSentenceListener(listener);
+			} else {
+				reader.addSentenceListener(listener, type);
+			}
+		}
+	}
+
+	/**
+	 * Event loop thread, reads the sources registered in its selector.
+	 */
+	private final class EventLoop implements Runnable {
+
+		private final Selector selector;
+		private final Queue<Source> added = new ConcurrentLinkedQueue<>();
+		private final Queue<Source> removed = new ConcurrentLinkedQueue<>();
+		private final LineFramer datagrams = new LineFramer(DATAGRAM_BUFFER_SIZE);
+		private volatile boolean running = true;
+		private long lastTick;
+
+		EventLoop(Selector selector) {
+			this.selector = selector;
+		}
+
+		void add(Source source) {
+			added.add(source);
+			selector.wakeup();
+		}
+
+		void remove(Source source) {
+			removed.add(source);
+			selector.wakeup();
+		}
+
+		void stop() {
+			running = false;
+			selector.wakeup();
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (running) {
+					register();
+					selector.select(TICK_INTERVAL);
+					Set<SelectionKey> selected = selector.selectedKeys();
+					for (SelectionKey key : selected) {
+						if (key.isValid()) {
+							((Source) key.attachment()).read(datagrams);
+						}
+					}
+					selected.clear();
+					deregister();
+					tick();
+				}
+			} catch (IOException e) {
+				LOGGER.log(Level.SEVERE, "Event loop failed", e);
+			} finally {
+				close();
+			}
+		}
+
+		/**
+		 * Ticks the sources at most once per tick interval, regardless of
+		 * how often the selector wakes up.
+		 */
+		private void tick() {
+			long now = System.currentTimeMillis();
+			if (now - lastTick < TICK_INTERVAL) {
+				return;
+			}
+			lastTick = now;
+			for (SelectionKey key : selector.keys()) {
+				if (key.isValid()) {
+					((Source) key.attachment()).tick();
+				}
+			}
+		}
+
+		/**
+		 * Closes all registered and pending sources and the selector.
+		 */
+		void close() {
+			for (SelectionKey key : selector.keys()) {
+				((Source) key.attachment()).close();
+			}
+			Source source;
+			while ((source = added.poll()) != null) {
+				source.close();
+			}
+			try {
+				selector.close();
+			} catch (IOException e) {
+				LOGGER.fine(e.getMessage());
+			}
+		}
+
+		private void register() {
+			Source source;
+			while ((source = added.poll()) != null) {
+				if (!source.isRunning()) {
+					source.close();
+					continue;
+				}
+				try {
+					source.key = source.channel.register(selector, SelectionKey.OP_READ, source);
+				} catch (IOException e) {
+					source.getParent().handleException("Source registration failed", e);
+					source.close();
+				}
+			}
+		}
+
+		private void deregister() {
+			Source source;
+			while ((source = removed.poll()) != null) {
+				source.close();
+			}
+		}
+	}
+
+	/**
+	 * Single data source, read by an event loop.
+	 */
+	private final class Source extends AbstractDataReader {
+
+		final String id;
+		final SelectableChannel channel;
+		final boolean datagram;
+		final EventLoop loop;
+		final LineFramer framer;
+		SelectionKey key;
+		private ActivityMonitor monitor;
+		private boolean closed;
+
+		Source(String id, SelectableChannel channel, boolean datagram, EventLoop loop) {
+			this.id = id;
+			this.channel = channel;
+			this.datagram = datagram;
+			this.loop = loop;
+			this.framer = datagram ? null : new LineFramer(ChannelDataReader.DEFAULT_BUFFER_SIZE);
+		}
+
+		@Override
+		boolean isThreaded() {
+			return false;
+		}
+
+		/**
+		 * Not used, sources are read by the event loop.
+		 */
+		@Override
+		public String read() {
+			return null;
+		}
+
+		/**
+		 * Not used, sources are read by the event loop.
+		 */
+		@Override
+		public void run() {
+		}
+
+		@Override
+		public void stop() {
+			super.stop();
+			// without event loop threads, nothing would drain the queues
+			synchronized (SentenceReaderHub.this) {
+				if (!started) {
+					loop.added.remove(this);
+					close();
+					return;
+				}
+			}
+			loop.remove(this);
+		}
+
+		private ActivityMonitor monitor() {
+			if (monitor == null) {
+				monitor = new ActivityMonitor(getParent());
+			}
+			return monitor;
+		}
+
+		void tick() {
+			monitor().tick();
+		}
+
+		/**
+		 * Reads the available data, called by event loop when channel is
+		 * readable.
+		 */
+		void read(LineFramer datagrams) {
+			try {
+				if (datagram) {
+					receive((DatagramChannel) channel, datagrams);
+				} else {
+					read((SocketChannel) channel);
+				}
+			} catch (IOException e) {
+				if (channel.isOpen()) {
+					getParent().handleException("Data read failed", e);
+				} else {
+					close();
+				}
+			}
+		}
+
+		private void receive(DatagramChannel dc, LineFramer datagrams) throws IOException {
+			for (int i = 0; i < MAX_READS; i++) {
+				datagrams.clear();
+				if (dc.receive(datagrams.writable()) == null) {
+					break;
+				}
+				drain(datagrams);
+				byte[] rest = datagrams.rest();
+				if (rest != null) {
+					dispatch(rest, monitor());
+				}
+			}
+		}
+
+		private void read(SocketChannel sc) throws IOException {
+			for (int i = 0; i < MAX_READS; i++) {
+				ByteBuffer buffer = framer.writable();
+				int n = sc.read(buffer);
+				if (n < 0) {
+					byte[] rest = framer.rest();
+					if (rest != null) {
+						dispatch(rest, monitor());
+					}
+					close();
+					return;
+				}
+				if (n == 0) {
+					return;
+				}
+				drain(framer);
+			}
+		}
+
+		private void drain(LineFramer f) {
+			byte[] line;
+			while ((line = f.next()) != null) {
+				dispatch(line, monitor());
+			}
+		}
+
+		/**
+		 * Removes the source from selector and hub, and fires reading
+		 * stopped event.
+		 */
+		void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			super.stop();
+			if (key != null) {
+				key.cancel();
+			}
+			sources.remove(id, this);
+			monitor().reset();
+			getParent().fireReadingStopped();
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * SerialExecutor.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executes tasks one at a time in submission order, using an underlying
+ * executor that may run tasks concurrently. Used for delivering events to a
+ * listener asynchronously while preserving their order.
+ * <p>
+ * The underlying executor is looked up each time a drain is scheduled, so it
+ * may be changed without creating a new instance. If there is none, tasks
+ * are drained in the submitting thread. Pending tasks are held in a queue of
+ * fixed capacity; tasks submitted while it is full are rejected, except
+ * those given to {@link #submit(Runnable)}, which are always queued.
+ *
+ * @author Berserkr LLC
+ */
+class SerialExecutor implements Executor {
+
+	private final Supplier<Executor> executor;
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pending = new AtomicInteger();
+	private final int capacity;
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param executor Supplier of the executor to run the tasks with
+	 * @param capacity Max number of pending tasks
+	 * @throws IllegalArgumentException If capacity is less than one.
+	 */
+	SerialExecutor(Supplier<Executor> executor, int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be greater than zero");
+		}
+		this.executor = executor;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Executes the given task after the previously submitted tasks.
+	 *
+	 * @param task Task to execute
+	 * @throws RejectedExecutionException If the queue of pending tasks is
+	 *             full, or if the underlying executor rejects draining it.
+	 */
+	@Override
+	public void execute(Runnable task) {
+		if (!offer(task)) {
+			throw new RejectedExecutionException("Task queue is full");
+		}
+	}
+
+	/**
+	 * Submits the given task to be executed after the previously submitted
+	 * tasks, unless the queue of pending tasks is full.
+	 *
+	 * @param task Task to execute
+	 * @return {@code true} if task was accepted, {@code false} if the queue
+	 *         is full.
+	 * @throws RejectedExecutionException If the underlying executor rejects
+	 *             draining the queue. The task remains queued.
+	 */
+	boolean offer(Runnable task) {
+		if (pending.incrementAndGet() > capacity) {
+			pending.decrementAndGet();
+			return false;
+		}
+		tasks.add(() -> {
+			pending.decrementAndGet();
+			task.run();
+		});
+		schedule();
+		return true;
+	}
+
+	/**
+	 * Submits the given task to be executed after the previously submitted
+	 * tasks, regardless of the queue capacity. Meant for rare tasks that
+	 * must not be lost.
+	 *
+	 * @param task Task to execute
+	 * @throws RejectedExecutionException If the underlying executor rejects
+	 *             draining the queue. The task remains queued.
+	 */
+	void submit(Runnable task) {
+		tasks.add(task);
+		schedule();
+	}
+
+	private void schedule() {
+		if (scheduled.compareAndSet(false, true)) {
+			Executor current = executor.get();
+			if (current == null) {
+				drain();
+				return;
+			}
+			try {
+				current.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				scheduled.set(false);
+				throw e;
+			}
+		}
+	}
+
+	private void drain() {
+		try {
+			Runnable task;
+			while ((task = tasks.poll()) != null) {
+				task.run();
+			}
+		} finally {
+			scheduled.set(false);
+			if (!tasks.isEmpty()) {
+				schedule();
+			}
+		}
+	}
+}
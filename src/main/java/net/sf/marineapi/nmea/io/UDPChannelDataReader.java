@@ -0,0 +1,198 @@
+/*
+ * UDPChannelDataReader.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+/**
+ * DataReader implementation using {@link DatagramChannel} as data source.
+ * <p>
+ * The channel is switched to non-blocking mode and waited on with a
+ * {@link Selector}. On each wake-up, all pending datagrams are received one
+ * after another into a single reusable direct buffer, and split into lines
+ * by scanning the bytes. Each datagram may contain any number of sentences;
+ * the last one does not need a line terminator.
+ *
+ * @author Berserkr LLC
+ */
+class UDPChannelDataReader extends AbstractDataReader {
+
+	/** Default receive buffer size, fits the largest possible datagram. */
+	static final int DEFAULT_BUFFER_SIZE = 65536;
+
+	private static final Logger LOGGER = Logger.getLogger(UDPChannelDataReader.class.getName());
+
+	private final DatagramChannel channel;
+	private final LineFramer framer;
+	private final int bufferSize;
+	private Selector selector;
+
+	/**
+	 * Creates a new instance with default receive buffer size.
+	 *
+	 * @param channel DatagramChannel to be used as data source.
+	 * @param parent SentenceReader dispatching events for this reader.
+	 */
+	UDPChannelDataReader(DatagramChannel channel, SentenceReader parent) {
+		this(channel, parent, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a new instance.
+	 *
+	 * @param channel DatagramChannel to be used as data source.
+	 * @param parent SentenceReader dispatching events for this reader.
+	 * @param bufferSize Receive buffer size in bytes; longer datagrams are
+	 *            truncated.
+	 * @throws IllegalArgumentException If channel is {@code null} or buffer
+	 *             size is less than 128 bytes.
+	 */
+	UDPChannelDataReader(DatagramChannel channel, SentenceReader parent, int bufferSize) {
+		super(parent);
+		if (channel == null) {
+			throw new IllegalArgumentException("Channel cannot be null");
+		}
+		if (bufferSize < 128) {
+			throw new IllegalArgumentException("Buffer size must be at least 128 bytes");
+		}
+		this.channel = channel;
+		this.bufferSize = bufferSize;
+		this.framer = new LineFramer(bufferSize);
+	}
+
+	/**
+	 * Receives a single datagram, if available, and returns its first line.
+	 * Only used when the reader is driven by other means than {@link #run()},
+	 * as the run loop dispatches byte slices without String conversion.
+	 *
+	 * @return Line String or {@code null} if nothing was received.
+	 * @throws IOException On receive failure.
+	 */
+	@Override
+	public String read() throws IOException {
+		byte[] line = framer.next();
+		if (line == null) {
+			line = framer.rest();
+		}
+		if (line == null) {
+			framer.clear();
+			if (channel.receive(framer.writable()) != null) {
+				line = framer.next();
+				if (line == null) {
+					line = framer.rest();
+				}
+			}
+		}
+		return line == null ? null : new String(line, StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Receives datagrams until stopped or channel is closed, dispatching each
+	 * line to the parent reader.
+	 */
+	@Override
+	public void run() {
+
+		SentenceReader parent = getParent();
+		ActivityMonitor monitor = new ActivityMonitor(parent);
+
+		try {
+			selector = Selector.open();
+			channel.configureBlocking(false);
+			channel.register(selector, SelectionKey.OP_READ);
+
+			while (isRunning() && channel.isOpen()) {
+				try {
+					drain(monitor);
+					selector.select(Math.max(1, parent.getPauseTimeout()));
+					selector.selectedKeys().clear();
+				} catch (IOException e) {
+					if (!channel.isOpen()) {
+						break;
+					}
+					parent.handleException("Data read failed", e);
+				} finally {
+					monitor.tick();
+				}
+			}
+		} catch (IOException e) {
+			parent.handleException("Data read failed", e);
+		} finally {
+			closeSelector();
+			monitor.reset();
+			parent.fireReadingStopped();
+		}
+	}
+
+	/**
+	 * Stops the reader permanently, waking up a pending selector wait.
+	 */
+	@Override
+	public void stop() {
+		super.stop();
+		Selector s = selector;
+		if (s != null) {
+			s.wakeup();
+		}
+	}
+
+	/**
+	 * Receives and dispatches all pending datagrams.
+	 */
+	private void drain(ActivityMonitor monitor) throws IOException {
+		while (isRunning()) {
+			framer.clear();
+			ByteBuffer buffer = framer.writable();
+			if (channel.receive(buffer) == null) {
+				return;
+			}
+			if (buffer.position() == bufferSize) {
+				LOGGER.warning("Datagram filled the receive buffer of " + bufferSize
+					+ " bytes and may have been truncated");
+			}
+			byte[] line;
+			while ((line = framer.next()) != null) {
+				dispatch(line, monitor);
+			}
+			line = framer.rest();
+			if (line != null) {
+				dispatch(line, monitor);
+			}
+		}
+	}
+
+	private void closeSelector() {
+		if (selector != null) {
+			try {
+				selector.close();
+			} catch (IOException e) {
+				LOGGER.fine(e.getMessage());
+			}
+			selector = null;
+		}
+	}
+}
@@ -22,20 +22,25 @@ package net.sf.marineapi.nmea.io;
 
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
-import java.util.Arrays;
-import java.util.LinkedList;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.Queue;
 
 /**
  * DataReader implementation using DatagramSocket as data source.
  * 
  * @author Kimmo Tuukkanen, Ludovic Drouineau
+ * @see UDPChannelDataReader
  */
 class UDPDataReader extends AbstractDataReader {
 
+	/** Default receive buffer size, fits the largest possible datagram. */
+	static final int DEFAULT_BUFFER_SIZE = 65536;
+
 	private DatagramSocket socket;
-	private byte[] buffer = new byte[1024];
-	private Queue<String> queue = new LinkedList<>();
+	private byte[] buffer;
+	private DatagramPacket packet;
+	private Queue<String> queue = new ArrayDeque<>();
 
 	/**
 	 * Creates a new instance of StreamReader.
@@ -44,36 +49,53 @@ class UDPDataReader extends AbstractDataReader {
 	 * @param parent SentenceReader dispatching events for this reader.
 	 */
 	UDPDataReader(DatagramSocket socket, SentenceReader parent) {
+		this(socket, parent, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a new instance of StreamReader.
+	 *
+	 * @param socket DatagramSocket to be used as data source.
+	 * @param parent SentenceReader dispatching events for this reader.
+	 * @param bufferSize Receive buffer size in bytes; longer datagrams are
+	 *            truncated.
+	 */
+	UDPDataReader(DatagramSocket socket, SentenceReader parent, int bufferSize) {
 		super(parent);
 		this.socket = socket;
+		this.buffer = new byte[bufferSize];
+		this.packet = new DatagramPacket(buffer, buffer.length);
 	}
 
 	@Override
 	public String read() throws Exception {
-		String data = null;
-		
-		while (true) {
-			// If there is a backlog of sentences in the queue, then return the old sentences first so that each packet is uploaded compete.
-			if ((data = queue.poll()) != null)		
-				break;
-
-			// Once the backlog is cleared, then read the port, split the packet into sentences,
-			// and store the individual sentences in the queue.  Queue will always start empty here.
-			data = receive();
-		    String[] lines = data.split("\\r?\\n");
-		    queue.addAll(Arrays.asList(lines));
+		String data;
+		// If there is a backlog of sentences in the queue, then return the old
+		// sentences first so that each packet is uploaded complete. Once the
+		// backlog is cleared, then read the port and split the packet into
+		// lines in the queue.
+		while ((data = queue.poll()) == null) {
+			receive();
 		}
-		
 		return data;
 	}
 
 	/**
-	 * Receive UDP packet and return as String.  Blocks until data is received.
-	 * Exceptions bubble up to the {@link AbstractDataReader}    
+	 * Receive UDP packet and split it to lines in queue. Blocks until data is
+	 * received. Exceptions bubble up to the {@link AbstractDataReader}
 	 */
-	private String receive() throws Exception {
-		DatagramPacket pkg = new DatagramPacket(buffer, buffer.length);
-		socket.receive(pkg);
-		return new String(pkg.getData(), 0, pkg.getLength());
+	private void receive() throws Exception {
+		packet.setLength(buffer.length);
+		socket.receive(packet);
+		int end = packet.getOffset() + packet.getLength();
+		int start = packet.getOffset();
+		for (int i = start; i <= end; i++) {
+			if (i == end || buffer[i] == '\r' || buffer[i] == '\n') {
+				if (i > start) {
+					queue.add(new String(buffer, start, i - start, StandardCharsets.ISO_8859_1));
+				}
+				start = i + 1;
+			}
+		}
 	}
 }
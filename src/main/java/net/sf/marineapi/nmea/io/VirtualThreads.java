@@ -0,0 +1,98 @@
+/*
+ * VirtualThreads.java
+ * Copyright (C) 2026 Berserkr LLC
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Access to virtual threads on Java 21 and later, for running readers and
+ * listeners without a platform thread each. The library is built for older
+ * Java versions, so virtual threads are looked up at runtime. On runtimes
+ * without virtual threads, platform threads are used instead.
+ *
+ * @author Berserkr LLC
+ * @see SentenceReader#setThreadFactory(ThreadFactory)
+ * @see SentenceReader#setListenerExecutor(java.util.concurrent.Executor)
+ */
+public final class VirtualThreads {
+
+	private static final Logger LOGGER = Logger.getLogger(VirtualThreads.class.getName());
+
+	private static final ThreadFactory FACTORY = lookupFactory();
+
+	private VirtualThreads() {
+	}
+
+	private static ThreadFactory lookupFactory() {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> type = Class.forName("java.lang.Thread$Builder");
+			builder = type.getMethod("name", String.class, long.class)
+				.invoke(builder, "nmea-virtual-", 0L);
+			return (ThreadFactory) type.getMethod("factory").invoke(builder);
+		} catch (ReflectiveOperationException e) {
+			LOGGER.log(Level.FINE, "Virtual threads not available", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Tells if the runtime supports virtual threads.
+	 *
+	 * @return {@code true} if supported, otherwise {@code false}.
+	 */
+	public static boolean isSupported() {
+		return FACTORY != null;
+	}
+
+	/**
+	 * Returns a factory creating virtual threads, or platform threads if not
+	 * supported by the runtime.
+	 *
+	 * @return ThreadFactory instance
+	 */
+	public static ThreadFactory factory() {
+		return FACTORY != null ? FACTORY : Thread::new;
+	}
+
+	/**
+	 * Creates an executor that runs each task in a new virtual thread. If not
+	 * supported by the runtime, returns a cached platform thread pool.
+	 *
+	 * @return New ExecutorService, to be shut down by the caller.
+	 */
+	public static ExecutorService newThreadPerTaskExecutor() {
+		if (FACTORY != null) {
+			try {
+				Method m = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+				return (ExecutorService) m.invoke(null, FACTORY);
+			} catch (ReflectiveOperationException e) {
+				LOGGER.log(Level.FINE, "Virtual thread executor not available", e);
+			}
+		}
+		return Executors.newCachedThreadPool();
+	}
+}
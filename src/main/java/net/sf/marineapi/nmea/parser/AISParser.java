@@ -53,6 +53,18 @@ abstract class AISParser extends SentenceParser implements AISSentence {
         super(nmea, sid);
     }
 
+    /**
+     * Creates a new instance of VDOParser.
+     *
+     * @param data Buffer containing the NMEA 0183 sentence
+     * @param offset Index of the sentence begin char
+     * @param length Sentence length in bytes
+     * @param sid Expected sentence ID
+     */
+    public AISParser(byte[] data, int offset, int length, SentenceId sid) {
+        super(data, offset, length, sid);
+    }
+
     /**
      * Creates a new empty VDOParser.
      *
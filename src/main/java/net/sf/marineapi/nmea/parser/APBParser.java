@@ -56,6 +56,17 @@ class APBParser extends SentenceParser implements APBSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates a new instance of APBParser.
+	 * 
+	 * @param data Buffer containing the NMEA 0183 sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public APBParser(byte[] data, int offset, int length) {
+		super(data, offset, length);
+	}
+
 	/**
 	 * Creates a new empty APBParser.
 	 * 
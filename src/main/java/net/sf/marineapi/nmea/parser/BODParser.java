@@ -51,6 +51,19 @@ class BODParser extends SentenceParser implements BODSentence {
 		super(nmea, SentenceId.BOD);
 	}
 
+	/**
+	 * Creates a new instance of BOD parser.
+	 * 
+	 * @param data Buffer containing the BOD sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If specified String is invalid or does
+	 *             not contain a BOD sentence.
+	 */
+	public BODParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.BOD);
+	}
+
 	/**
 	 * Creates GSA parser with empty sentence.
 	 * 
@@ -56,6 +56,19 @@ class CURParser extends SentenceParser implements CURSentence {
 		super(nmea, SentenceId.CUR);
 	}
 
+	/**
+	 * Creates a new instance of CUR parser.
+	 *
+	 * @param data Buffer containing the CUR sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If specified String is invalid or does
+	 *             not contain a CUR sentence.
+	 */
+	public CURParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.CUR);
+	}
+
 	/**
 	 * Creates CUR parser with empty sentence.
 	 *
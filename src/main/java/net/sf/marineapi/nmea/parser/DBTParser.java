@@ -50,6 +50,17 @@ class DBTParser extends SentenceParser implements DBTSentence {
 		super(nmea, SentenceId.DBT);
 	}
 
+	/**
+	 * Creates a new instance of DBTParser.
+	 * 
+	 * @param data Buffer containing the DBT sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public DBTParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.DBT);
+	}
+
 	/**
 	 * Creates a new instance of DBTParser with empty data fields.
 	 * 
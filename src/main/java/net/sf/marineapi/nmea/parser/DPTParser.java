@@ -44,6 +44,17 @@ class DPTParser extends SentenceParser implements DPTSentence {
 		super(nmea, SentenceId.DPT);
 	}
 
+	/**
+	 * Creates a new instance of DPTParser.
+	 * 
+	 * @param data Buffer containing the DPT sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public DPTParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.DPT);
+	}
+
 	/**
 	 * Creates a new instance of DPTParser with empty data fields.
 	 * 
@@ -66,6 +66,17 @@ class DTAParser extends SentenceParser implements DTASentence {
 		super(nmea, SentenceId.DTA);
 	}
 
+	/**
+	 * Creates a new instance of DTAParser.
+	 *
+	 * @param data Buffer containing the DTA sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public DTAParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.DTA);
+	}
+
 	/**
 	 * Creates a new instance of DTAParser.
 	 *
@@ -75,6 +86,17 @@ class DTAParser extends SentenceParser implements DTASentence {
 		super(nmea, type);
 	}
 
+	/**
+	 * Creates a new instance of DTAParser.
+	 *
+	 * @param data Buffer containing the DTA sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	protected DTAParser(byte[] data, int offset, int length, SentenceId type) {
+		super(data, offset, length, type);
+	}
+
 	/**
 	 * Creates a new instance of DTAParser with specified type and data fields.
 	 *
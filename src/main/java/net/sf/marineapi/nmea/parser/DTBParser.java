@@ -52,6 +52,17 @@ class DTBParser extends DTAParser implements DTBSentence {
 		super(nmea, SentenceId.DTB);
 	}
 
+	/**
+	 * Creates a new instance of DTBParser.
+	 *
+	 * @param data Buffer containing the DTB sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public DTBParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.DTB);
+	}
+
 	/**
 	 * Gets the hard-coded channel for GasFinder2. Since only GasFinder2
 	 * will send a DTB sentence, and since only GasFinderMC has channels,
@@ -49,6 +49,17 @@ class DTMParser extends SentenceParser implements DTMSentence {
 		super(nmea, SentenceId.DTM);
 	}
 
+	/**
+	 * Creates a new instance of DTMParser.
+	 *
+	 * @param data Buffer containing the DTM sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public DTMParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.DTM);
+	}
+
 	/**
 	 * Creates a new empty instance of DTMParser.
 	 *
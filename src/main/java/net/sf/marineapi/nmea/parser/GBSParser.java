@@ -61,6 +61,17 @@ class GBSParser extends SentenceParser implements GBSSentence {
         super(nmea, SentenceId.GBS);
     }
 
+    /**
+     * Creates a parser for given GBS sentence.
+     *
+     * @param data Buffer containing the GBS sentence
+     * @param offset Index of the sentence begin char
+     * @param length Sentence length in bytes
+     */
+    public GBSParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.GBS);
+    }
+
     @Override
     public double getLatitudeError() {
         return getDoubleValue(LAT_ERROR);
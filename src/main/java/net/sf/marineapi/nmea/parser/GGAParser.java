@@ -62,6 +62,19 @@ class GGAParser extends PositionParser implements GGASentence {
 		super(nmea, SentenceId.GGA);
 	}
 
+	/**
+	 * Creates a new instance of GGA parser.
+	 * 
+	 * @param data Buffer containing the GGA sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If the specified sentence is invalid or
+	 *             not a GGA sentence.
+	 */
+	public GGAParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.GGA);
+	}
+
 	/**
 	 * Creates GSA parser with empty sentence.
 	 * 
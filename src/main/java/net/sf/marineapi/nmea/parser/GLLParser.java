@@ -55,6 +55,19 @@ class GLLParser extends PositionParser implements GLLSentence {
 		super(nmea, SentenceId.GLL);
 	}
 
+	/**
+	 * Creates a new instance of GLLParser.
+	 *
+	 * @param data Buffer containing the GLL sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If the given sentence is invalid or does
+	 *             not contain GLL sentence.
+	 */
+	public GLLParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.GLL);
+	}
+
 	/**
 	 * Creates GSA parser with empty sentence.
 	 *
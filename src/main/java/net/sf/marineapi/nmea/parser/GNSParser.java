@@ -61,6 +61,17 @@ class GNSParser extends PositionParser implements GNSSentence {
         super(nmea, SentenceId.GNS);
     }
 
+    /**
+     * Constructor for parsing GNS.
+     *
+     * @param data Buffer containing the GNS sentence
+     * @param offset Index of the sentence begin char
+     * @param length Sentence length in bytes
+     */
+    public GNSParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.GNS);
+    }
+
     /**
      * Constructor for empty GNS sentence.
      *
@@ -55,6 +55,18 @@ class GSAParser extends SentenceParser implements GSASentence {
 		super(nmea, SentenceId.GSA);
 	}
 
+	/**
+	 * Creates a new instance of GSA parser.
+	 * 
+	 * @param data Buffer containing the GSA sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If specified sentence is invalid.
+	 */
+	public GSAParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.GSA);
+	}
+
 	/**
 	 * Creates GSA parser with empty sentence.
 	 * 
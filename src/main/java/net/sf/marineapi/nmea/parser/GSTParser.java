@@ -53,6 +53,19 @@ class GSTParser extends SentenceParser implements GSTSentence {
 		super(nmea, SentenceId.GST);
 	}
 
+	/**
+	 * Creates a new instance of GST parser.
+	 *
+	 * @param data Buffer containing the GST sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If the specified sentence is invalid or
+	 *						 not a GST sentence.
+	 */
+	public GSTParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.GST);
+	}
+
 	/**
 	 * Creates GSA parser with empty sentence.
 	 *
@@ -57,6 +57,17 @@ class GSVParser extends SentenceParser implements GSVSentence {
         super(nmea, SentenceId.GSV);
     }
 
+    /**
+     * Constructor.
+     *
+     * @param data Buffer containing the GSV sentence
+     * @param offset Index of the sentence begin char
+     * @param length Sentence length in bytes
+     */
+    public GSVParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.GSV);
+    }
+
     /**
      * Creates an GSV parser with empty sentence.
      *
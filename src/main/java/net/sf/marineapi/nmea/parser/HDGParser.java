@@ -47,6 +47,17 @@ class HDGParser extends SentenceParser implements HDGSentence {
 		super(nmea, SentenceId.HDG);
 	}
 
+	/**
+	 * Creates a new HDG parser.
+	 * 
+	 * @param data Buffer containing the HDG sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public HDGParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.HDG);
+	}
+
 	/**
 	 * Creates a new empty HDG parser.
 	 * 
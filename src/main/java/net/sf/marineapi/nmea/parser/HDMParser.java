@@ -43,6 +43,17 @@ class HDMParser extends SentenceParser implements HDMSentence {
 		super(nmea, SentenceId.HDM);
 	}
 
+	/**
+	 * Creates a new HDM parser.
+	 * 
+	 * @param data Buffer containing the HDM sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public HDMParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.HDM);
+	}
+
 	/**
 	 * Creates a new empty HDM sentence.
 	 * 
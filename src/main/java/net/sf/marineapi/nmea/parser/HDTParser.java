@@ -43,6 +43,17 @@ class HDTParser extends SentenceParser implements HDTSentence {
 		super(nmea, SentenceId.HDT);
 	}
 
+	/**
+	 * Creates a new HDT parser.
+	 * 
+	 * @param data Buffer containing the HDT sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public HDTParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.HDT);
+	}
+
 	/**
 	 * Creates a new empty HDT sentence.
 	 * 
@@ -53,6 +53,10 @@ class HTCParser extends SentenceParser implements HTCSentence {
         super(nmea, SentenceId.HTC);
     }
 
+    public HTCParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.HTC);
+    }
+
     public HTCParser(TalkerId talker) {
         super(talker, SentenceId.HTC, 13);
     }
@@ -61,6 +65,10 @@ class HTCParser extends SentenceParser implements HTCSentence {
         super(nmea, type);
     }
 
+    HTCParser(byte[] data, int offset, int length, SentenceId type) {
+        super(data, offset, length, type);
+    }
+
     HTCParser(TalkerId tid, SentenceId sid, int size) {
         super(tid, sid, size);
     }
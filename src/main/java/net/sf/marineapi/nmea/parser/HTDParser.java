@@ -46,6 +46,17 @@ class HTDParser extends HTCParser implements HTDSentence {
 		super(nmea, SentenceId.HTD);
 	}
 
+	/**
+	 * Constructor.
+	 *
+	 * @param data Buffer containing the HTD sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public HTDParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.HTD);
+	}
+
 	/**
 	 * Constructor for empty HTD sentence.
 	 *
@@ -144,6 +144,17 @@ class MDAParser extends SentenceParser implements MDASentence {
         super(nmea, MDA_SENTENCE_ID);
     }
 
+    /**
+     * Creates a new instance of MWVParser.
+     * 
+     * @param data Buffer containing the MWV sentence
+     * @param offset Index of the sentence begin char
+     * @param length Sentence length in bytes
+     */
+    public MDAParser(byte[] data, int offset, int length) {
+        super(data, offset, length, MDA_SENTENCE_ID);
+    }
+
     /**
      * Creates a new empty instance of MWVParser.
      * 
@@ -47,6 +47,17 @@ class MHUParser extends SentenceParser implements MHUSentence {
         super(nmea, SentenceId.MHU);
     }
 
+    /**
+     * Constructor for parsing MHU sentence.
+     *
+     * @param data Buffer containing the MHU sentence
+     * @param offset Index of the sentence begin char
+     * @param length Sentence length in bytes
+     */
+    public MHUParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.MHU);
+    }
+
     /**
      * Constructor for fresh MHU sentence.
      *
@@ -47,6 +47,17 @@ class MMBParser extends SentenceParser implements MMBSentence {
         super(nmea, SentenceId.MMB);
     }
 
+    /**
+     * Constructor for parsing MMB.
+     *
+     * @param data Buffer containing the MMB sentence
+     * @param offset Index of the sentence begin char
+     * @param length Sentence length in bytes
+     */
+    public MMBParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.MMB);
+    }
+
     /**
      * Constructs a fresh MMB parser.
      *
@@ -44,6 +44,17 @@ class MTAParser extends SentenceParser implements MTASentence {
 		super(mta, SentenceId.MTA);
 	}
 
+	/**
+	 * Constructor.
+	 *
+	 * @param data Buffer containing the MTA sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public MTAParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.MTA);
+	}
+
 	/**
 	 * Constructor for empty MTA sentence.
 	 *
@@ -44,6 +44,17 @@ class MTWParser extends SentenceParser implements MTWSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates new instance of MTWParser with specified sentence.
+	 * 
+	 * @param data Buffer containing the MTW sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public MTWParser(byte[] data, int offset, int length) {
+		super(data, offset, length);
+	}
+
 	/**
 	 * Creates new MTW parse without data.
 	 * 
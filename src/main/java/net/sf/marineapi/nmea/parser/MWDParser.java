@@ -80,6 +80,17 @@ class MWDParser extends SentenceParser implements MWDSentence {
         super(nmea, SentenceId.MWD);
     }
 
+    /**
+     * Creates a new instance of MWDParser.
+     * 
+     * @param data Buffer containing the MWV sentence
+     * @param offset Index of the sentence begin char
+     * @param length Sentence length in bytes
+     */
+    public MWDParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.MWD);
+    }
+
     /**
      * Creates a new empty instance of MWDParser.
      * 
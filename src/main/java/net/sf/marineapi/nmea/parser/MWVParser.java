@@ -48,6 +48,17 @@ class MWVParser extends SentenceParser implements MWVSentence {
 		super(nmea, SentenceId.MWV);
 	}
 
+	/**
+	 * Creates a new instance of MWVParser.
+	 * 
+	 * @param data Buffer containing the MWV sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public MWVParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.MWV);
+	}
+
 	/**
 	 * Creates a new empty instance of MWVParser.
 	 * 
@@ -57,6 +57,17 @@ class OSDParser extends SentenceParser implements OSDSentence {
         super(nmea, SentenceId.OSD);
     }
 
+	/**
+	 * Creates a new instance of OSD parser
+	 *
+	 * @param data Buffer containing the OSD sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public OSDParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.OSD);
+    }
+
     /**
 	 * Creates OSD parser with empty sentence.
 	 *
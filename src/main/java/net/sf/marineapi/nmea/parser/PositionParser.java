@@ -52,6 +52,19 @@ public abstract class PositionParser extends SentenceParser {
 		super(nmea, type);
 	}
 
+	/**
+	 * Constructor.
+	 *
+	 * @param data Buffer containing the sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+ 	 * @param type Expected Sentence ID
+	 * @see SentenceParser#SentenceParser(byte[], int, int, SentenceId)
+	 */
+	protected PositionParser(byte[] data, int offset, int length, SentenceId type) {
+		super(data, offset, length, type);
+	}
+
 	/**
 	 * Constructor for empty sentence.
 	 *
@@ -59,6 +59,17 @@ class RMBParser extends PositionParser implements RMBSentence {
 		super(nmea, SentenceId.RMB);
 	}
 
+	/**
+	 * Constructor.
+	 * 
+	 * @param data Buffer containing the RMB sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public RMBParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.RMB);
+	}
+
 	/**
 	 * Creates RMB parser with empty sentence.
 	 * 
@@ -62,6 +62,18 @@ class RMCParser extends PositionParser implements RMCSentence {
 		super(nmea, SentenceId.RMC);
 	}
 
+	/**
+	 * Creates a new instance of RMCParser.
+	 *
+	 * @param data Buffer containing the RMC sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If specified sentence is invalid.
+	 */
+	public RMCParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.RMC);
+	}
+
 	/**
 	 * Creates a RMC parser with empty sentence.
 	 *
@@ -44,6 +44,17 @@ class ROTParser extends SentenceParser implements ROTSentence {
 		super(nmea, SentenceId.ROT);
 	}
 
+	/**
+	 * Creates a new ROT parser.
+	 *
+	 * @param data Buffer containing the ROT sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public ROTParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.ROT);
+	}
+
 	/**
 	 * Creates a new empty ROT sentence.
 	 *
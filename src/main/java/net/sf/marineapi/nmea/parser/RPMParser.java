@@ -46,6 +46,17 @@ class RPMParser extends SentenceParser implements RPMSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates a new instance of RPMParser.
+	 *
+	 * @param data Buffer containing the NMEA 0183 sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public RPMParser(byte[] data, int offset, int length) {
+		super(data, offset, length);
+	}
+
 	/**
 	 * Creates a new empty parser.
 	 *
@@ -47,6 +47,17 @@ class RSAParser extends SentenceParser implements RSASentence {
 		super(nmea, SentenceId.RSA);
 	}
 
+	/**
+	 * Creates a new instance of RSAParser.
+	 * 
+	 * @param data Buffer containing the RSA sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public RSAParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.RSA);
+	}
+
 	/**
 	 * Creates a new instance of RSAParser with empty data fields.
 	 * 
@@ -60,6 +60,17 @@ class RSDParser extends SentenceParser implements RSDSentence {
         super(nmea, SentenceId.RSD);
     }
 
+	/**
+	 * Creates a new instance of RSD parser
+	 *
+	 * @param data Buffer containing the RSD sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public RSDParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.RSD);
+    }
+
     /**
 	 * Creates RSD parser with empty sentence.
 	 *
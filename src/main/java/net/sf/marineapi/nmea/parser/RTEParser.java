@@ -51,6 +51,17 @@ class RTEParser extends SentenceParser implements RTESentence {
 		super(nmea, SentenceId.RTE);
 	}
 
+	/**
+	 * Creates a new instance of RTE parser.
+	 * 
+	 * @param data Buffer containing the RTE sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public RTEParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.RTE);
+	}
+
 	/**
 	 * Creates RTE parser with empty sentence. The created RTE sentence contains
 	 * none waypoint ID fields.
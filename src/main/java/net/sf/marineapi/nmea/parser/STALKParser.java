@@ -49,6 +49,17 @@ class STALKParser extends SentenceParser implements STALKSentence {
         super(nmea, SentenceId.ALK);
     }
 
+    /**
+     * Construct with sentence.
+     *
+     * @param data Buffer containing the {@code $STALK} sentence
+     * @param offset Index of the sentence begin char
+     * @param length Sentence length in bytes
+     */
+    public STALKParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.ALK);
+    }
+
     /**
      * Constructor with TalkerId, mostly for compatibility with SentenceFactory.
      * Does not set given talker id, but uses the STALK default 'ST'.
@@ -20,16 +20,21 @@
  */
 package net.sf.marineapi.nmea.parser;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -48,11 +53,18 @@ import net.sf.marineapi.nmea.sentence.TalkerId;
  * parameter, i.e. the sentence to be parsed. Pass this parameter to
  * {@link SentenceParser#SentenceParser(String, String)} with expected sentence
  * type (e.g. {@code "XYZ"}).</li>
+ * <li>Optionally, add a constructor with {@code (byte[], int, int)}
+ * parameters and pass them to
+ * {@link SentenceParser#SentenceParser(byte[], int, int, String)}. This
+ * allows creating the parser from raw data without any String conversion,
+ * see {@link #createParser(byte[], int, int)}.</li>
  * <li>Add another constructor with {@link TalkerId} parameter. Pass this
  * parameter to {@link SentenceParser#SentenceParser(TalkerId, String, int)}
  * with sentence type and the expected number of data fields.</li>
  * <li>Register {@code XYZParser} in {@code SentenceFactory} by using
- * the {@link #registerParser(String, Class)} method.</li>
+ * the {@link #registerParser(String, Class)} method. Alternatively, use
+ * {@link #registerParser(String, Function, Function, RawParser)} with
+ * constructor references, e.g. {@code XYZParser::new}.</li>
  * <li>Use {@link SentenceFactory#createParser(String)} or
  * {@link SentenceFactory#createParser(TalkerId, String)} to obtain an instance
  * of your parser. In addition, {@link net.sf.marineapi.nmea.io.SentenceReader}
@@ -70,8 +82,11 @@ import net.sf.marineapi.nmea.sentence.TalkerId;
  */
 public class SentenceFactory {
 
-	// map that holds registered sentence types and parser classes
-	private static Map<String, Class<? extends SentenceParser>> parsers;
+	// map that holds registered sentence types and parser constructors
+	private Map<String, Entry> parsers;
+
+	// dispatch table for three-char sentence types, rebuilt on registration
+	private volatile Table table;
 
 	// singleton factory instance
 	private static final SentenceFactory INSTANCE = new SentenceFactory();
@@ -93,13 +108,52 @@ public class SentenceFactory {
 	 * @param nmea NMEA 0183 sentence String
 	 * @return Sentence parser instance for specified sentence
 	 * @throws IllegalArgumentException If there is no parser registered for the
-	 *             given sentence type
-	 * @throws IllegalStateException If parser is found, but it does not
-	 *             implement expected constructors or is otherwise unusable.
+	 *             given sentence type or if the sentence is invalid.
 	 */
 	public Sentence createParser(String nmea) {
 		String sid = SentenceId.parseStr(nmea);
-		return createParserImpl(sid, nmea);
+		return lookup(sid).parser.apply(nmea);
+	}
+
+	/**
+	 * Creates a parser for NMEA 0183 sentence in given buffer of ASCII
+	 * encoded data. If the registered parser provides a constructor with
+	 * {@code (byte[], int, int)} parameters, the data is parsed in place
+	 * without creating a String of the sentence. Otherwise, the sentence is
+	 * converted to String and parsed as in {@link #createParser(String)}.
+	 * <p>
+	 * The buffer is not copied, so its contents in the specified range must
+	 * not be modified while the returned parser is in use.
+	 *
+	 * @param data Buffer containing the sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @return Sentence parser instance for specified sentence
+	 * @throws IllegalArgumentException If the data does not contain a valid
+	 *             sentence or there is no parser registered for the given
+	 *             sentence type.
+	 */
+	public Sentence createParser(byte[] data, int offset, int length) {
+
+		// only the address is checked here, the parser validates the rest
+		// of sentence while locating the fields
+		if (data == null || offset < 0 || length < 0 || offset + length > data.length
+			|| SentenceValidator.addressEnd(data, offset, offset + length) < 0) {
+			String nmea = null;
+			if (data != null && offset >= 0 && length >= 0
+				&& offset + length <= data.length) {
+				nmea = new String(data, offset, length, StandardCharsets.ISO_8859_1);
+			}
+			String msg = String.format("Invalid data [%s]", nmea);
+			throw new IllegalArgumentException(msg);
+		}
+
+		Entry entry = lookup(data, offset, length);
+		if (entry.raw == null) {
+			String nmea = new String(data, offset, length, StandardCharsets.ISO_8859_1);
+			return entry.parser.apply(nmea);
+		}
+		return entry.raw.parse(data, offset, length);
 	}
 
 	/**
@@ -111,7 +165,6 @@ public class SentenceFactory {
 	 * @return Sentence parser of requested type.
 	 * @throws IllegalArgumentException If talker id is null or if there is no
 	 *             parser registered for given sentence type.
-	 * @throws IllegalStateException If parser instantiation fails.
 	 */
 	public Sentence createParser(TalkerId talker, SentenceId type) {
 		return createParser(talker, type.toString());
@@ -128,8 +181,6 @@ public class SentenceFactory {
 	 * @return Sentence parser for requested type
 	 * @throws IllegalArgumentException If talker id is null or if there is no
 	 *             parser registered for given sentence type.
-	 * @throws IllegalStateException If parser is found, but it does not
-	 *             implement expected constructors or is otherwise unusable.
 	 */
 	public Sentence createParser(TalkerId talker, String type) {
 
@@ -137,7 +188,7 @@ public class SentenceFactory {
 			throw new IllegalArgumentException("TalkerId cannot be null");
 		}
 
-		return createParserImpl(type, talker);
+		return lookup(type).creator.apply(talker);
 	}
 
 	/**
@@ -171,45 +222,57 @@ public class SentenceFactory {
 	 * can be overridden simply be registering a new parser implementation for
 	 * chosen sentence type. That is, each sentence type can have only one
 	 * parser registered at a time.
+	 * <p>
+	 * The parser constructors are resolved once during the registration and
+	 * bound to functions, i.e. creating parsers does not involve reflection.
 	 *
 	 * @param type Sentence type id, e.g. "GGA" or "GLL".
 	 * @param parser Class of parser implementation for given {@code type}.
+	 * @throws IllegalArgumentException If the parser does not implement the
+	 *             required constructors or they are not accessible.
 	 */
 	public void registerParser(String type,
 		Class<? extends SentenceParser> parser) {
-		registerParser(parsers, type, parser);
+		register(parsers, type, bind(parser));
 	}
 
 	/**
-	 * Registers a sentence parser to the given factory. After registration,
-	 * {@link #createParser(String)} method can be used to obtain instances of
-	 * registered parser.
-	 * <p>
-	 * Sentences supported by the library are registered automatically, but they
-	 * can be overridden simply be registering a new parser implementation for
-	 * chosen sentence type. That is, each sentence type can have only one
-	 * parser registered at a time.
+	 * Registers a sentence parser to the factory by using the given
+	 * functions for creating the parser instances, typically constructor
+	 * references such as {@code XYZParser::new}.
 	 *
-	 * @param parsers The provided factory to register the sentence parsers to.
 	 * @param type Sentence type id, e.g. "GGA" or "GLL".
-	 * @param parser Class of parser implementation for given {@code type}.
+	 * @param parser Function that parses the given sentence String
+	 * @param creator Function that creates an empty sentence with given
+	 *            talker id
+	 * @see #registerParser(String, Class)
 	 */
-	private void registerParser(
-			Map<String, Class<? extends SentenceParser>> parsers, String type,
-			Class<? extends SentenceParser> parser) {
+	public void registerParser(String type, Function<String, Sentence> parser,
+		Function<TalkerId, Sentence> creator) {
+		registerParser(type, parser, creator, null);
+	}
 
-		try {
-			parser.getConstructor(new Class[] { String.class });
-			parser.getConstructor(new Class[] { TalkerId.class });
-			parsers.put(type, parser);
-		} catch (SecurityException e) {
-			String msg = "Unable to register parser due security violation";
-			throw new IllegalArgumentException(msg, e);
-		} catch (NoSuchMethodException e) {
-			String msg = "Required constructors not found; SentenceParser(String),"
-					+ " SentenceParser(TalkerId)";
-			throw new IllegalArgumentException(msg, e);
+	/**
+	 * Registers a sentence parser to the factory by using the given
+	 * functions for creating the parser instances, typically constructor
+	 * references such as {@code XYZParser::new}.
+	 *
+	 * @param type Sentence type id, e.g. "GGA" or "GLL".
+	 * @param parser Function that parses the given sentence String
+	 * @param creator Function that creates an empty sentence with given
+	 *            talker id
+	 * @param raw Function that parses the sentence from ASCII bytes, or
+	 *            {@code null} to parse the bytes as String.
+	 * @see #registerParser(String, Class)
+	 * @see #createParser(byte[], int, int)
+	 */
+	public void registerParser(String type, Function<String, Sentence> parser,
+		Function<TalkerId, Sentence> creator, RawParser raw) {
+
+		if (parser == null || creator == null) {
+			throw new IllegalArgumentException("Parser functions must be specified");
 		}
+		register(parsers, type, new Entry(null, parser, creator, raw));
 	}
 
 	/**
@@ -220,51 +283,160 @@ public class SentenceFactory {
 	 * @see #registerParser(String, Class)
 	 */
 	public void unregisterParser(Class<? extends SentenceParser> parser) {
-
-		for (String key : parsers.keySet()) {
-
-			if (parsers.get(key) == parser) {
-				parsers.remove(key);
-				break;
+		synchronized (this) {
+			if (parsers.values().removeIf(e -> e.type == parser)) {
+				table = new Table(parsers);
 			}
 		}
 	}
 
 	/**
-	 * Creates a new parser instance with specified parameters.
+	 * Returns the parser entry for given sentence type.
 	 *
 	 * @param sid Sentence/parser type ID, e.g. "GGA" or "GLL"
-	 * @param param Object to pass as parameter to parser constructor
-	 * @return Sentence parser
+	 * @return Registered parser entry
+	 * @throws UnsupportedSentenceException If parser is not found.
 	 */
-	private Sentence createParserImpl(String sid, Object param) {
+	private Entry lookup(String sid) {
+
+		Entry entry = null;
+		if (sid != null) {
+			entry = sid.length() == 3 ? table.get(Table.pack(sid)) : parsers.get(sid);
+		}
 
-		if (!hasParser(sid)) {
+		if (entry == null) {
 			String msg = String.format("Parser for type '%s' not found", sid);
 			throw new UnsupportedSentenceException(msg);
 		}
+		return entry;
+	}
+
+	/**
+	 * Returns the parser entry for sentence in given buffer. Three-char
+	 * sentence ids are resolved directly from the data.
+	 *
+	 * @param data Buffer containing a sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @return Registered parser entry
+	 * @throws UnsupportedSentenceException If parser is not found.
+	 */
+	private Entry lookup(byte[] data, int offset, int length) {
+
+		int from = offset + 3;
+		if (data[offset] == Sentence.BEGIN_CHAR && data[offset + 1] == 'P') {
+			from = offset + 2;
+		}
+		if (from + 3 < offset + length && data[from + 3] == Sentence.FIELD_DELIMITER
+			&& data[from + 2] != Sentence.FIELD_DELIMITER
+			&& data[from + 1] != Sentence.FIELD_DELIMITER) {
+			Entry entry = table.get(Table.pack(data, from));
+			if (entry != null) {
+				return entry;
+			}
+		}
+		return lookup(SentenceId.parseStr(data, offset));
+	}
 
-		Sentence parser = null;
-		Class<?> klass = param.getClass();
+	/**
+	 * Registers a parser entry to the given map and rebuilds the dispatch
+	 * table if the map is in use.
+	 *
+	 * @param parsers The map to register the sentence parser to.
+	 * @param type Sentence type id, e.g. "GGA" or "GLL".
+	 * @param entry Parser entry to register
+	 */
+	private void register(Map<String, Entry> parsers, String type, Entry entry) {
+
+		if (type == null || "".equals(type)) {
+			throw new IllegalArgumentException("Sentence type must be specified");
+		}
+
+		synchronized (this) {
+			parsers.put(type, entry);
+			if (parsers == this.parsers) {
+				table = new Table(parsers);
+			}
+		}
+	}
+
+	/**
+	 * Binds the parser constructors to functions. The constructors are looked
+	 * up once and converted to lambdas, which makes invoking them as fast as
+	 * calling {@code new} directly.
+	 *
+	 * @param parser Parser class to bind
+	 * @return Parser entry with bound constructors
+	 * @throws IllegalArgumentException If required constructors are not found
+	 *             or not accessible.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Entry bind(Class<? extends SentenceParser> parser) {
+
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodType function = MethodType.methodType(Object.class, Object.class);
 
 		try {
-			Class<? extends SentenceParser> c = parsers.get(sid);
-			Constructor<? extends SentenceParser> co = c.getConstructor(klass);
-			parser = co.newInstance(param);
+			Function<String, Sentence> p = (Function<String, Sentence>) bind(
+				lookup, parser, Function.class, "apply", function, String.class);
+			Function<TalkerId, Sentence> c = (Function<TalkerId, Sentence>) bind(
+				lookup, parser, Function.class, "apply", function, TalkerId.class);
+
+			RawParser r = null;
+			try {
+				r = (RawParser) bind(lookup, parser, RawParser.class, "parse",
+					MethodType.methodType(Sentence.class, byte[].class, int.class, int.class),
+					byte[].class, int.class, int.class);
+			} catch (NoSuchMethodException e) {
+				// optional, parsed as String
+			}
+			return new Entry(parser, p, c, r);
+
 		} catch (NoSuchMethodException e) {
-			String name = klass.getName();
-			String msg = "Constructor with %s parameter not found";
-			throw new IllegalStateException(String.format(msg, name), e);
-		} catch (InstantiationException e) {
-			throw new IllegalStateException("Unable to instantiate parser", e);
-		} catch (IllegalAccessException e) {
-			throw new IllegalStateException("Unable to access parser", e);
-		} catch (InvocationTargetException e) {
-			throw new IllegalStateException(
-				"Unable to invoke parser constructor", e);
+			String msg = "Required constructors not found; SentenceParser(String),"
+					+ " SentenceParser(TalkerId)";
+			throw new IllegalArgumentException(msg, e);
+		} catch (IllegalAccessException | SecurityException e) {
+			String msg = "Unable to register parser due security violation";
+			throw new IllegalArgumentException(msg, e);
+		}
+	}
+
+	/**
+	 * Creates an instance of functional interface that invokes the specified
+	 * parser constructor.
+	 */
+	private static Object bind(MethodHandles.Lookup lookup, Class<?> parser,
+		Class<?> iface, String method, MethodType erased, Class<?>... params)
+		throws NoSuchMethodException, IllegalAccessException {
+
+		MethodHandle constructor = lookup.findConstructor(parser,
+			MethodType.methodType(void.class, params));
+		try {
+			return LambdaMetafactory.metafactory(lookup, method,
+				MethodType.methodType(iface), erased, constructor,
+				constructor.type()).getTarget().invoke();
+		} catch (Throwable e) {
+			// class not accessible for lambda generation, invoke handle instead
+			if (iface == RawParser.class) {
+				return (RawParser) (data, offset, length) ->
+					invoke(constructor, data, offset, length);
+			}
+			return (Function<Object, Sentence>) arg -> invoke(constructor, arg);
 		}
+	}
 
-		return parser;
+	/**
+	 * Invokes a parser constructor method handle.
+	 */
+	private static Sentence invoke(MethodHandle constructor, Object... args) {
+		try {
+			return (Sentence) constructor.invokeWithArguments(args);
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException("Unable to invoke parser constructor", e);
+		}
 	}
 
 	/**
@@ -282,61 +454,158 @@ public class SentenceFactory {
 	 *
 	 */
 	public void reset() {
-		Map<String, Class<? extends SentenceParser>> tempParsers = new ConcurrentHashMap<>();
-		registerParser(tempParsers, "APB", APBParser.class);
-		registerParser(tempParsers, "ALK", STALKParser.class);
-		registerParser(tempParsers, "BOD", BODParser.class);
-		registerParser(tempParsers, "CUR", CURParser.class);
-		registerParser(tempParsers, "DBT", DBTParser.class);
-		registerParser(tempParsers, "DPT", DPTParser.class);
-		registerParser(tempParsers, "DTM", DTMParser.class);
-		registerParser(tempParsers, "GBS", GBSParser.class);
-		registerParser(tempParsers, "GGA", GGAParser.class);
-		registerParser(tempParsers, "GLL", GLLParser.class);
-		registerParser(tempParsers, "GNS", GNSParser.class);
-		registerParser(tempParsers, "GSA", GSAParser.class);
-		registerParser(tempParsers, "GST", GSTParser.class);
-		registerParser(tempParsers, "GSV", GSVParser.class);
-		registerParser(tempParsers, "HDG", HDGParser.class);
-		registerParser(tempParsers, "HDM", HDMParser.class);
-		registerParser(tempParsers, "HDT", HDTParser.class);
-		registerParser(tempParsers, "HTC", HTCParser.class);
-		registerParser(tempParsers, "HTD", HTDParser.class);
-		registerParser(tempParsers, "MHU", MHUParser.class);
-		registerParser(tempParsers, "MMB", MMBParser.class);
-		registerParser(tempParsers, "MTA", MTAParser.class);
-		registerParser(tempParsers, "MTW", MTWParser.class);
-		registerParser(tempParsers, "MWV", MWVParser.class);
-		registerParser(tempParsers, "OSD", OSDParser.class);
-		registerParser(tempParsers, "RMB", RMBParser.class);
-		registerParser(tempParsers, "RMC", RMCParser.class);
-		registerParser(tempParsers, "RPM", RPMParser.class);
-		registerParser(tempParsers, "ROT", ROTParser.class);
-		registerParser(tempParsers, "RTE", RTEParser.class);
-		registerParser(tempParsers, "RSA", RSAParser.class);
-		registerParser(tempParsers, "RSD", RSDParser.class);
-		registerParser(tempParsers, "TLB", TLBParser.class);
-		registerParser(tempParsers, "TLL", TLLParser.class);
-		registerParser(tempParsers, "TTM", TTMParser.class);
-		registerParser(tempParsers, "TXT", TXTParser.class);
-		registerParser(tempParsers, "UBX", UBXParser.class);
-		registerParser(tempParsers, "VBW", VBWParser.class);
-		registerParser(tempParsers, "VDM", VDMParser.class);
-		registerParser(tempParsers, "VDO", VDOParser.class);
-		registerParser(tempParsers, "VDR", VDRParser.class);
-		registerParser(tempParsers, "VHW", VHWParser.class);
-		registerParser(tempParsers, "VLW", VLWParser.class);
-		registerParser(tempParsers, "VTG", VTGParser.class);
-		registerParser(tempParsers, "VWR", VWRParser.class);
-		registerParser(tempParsers, "VWT", VWTParser.class);
-		registerParser(tempParsers, "WPL", WPLParser.class);
-		registerParser(tempParsers, "XTE", XTEParser.class);
-		registerParser(tempParsers, "XDR", XDRParser.class);
-		registerParser(tempParsers, "ZDA", ZDAParser.class);
-		registerParser(tempParsers, "MDA", MDAParser.class);
-		registerParser(tempParsers, "MWD", MWDParser.class);
-		registerParser(tempParsers, "DTA", DTAParser.class);
-		registerParser(tempParsers, "DTB", DTBParser.class);
-		parsers = tempParsers;
+		Map<String, Entry> tempParsers = new ConcurrentHashMap<>();
+		register(tempParsers, "APB", new Entry(APBParser.class, APBParser::new, APBParser::new, APBParser::new));
+		register(tempParsers, "ALK", new Entry(STALKParser.class, STALKParser::new, STALKParser::new, STALKParser::new));
+		register(tempParsers, "BOD", new Entry(BODParser.class, BODParser::new, BODParser::new, BODParser::new));
+		register(tempParsers, "CUR", new Entry(CURParser.class, CURParser::new, CURParser::new, CURParser::new));
+		register(tempParsers, "DBT", new Entry(DBTParser.class, DBTParser::new, DBTParser::new, DBTParser::new));
+		register(tempParsers, "DPT", new Entry(DPTParser.class, DPTParser::new, DPTParser::new, DPTParser::new));
+		register(tempParsers, "DTM", new Entry(DTMParser.class, DTMParser::new, DTMParser::new, DTMParser::new));
+		register(tempParsers, "GBS", new Entry(GBSParser.class, GBSParser::new, GBSParser::new, GBSParser::new));
+		register(tempParsers, "GGA", new Entry(GGAParser.class, GGAParser::new, GGAParser::new, GGAParser::new));
+		register(tempParsers, "GLL", new Entry(GLLParser.class, GLLParser::new, GLLParser::new, GLLParser::new));
+		register(tempParsers, "GNS", new Entry(GNSParser.class, GNSParser::new, GNSParser::new, GNSParser::new));
+		register(tempParsers, "GSA", new Entry(GSAParser.class, GSAParser::new, GSAParser::new, GSAParser::new));
+		register(tempParsers, "GST", new Entry(GSTParser.class, GSTParser::new, GSTParser::new, GSTParser::new));
+		register(tempParsers, "GSV", new Entry(GSVParser.class, GSVParser::new, GSVParser::new, GSVParser::new));
+		register(tempParsers, "HDG", new Entry(HDGParser.class, HDGParser::new, HDGParser::new, HDGParser::new));
+		register(tempParsers, "HDM", new Entry(HDMParser.class, HDMParser::new, HDMParser::new, HDMParser::new));
+		register(tempParsers, "HDT", new Entry(HDTParser.class, HDTParser::new, HDTParser::new, HDTParser::new));
+		register(tempParsers, "HTC", new Entry(HTCParser.class, HTCParser::new, HTCParser::new, HTCParser::new));
+		register(tempParsers, "HTD", new Entry(HTDParser.class, HTDParser::new, HTDParser::new, HTDParser::new));
+		register(tempParsers, "MHU", new Entry(MHUParser.class, MHUParser::new, MHUParser::new, MHUParser::new));
+		register(tempParsers, "MMB", new Entry(MMBParser.class, MMBParser::new, MMBParser::new, MMBParser::new));
+		register(tempParsers, "MTA", new Entry(MTAParser.class, MTAParser::new, MTAParser::new, MTAParser::new));
+		register(tempParsers, "MTW", new Entry(MTWParser.class, MTWParser::new, MTWParser::new, MTWParser::new));
+		register(tempParsers, "MWV", new Entry(MWVParser.class, MWVParser::new, MWVParser::new, MWVParser::new));
+		register(tempParsers, "OSD", new Entry(OSDParser.class, OSDParser::new, OSDParser::new, OSDParser::new));
+		register(tempParsers, "RMB", new Entry(RMBParser.class, RMBParser::new, RMBParser::new, RMBParser::new));
+		register(tempParsers, "RMC", new Entry(RMCParser.class, RMCParser::new, RMCParser::new, RMCParser::new));
+		register(tempParsers, "RPM", new Entry(RPMParser.class, RPMParser::new, RPMParser::new, RPMParser::new));
+		register(tempParsers, "ROT", new Entry(ROTParser.class, ROTParser::new, ROTParser::new, ROTParser::new));
+		register(tempParsers, "RTE", new Entry(RTEParser.class, RTEParser::new, RTEParser::new, RTEParser::new));
+		register(tempParsers, "RSA", new Entry(RSAParser.class, RSAParser::new, RSAParser::new, RSAParser::new));
+		register(tempParsers, "RSD", new Entry(RSDParser.class, RSDParser::new, RSDParser::new, RSDParser::new));
+		register(tempParsers, "TLB", new Entry(TLBParser.class, TLBParser::new, TLBParser::new, TLBParser::new));
+		register(tempParsers, "TLL", new Entry(TLLParser.class, TLLParser::new, TLLParser::new, TLLParser::new));
+		register(tempParsers, "TTM", new Entry(TTMParser.class, TTMParser::new, TTMParser::new, TTMParser::new));
+		register(tempParsers, "TXT", new Entry(TXTParser.class, TXTParser::new, TXTParser::new, TXTParser::new));
+		register(tempParsers, "UBX", new Entry(UBXParser.class, UBXParser::new, UBXParser::new, UBXParser::new));
+		register(tempParsers, "VBW", new Entry(VBWParser.class, VBWParser::new, VBWParser::new, VBWParser::new));
+		register(tempParsers, "VDM", new Entry(VDMParser.class, VDMParser::new, VDMParser::new, VDMParser::new));
+		register(tempParsers, "VDO", new Entry(VDOParser.class, VDOParser::new, VDOParser::new, VDOParser::new));
+		register(tempParsers, "VDR", new Entry(VDRParser.class, VDRParser::new, VDRParser::new, VDRParser::new));
+		register(tempParsers, "VHW", new Entry(VHWParser.class, VHWParser::new, VHWParser::new, VHWParser::new));
+		register(tempParsers, "VLW", new Entry(VLWParser.class, VLWParser::new, VLWParser::new, VLWParser::new));
+		register(tempParsers, "VTG", new Entry(VTGParser.class, VTGParser::new, VTGParser::new, VTGParser::new));
+		register(tempParsers, "VWR", new Entry(VWRParser.class, VWRParser::new, VWRParser::new, VWRParser::new));
+		register(tempParsers, "VWT", new Entry(VWTParser.class, VWTParser::new, VWTParser::new, VWTParser::new));
+		register(tempParsers, "WPL", new Entry(WPLParser.class, WPLParser::new, WPLParser::new, WPLParser::new));
+		register(tempParsers, "XTE", new Entry(XTEParser.class, XTEParser::new, XTEParser::new, XTEParser::new));
+		register(tempParsers, "XDR", new Entry(XDRParser.class, XDRParser::new, XDRParser::new, XDRParser::new));
+		register(tempParsers, "ZDA", new Entry(ZDAParser.class, ZDAParser::new, ZDAParser::new, ZDAParser::new));
+		register(tempParsers, "MDA", new Entry(MDAParser.class, MDAParser::new, MDAParser::new, MDAParser::new));
+		register(tempParsers, "MWD", new Entry(MWDParser.class, MWDParser::new, MWDParser::new, MWDParser::new));
+		register(tempParsers, "DTA", new Entry(DTAParser.class, DTAParser::new, DTAParser::new, DTAParser::new));
+		register(tempParsers, "DTB", new Entry(DTBParser.class, DTBParser::new, DTBParser::new, DTBParser::new));
+		synchronized (this) {
+			table = new Table(tempParsers);
+			parsers = tempParsers;
+		}
+	}
+
+	/**
+	 * Function for creating a parser from ASCII encoded sentence data.
+	 *
+	 * @see SentenceParser#SentenceParser(byte[], int, int)
+	 */
+	@FunctionalInterface
+	public interface RawParser {
+
+		/**
+		 * Parses the sentence in given buffer.
+		 *
+		 * @param data Buffer containing the sentence
+		 * @param offset Index of the sentence begin char
+		 * @param length Sentence length in bytes
+		 * @return Sentence parser instance
+		 */
+		Sentence parse(byte[] data, int offset, int length);
+	}
+
+	/**
+	 * Registered parser constructors for a sentence type.
+	 */
+	private static final class Entry {
+
+		final Class<?> type;
+		final Function<String, Sentence> parser;
+		final Function<TalkerId, Sentence> creator;
+		final RawParser raw;
+
+		Entry(Class<?> type, Function<String, Sentence> parser,
+			Function<TalkerId, Sentence> creator, RawParser raw) {
+			this.type = type;
+			this.parser = parser;
+			this.creator = creator;
+			this.raw = raw;
+		}
+	}
+
+	/**
+	 * Immutable open addressing hash table of parser entries keyed by
+	 * three-char sentence ids packed in an int.
+	 */
+	private static final class Table {
+
+		private final int[] keys;
+		private final Entry[] entries;
+		private final int shift;
+
+		Table(Map<String, Entry> parsers) {
+			int size = 16;
+			while (size < parsers.size() * 2) {
+				size <<= 1;
+			}
+			keys = new int[size];
+			entries = new Entry[size];
+			shift = Integer.numberOfLeadingZeros(size) + 1;
+			for (Map.Entry<String, Entry> e : parsers.entrySet()) {
+				if (e.getKey().length() == 3) {
+					int key = pack(e.getKey());
+					int i = index(key);
+					while (keys[i] != 0) {
+						i = (i + 1) & (size - 1);
+					}
+					keys[i] = key;
+					entries[i] = e.getValue();
+				}
+			}
+		}
+
+		Entry get(int key) {
+			int i = index(key);
+			while (keys[i] != 0) {
+				if (keys[i] == key) {
+					return entries[i];
+				}
+				i = (i + 1) & (keys.length - 1);
+			}
+			return null;
+		}
+
+		private int index(int key) {
+			return (key * 0x9E3779B9) >>> shift;
+		}
+
+		static int pack(String sid) {
+			return sid.charAt(0) << 16 | sid.charAt(1) << 8 | sid.charAt(2);
+		}
+
+		static int pack(byte[] data, int from) {
+			return (data[from] & 0xFF) << 16 | (data[from + 1] & 0xFF) << 8
+				| (data[from + 2] & 0xFF);
+		}
 	}
 }
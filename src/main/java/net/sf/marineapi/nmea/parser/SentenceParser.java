@@ -20,11 +20,13 @@
  */
 package net.sf.marineapi.nmea.parser;
 
+import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import net.sf.marineapi.nmea.sentence.Checksum;
 import net.sf.marineapi.nmea.sentence.Sentence;
@@ -56,6 +58,11 @@ import net.sf.marineapi.nmea.sentence.TalkerId;
  * <p>
  * This class can also be used to implement and integrate parsers not provided
  * by in the library. See {@link SentenceFactory} for more instructions.
+ * <p>
+ * Parsed sentences are kept in their raw ASCII form along with the indices of
+ * field delimiters, validated and scanned in a single pass. Numeric getters
+ * decode the values directly from the raw data and Strings are created only
+ * when requested. The fields are converted to Strings on first modification.
  * 
  * @author Kimmo Tuukkanen
  */
@@ -70,8 +77,20 @@ public class SentenceParser implements Sentence {
 	// The next three characters after talker id.
 	private final String sentenceId;
 
-	// actual data fields (sentence id and checksum omitted)
-	private List<String> fields = new ArrayList<String>();
+	// raw sentence data, null if created empty or after fields were modified
+	private byte[] data;
+
+	// indices of field delimiters in raw data; field i lies between
+	// delimiters[i] and delimiters[i + 1], the last index points to the
+	// checksum delimiter or to the end of sentence
+	private int[] delimiters;
+
+	// number of data fields in raw data
+	private int count;
+
+	// actual data fields (sentence id and checksum omitted), created from the
+	// raw data on first modification
+	private List<String> fields;
 
 	/**
 	 * Creates a new instance of SentenceParser. Validates the input String and
@@ -82,22 +101,47 @@ public class SentenceParser implements Sentence {
 	 *             if sentence type is not supported.
 	 */
 	public SentenceParser(String nmea) {
+		this(ascii(nmea));
+	}
+
+	/**
+	 * Creates a new instance of SentenceParser from ASCII encoded sentence in
+	 * given buffer. Validates the data, resolves talker id and sentence type
+	 * and locates the data fields in a single pass, without creating any
+	 * intermediate Strings.
+	 * <p>
+	 * The buffer is not copied, so its contents in the specified range must
+	 * not be modified while the parser is in use.
+	 *
+	 * @param data Buffer containing a valid NMEA 0183 sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If the specified sentence is invalid or
+	 *             if sentence type is not supported.
+	 */
+	public SentenceParser(byte[] data, int offset, int length) {
 
-		if (!SentenceValidator.isValid(nmea)) {
+		if (!scan(data, offset, length)) {
+			String nmea = null;
+			if (data != null && offset >= 0 && length >= 0
+				&& offset + length <= data.length) {
+				nmea = new String(data, offset, length, StandardCharsets.ISO_8859_1);
+			}
 			String msg = String.format("Invalid data [%s]", nmea);
 			throw new IllegalArgumentException(msg);
 		}
 
-		beginChar = nmea.charAt(0);
-		talkerId = TalkerId.parse(nmea);
-		sentenceId = SentenceId.parseStr(nmea);
-		
-		int begin = nmea.indexOf(Sentence.FIELD_DELIMITER) + 1;
-		int end = Checksum.index(nmea);
-		
-		String csv = nmea.substring(begin, end);
-		String[] values = csv.split(String.valueOf(FIELD_DELIMITER), -1);
-		fields.addAll(Arrays.asList(values));
+		beginChar = (char) data[offset];
+		talkerId = TalkerId.parse(data, offset);
+		sentenceId = SentenceId.parseStr(data, offset);
+	}
+
+	/**
+	 * Creates a new instance of SentenceParser with the whole buffer as
+	 * sentence data.
+	 */
+	private SentenceParser(byte[] nmea) {
+		this(nmea, 0, nmea == null ? 0 : nmea.length);
 	}
 
 	/**
@@ -137,7 +181,7 @@ public class SentenceParser implements Sentence {
 		sentenceId = type;
 		String[] values = new String[size];
 		Arrays.fill(values, "");
-		fields.addAll(Arrays.asList(values));
+		fields = new ArrayList<String>(Arrays.asList(values));
 	}
 
 	/**
@@ -154,16 +198,25 @@ public class SentenceParser implements Sentence {
 	 */
 	protected SentenceParser(String nmea, String type) {
 		this(nmea);
-		if (type == null || "".equals(type)) {
-			throw new IllegalArgumentException(
-				"Sentence type must be specified.");
-		}
-		String sid = getSentenceId();
-		if (!sid.equals(type)) {
-			String ptrn = "Sentence id mismatch; expected [%s], found [%s].";
-			String msg = String.format(ptrn, type, sid);
-			throw new IllegalArgumentException(msg);
-		}
+		checkType(type);
+	}
+
+	/**
+	 * Creates a new instance of SentenceParser from ASCII encoded sentence in
+	 * given buffer. Parser may be constructed only if the buffer contains a
+	 * valid NMEA 0183 sentence of the specified {@code type}.
+	 *
+	 * @param data Buffer containing NMEA 0183 sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @param type Expected type of the sentence in {@code data}
+	 * @throws IllegalArgumentException If the specified sentence is not a valid
+	 *             or is not of expected type.
+	 * @see #SentenceParser(byte[], int, int)
+	 */
+	protected SentenceParser(byte[] data, int offset, int length, String type) {
+		this(data, offset, length);
+		checkType(type);
 	}
 
 	/**
@@ -189,6 +242,20 @@ public class SentenceParser implements Sentence {
 		this(nmea, type.toString());
 	}
 
+	/**
+	 * Creates a new instance of SentenceParser with specified sentence data.
+	 * Type of the sentence is checked against the specified expected sentence
+	 * type id.
+	 *
+	 * @param data Buffer containing the sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @param type Sentence type enum
+	 */
+	SentenceParser(byte[] data, int offset, int length, SentenceId type) {
+		this(data, offset, length, type.toString());
+	}
+
 	/**
 	 * Creates a new instance of SentenceParser without any data.
 	 * 
@@ -230,7 +297,7 @@ public class SentenceParser implements Sentence {
 	 */
 	public final int getFieldCount() {
 		if (fields == null) {
-			return 0;
+			return count;
 		}
 		return fields.size();
 	}
@@ -261,8 +328,7 @@ public class SentenceParser implements Sentence {
 	}
 
 	public boolean isAISSentence() {
-		final String[] types = {"VDO", "VDM"};
-		return Arrays.asList(types).contains(getSentenceId());
+		return "VDM".equals(sentenceId) || "VDO".equals(sentenceId);
 	}
 
 	/*
@@ -286,8 +352,9 @@ public class SentenceParser implements Sentence {
 	 * @see net.sf.marineapi.nmea.sentence.Sentence#reset()
 	 */
 	public final void reset() {
-		for (int i = 0; i < fields.size(); i++) {
-			fields.set(i, "");
+		List<String> values = fields();
+		for (int i = 0; i < values.size(); i++) {
+			values.set(i, "");
 		}
 	}
 
@@ -349,10 +416,16 @@ public class SentenceParser implements Sentence {
 		StringBuilder sb = new StringBuilder(MAX_LENGTH);
 		sb.append(talkerId.toString());
 		sb.append(sentenceId);
-		
-		for (String field : fields) {
-			sb.append(FIELD_DELIMITER);
-			sb.append(field == null ? "" : field);
+
+		if (fields == null) {
+			for (int i = delimiters[0]; i < delimiters[count]; i++) {
+				sb.append((char) data[i]);
+			}
+		} else {
+			for (String field : fields) {
+				sb.append(FIELD_DELIMITER);
+				sb.append(field == null ? "" : field);
+			}
 		}
 		
 		final String checksum = Checksum.xor(sb.toString());
@@ -372,6 +445,13 @@ public class SentenceParser implements Sentence {
 	 *             than one character
 	 */
 	protected final char getCharValue(int index) {
+		if (fields == null) {
+			int from = start(index);
+			int length = delimiters[index + 1] - from;
+			if (length == 1) {
+				return (char) data[from];
+			}
+		}
 		String val = getStringValue(index);
 		if (val.length() > 1) {
 			String msg = String.format("Expected char, found String [%s]", val);
@@ -387,6 +467,16 @@ public class SentenceParser implements Sentence {
 	 * @return Field as parsed by {@link Double#parseDouble(String)}
 	 */
 	protected final double getDoubleValue(int index) {
+		if (fields == null) {
+			int from = start(index);
+			int to = delimiters[index + 1];
+			if (from < to) {
+				double value = decodeDouble(data, from, to);
+				if (!Double.isNaN(value)) {
+					return value;
+				}
+			}
+		}
 		double value;
 		try {
 			value = Double.parseDouble(getStringValue(index));
@@ -403,6 +493,16 @@ public class SentenceParser implements Sentence {
 	 * @return Field parsed by {@link Integer#parseInt(String)}
 	 */
 	protected final int getIntValue(int index) {
+		if (fields == null) {
+			int from = start(index);
+			int to = delimiters[index + 1];
+			if (from < to) {
+				long value = decodeInt(data, from, to);
+				if (value != Long.MIN_VALUE) {
+					return (int) value;
+				}
+			}
+		}
 		int value;
 		try {
 			value = Integer.parseInt(getStringValue(index));
@@ -427,7 +527,15 @@ public class SentenceParser implements Sentence {
 	 *             empty
 	 */
 	protected final String getStringValue(int index) {
-		String value = fields.get(index);
+		String value;
+		if (fields == null) {
+			int from = start(index);
+			int length = delimiters[index + 1] - from;
+			value = length == 0 ? null : new String(data, from, length,
+				StandardCharsets.ISO_8859_1);
+		} else {
+			value = fields.get(index);
+		}
 		if (value == null || "".equals(value)) {
 			throw new DataNotAvailableException("Data not available");
 		}
@@ -441,6 +549,10 @@ public class SentenceParser implements Sentence {
 	 * @return True if field contains value, otherwise false.
 	 */
 	protected final boolean hasValue(int index) {
+		if (fields == null) {
+			return count > index &&
+				delimiters[index + 1] - delimiters[index] > 1;
+		}
 		return fields.size() > index &&
 			fields.get(index) != null && !fields.get(index).isEmpty();
 	}
@@ -532,11 +644,12 @@ public class SentenceParser implements Sentence {
 				"Number of fields must be greater than zero.");
 		}
 		
-		if(size < fields.size()) {
-			fields = fields.subList(0, size);
-		} else if (size > fields.size()) {
-			for(int i = fields.size(); i < size; i++) {
-				fields.add("");
+		List<String> values = fields();
+		if(size < values.size()) {
+			fields = values.subList(0, size);
+		} else if (size > values.size()) {
+			for(int i = values.size(); i < size; i++) {
+				values.add("");
 			}
 		}
 	}
@@ -574,7 +687,7 @@ public class SentenceParser implements Sentence {
 	 * @param value String to set, {@code null} converts to empty String.
 	 */
 	protected final void setStringValue(int index, String value) {
-		fields.set(index, value == null ? "" : value);
+		fields().set(index, value == null ? "" : value);
 	}
 
 	/**
@@ -596,7 +709,7 @@ public class SentenceParser implements Sentence {
 	protected final void setStringValues(int first, String[] newFields) {
 		
 		List<String> temp = new ArrayList<String>();		
-		temp.addAll(fields.subList(0, first));
+		temp.addAll(fields().subList(0, first));
 		
 		for (String field : newFields) {
 			temp.add(field == null ? "" : field);
@@ -613,7 +726,227 @@ public class SentenceParser implements Sentence {
 	 * @return Array of String values
 	 */
 	protected final String[] getStringValues(int first) {
+		if (fields == null) {
+			String[] values = new String[count - first];
+			for (int i = first; i < count; i++) {
+				values[i - first] = field(i);
+			}
+			return values;
+		}
 		String[] values = new String[fields.size()-first];
 		return fields.subList(first, fields.size()).toArray(values);
 	}
+
+	/**
+	 * Checks that sentence id matches the expected type.
+	 *
+	 * @param type Expected sentence id
+	 * @throws IllegalArgumentException If type is not specified or does not
+	 *             match the sentence id.
+	 */
+	private void checkType(String type) {
+		if (type == null || "".equals(type)) {
+			throw new IllegalArgumentException(
+				"Sentence type must be specified.");
+		}
+		String sid = getSentenceId();
+		if (!sid.equals(type)) {
+			String ptrn = "Sentence id mismatch; expected [%s], found [%s].";
+			String msg = String.format(ptrn, type, sid);
+			throw new IllegalArgumentException(msg);
+		}
+	}
+
+	/**
+	 * Returns the data fields, converting the raw sentence data to field
+	 * Strings if not done already.
+	 *
+	 * @return List of data fields
+	 */
+	private List<String> fields() {
+		if (fields == null) {
+			List<String> values = new ArrayList<String>(count);
+			for (int i = 0; i < count; i++) {
+				values.add(field(i));
+			}
+			fields = values;
+			data = null;
+			delimiters = null;
+			count = 0;
+		}
+		return fields;
+	}
+
+	/**
+	 * Creates a String of the specified field in raw data, without modifying
+	 * the parser state.
+	 *
+	 * @param index Field index
+	 * @return Field value, empty String if field has no data
+	 */
+	private String field(int index) {
+		int from = delimiters[index] + 1;
+		return new String(data, from, delimiters[index + 1] - from,
+			StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Returns the index of first char of the specified field in raw data.
+	 *
+	 * @param index Field index
+	 * @return Index in raw data
+	 * @throws IndexOutOfBoundsException If field index is out of bounds
+	 */
+	private int start(int index) {
+		Objects.checkIndex(index, count);
+		return delimiters[index] + 1;
+	}
+
+	/**
+	 * Validates the sentence in given buffer and records the field delimiter
+	 * indices, computing the checksum during the same pass. The rules are the
+	 * same as in {@link SentenceValidator#isValid(String)}.
+	 *
+	 * @param buf Buffer to scan
+	 * @param offset Index of sentence begin char
+	 * @param length Sentence length
+	 * @return {@code true} if valid sentence, otherwise {@code false}.
+	 */
+	private boolean scan(byte[] buf, int offset, int length) {
+
+		if (buf == null || offset < 0 || length < 5
+			|| offset + length > buf.length) {
+			return false;
+		}
+
+		final int end = offset + length;
+		int i = SentenceValidator.addressEnd(buf, offset, end);
+		if (i < 0) {
+			return false;
+		}
+
+		int sum = 0;
+		for (int j = offset + 1; j < i; j++) {
+			sum ^= buf[j];
+		}
+
+		int[] indices = new int[16];
+		int n = 0;
+
+		for (; i < end; i++) {
+			int ch = buf[i] & 0xFF;
+			if (ch == FIELD_DELIMITER) {
+				if (n + 1 == indices.length) {
+					indices = Arrays.copyOf(indices, n * 2);
+				}
+				indices[n++] = i;
+			} else if (ch == CHECKSUM_DELIMITER) {
+				if (i != end - 3 || (SentenceValidator.hexValue(buf[i + 1]) << 4
+					| SentenceValidator.hexValue(buf[i + 2])) != sum) {
+					return false;
+				}
+				break;
+			} else if (ch < 0x20 || ch > 0x7F) {
+				if (!SentenceValidator.isTerminator(buf, i, end)) {
+					return false;
+				}
+				break;
+			}
+			sum ^= ch;
+		}
+
+		indices[n] = i;
+		this.data = buf;
+		this.delimiters = indices;
+		this.count = n;
+		return true;
+	}
+
+	/**
+	 * Decodes an integer from ASCII digits with optional sign, as in
+	 * {@link Integer#parseInt(String)}.
+	 *
+	 * @return Decoded value or {@code Long.MIN_VALUE} if the range does not
+	 *         contain a plain integer of at most nine digits.
+	 */
+	private static long decodeInt(byte[] buf, int from, int to) {
+		boolean negative = buf[from] == '-';
+		if (negative || buf[from] == '+') {
+			from++;
+		}
+		if (from == to || to - from > 9) {
+			return Long.MIN_VALUE;
+		}
+		int value = 0;
+		for (int i = from; i < to; i++) {
+			int digit = buf[i] - '0';
+			if (digit < 0 || digit > 9) {
+				return Long.MIN_VALUE;
+			}
+			value = value * 10 + digit;
+		}
+		return negative ? -value : value;
+	}
+
+	// exactly representable powers of ten
+	private static final double[] POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	// largest integer that converts to double without rounding
+	private static final long MAX_EXACT = 1L << 53;
+
+	/**
+	 * Decodes a decimal number from ASCII digits with optional sign and
+	 * decimal point. The result is equal to {@link Double#parseDouble(String)}
+	 * as the value is computed by single correctly rounded division.
+	 *
+	 * @return Decoded value or {@code NaN} if the range contains other
+	 *         notation or too many significant digits for exact conversion.
+	 */
+	private static double decodeDouble(byte[] buf, int from, int to) {
+		boolean negative = buf[from] == '-';
+		if (negative || buf[from] == '+') {
+			from++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int decimals = -1;
+		for (int i = from; i < to; i++) {
+			byte b = buf[i];
+			if (b == '.' && decimals < 0) {
+				decimals = 0;
+				continue;
+			}
+			int digit = b - '0';
+			if (digit < 0 || digit > 9 || ++digits > 18) {
+				return Double.NaN;
+			}
+			mantissa = mantissa * 10 + digit;
+			if (decimals >= 0) {
+				decimals++;
+			}
+		}
+		if (digits == 0 || mantissa > MAX_EXACT || decimals >= POWERS_OF_TEN.length) {
+			return Double.NaN;
+		}
+		double value = decimals > 0 ? mantissa / POWERS_OF_TEN[decimals] : mantissa;
+		return negative ? -value : value;
+	}
+
+	/**
+	 * Converts String to ASCII bytes, non-ASCII chars are replaced with zero
+	 * bytes that never pass the validation.
+	 */
+	private static byte[] ascii(String nmea) {
+		if (nmea == null) {
+			return null;
+		}
+		byte[] bytes = new byte[nmea.length()];
+		for (int i = 0; i < bytes.length; i++) {
+			char ch = nmea.charAt(i);
+			bytes[i] = ch > 0x7F ? 0 : (byte) ch;
+		}
+		return bytes;
+	}
 }
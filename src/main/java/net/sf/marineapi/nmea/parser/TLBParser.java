@@ -46,6 +46,21 @@ class TLBParser extends SentenceParser implements TLBSentence {
             throw new IllegalArgumentException("Invalid TLB sentence. Must contain pairs of target numbers and labels.");
         }
     }
+
+	/**
+	 * Creates a new instance of TLB parser
+	 * 
+	 * @param data Buffer containing the TLB sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public TLBParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.TLB);
+        
+        if ((getFieldCount() % 2) != 0) {
+            throw new IllegalArgumentException("Invalid TLB sentence. Must contain pairs of target numbers and labels.");
+        }
+    }
     
     /**
 	 * Creates TLB parser with empty sentence. The created TLB sentence contains
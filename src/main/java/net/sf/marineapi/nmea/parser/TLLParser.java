@@ -49,6 +49,10 @@ class TLLParser extends PositionParser implements TLLSentence{
 		super(nmea,SentenceId.TLL);
 	}
 
+	public TLLParser(byte[] data, int offset, int length) {
+		super(data, offset, length,SentenceId.TLL);
+	}
+
 	public TLLParser(TalkerId talker) {
 		super(talker, SentenceId.TLL,9);
 	}
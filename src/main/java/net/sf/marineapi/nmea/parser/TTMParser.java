@@ -66,6 +66,19 @@ class TTMParser extends SentenceParser implements TTMSentence {
 		super(nmea, SentenceId.TTM);
 	}
 
+	/**
+	 * Create a new instance of TTMParser.
+	 *
+	 * @param data Buffer containing the TTM sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException
+	 *             If specified sentence is invalid.
+	 */
+	public TTMParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.TTM);
+	}
+
 	/**
 	 * Create a TTM parser with an empty sentence.
 	 *
@@ -57,6 +57,17 @@ class TXTParser extends SentenceParser implements TXTSentence {
         super(nmea, SentenceId.TXT);
     }
 
+    /**
+     * Constructor with sentence String.
+     *
+     * @param data Buffer containing the TXT sentence
+     * @param offset Index of the sentence begin char
+     * @param length Sentence length in bytes
+     */
+    public TXTParser(byte[] data, int offset, int length) {
+        super(data, offset, length, SentenceId.TXT);
+    }
+
     /**
      * Constructs an empty TXT sentence.
      *
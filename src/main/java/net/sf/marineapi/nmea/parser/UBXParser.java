@@ -42,6 +42,10 @@ class UBXParser extends SentenceParser implements UBXSentence {
 		super(nmea, SentenceId.UBX);
 	}
 
+	public UBXParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.UBX);
+	}
+
 	/**
 	 * Creates a new empty UBX Parser.
 	 *
@@ -55,6 +59,10 @@ class UBXParser extends SentenceParser implements UBXSentence {
 		super(nmea, type);
 	}
 
+	public UBXParser(byte[] data, int offset, int length, String type) {
+		super(data, offset, length, type);
+	}
+
 	@Override
 	public Integer getMessageId() {
 		return super.getIntValue(0);
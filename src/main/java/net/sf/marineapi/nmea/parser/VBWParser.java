@@ -53,6 +53,18 @@ class VBWParser extends SentenceParser implements VBWSentence {
 		super(nmea, SentenceId.VBW);
 	}
 
+	/**
+	 * Create a new instance of VBWParser.
+	 * 
+	 * @param data Buffer containing the VBW sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If specified sentence is invalid.
+	 */
+	public VBWParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.VBW);
+	}
+
 	/**
 	 * Create a VBW parser with an empty sentence.
 	 * 
@@ -23,6 +23,17 @@ class VDMParser extends AISParser {
 		super(nmea, SentenceId.VDM);
 	}
 
+	/**
+	 * Creates a new instance of VDMParser.
+	 * 
+	 * @param data Buffer containing the NMEA 0183 sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public VDMParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.VDM);
+	}
+
 	/**
 	 * Creates a new empty VDMParser.
 	 * 
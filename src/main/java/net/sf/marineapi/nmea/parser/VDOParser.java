@@ -43,6 +43,17 @@ class VDOParser extends AISParser {
 		super(nmea, SentenceId.VDO);
 	}
 
+	/**
+	 * Creates a new instance of VDOParser.
+	 * 
+	 * @param data Buffer containing the NMEA 0183 sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public VDOParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.VDO);
+	}
+
 	/**
 	 * Creates a new empty VDOParser.
 	 * 
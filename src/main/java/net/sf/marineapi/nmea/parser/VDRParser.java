@@ -48,6 +48,17 @@ class VDRParser extends SentenceParser implements VDRSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates a new instance of VDRParser.
+	 * 
+	 * @param data Buffer containing the VDR sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public VDRParser(byte[] data, int offset, int length) {
+		super(data, offset, length);
+	}
+
 	/**
 	 * Creates a new empty instance of VDRParser.
 	 * 
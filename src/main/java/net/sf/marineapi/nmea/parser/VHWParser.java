@@ -49,6 +49,17 @@ class VHWParser extends SentenceParser implements VHWSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates a new instance of VHW parser with given data.
+	 * 
+	 * @param data Buffer containing the VHW sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public VHWParser(byte[] data, int offset, int length) {
+		super(data, offset, length);
+	}
+
 	/**
 	 * Creates a new empty VHW parser instance.
 	 * 
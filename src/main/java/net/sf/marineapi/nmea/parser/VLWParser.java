@@ -44,6 +44,17 @@ class VLWParser extends SentenceParser implements VLWSentence {
 		super(nmea);
 	}
 
+	/**
+	 * Creates a new instance of VLWParser.
+	 * 
+	 * @param data Buffer containing the NMEA 0183 sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public VLWParser(byte[] data, int offset, int length) {
+		super(data, offset, length);
+	}
+
 	/**
 	 * Creates a new empty instance of VLWParser.
 	 * 
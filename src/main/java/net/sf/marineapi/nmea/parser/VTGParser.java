@@ -52,6 +52,18 @@ class VTGParser extends SentenceParser implements VTGSentence {
 		super(nmea, SentenceId.VTG);
 	}
 
+	/**
+	 * Creates a new instance of VTGParser.
+	 * 
+	 * @param data Buffer containing the VTG sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If specified sentence is invalid
+	 */
+	public VTGParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.VTG);
+	}
+
 	/**
 	 * Creates VTG parser with empty sentence.
 	 * 
@@ -51,6 +51,18 @@ class VWRParser extends SentenceParser implements VWRSentence {
 		super(nmea, SentenceId.VWR);
 	}
 
+	/**
+	 * Creates a new instance of VWRParser.
+	 *
+	 * @param data Buffer containing the VWR sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If specified sentence is invalid
+	 */
+	public VWRParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.VWR);
+	}
+
 	/**
 	 * Creates VWR parser with empty sentence.
 	 *
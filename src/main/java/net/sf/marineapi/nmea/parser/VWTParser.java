@@ -51,6 +51,18 @@ class VWTParser extends SentenceParser implements VWTSentence {
 		super(nmea, SentenceId.VWT);
 	}
 
+	/**
+	 * Creates a new instance of VWTParser.
+	 *
+	 * @param data Buffer containing the VWT sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If specified sentence is invalid
+	 */
+	public VWTParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.VWT);
+	}
+
 	/**
 	 * Creates VWT parser with empty sentence.
 	 *
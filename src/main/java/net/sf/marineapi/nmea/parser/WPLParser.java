@@ -50,6 +50,18 @@ class WPLParser extends PositionParser implements WPLSentence {
 		super(nmea, SentenceId.WPL);
 	}
 
+	/**
+	 * Creates a new instance of WPLParser.
+	 * 
+	 * @param data Buffer containing the WPL sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If specified sentence is invalid.
+	 */
+	public WPLParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.WPL);
+	}
+
 	/**
 	 * Creates WPL parser with empty sentence.
 	 * 
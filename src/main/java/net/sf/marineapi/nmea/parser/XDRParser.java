@@ -71,6 +71,17 @@ class XDRParser extends SentenceParser implements XDRSentence {
 		super(nmea, SentenceId.XDR);
 	}
 
+	/**
+	 * Creates new instance of XDRParser.
+	 * 
+	 * @param data Buffer containing the XDR sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public XDRParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.XDR);
+	}
+
 	/**
 	 * Creates XDR parser with empty sentence.
 	 * 
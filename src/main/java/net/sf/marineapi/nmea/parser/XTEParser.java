@@ -51,6 +51,18 @@ class XTEParser extends SentenceParser implements XTESentence {
 		setFieldCount(6);
 	}
 
+	/**
+	 * Creates new instance of XTEParser.
+	 * 
+	 * @param data Buffer containing the XTE sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 */
+	public XTEParser(byte[] data, int offset, int length) {
+		super(data, offset, length);
+		setFieldCount(6);
+	}
+
 	public XTEParser(TalkerId talker) {
 		super(talker, SentenceId.XTE, 6);
 		setMode(FaaMode.NONE);
@@ -51,6 +51,18 @@ class ZDAParser extends SentenceParser implements ZDASentence {
 		super(nmea, SentenceId.ZDA);
 	}
 
+	/**
+	 * Creates a new instance of ZDAParser.
+	 *
+	 * @param data Buffer containing the ZDA sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Sentence length in bytes
+	 * @throws IllegalArgumentException If specified sentence is invalid.
+	 */
+	public ZDAParser(byte[] data, int offset, int length) {
+		super(data, offset, length, SentenceId.ZDA);
+	}
+
 	/**
 	 * Creates WPL parser with empty sentence.
 	 *
@@ -20,6 +20,9 @@
  */
 package net.sf.marineapi.nmea.sentence;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 /**
  * Defines the supported NMEA 0183 sentence types. Sentence address field is a
  * combination of talker and sentence IDs, for example GPBOD, GPGGA or GPGGL.
@@ -176,4 +179,67 @@ public enum SentenceId {
         }
         return id;
     }
+
+    /**
+     * Parses the sentence id from sentence in given buffer. For the sentence
+     * types defined in this enum, the returned String is the constant name
+     * and thus no new Strings are created. Notice that the sentence format is
+     * not validated, see {@link SentenceValidator#isSentence(byte[], int, int)}.
+     *
+     * @param data Buffer containing ASCII encoded sentence
+     * @param offset Index of the sentence begin char
+     * @return Sentence Id, e.g. "GGA" or "GLL"
+     */
+    public static String parseStr(byte[] data, int offset) {
+
+        int from = offset + 3;
+        if (data[offset] == Sentence.BEGIN_CHAR && data[offset + 1] == 'P') {
+            from = offset + 2;
+        }
+
+        int to = from;
+        while (data[to] != Sentence.FIELD_DELIMITER) {
+            to++;
+        }
+
+        if (to - from == 3) {
+            int i = Arrays.binarySearch(Lookup.KEYS, pack(data, from));
+            if (i >= 0) {
+                return Lookup.NAMES[i];
+            }
+        }
+        return new String(data, from, to - from, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Packs three ASCII chars in an int.
+     */
+    private static int pack(byte[] data, int from) {
+        return (data[from] & 0xFF) << 16 | (data[from + 1] & 0xFF) << 8 | (data[from + 2] & 0xFF);
+    }
+
+    /**
+     * Sentence ids sorted by their packed three-char values.
+     */
+    private static final class Lookup {
+
+        static final int[] KEYS;
+        static final String[] NAMES;
+
+        static {
+            SentenceId[] ids = values();
+            long[] packed = new long[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                byte[] b = ids[i].name().getBytes(StandardCharsets.US_ASCII);
+                packed[i] = (long) pack(b, 0) << 8 | i;
+            }
+            Arrays.sort(packed);
+            KEYS = new int[ids.length];
+            NAMES = new String[ids.length];
+            for (int i = 0; i < packed.length; i++) {
+                KEYS[i] = (int) (packed[i] >>> 8);
+                NAMES[i] = ids[(int) (packed[i] & 0xFF)].name();
+            }
+        }
+    }
 }
@@ -101,4 +101,158 @@ public final class SentenceValidator {
 
 		return isValid;
 	}
+
+	/**
+	 * Tells if the specified buffer range matches the NMEA 0183 sentence
+	 * format. The criteria are the same as in {@link #isSentence(String)}, but
+	 * the bytes are scanned directly without creating any Strings.
+	 *
+	 * @param data Buffer containing ASCII encoded sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Number of bytes to inspect
+	 * @return true if recognized as sentence, otherwise false.
+	 */
+	public static boolean isSentence(byte[] data, int offset, int length) {
+
+		if (data == null || offset < 0 || length < 0 || offset + length > data.length) {
+			return false;
+		}
+
+		int comma = addressEnd(data, offset, offset + length);
+		if (comma < 0) {
+			return false;
+		}
+
+		int end = offset + length;
+		if (end - comma > 2 && isTerminator(data, end - 2, end)) {
+			end -= 2;
+		} else if (end - comma > 1 && isTerminator(data, end - 1, end)) {
+			end--;
+		}
+
+		int star = -1;
+		for (int i = comma + 1; i < end; i++) {
+			int ch = data[i] & 0xFF;
+			if (ch < 0x20 || ch > 0x7F) {
+				return false;
+			}
+			if (ch == Sentence.CHECKSUM_DELIMITER) {
+				star = i;
+			}
+		}
+
+		return star < 0 || (star == end - 3
+			&& hexValue(data[end - 2]) >= 0 && hexValue(data[end - 1]) >= 0);
+	}
+
+	/**
+	 * Tells if the specified buffer range is a valid NMEA 0183 sentence. The
+	 * criteria are the same as in {@link #isValid(String)}, but the format and
+	 * checksum are verified in a single pass over the bytes, without creating
+	 * any Strings.
+	 *
+	 * @param data Buffer containing ASCII encoded sentence
+	 * @param offset Index of the sentence begin char
+	 * @param length Number of bytes to validate
+	 * @return {@code true} if valid, otherwise {@code false}.
+	 */
+	public static boolean isValid(byte[] data, int offset, int length) {
+
+		if (data == null || offset < 0 || length < 0 || offset + length > data.length) {
+			return false;
+		}
+
+		final int end = offset + length;
+		final int comma = addressEnd(data, offset, end);
+		if (comma < 0) {
+			return false;
+		}
+
+		int sum = 0;
+		for (int i = offset + 1; i < end; i++) {
+			int ch = data[i] & 0xFF;
+			if (ch == Sentence.CHECKSUM_DELIMITER) {
+				return i == end - 3 && i > comma
+					&& (hexValue(data[i + 1]) << 4 | hexValue(data[i + 2])) == sum;
+			} else if (ch < 0x20 || ch > 0x7F) {
+				return isTerminator(data, i, end);
+			}
+			sum ^= ch;
+		}
+
+		// no checksum
+		return true;
+	}
+
+	/**
+	 * Scans the sentence address field, i.e. begin char followed by 3 to 10
+	 * upper-case letters or digits and a field delimiter.
+	 *
+	 * @param data Buffer containing ASCII encoded sentence
+	 * @param offset Index of the sentence begin char
+	 * @param end Index after the last byte of sentence
+	 * @return Index of the first field delimiter, or -1 if address is invalid.
+	 */
+	public static int addressEnd(byte[] data, int offset, int end) {
+
+		if (end - offset < 5) {
+			return -1;
+		}
+
+		byte begin = data[offset];
+		if (begin != Sentence.BEGIN_CHAR
+			&& begin != Sentence.ALTERNATIVE_BEGIN_CHAR && begin != '|') {
+			return -1;
+		}
+
+		int i = offset + 1;
+		while (i < end && isAddressChar(data[i])) {
+			i++;
+		}
+
+		int idLength = i - offset - 1;
+		if (i == end || data[i] != Sentence.FIELD_DELIMITER
+			|| idLength < 3 || idLength > 10) {
+			return -1;
+		}
+		return i;
+	}
+
+	private static boolean isAddressChar(byte b) {
+		return (b >= 'A' && b <= 'Z') || (b >= '0' && b <= '9');
+	}
+
+	/**
+	 * Tells if range from {@code index} to {@code end} contains exactly one
+	 * sentence terminator; CR, LF, CR/LF or LF/CR.
+	 *
+	 * @param data Buffer containing ASCII encoded sentence
+	 * @param index Index of the first terminator char
+	 * @param end Index after the last byte of sentence
+	 * @return true if terminator, otherwise false.
+	 */
+	public static boolean isTerminator(byte[] data, int index, int end) {
+		int n = end - index;
+		if (n == 1) {
+			return data[index] == '\r' || data[index] == '\n';
+		}
+		return n == 2 && ((data[index] == '\r' && data[index + 1] == '\n')
+			|| (data[index] == '\n' && data[index + 1] == '\r'));
+	}
+
+	/**
+	 * Returns the value of upper-case hex digit, as used in checksum.
+	 *
+	 * @param b ASCII char
+	 * @return Digit value, or -1 if not a hex digit.
+	 */
+	public static int hexValue(byte b) {
+		if (b >= '0' && b <= '9') {
+			return b - '0';
+		}
+		if (b >= 'A' && b <= 'F') {
+			return b - 'A' + 10;
+		}
+		return -1;
+	}
 }
@@ -20,6 +20,8 @@
  */
 package net.sf.marineapi.nmea.sentence;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * The enumeration of Talker IDs, i.e. the first two characters of sentence
  * address field. For example, {@code GP} in {@code $GPGGA}. Proprietary
@@ -282,4 +284,50 @@ public enum TalkerId {
 		}
 		return TalkerId.valueOf(TalkerId.class, tid);
 	}
+
+	/**
+	 * Parses the Talker ID from sentence in given buffer without creating any
+	 * intermediate Strings. Notice that the sentence format is not validated,
+	 * see {@link SentenceValidator#isSentence(byte[], int, int)}.
+	 *
+	 * @param data Buffer containing ASCII encoded sentence
+	 * @param offset Index of the sentence begin char
+	 * @return TalkerId enum
+	 * @throws IllegalArgumentException If talker id is not recognized
+	 */
+	public static TalkerId parse(byte[] data, int offset) {
+
+		if (data[offset] == Sentence.BEGIN_CHAR && data[offset + 1] == 'P') {
+			return P;
+		}
+
+		int first = data[offset + 1] - 'A';
+		int second = data[offset + 2] - 'A';
+		if (first >= 0 && first < 26 && second >= 0 && second < 26) {
+			TalkerId tid = Lookup.IDS[first * 26 + second];
+			if (tid != null) {
+				return tid;
+			}
+		}
+
+		String tid = new String(data, offset + 1, 2, StandardCharsets.US_ASCII);
+		return TalkerId.valueOf(TalkerId.class, tid);
+	}
+
+	/**
+	 * Two-letter talker ids indexed by their characters.
+	 */
+	private static final class Lookup {
+
+		static final TalkerId[] IDS = new TalkerId[26 * 26];
+
+		static {
+			for (TalkerId tid : values()) {
+				String id = tid.name();
+				if (id.length() == 2) {
+					IDS[(id.charAt(0) - 'A') * 26 + id.charAt(1) - 'A'] = tid;
+				}
+			}
+		}
+	}
 }
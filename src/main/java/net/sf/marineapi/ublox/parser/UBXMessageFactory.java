@@ -19,9 +19,7 @@
  */
 package net.sf.marineapi.ublox.parser;
 
-import java.lang.reflect.Constructor;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.function.Function;
 
 import net.sf.marineapi.nmea.sentence.UBXSentence;
 import net.sf.marineapi.ublox.message.UBXMessage;
@@ -40,15 +38,16 @@ import net.sf.marineapi.ublox.message.UBXMessage;
 public class UBXMessageFactory {
 
 	private static UBXMessageFactory instance;
-	private Map<Integer, Class<? extends UBXMessage>> parsers;
+
+	// parser constructors indexed by message type
+	private final Function<?, ?>[] parsers = new Function<?, ?>[4];
 
 	/**
 	 * Hidden constructor.
 	 */
 	private UBXMessageFactory() {
-		parsers = new HashMap<Integer, Class<? extends UBXMessage>>(2);
-		parsers.put(0, UBXMessage00Parser.class);
-		parsers.put(3, UBXMessage03Parser.class);
+		register(0, UBXMessage00Parser::new);
+		register(3, UBXMessage03Parser::new);
 	}
 
 	/**
@@ -64,23 +63,40 @@ public class UBXMessageFactory {
 
 		final UBXMessageParser parser = new UBXMessageParser(sentence);
 
-		if (!parsers.containsKey(parser.getMessageType())) {
+		Function<UBXSentence, UBXMessage> constructor = get(parser.getMessageType());
+		if (constructor == null) {
 			String msg = String.format("no parser for message type %d", parser.getMessageType());
 			throw new IllegalArgumentException(msg);
 		}
 
 		UBXMessage result;
-		Class<? extends UBXMessage> c = parsers.get(parser.getMessageType());
 		try {
-			Constructor<? extends UBXMessage> co = c.getConstructor(UBXSentence.class);
-			result = co.newInstance(sentence);
-		} catch (Exception e) {
-			throw new IllegalStateException(e.getCause());
+			result = constructor.apply(sentence);
+		} catch (RuntimeException e) {
+			throw new IllegalStateException(e);
 		}
 
 		return result;
 	}
 
+	/**
+	 * Registers a message parser constructor for given message type.
+	 */
+	private void register(int type, Function<UBXSentence, UBXMessage> constructor) {
+		parsers[type] = constructor;
+	}
+
+	/**
+	 * Returns the parser constructor for given message type, or null.
+	 */
+	@SuppressWarnings("unchecked")
+	private Function<UBXSentence, UBXMessage> get(int type) {
+		if (type < 0 || type >= parsers.length) {
+			return null;
+		}
+		return (Function<UBXSentence, UBXMessage>) parsers[type];
+	}
+
 	/**
 	 * Returns the factory singleton.
 	 *
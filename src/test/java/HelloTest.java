@@ -1,8 +0,0 @@
-import org.junit.jupiter.api.Test;
-
-public class HelloTest {
-    @Test
-    public void testHello() {
-        new HelloWorld().print();
-    }
-}
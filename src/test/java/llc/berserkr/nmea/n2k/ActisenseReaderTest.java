@@ -0,0 +1,134 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ActisenseReaderTest {
+
+    /**
+     * Frames a received N2K message with escaping and checksum.
+     */
+    private static byte[] message(final int command, final int priority, final int pgn, final int destination,
+                                  final int source, final byte[] data) {
+
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(command);
+        body.write(11 + data.length);
+        body.write(priority);
+        body.write(pgn);
+        body.write(pgn >>> 8);
+        body.write(pgn >>> 16);
+        body.write(destination);
+        body.write(source);
+        body.write(new byte[]{1, 2, 3, 4}, 0, 4);
+        body.write(data.length);
+        body.write(data, 0, data.length);
+
+        int sum = 0;
+        for (final byte b : body.toByteArray()) {
+            sum += b;
+        }
+        body.write(-sum);
+
+        final ByteArrayOutputStream framed = new ByteArrayOutputStream();
+        framed.write(ActisenseReader.DLE);
+        framed.write(ActisenseReader.STX);
+        for (final byte b : body.toByteArray()) {
+            framed.write(b);
+            if (b == ActisenseReader.DLE) {
+                framed.write(b);
+            }
+        }
+        framed.write(ActisenseReader.DLE);
+        framed.write(ActisenseReader.ETX);
+
+        return framed.toByteArray();
+    }
+
+    /**
+     * Channel returning at most 5 bytes per read.
+     */
+    private static ReadableByteChannel channel(final byte[] bytes) {
+        return new ReadableByteChannel() {
+
+            private int position;
+
+            @Override
+            public int read(final ByteBuffer dst) {
+                if (position == bytes.length) {
+                    return -1;
+                }
+                final int n = Math.min(Math.min(5, dst.remaining()), bytes.length - position);
+                dst.put(bytes, position, n);
+                position += n;
+                return n;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Test
+    public void testRead() throws Exception {
+
+        final byte[] data1 = {0x10, 0x10, 0x02, 0x03, 0x7F};
+        final byte[] data2 = new byte[43];
+        for (int i = 0; i < data2.length; i++) {
+            data2[i] = (byte) (i * 7);
+        }
+
+        final byte[] corrupt = message(0x93, 2, 127250, 255, 0x10, new byte[8]);
+        corrupt[corrupt.length - 4]++;
+
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.write(new byte[]{0x55, ActisenseReader.DLE});
+        stream.write(message(0x93, 2, 127250, 255, 0x10, data1));
+        stream.write(corrupt);
+        stream.write(message(0xA0, 0, 0, 0, 0, new byte[0]));
+        stream.write(message(0x93, 3, 129029, 255, 0x21, data2));
+        stream.write(new byte[]{ActisenseReader.DLE, ActisenseReader.STX, (byte) 0x93});
+
+        final List<Integer> ids = new ArrayList<>();
+        final List<byte[]> packets = new ArrayList<>();
+
+        final ActisenseReader reader = new ActisenseReader(
+            (id, payload, length, time) -> { },
+            (id, data, offset, length) -> {
+                ids.add(id);
+                packets.add(Arrays.copyOfRange(data, offset, offset + length));
+            }
+        );
+
+        reader.read(channel(stream.toByteArray()));
+
+        assertEquals(2, packets.size());
+
+        assertEquals(CANID.id(2, 127250, 255, 0x10), ids.get(0));
+        assertArrayEquals(data1, packets.get(0));
+
+        assertEquals(129029, CANID.pgn(ids.get(1)));
+        assertEquals(0x21, CANID.source(ids.get(1)));
+        assertEquals(3, CANID.priority(ids.get(1)));
+        assertArrayEquals(data2, packets.get(1));
+
+        assertEquals(2, reader.getRecords());
+        assertEquals(1, reader.getErrors());
+
+    }
+}
@@ -0,0 +1,46 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CANFrameTest {
+
+    private static final byte[] DATA = {
+        (byte) 0x01, (byte) 0x34, (byte) 0x12, (byte) 0xFE,
+        (byte) 0xFF, (byte) 0x78, (byte) 0x56, (byte) 0x80
+    };
+
+    @Test
+    public void testPayload() {
+
+        final long payload = CANFrame.payload(DATA, 0, 8);
+
+        assertEquals(0x805678FFFE123401L, payload);
+
+        final byte[] out = new byte[8];
+        CANFrame.write(payload, out, 0, 8);
+        assertArrayEquals(DATA, out);
+
+        assertEquals(0x3401L, CANFrame.payload(DATA, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> CANFrame.payload(DATA, 0, 9));
+
+    }
+
+    @Test
+    public void testFields() {
+
+        final long payload = CANFrame.payload(DATA, 0, 8);
+
+        assertEquals(0x01, CANFrame.uint8(payload, 0));
+        assertEquals(0x1234, CANFrame.uint16(payload, 1));
+        assertEquals(-2, CANFrame.int16(payload, 3));
+        assertEquals(0x805678FFL, CANFrame.uint32(payload, 4));
+        assertEquals(0x805678FF, CANFrame.int32(payload, 4));
+        assertEquals(0x1, CANFrame.bits(payload, 0, 2));
+        assertEquals(0x8, CANFrame.bits(payload, 60, 4));
+
+    }
+}
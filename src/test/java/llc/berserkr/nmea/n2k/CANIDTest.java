@@ -160,4 +160,55 @@ public class CANIDTest {
 
     }
 
+    @Test
+    public void testPdu2Id() {
+
+        //position rapid update, priority 2 from address 0x15
+        final int id = 0x09F80115;
+
+        assertEquals(2, CANID.priority(id));
+        assertEquals(false, CANID.reserved(id));
+        assertEquals(true, CANID.dataPage(id));
+        assertEquals(0xF8, CANID.pduFormat(id));
+        assertEquals(false, CANID.isPdu1(id));
+        assertEquals(129025, CANID.pgn(id));
+        assertEquals(CANID.GLOBAL_ADDRESS, CANID.destination(id));
+        assertEquals(0x15, CANID.source(id));
+
+        assertEquals(id, CANID.id(2, 129025, 0x23, 0x15));
+
+    }
+
+    @Test
+    public void testPdu1Id() {
+
+        //ISO request priority 6 from 0x10 to 0x23
+        final int id = 0x18EA2310;
+
+        assertEquals(6, CANID.priority(id));
+        assertEquals(true, CANID.isPdu1(id));
+        assertEquals(59904, CANID.pgn(id));
+        assertEquals(0x23, CANID.destination(id));
+        assertEquals(0x10, CANID.source(id));
+
+        assertEquals(id, CANID.id(6, 59904, 0x23, 0x10));
+
+    }
+
+    @Test
+    public void testIdFromRawPacket() {
+
+        final byte[] sourcePacket = ByteUtils.bitStringToUnsignedByteArray(
+            "110" + "0" + "1" + "11111010" + "00100011" + "00010000" + "000");
+
+        final int id = CANID.id(sourcePacket, 0);
+
+        assertEquals(6, CANID.priority(id));
+        assertEquals(true, CANID.dataPage(id));
+        assertEquals(0xFA, CANID.pduFormat(id));
+        assertEquals(0x1FA23, CANID.pgn(id));
+        assertEquals(0x10, CANID.source(id));
+
+    }
+
 }
@@ -0,0 +1,70 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CanboatPlainReaderTest {
+
+    @Test
+    public void testRead() throws Exception {
+
+        final String log =
+            "2011-11-24-22:42:04.388,2,127251,36,255,8,7d,0b,7d,02,00,ff,ff,ff\n" +
+            "# comment\n" +
+            "2011-11-24T22:42:04.5Z,6,59904,36,35,3,00,ee,00\n" +
+            "2011-11-24-22:42:04.388,2,127251,36,255,8,7d,0b\n" +
+            "2011-11-24-22:42:04.,2,127251,36,255,8,7d,0b,7d,02,00,ff,ff,ff\n" +
+            "2011-11-24-22:42:05.000,3,129029,1,255,10,00,01,02,03,04,05,06,07,08,09\n";
+
+        final List<long[]> frames = new ArrayList<>();
+        final List<byte[]> packets = new ArrayList<>();
+        final List<Integer> ids = new ArrayList<>();
+
+        final CanboatPlainReader reader = new CanboatPlainReader(
+            (id, payload, length, time) -> frames.add(new long[]{id, payload, length, time}),
+            (id, data, offset, length) -> {
+                ids.add(id);
+                packets.add(Arrays.copyOfRange(data, offset, offset + length));
+            }
+        );
+
+        reader.read(Channels.newChannel(new ByteArrayInputStream(log.getBytes(StandardCharsets.US_ASCII))));
+
+        assertEquals(2, frames.size());
+
+        assertEquals(CANID.id(2, 127251, 255, 36), frames.get(0)[0]);
+        assertEquals(0xFFFFFF00027D0B7DL, frames.get(0)[1]);
+        assertEquals(Instant.parse("2011-11-24T22:42:04.388Z").toEpochMilli(), frames.get(0)[3]);
+
+        assertEquals(59904, CANID.pgn((int) frames.get(1)[0]));
+        assertEquals(35, CANID.destination((int) frames.get(1)[0]));
+        assertEquals(0x00EE00L, frames.get(1)[1]);
+        assertEquals(Instant.parse("2011-11-24T22:42:04.500Z").toEpochMilli(), frames.get(1)[3]);
+
+        assertEquals(1, packets.size());
+        assertEquals(129029, CANID.pgn(ids.get(0)));
+        assertArrayEquals(new byte[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, packets.get(0));
+
+        assertEquals(3, reader.getRecords());
+        assertEquals(2, reader.getErrors());
+
+    }
+
+    @Test
+    public void testEpochDay() {
+        assertEquals(0, CanboatPlainReader.epochDay(1970, 1, 1));
+        assertEquals(10999, CanboatPlainReader.epochDay(2000, 2, 12));
+        assertEquals(-1, CanboatPlainReader.epochDay(1969, 12, 31));
+        assertEquals(19783, CanboatPlainReader.epochDay(2024, 3, 1));
+    }
+}
@@ -0,0 +1,78 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CandumpReaderTest {
+
+    private static final String LOG =
+        "(1436509052.249713) can0 09F80115#A0E7D81F0048C609\n" +
+        "(1436509052.250000) can0 123#0102\n" +
+        "(1436509052.251) can0 0DF50B23#01\n" +
+        "(1436509052.252000) can0 09F80115#R\n" +
+        "garbage\n" +
+        " (1436509052.253000)  can0  09F80115   [8]  A0 E7 D8 1F 00 48 C6 09\r\n" +
+        "  can1  18EA2310   [3]  00 EA 00";
+
+    private final List<long[]> frames = new ArrayList<>();
+
+    private final CandumpReader reader = new CandumpReader(
+        (id, payload, length, time) -> frames.add(new long[]{id, payload, length, time}),
+        (id, data, offset, length) -> { }
+    );
+
+    private void assertFrames() {
+
+        assertEquals(4, frames.size());
+
+        assertEquals(0x09F80115, frames.get(0)[0]);
+        assertEquals(0x09C64800_1FD8E7A0L, frames.get(0)[1]);
+        assertEquals(8, frames.get(0)[2]);
+        assertEquals(1436509052249L, frames.get(0)[3]);
+
+        assertEquals(0x0DF50B23, frames.get(1)[0]);
+        assertEquals(1, frames.get(1)[2]);
+        assertEquals(1436509052251L, frames.get(1)[3]);
+
+        assertEquals(frames.get(0)[1], frames.get(2)[1]);
+        assertEquals(1436509052253L, frames.get(2)[3]);
+
+        assertEquals(0x18EA2310, frames.get(3)[0]);
+        assertEquals(0x00EA00L, frames.get(3)[1]);
+        assertEquals(3, frames.get(3)[2]);
+        assertTrue(frames.get(3)[3] > 1436509052253L);
+
+        assertEquals(4, reader.getRecords());
+        assertEquals(1, reader.getErrors());
+
+    }
+
+    @Test
+    public void testReadChannel() throws Exception {
+        reader.read(Channels.newChannel(new ByteArrayInputStream(LOG.getBytes(StandardCharsets.US_ASCII))));
+        assertFrames();
+    }
+
+    @Test
+    public void testReadFile(@TempDir final Path dir) throws Exception {
+
+        final Path file = dir.resolve("candump.log");
+        Files.write(file, LOG.getBytes(StandardCharsets.US_ASCII));
+
+        //lines split across windows
+        assertEquals(LOG.length(), reader.readFile(file, 80));
+        assertFrames();
+
+    }
+}
@@ -0,0 +1,174 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FastPacketAssemblerTest {
+
+    private static final int GNSS_POSITION = 129029;
+
+    private final List<int[]> ids = new ArrayList<>();
+    private final List<byte[]> packets = new ArrayList<>();
+
+    private FastPacketAssembler assembler;
+
+    @BeforeEach
+    public void setUp() {
+        assembler = new FastPacketAssembler((id, data, offset, length) -> {
+            ids.add(new int[]{id});
+            packets.add(Arrays.copyOfRange(data, offset, offset + length));
+        });
+    }
+
+    private static byte[] data(final int length, final int seed) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (seed + i);
+        }
+        return data;
+    }
+
+    /**
+     * Splits data into fast-packet frames.
+     */
+    private static List<byte[]> frames(final byte[] data, final int sequence) {
+
+        final List<byte[]> frames = new ArrayList<>();
+
+        int index = 0;
+        int offset = 0;
+
+        while (offset < data.length || index == 0) {
+
+            final byte[] frame = new byte[8];
+            Arrays.fill(frame, (byte) 0xFF);
+            frame[0] = (byte) ((sequence << 5) | index);
+
+            int start = 1;
+            if (index == 0) {
+                frame[1] = (byte) data.length;
+                start = 2;
+            }
+
+            for (int i = start; i < 8 && offset < data.length; i++) {
+                frame[i] = data[offset++];
+            }
+
+            frames.add(frame);
+            index++;
+        }
+
+        return frames;
+    }
+
+    private void feed(final int id, final byte[] frame, final long time) {
+        assembler.frame(id, CANFrame.payload(frame, 0, frame.length), frame.length, time);
+    }
+
+    @Test
+    public void testReassemble() {
+
+        final int id = CANID.id(3, GNSS_POSITION, 0xFF, 0x20);
+        final byte[] data = data(43, 1);
+
+        for (final byte[] frame : frames(data, 2)) {
+            feed(id, frame, 0);
+        }
+
+        assertEquals(1, packets.size());
+        assertEquals(id, ids.get(0)[0]);
+        assertArrayEquals(data, packets.get(0));
+        assertEquals(1, assembler.getCompleted());
+        assertEquals(0, assembler.getDropped());
+
+    }
+
+    @Test
+    public void testInterleavedSources() {
+
+        final int id1 = CANID.id(3, GNSS_POSITION, 0xFF, 0x20);
+        final int id2 = CANID.id(3, GNSS_POSITION, 0xFF, 0x21);
+        final byte[] data1 = data(43, 1);
+        final byte[] data2 = data(20, 100);
+
+        final List<byte[]> frames1 = frames(data1, 0);
+        final List<byte[]> frames2 = frames(data2, 5);
+
+        for (int i = 0; i < frames1.size(); i++) {
+            feed(id1, frames1.get(i), i);
+            if (i < frames2.size()) {
+                feed(id2, frames2.get(i), i);
+            }
+        }
+
+        assertEquals(2, packets.size());
+        assertArrayEquals(data2, packets.get(0));
+        assertArrayEquals(data1, packets.get(1));
+
+    }
+
+    @Test
+    public void testMissingFrame() {
+
+        final int id = CANID.id(3, GNSS_POSITION, 0xFF, 0x20);
+        final List<byte[]> frames = frames(data(43, 1), 1);
+
+        frames.remove(3);
+        for (final byte[] frame : frames) {
+            feed(id, frame, 0);
+        }
+
+        assertEquals(0, packets.size());
+        assertEquals(true, assembler.getDropped() > 0);
+
+        //next sequence still assembles
+        final byte[] data = data(43, 7);
+        for (final byte[] frame : frames(data, 2)) {
+            feed(id, frame, 0);
+        }
+
+        assertEquals(1, packets.size());
+        assertArrayEquals(data, packets.get(0));
+
+    }
+
+    @Test
+    public void testTimeout() {
+
+        final int id = CANID.id(3, GNSS_POSITION, 0xFF, 0x20);
+        final List<byte[]> frames = frames(data(43, 1), 1);
+
+        feed(id, frames.get(0), 0);
+        feed(id, frames.get(1), 10);
+        feed(id, frames.get(2), 10 + FastPacketAssembler.DEFAULT_TIMEOUT + 1);
+
+        assertEquals(0, packets.size());
+
+        feed(id, frames.get(0), 2000);
+        assertEquals(0, assembler.expire(2000 + FastPacketAssembler.DEFAULT_TIMEOUT));
+        assertEquals(1, assembler.expire(2001 + FastPacketAssembler.DEFAULT_TIMEOUT));
+
+    }
+
+    @Test
+    public void testSingleFrame() {
+
+        //vessel heading is a single frame pgn
+        final int id = CANID.id(2, 127250, 0xFF, 0x20);
+        final byte[] frame = data(8, 0x10);
+
+        feed(id, frame, 0);
+
+        assertEquals(1, packets.size());
+        assertArrayEquals(frame, packets.get(0));
+        assertEquals(0, assembler.getCompleted());
+
+    }
+}
@@ -0,0 +1,97 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FieldDecoderTest {
+
+    private static final byte[] DATA = {
+        (byte) 0x80, (byte) 0xFE, (byte) 0xFF, 0x12, 0x34, 0x56, 0x78, (byte) 0x9A, (byte) 0xBC, (byte) 0xFF
+    };
+
+    private static FieldDecoder field(final int offset, final int length, final boolean signed) {
+        return FieldDecoder.compile("f", offset, length, 1, signed, null, null);
+    }
+
+    @Test
+    public void testAligned() {
+
+        assertEquals(0x80, field(0, 8, false).raw(DATA, 0));
+        assertEquals(-128, field(0, 8, true).raw(DATA, 0));
+        assertEquals(0xFFFE, field(8, 16, false).raw(DATA, 0));
+        assertEquals(-2, field(8, 16, true).raw(DATA, 0));
+        assertEquals(0x563412FFL, field(16, 32, false).raw(DATA, 0));
+        assertEquals(0xBC9A78563412FFFEL, field(8, 64, false).raw(DATA, 0));
+
+        //offset into array
+        assertEquals(0x12, field(0, 8, false).raw(DATA, 3));
+
+    }
+
+    @Test
+    public void testBits() {
+
+        assertEquals(0x1, field(7, 1, false).raw(DATA, 0));
+        assertEquals(0x1FD, field(7, 9, false).raw(DATA, 0));
+        assertEquals(-3, field(7, 9, true).raw(DATA, 0));
+        assertEquals(0x1E4D3C2B1A09L, field(25, 46, false).raw(DATA, 0));
+
+    }
+
+    @Test
+    public void testAvailability() {
+
+        final FieldDecoder unsigned = field(16, 8, false);
+        final FieldDecoder signed = FieldDecoder.compile("f", 8, 16, 0.1, true, null, null);
+
+        assertFalse(unsigned.isAvailable(unsigned.raw(DATA, 0)));
+        assertTrue(Double.isNaN(unsigned.value(DATA, 0, 10)));
+
+        assertTrue(signed.isAvailable(signed.raw(DATA, 0)));
+        assertEquals(-0.2, signed.value(DATA, 0, 10), 1e-9);
+        assertTrue(Double.isNaN(signed.value(DATA, 0, 2)));
+        assertTrue(signed.isPresent(3));
+
+    }
+
+    @Test
+    public void testWrite() {
+
+        final int[][] layouts = {{0, 8}, {8, 16}, {16, 32}, {8, 64}, {7, 1}, {7, 9}, {25, 46}, {3, 13}};
+
+        for (final int[] layout : layouts) {
+
+            final FieldDecoder field = field(layout[0], layout[1], false);
+            final byte[] data = DATA.clone();
+            final long raw = field.raw(DATA, 0);
+
+            //writes only the bits of the field
+            field.write(data, 0, ~raw);
+            assertEquals(~raw & (layout[1] == 64 ? -1L : (1L << layout[1]) - 1), field.raw(data, 0));
+            field.write(data, 0, raw);
+            assertArrayEquals(DATA, data);
+
+        }
+
+        final FieldDecoder angle = FieldDecoder.compile("a", 8, 16, 0.0001, true, "rad", null);
+        final byte[] data = new byte[3];
+
+        angle.write(data, 0, angle.toRaw(-1.2345));
+        assertEquals(-1.2345, angle.value(data, 0, 3), 1e-9);
+
+        //clamped below the reserved values, NaN not available
+        assertEquals(32766, angle.toRaw(10));
+        assertEquals(-32768, angle.toRaw(-10));
+        assertEquals(32767, angle.toRaw(Double.NaN));
+
+        final FieldDecoder unsigned = FieldDecoder.compile("u", 0, 4, 1, false, null, null);
+        assertEquals(14, unsigned.toRaw(100));
+        assertEquals(0, unsigned.toRaw(-1));
+        assertEquals(15, unsigned.toRaw(Double.NaN));
+
+    }
+}
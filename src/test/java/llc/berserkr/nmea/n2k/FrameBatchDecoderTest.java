@@ -0,0 +1,127 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FrameBatchDecoderTest {
+
+    private static void put(final ByteBuffer frames, final int canId, final int length, final long payload) {
+        frames.putInt(canId);
+        frames.put((byte) length);
+        frames.put(new byte[3]);
+        frames.putLong(payload);
+    }
+
+    private static ByteBuffer random(final int count, final long seed) {
+
+        final Random random = new Random(seed);
+        final ByteBuffer frames = ByteBuffer.allocateDirect(count * FrameBatchDecoder.FRAME_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+        for (int i = 0; i < count; i++) {
+            final int flags = random.nextInt(10) == 0 ? random.nextInt() & 0xE0000000 : FrameBatchDecoder.EFF_FLAG;
+            put(frames, flags | (random.nextInt() & 0x1FFFFFFF), random.nextInt(10), random.nextLong());
+        }
+
+        return frames.flip();
+    }
+
+    @Test
+    public void testJavaDecoder() {
+
+        final ByteBuffer frames = ByteBuffer.allocate(5 * FrameBatchDecoder.FRAME_SIZE + 3)
+            .order(ByteOrder.LITTLE_ENDIAN);
+
+        final int heading = CANID.id(2, CANID.VESSEL_HEADING, 0xFF, 0x21);
+        final int request = CANID.id(6, CANID.ISO_REQUEST, 0x30, 0x21);
+
+        put(frames, FrameBatchDecoder.EFF_FLAG | heading, 8, 0x0102030405060708L);
+        put(frames, 0x123, 8, 0);
+        put(frames, FrameBatchDecoder.EFF_FLAG | FrameBatchDecoder.RTR_FLAG | heading, 0, 0);
+        put(frames, FrameBatchDecoder.EFF_FLAG | request, 3, 0xFFFFFFFFFF00EA00L);
+        put(frames, FrameBatchDecoder.EFF_FLAG | heading, 8, 0);
+        frames.put(new byte[3]);
+        frames.flip();
+
+        final CanFrameBatch batch = new CanFrameBatch(2);
+        final JavaFrameDecoder decoder = new JavaFrameDecoder();
+
+        assertEquals(2, decoder.decode(frames, batch));
+        assertEquals(4 * FrameBatchDecoder.FRAME_SIZE, frames.position());
+
+        assertEquals(heading, batch.getId(0));
+        assertEquals(CANID.VESSEL_HEADING, batch.getPgn(0));
+        assertEquals(0x21, batch.getSource(0));
+        assertEquals(0xFF, batch.getDestination(0));
+        assertEquals(2, batch.getPriority(0));
+        assertEquals(0x0102030405060708L, batch.getPayload(0));
+
+        assertEquals(CANID.ISO_REQUEST, batch.getPgn(1));
+        assertEquals(0x30, batch.getDestination(1));
+        assertEquals(3, batch.getLength(1));
+        assertEquals(0x00EA00L, batch.getPayload(1));
+
+        assertEquals(1, decoder.decode(frames, batch));
+
+        final List<Integer> ids = new ArrayList<>();
+        batch.dispatch((id, payload, length, time) -> ids.add(id), 0);
+        assertEquals(List.of(heading), ids);
+
+        assertEquals(0, decoder.decode(frames, batch));
+        assertEquals(3, frames.remaining());
+
+    }
+
+    @Test
+    public void testNativeDecoderMatchesJava() {
+
+        assumeTrue(NativeFrameDecoder.isAvailable());
+
+        final ByteBuffer frames = random(5000, 42);
+        final ByteBuffer copy = frames.duplicate();
+
+        final CanFrameBatch expected = new CanFrameBatch(1024);
+        final CanFrameBatch actual = new CanFrameBatch(1024);
+
+        final FrameBatchDecoder java = new JavaFrameDecoder();
+        final FrameBatchDecoder nativeDecoder = FrameBatchDecoder.create();
+
+        assertTrue(nativeDecoder instanceof NativeFrameDecoder);
+
+        int total = 0;
+
+        while (frames.hasRemaining()) {
+
+            final int count = java.decode(frames, expected);
+            assertEquals(count, nativeDecoder.decode(copy, actual));
+            assertEquals(frames.position(), copy.position());
+
+            for (int i = 0; i < count; i++) {
+                assertEquals(expected.getId(i), actual.getId(i));
+                assertEquals(expected.getPgn(i), actual.getPgn(i));
+                assertEquals(expected.getSource(i), actual.getSource(i));
+                assertEquals(expected.getDestination(i), actual.getDestination(i));
+                assertEquals(expected.getPriority(i), actual.getPriority(i));
+                assertEquals(expected.getLength(i), actual.getLength(i));
+                assertEquals(expected.getPayload(i), actual.getPayload(i));
+            }
+
+            total += count;
+        }
+
+        assertTrue(total > 4000);
+
+        assertThrows(IllegalArgumentException.class, () -> nativeDecoder.decode(ByteBuffer.allocate(16), actual));
+
+    }
+}
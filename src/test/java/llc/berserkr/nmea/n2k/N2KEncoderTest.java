@@ -0,0 +1,165 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class N2KEncoderTest {
+
+    private static final int GNSS_POSITION = 129029;
+
+    private final N2KEncoder encoder = new N2KEncoder();
+
+    private final List<Integer> ids = new ArrayList<>();
+    private final List<byte[]> packets = new ArrayList<>();
+
+    private final FastPacketAssembler assembler = new FastPacketAssembler((id, data, offset, length) -> {
+        ids.add(id);
+        packets.add(Arrays.copyOfRange(data, offset, offset + length));
+    });
+
+    /**
+     * Decodes the written frames through the receive pipeline.
+     */
+    private void receive(final ByteBuffer frames) {
+        frames.flip();
+        final CanFrameBatch batch = new CanFrameBatch(64);
+        while (frames.hasRemaining()) {
+            new JavaFrameDecoder().decode(frames, batch);
+            batch.dispatch(assembler, 0);
+        }
+    }
+
+    @Test
+    public void testSingleFrame() {
+
+        final ByteBuffer frames = ByteBuffer.allocate(256);
+
+        final int count = encoder.begin(CANID.VESSEL_HEADING)
+            .set("heading", 1.5)
+            .set("deviation", -0.01)
+            .setRaw("reference", 1)
+            .encode(2, 0xFF, 0x23, frames);
+
+        assertEquals(1, count);
+        assertEquals(FrameBatchDecoder.FRAME_SIZE, frames.position());
+
+        receive(frames);
+
+        assertEquals(1, packets.size());
+        assertEquals(CANID.VESSEL_HEADING, CANID.pgn(ids.get(0)));
+        assertEquals(0x23, CANID.source(ids.get(0)));
+        assertEquals(2, CANID.priority(ids.get(0)));
+
+        final PgnDecoder decoder = encoder.getDecoder();
+        final byte[] data = packets.get(0);
+
+        assertEquals(8, data.length);
+        assertEquals(1.5, decoder.value(decoder.indexOf("heading"), data, 0, 8), 1e-9);
+        assertEquals(-0.01, decoder.value(decoder.indexOf("deviation"), data, 0, 8), 1e-9);
+        assertTrue(Double.isNaN(decoder.value(decoder.indexOf("variation"), data, 0, 8)));
+        assertEquals(1, decoder.raw(decoder.indexOf("reference"), data, 0, 8));
+
+        //reserved bits stay set
+        assertEquals(0xFF, data[0] & 0xFF);
+        assertEquals(0xFC, data[7] & 0xFC);
+
+    }
+
+    @Test
+    public void testFastPacket() {
+
+        final ByteBuffer frames = ByteBuffer.allocateDirect(80 * FrameBatchDecoder.FRAME_SIZE);
+
+        for (int i = 0; i < 10; i++) {
+            final int count = encoder.begin(GNSS_POSITION)
+                .set("sid", i)
+                .set("latitude", 60.123456789)
+                .set("longitude", -24.5)
+                .set("hdop", 0.8)
+                .setRaw("numberOfSvs", 11)
+                .encode(3, 0xFF, 0x10, frames);
+            assertEquals(7, count);
+        }
+
+        //sequence counter advances and wraps
+        final ByteBuffer records = frames.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 10; i++) {
+            final int first = i * 7 * FrameBatchDecoder.FRAME_SIZE;
+            assertEquals(FrameBatchDecoder.EFF_FLAG, records.getInt(first) & FrameBatchDecoder.EFF_FLAG);
+            assertEquals(8, records.get(first + 4));
+            assertEquals((i & 7) << 5, records.get(first + 8) & 0xFF);
+            assertEquals(43, records.get(first + 9));
+            assertEquals((i & 7) << 5 | 6, records.get(first + 6 * FrameBatchDecoder.FRAME_SIZE + 8) & 0xFF);
+        }
+
+        receive(frames);
+
+        assertEquals(10, packets.size());
+
+        final PgnDecoder decoder = encoder.getDecoder();
+
+        for (int i = 0; i < 10; i++) {
+            final byte[] data = packets.get(i);
+            assertEquals(43, data.length);
+            assertEquals(i, decoder.raw(decoder.indexOf("sid"), data, 0, 43));
+            assertEquals(60.123456789, decoder.value(decoder.indexOf("latitude"), data, 0, 43), 1e-12);
+            assertEquals(-24.5, decoder.value(decoder.indexOf("longitude"), data, 0, 43), 1e-12);
+            assertEquals(0.8, decoder.value(decoder.indexOf("hdop"), data, 0, 43), 1e-9);
+            assertEquals(11, decoder.raw(decoder.indexOf("numberOfSvs"), data, 0, 43));
+            assertTrue(Double.isNaN(decoder.value(decoder.indexOf("altitude"), data, 0, 43)));
+        }
+
+    }
+
+    @Test
+    public void testSplit() {
+
+        final byte[] data = new byte[223];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        assertEquals(1, N2KEncoder.frameCount(6, true));
+        assertEquals(2, N2KEncoder.frameCount(7, true));
+        assertEquals(32, N2KEncoder.frameCount(223, true));
+        assertThrows(IllegalArgumentException.class, () -> N2KEncoder.frameCount(224, true));
+        assertThrows(IllegalArgumentException.class, () -> N2KEncoder.frameCount(9, false));
+
+        final ByteBuffer frames = ByteBuffer.allocate(64 * FrameBatchDecoder.FRAME_SIZE);
+
+        //other sources and PGNs have their own counters
+        for (int source = 0; source < 100; source++) {
+            frames.clear();
+            encoder.encode(CANID.id(6, GNSS_POSITION, 0xFF, source), data, 0, 223, true, frames);
+        }
+        frames.clear();
+        encoder.encode(CANID.id(6, GNSS_POSITION, 0xFF, 7), data, 0, 223, true, frames);
+        assertEquals(1 << 5, frames.get(8) & 0xFF);
+
+        receive(frames);
+
+        assertEquals(1, packets.size());
+        assertArrayEquals(data, packets.get(0));
+
+        //no partial message on overflow
+        final ByteBuffer small = ByteBuffer.allocate(3 * FrameBatchDecoder.FRAME_SIZE);
+        assertThrows(BufferOverflowException.class, () -> encoder.encode(CANID.id(6, GNSS_POSITION, 0xFF, 7), data, 0, 40, true, small));
+        assertEquals(0, small.position());
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.begin(65_000));
+        assertThrows(IllegalArgumentException.class, () -> encoder.begin(GNSS_POSITION).set("depth", 1));
+        assertThrows(IllegalStateException.class, () -> new N2KEncoder().set(0, 1));
+
+    }
+}
@@ -0,0 +1,143 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class N2KMessageBusTest {
+
+    private static final int BATTERY_STATUS = 127508;
+
+    //instance, 12.5 V, -1.0 A, 300 K, sid
+    private static byte[] battery(final int instance) {
+        return new byte[]{(byte) instance, (byte) 0xE2, 0x04, (byte) 0xF6, (byte) 0xFF, 0x30, 0x75, 0x01};
+    }
+
+    private final N2KMessageBus bus = new N2KMessageBus();
+
+    @Test
+    public void testSubscribe() {
+
+        final List<String> received = new ArrayList<>();
+
+        final N2KMessageListener all = m -> received.add("all " + m.getSource() + " " + m.value("voltage"));
+        final N2KMessageListener source = m -> received.add("source " + m.getSource());
+        final N2KMessageListener instance = m -> received.add("instance " + m.raw("instance"));
+
+        bus.subscribe(all, BATTERY_STATUS);
+        bus.subscribeSource(source, BATTERY_STATUS, 0x21);
+        bus.subscribeInstance(instance, BATTERY_STATUS, 2);
+
+        bus.packet(CANID.id(6, BATTERY_STATUS, 0xFF, 0x20), battery(2), 0, 8);
+        bus.packet(CANID.id(6, BATTERY_STATUS, 0xFF, 0x21), battery(1), 0, 8);
+        bus.packet(CANID.id(2, CANID.VESSEL_HEADING, 0xFF, 0x21), new byte[8], 0, 8);
+
+        assertEquals(List.of("all 32 12.5", "instance 2", "all 33 12.5", "source 33"), received);
+
+        received.clear();
+        bus.unsubscribe(all);
+        bus.unsubscribe(instance);
+
+        bus.packet(CANID.id(6, BATTERY_STATUS, 0xFF, 0x20), battery(2), 0, 8);
+        bus.packet(CANID.id(6, BATTERY_STATUS, 0xFF, 0x21), battery(2), 0, 8);
+
+        assertEquals(List.of("source 33"), received);
+
+        bus.unsubscribe(source);
+        assertFalse(bus.isSubscribed(BATTERY_STATUS));
+
+    }
+
+    @Test
+    public void testMessage() {
+
+        final List<N2KMessage> messages = new ArrayList<>();
+
+        bus.subscribe(m -> messages.add(m.copy()), BATTERY_STATUS);
+
+        final byte[] data = battery(3);
+        bus.packet(CANID.id(6, BATTERY_STATUS, 0xFF, 0x20), data, 0, 8);
+        data[1] = 0;
+
+        final N2KMessage message = messages.get(0);
+
+        assertEquals(BATTERY_STATUS, message.getPgn());
+        assertEquals(6, message.getPriority());
+        assertEquals(0xFF, message.getDestination());
+        assertEquals(12.5, message.value("voltage"), 1e-9);
+        assertEquals(-1.0, message.value("current"), 1e-9);
+        assertEquals(300.0, message.value("temperature"), 1e-9);
+        assertTrue(Double.isNaN(message.value("missing")));
+        assertEquals(0xE2, message.getByte(1));
+
+    }
+
+    @Test
+    public void testUndefinedPgn() {
+
+        final List<N2KMessage> messages = new ArrayList<>();
+
+        bus.subscribe(messages::add, 65280);
+        bus.packet(CANID.id(6, 65280, 0xFF, 0x20), new byte[]{1, 2}, 0, 2);
+
+        assertEquals(1, messages.size());
+        assertEquals(2, messages.get(0).getByte(1));
+        assertThrows(IllegalStateException.class, () -> messages.get(0).value("voltage"));
+        assertThrows(IllegalArgumentException.class, () -> bus.subscribeInstance(m -> { }, 65280, 1));
+
+    }
+
+    @Test
+    public void testFilter() {
+
+        final List<Integer> passed = new ArrayList<>();
+        final FrameListener filter = bus.filter((id, payload, length, time) -> passed.add(CANID.pgn(id)));
+
+        bus.subscribe(m -> { }, BATTERY_STATUS);
+
+        filter.frame(CANID.id(6, BATTERY_STATUS, 0xFF, 0x20), 0, 8, 0);
+        filter.frame(CANID.id(2, CANID.VESSEL_HEADING, 0xFF, 0x20), 0, 8, 0);
+        filter.frame(CANID.id(7, CANID.ISO__DATA_TRANSPORT, 0xFF, 0x20), 0, 8, 0);
+
+        assertEquals(List.of(BATTERY_STATUS, CANID.ISO__DATA_TRANSPORT), passed);
+
+        passed.clear();
+
+        // announcements of unsubscribed pgns do not open sessions
+        final long bam = TransportSessionManager.CONTROL_BAM | 20L << 8 | 3L << 24;
+        filter.frame(CANID.id(7, CANID.ISO_CONNECTION_BAM, 0xFF, 0x20), bam | (long) BATTERY_STATUS << 40, 8, 0);
+        filter.frame(CANID.id(7, CANID.ISO_CONNECTION_BAM, 0xFF, 0x20), bam | (long) CANID.VESSEL_HEADING << 40, 8, 0);
+
+        final long rts = TransportSessionManager.CONTROL_RTS | 20L << 8 | 3L << 24;
+        filter.frame(CANID.id(7, CANID.ISO_CONNECTION_RTS, 0x10, 0x20), rts | (long) CANID.VESSEL_HEADING << 40, 8, 0);
+
+        final long abort = TransportSessionManager.CONTROL_ABORT | (long) CANID.VESSEL_HEADING << 40;
+        filter.frame(CANID.id(7, CANID.ISO_CONNECTION_ABORT, 0x10, 0x20), abort, 8, 0);
+
+        assertEquals(List.of(CANID.ISO_CONNECTION_BAM, CANID.ISO_CONNECTION_ABORT), passed);
+
+    }
+
+    @Test
+    public void testManyPgns() {
+
+        final int[] count = new int[1];
+
+        for (int pgn = 65300; pgn < 65400; pgn++) {
+            bus.subscribe(m -> count[0]++, pgn);
+        }
+
+        for (int pgn = 65290; pgn < 65410; pgn++) {
+            bus.packet(CANID.id(6, pgn, 0xFF, 0x20), new byte[8], 0, 8);
+        }
+
+        assertEquals(100, count[0]);
+
+    }
+}
@@ -0,0 +1,145 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class N2KNetworkMapTest {
+
+    //arbitrary address capable marine GPS, manufacturer 137, unique number 0x12345
+    private static final long GPS = 0x12345L | (137L << 21) | (145L << 40) | (60L << 49) | (4L << 60) | (1L << 63);
+    private static final long LOWER = GPS - 1;
+
+    private final N2KMessageBus bus = new N2KMessageBus();
+
+    private long now;
+    private N2KNetworkMap map;
+
+    @BeforeEach
+    public void setUp() {
+        map = new N2KNetworkMap(() -> now);
+        map.attach(bus);
+    }
+
+    private void claim(final int address, final long name) {
+        final byte[] data = new byte[8];
+        CANFrame.write(name, data, 0, 8);
+        bus.packet(CANID.id(6, CANID.ISO_CLAIM, 0xFF, address), data, 0, 8);
+    }
+
+    private static void text(final byte[] data, final int offset, final String text) {
+        Arrays.fill(data, offset, offset + 32, (byte) 0xFF);
+        final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, data, offset, bytes.length);
+    }
+
+    @Test
+    public void testClaim() {
+
+        final long version = map.getVersion();
+
+        claim(0x20, GPS);
+
+        final N2KDevice device = map.get(0x20);
+
+        assertTrue(map.getVersion() > version);
+        assertEquals(GPS, device.getName());
+        assertEquals(0x12345, device.getUniqueNumber());
+        assertEquals(137, device.getManufacturerCode());
+        assertEquals(145, device.getDeviceFunction());
+        assertEquals(60, device.getDeviceClass());
+        assertEquals(4, device.getIndustryGroup());
+        assertTrue(device.isArbitraryAddressCapable());
+        assertEquals(0x20, map.addressOf(GPS));
+
+        //moves to another address
+        now += 10_000;
+        claim(0x21, GPS);
+
+        assertNull(map.get(0x20));
+        assertEquals(GPS, map.get(0x21).getName());
+        assertEquals(1, map.snapshot().size());
+
+        //cannot claim
+        claim(N2KNetworkMap.NULL_ADDRESS, GPS);
+        assertEquals(-1, map.addressOf(GPS));
+        assertTrue(map.snapshot().isEmpty());
+
+    }
+
+    @Test
+    public void testConflict() {
+
+        claim(0x20, GPS);
+        now += 100;
+        claim(0x20, LOWER);
+
+        N2KDevice device = map.get(0x20);
+        assertEquals(LOWER, device.getName());
+        assertEquals(1, device.getConflicts());
+        assertEquals(GPS, device.getConflictName());
+
+        //higher NAME loses
+        now += 100;
+        claim(0x20, GPS);
+
+        device = map.get(0x20);
+        assertEquals(LOWER, device.getName());
+        assertEquals(2, device.getConflicts());
+
+        //after the window the address is taken over
+        now += N2KNetworkMap.CONTENTION_WINDOW + 1;
+        claim(0x20, GPS);
+        assertEquals(GPS, map.get(0x20).getName());
+
+    }
+
+    @Test
+    public void testProductInformation() {
+
+        claim(0x20, GPS);
+
+        final byte[] data = new byte[134];
+        data[0] = (byte) 0x4C;
+        data[1] = (byte) 0x08;
+        data[2] = (byte) 0x39;
+        data[3] = (byte) 0x30;
+        text(data, 4, "GPS 200");
+        text(data, 36, "1.2.3   ");
+        text(data, 68, "");
+        text(data, 100, "SN0042@@@@");
+        data[132] = 2;
+        data[133] = 1;
+
+        bus.packet(CANID.id(6, CANID.PRODUCT_INFORMATION, 0xFF, 0x20), data, 0, data.length);
+
+        final N2KDevice device = map.get(0x20);
+
+        assertEquals(GPS, device.getName());
+        assertTrue(device.hasProductInformation());
+        assertEquals(12345, device.getProductCode());
+        assertEquals(2124, device.getNmea2000Version());
+        assertEquals("GPS 200", device.getModelId());
+        assertEquals("1.2.3", device.getSoftwareVersion());
+        assertEquals("", device.getModelVersion());
+        assertEquals("SN0042", device.getSerialCode());
+        assertEquals(2, device.getCertificationLevel());
+        assertEquals(1, device.getLoadEquivalency());
+
+        //product information of an unclaimed address
+        bus.packet(CANID.id(6, CANID.PRODUCT_INFORMATION, 0xFF, 0x30), data, 0, data.length);
+        assertFalse(map.get(0x30).isClaimed());
+        assertEquals(2, map.snapshot().size());
+
+        map.clear();
+        assertTrue(map.snapshot().isEmpty());
+
+    }
+}
@@ -0,0 +1,350 @@
+package llc.berserkr.nmea.n2k;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage18;
+import net.sf.marineapi.ais.message.AISPositionReport;
+import net.sf.marineapi.ais.parser.AISMessageFactory;
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.io.SentenceReader;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.nmea.sentence.DPTSentence;
+import net.sf.marineapi.nmea.sentence.GGASentence;
+import net.sf.marineapi.nmea.sentence.HDTSentence;
+import net.sf.marineapi.nmea.sentence.MWVSentence;
+import net.sf.marineapi.nmea.sentence.RMCSentence;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.VTGSentence;
+import net.sf.marineapi.nmea.util.Date;
+import net.sf.marineapi.nmea.util.GpsFixQuality;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class N2KSentenceGatewayTest {
+
+    private final N2KMessageBus bus = new N2KMessageBus();
+
+    private final List<Sentence> sentences = new ArrayList<>();
+
+    private long now;
+    private N2KSentenceGateway gateway;
+
+    @BeforeEach
+    public void setUp() {
+
+        final SentenceReader reader = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+
+        reader.addSentenceListener(new SentenceListener() {
+            @Override
+            public void readingPaused() {
+            }
+
+            @Override
+            public void readingStarted() {
+            }
+
+            @Override
+            public void readingStopped() {
+            }
+
+            @Override
+            public void sentenceRead(final SentenceEvent event) {
+                sentences.add(event.getSentence());
+            }
+        });
+
+        gateway = new N2KSentenceGateway(reader, () -> now);
+        gateway.attach(bus);
+
+    }
+
+    private static byte[] data(final int length) {
+        final byte[] data = new byte[length];
+        Arrays.fill(data, (byte) 0xFF);
+        return data;
+    }
+
+    private static void set(final byte[] data, final int offset, final int length, final long value) {
+        for (int i = 0; i < length; i++) {
+            final int bit = offset + i;
+            if ((value >>> i & 1) != 0) {
+                data[bit >> 3] |= 1 << (bit & 7);
+            }
+            else {
+                data[bit >> 3] &= ~(1 << (bit & 7));
+            }
+        }
+    }
+
+    private void send(final int pgn, final byte[] data) {
+        bus.packet(CANID.id(2, pgn, 0xFF, 0x10), data, 0, data.length);
+    }
+
+    private void position(final double latitude, final double longitude) {
+        final byte[] data = data(8);
+        set(data, 0, 32, Math.round(latitude * 1e7));
+        set(data, 32, 32, Math.round(longitude * 1e7));
+        send(N2KSentenceGateway.POSITION_RAPID_UPDATE, data);
+    }
+
+    private List<Sentence> of(final SentenceId type) {
+        final List<Sentence> list = new ArrayList<>();
+        for (final Sentence sentence : sentences) {
+            if (sentence.getSentenceId().equals(type.toString())) {
+                list.add(sentence);
+            }
+        }
+        return list;
+    }
+
+    @Test
+    public void testCoalescing() {
+
+        //10 Hz for two seconds
+        for (int i = 0; i < 20; i++) {
+            position(60 + i * 0.0001, 25);
+            now += 100;
+        }
+
+        final List<Sentence> gga = of(SentenceId.GGA);
+
+        assertEquals(2, gga.size());
+        assertEquals(2, of(SentenceId.RMC).size());
+        assertEquals(60.0, ((GGASentence) gga.get(0)).getPosition().getLatitude(), 1e-6);
+        assertEquals(60.001, ((GGASentence) gga.get(1)).getPosition().getLatitude(), 1e-6);
+        assertEquals(25.0, ((GGASentence) gga.get(1)).getPosition().getLongitude(), 1e-6);
+
+        gateway.setInterval(SentenceId.GGA, 0);
+        sentences.clear();
+
+        for (int i = 0; i < 5; i++) {
+            position(60, 25);
+            now += 100;
+        }
+
+        assertEquals(5, of(SentenceId.GGA).size());
+        assertEquals(1, of(SentenceId.RMC).size());
+
+        assertThrows(IllegalArgumentException.class, () -> gateway.setInterval(SentenceId.GLL, 100));
+        assertThrows(IllegalArgumentException.class, () -> gateway.setInterval(SentenceId.GGA, -1));
+
+    }
+
+    @Test
+    public void testGnssPosition() {
+
+        final byte[] data = data(43);
+        set(data, 0, 8, 1);
+        set(data, 8, 16, LocalDate.of(2024, 5, 1).toEpochDay());
+        set(data, 24, 32, 452_965_000L);
+        set(data, 56, 64, -337_500_000_000_000_000L);
+        set(data, 120, 64, 1_512_500_000_000_000_000L);
+        set(data, 184, 64, 12_500_000L);
+        set(data, 248, 4, 0);
+        set(data, 252, 4, 2);
+        set(data, 256, 2, 0);
+        set(data, 264, 8, 9);
+        set(data, 272, 16, 90);
+        set(data, 288, 16, 160);
+        set(data, 304, 32, 2_210);
+
+        send(N2KSentenceGateway.GNSS_POSITION_DATA, data);
+
+        final GGASentence gga = (GGASentence) of(SentenceId.GGA).get(0);
+
+        assertEquals(-33.75, gga.getPosition().getLatitude(), 1e-6);
+        assertEquals(151.25, gga.getPosition().getLongitude(), 1e-6);
+        assertEquals(12.5, gga.getAltitude(), 1e-6);
+        assertEquals(GpsFixQuality.DGPS, gga.getFixQuality());
+        assertEquals(9, gga.getSatelliteCount());
+        assertEquals(0.9, gga.getHorizontalDOP(), 1e-6);
+        assertEquals(22.1, gga.getGeoidalHeight(), 1e-6);
+        assertEquals(12, gga.getTime().getHour());
+        assertEquals(34, gga.getTime().getMinutes());
+        assertEquals(56.5, gga.getTime().getSeconds(), 1e-6);
+
+        //time of the fix advances with the clock
+        now += 4_000;
+        position(-33.75, 151.25);
+        final RMCSentence rmc = (RMCSentence) of(SentenceId.RMC).get(1);
+
+        assertEquals(new Date(2024, 5, 1), rmc.getDate());
+        assertEquals(0.5, rmc.getTime().getSeconds(), 1e-6);
+        assertEquals(35, rmc.getTime().getMinutes());
+
+    }
+
+    @Test
+    public void testCourseAndHeading() {
+
+        gateway.setInterval(SentenceId.VTG, 0);
+
+        //heading 10 deg magnetic, deviation -1 deg, variation 5 deg
+        final byte[] heading = data(8);
+        set(heading, 8, 16, Math.round(Math.toRadians(10) * 1e4));
+        set(heading, 24, 16, Math.round(Math.toRadians(-1) * 1e4));
+        set(heading, 40, 16, Math.round(Math.toRadians(5) * 1e4));
+        set(heading, 56, 2, 1);
+
+        send(CANID.VESSEL_HEADING, heading);
+
+        final HDTSentence hdt = (HDTSentence) of(SentenceId.HDT).get(0);
+        assertEquals(14.0, hdt.getHeading(), 0.05);
+
+        //cog 90 deg true, sog 5 m/s
+        final byte[] cogSog = data(8);
+        set(cogSog, 8, 2, 0);
+        set(cogSog, 16, 16, Math.round(Math.toRadians(90) * 1e4));
+        set(cogSog, 32, 16, 500);
+
+        send(N2KSentenceGateway.COG_SOG_RAPID_UPDATE, cogSog);
+        send(N2KSentenceGateway.COG_SOG_RAPID_UPDATE, cogSog);
+
+        final List<Sentence> vtg = of(SentenceId.VTG);
+        assertEquals(2, vtg.size());
+
+        final VTGSentence first = (VTGSentence) vtg.get(0);
+        assertEquals(90.0, first.getTrueCourse(), 0.05);
+        assertEquals(85.0, first.getMagneticCourse(), 0.05);
+        assertEquals(9.7, first.getSpeedKnots(), 0.05);
+        assertEquals(18.0, first.getSpeedKmh(), 0.05);
+
+        position(60, 25);
+
+        final RMCSentence rmc = (RMCSentence) of(SentenceId.RMC).get(0);
+        assertEquals(90.0, rmc.getCourse(), 0.05);
+        assertEquals(9.7, rmc.getSpeed(), 0.05);
+        //easterly variation reads negative
+        assertEquals(-5.0, rmc.getVariation(), 0.05);
+
+    }
+
+    @Test
+    public void testDepthAndWind() {
+
+        final byte[] depth = data(8);
+        set(depth, 0, 8, 0);
+        set(depth, 8, 32, 1_234);
+        set(depth, 40, 16, -500);
+        set(depth, 56, 8, 10);
+
+        send(N2KSentenceGateway.WATER_DEPTH, depth);
+
+        final DPTSentence dpt = (DPTSentence) of(SentenceId.DPT).get(0);
+        assertEquals(12.3, dpt.getDepth(), 1e-6);
+        assertEquals(-0.5, dpt.getOffset(), 1e-6);
+        assertEquals(100.0, dpt.getMaximum(), 1e-6);
+
+        final byte[] wind = data(8);
+        set(wind, 8, 16, 750);
+        set(wind, 24, 16, Math.round(Math.toRadians(45) * 1e4));
+
+        //apparent, true and ground referenced
+        set(wind, 40, 3, 2);
+        send(N2KSentenceGateway.WIND_DATA, wind);
+        set(wind, 40, 3, 3);
+        send(N2KSentenceGateway.WIND_DATA, wind);
+        set(wind, 40, 3, 0);
+        send(N2KSentenceGateway.WIND_DATA, wind);
+
+        final List<Sentence> mwv = of(SentenceId.MWV);
+        assertEquals(2, mwv.size());
+
+        final MWVSentence relative = (MWVSentence) mwv.get(0);
+        assertFalse(relative.isTrue());
+        assertEquals(45.0, relative.getAngle(), 0.05);
+        assertEquals(7.5, relative.getSpeed(), 1e-6);
+        assertTrue(((MWVSentence) mwv.get(1)).isTrue());
+
+    }
+
+    private static byte[] ais(final boolean classB) {
+
+        final byte[] data = data(classB ? 27 : 28);
+        set(data, 0, 6, classB ? 18 : 1);
+        set(data, 6, 2, 0);
+        set(data, 8, 32, 230_123_456);
+        set(data, 40, 32, Math.round(24.95 * 1e7));
+        set(data, 72, 32, Math.round(60.15 * 1e7));
+        set(data, 104, 1, 1);
+        set(data, 105, 1, 0);
+        set(data, 106, 6, 42);
+        set(data, 112, 16, Math.round(Math.toRadians(123.4) * 1e4));
+        set(data, 128, 16, 617);
+        set(data, 144, 19, 0x1234);
+        set(data, 163, 5, 1);
+        set(data, 168, 16, Math.round(Math.toRadians(125) * 1e4));
+
+        if (classB) {
+            set(data, 184, 8, 0);
+            set(data, 192, 2, 0);
+            set(data, 194, 1, 1);
+            set(data, 196, 5, 0);
+        }
+        else {
+            set(data, 184, 16, 0x7FFF);
+            set(data, 200, 4, 0);
+            set(data, 204, 2, 0);
+        }
+
+        return data;
+
+    }
+
+    @Test
+    public void testAis() {
+
+        send(N2KSentenceGateway.AIS_CLASS_A_POSITION_REPORT, ais(false));
+        send(N2KSentenceGateway.AIS_CLASS_A_POSITION_REPORT, ais(false));
+        send(N2KSentenceGateway.AIS_CLASS_B_POSITION_REPORT, ais(true));
+
+        final List<Sentence> vdm = of(SentenceId.VDM);
+        assertEquals(3, vdm.size());
+
+        final AISSentence sentence = (AISSentence) vdm.get(0);
+        assertEquals("B", sentence.getRadioChannel());
+        assertEquals(28, sentence.getPayload().length());
+
+        final AISMessage message = AISMessageFactory.getInstance().create(sentence);
+        assertEquals(1, message.getMessageType());
+        assertEquals(230_123_456, message.getMMSI());
+
+        final AISPositionReport report = (AISPositionReport) message;
+        assertEquals(24.95, report.getLongitudeInDegrees(), 1e-5);
+        assertEquals(60.15, report.getLatitudeInDegrees(), 1e-5);
+        assertEquals(123.4, report.getCourseOverGround(), 0.05);
+        assertEquals(12.0, report.getSpeedOverGround(), 0.05);
+        assertEquals(125, report.getTrueHeading());
+        assertEquals(42, report.getTimeStamp());
+        assertEquals(0, report.getNavigationalStatus());
+
+        final AISMessage18 classB = (AISMessage18) AISMessageFactory.getInstance().create((AISSentence) vdm.get(2));
+        assertEquals(18, classB.getMessageType());
+        assertEquals(230_123_456, classB.getMMSI());
+        assertEquals(24.95, classB.getLongitudeInDegrees(), 1e-5);
+        assertEquals(60.15, classB.getLatitudeInDegrees(), 1e-5);
+        assertEquals(123.4, classB.getCourseOverGround(), 0.05);
+        assertEquals(125, classB.getTrueHeading());
+
+        //own vessel
+        final byte[] own = ais(false);
+        set(own, 163, 5, 2);
+        send(N2KSentenceGateway.AIS_CLASS_A_POSITION_REPORT, own);
+
+        final AISSentence vdo = (AISSentence) of(SentenceId.VDO).get(0);
+        assertEquals("A", vdo.getRadioChannel());
+
+    }
+}
@@ -36,4 +36,34 @@ public class NMEADataTest {
         }
 
     }
+
+    @Test
+    public void testPayload() throws Exception {
+
+        final byte[] bytesIn = ByteUtils.bitStringToUnsignedByteArray(
+            //canid
+            "11111111" +
+            "11111111" +
+            "11111111" +
+            "11111" +
+            //Data
+            "00000001" +
+            "00000010" +
+            "00000011" +
+            "00000100" +
+            "00000101" +
+            "00000110" +
+            "00000111" +
+            "10001000" + "000"
+        );
+
+        assertEquals(0x0102030405060788L, NMEAData.bits(bytesIn, 0));
+        assertEquals(0x8807060504030201L, NMEAData.payload(bytesIn, 0));
+
+        final byte[] seperated = NMEAData.seperateData(bytesIn);
+
+        assertEquals(1, seperated[0]);
+        assertEquals((byte) 0x88, seperated[7]);
+
+    }
 }
@@ -0,0 +1,123 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PgnDefinitionsTest {
+
+    private static PgnDefinitions load(final String definitions) throws Exception {
+        return PgnDefinitions.load(new ByteArrayInputStream(definitions.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testVesselHeading() {
+
+        final PgnDecoder decoder = PgnDefinitions.standard().get(CANID.VESSEL_HEADING);
+
+        assertEquals("vesselHeading", decoder.getName());
+
+        //sid 1, heading 1.5 rad, deviation -0.01, variation n/a, reference magnetic
+        final byte[] data = {
+            0x01, (byte) 0x98, 0x3A, (byte) 0x9C, (byte) 0xFF, (byte) 0xFF, 0x7F, (byte) 0xFD
+        };
+
+        assertEquals(1, decoder.value(decoder.indexOf("sid"), data, 0, 8));
+        assertEquals(1.5, decoder.value(decoder.indexOf("heading"), data, 0, 8), 1e-9);
+        assertEquals(-0.01, decoder.value(decoder.indexOf("deviation"), data, 0, 8), 1e-9);
+        assertTrue(Double.isNaN(decoder.value(decoder.indexOf("variation"), data, 0, 8)));
+        assertEquals("Magnetic", decoder.lookup(decoder.indexOf("reference"), data, 0, 8));
+
+        //short payload
+        assertTrue(Double.isNaN(decoder.value(decoder.indexOf("variation"), data, 0, 6)));
+        assertEquals(0, decoder.raw(decoder.indexOf("reference"), data, 0, 6));
+
+    }
+
+    @Test
+    public void testGnssPosition() {
+
+        final PgnDecoder decoder = PgnDefinitions.standard().get(129029);
+
+        assertTrue(decoder.isFastPacket());
+
+        final byte[] data = new byte[43];
+        final long latitude = 601234567890123456L;
+        final long longitude = -249876543210987654L;
+        CANFrame.write(latitude, data, 7, 8);
+        CANFrame.write(longitude, data, 15, 8);
+        data[31] = 0x23;
+
+        assertEquals(60.1234567890123456, decoder.value(decoder.indexOf("latitude"), data, 0, 43), 1e-12);
+        assertEquals(-24.9876543210987654, decoder.value(decoder.indexOf("longitude"), data, 0, 43), 1e-12);
+        assertEquals("GPS+SBAS/WAAS", decoder.lookup(decoder.indexOf("gnssType"), data, 0, 43));
+        assertEquals("DGNSS fix", decoder.lookup(decoder.indexOf("method"), data, 0, 43));
+
+    }
+
+    @Test
+    public void testRegisterFastPackets() throws Exception {
+
+        final FASTData fastData = new FASTData();
+        fastData.setFastPacket(130306, true);
+
+        PgnDefinitions.standard().register(fastData);
+
+        assertEquals(false, fastData.isFastPacket(130306));
+        assertEquals(true, fastData.isFastPacket(129029));
+
+    }
+
+    @Test
+    public void testLoad() throws Exception {
+
+        final PgnDefinitions definitions = load(
+            "# test\n" +
+            "lookup STATE\n" +
+            "  0 Off\n" +
+            "  1 On # comment\n" +
+            "pgn 65280 test single\n" +
+            "  field a 3 2 1 lookup:STATE\n" +
+            "  field b 5 11 0.5 signed m\n"
+        );
+
+        final PgnDecoder decoder = definitions.get(65280);
+
+        assertEquals(2, decoder.getFieldCount());
+        assertEquals(-1, decoder.indexOf("c"));
+        assertEquals("m", decoder.getField(1).getUnit());
+
+        //a = 1, b = -3
+        final byte[] data = {(byte) ((1 << 3) | (0x7FD << 5)), (byte) (0x7FD >>> 3)};
+
+        assertEquals("On", decoder.lookup(0, data, 0, 2));
+        assertEquals(-3, decoder.raw(1, data, 0, 2));
+        assertEquals(-1.5, decoder.value(1, data, 0, 2));
+        assertNull(definitions.get(65281));
+
+    }
+
+    @Test
+    public void testLoadErrors() {
+
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> load(
+            "pgn 65280 test single\n" +
+            "  field a 0 8 1 lookup:MISSING\n"
+        ));
+        assertTrue(e.getMessage().startsWith("line 2"));
+
+        assertThrows(IllegalArgumentException.class, () -> load("field a 0 8 1 unsigned\n"));
+        assertThrows(IllegalArgumentException.class, () -> load("pgn 65280 test multi\n"));
+        assertThrows(IllegalArgumentException.class, () -> load(
+            "pgn 65280 test single\n" +
+            "  field a 4 64 1 unsigned\n"
+        ));
+
+    }
+}
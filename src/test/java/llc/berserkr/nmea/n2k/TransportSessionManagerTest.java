@@ -0,0 +1,198 @@
+package llc.berserkr.nmea.n2k;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TransportSessionManagerTest {
+
+    private static final int PGN = 126998;
+    private static final int ORIGINATOR = 0x20;
+    private static final int RECEIVER = 0x30;
+
+    private final List<Integer> ids = new ArrayList<>();
+    private final List<byte[]> packets = new ArrayList<>();
+    private final List<Integer> passed = new ArrayList<>();
+    private final List<long[]> sent = new ArrayList<>();
+
+    private TransportSessionManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        manager = new TransportSessionManager(
+            (id, payload, length, time) -> passed.add(id),
+            (id, data, offset, length) -> {
+                ids.add(id);
+                packets.add(Arrays.copyOfRange(data, offset, offset + length));
+            },
+            2
+        );
+        manager.setAddress(RECEIVER, (id, payload, length, time) -> sent.add(new long[]{id, payload}));
+    }
+
+    private static byte[] data(final int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    private void connect(final int control, final int destination, final int size, final int maxPerCts, final long time) {
+        final int count = (size + 6) / 7;
+        final long payload = control
+            | ((long) size << 8)
+            | ((long) count << 24)
+            | ((long) maxPerCts << 32)
+            | ((long) PGN << 40);
+        manager.frame(CANID.id(7, CANID.ISO_CONNECTION_RTS, destination, ORIGINATOR), payload, 8, time);
+    }
+
+    private void transfer(final byte[] data, final int destination, final int sequence, final long time) {
+        final byte[] frame = new byte[8];
+        Arrays.fill(frame, (byte) 0xFF);
+        frame[0] = (byte) sequence;
+        final int offset = (sequence - 1) * 7;
+        for (int i = 0; i < 7 && offset + i < data.length; i++) {
+            frame[i + 1] = data[offset + i];
+        }
+        manager.frame(
+            CANID.id(7, CANID.ISO__DATA_TRANSPORT, destination, ORIGINATOR),
+            CANFrame.payload(frame, 0, 8),
+            8,
+            time
+        );
+    }
+
+    @Test
+    public void testBroadcast() {
+
+        final byte[] data = data(100);
+
+        connect(TransportSessionManager.CONTROL_BAM, CANID.GLOBAL_ADDRESS, data.length, 0xFF, 0);
+        assertEquals(1, manager.getActive());
+
+        for (int sequence = 1; sequence <= 15; sequence++) {
+            transfer(data, CANID.GLOBAL_ADDRESS, sequence, sequence * 50);
+        }
+
+        assertEquals(1, packets.size());
+        assertArrayEquals(data, packets.get(0));
+        assertEquals(PGN, CANID.pgn(ids.get(0)));
+        assertEquals(ORIGINATOR, CANID.source(ids.get(0)));
+        assertEquals(0, manager.getActive());
+        assertEquals(0, sent.size());
+
+    }
+
+    @Test
+    public void testConnection() {
+
+        final byte[] data = data(TransportSessionManager.MAX_LENGTH);
+
+        connect(TransportSessionManager.CONTROL_RTS, RECEIVER, data.length, 100, 0);
+
+        //clear to send 100 frames starting at 1
+        assertEquals(1, sent.size());
+        assertEquals(ORIGINATOR, CANID.destination((int) sent.get(0)[0]));
+        assertEquals(TransportSessionManager.CONTROL_CTS, CANFrame.uint8(sent.get(0)[1], 0));
+        assertEquals(100, CANFrame.uint8(sent.get(0)[1], 1));
+        assertEquals(1, CANFrame.uint8(sent.get(0)[1], 2));
+
+        for (int sequence = 1; sequence <= 255; sequence++) {
+            transfer(data, RECEIVER, sequence, sequence);
+        }
+
+        //two more windows and the end of message acknowledgement
+        assertEquals(4, sent.size());
+        assertEquals(101, CANFrame.uint8(sent.get(1)[1], 2));
+        assertEquals(55, CANFrame.uint8(sent.get(2)[1], 1));
+        assertEquals(TransportSessionManager.CONTROL_EOM, CANFrame.uint8(sent.get(3)[1], 0));
+        assertEquals(TransportSessionManager.MAX_LENGTH, CANFrame.uint16(sent.get(3)[1], 1));
+
+        assertEquals(1, packets.size());
+        assertArrayEquals(data, packets.get(0));
+        assertEquals(ORIGINATOR, CANID.source(ids.get(0)));
+
+    }
+
+    @Test
+    public void testPassiveConnection() {
+
+        final byte[] data = data(20);
+
+        connect(TransportSessionManager.CONTROL_RTS, 0x40, data.length, 0xFF, 0);
+        for (int sequence = 1; sequence <= 3; sequence++) {
+            transfer(data, 0x40, sequence, sequence);
+        }
+
+        assertEquals(0, sent.size());
+        assertEquals(1, packets.size());
+        assertArrayEquals(data, packets.get(0));
+
+    }
+
+    @Test
+    public void testBadSequence() {
+
+        final byte[] data = data(20);
+
+        connect(TransportSessionManager.CONTROL_RTS, RECEIVER, data.length, 0xFF, 0);
+        transfer(data, RECEIVER, 1, 1);
+        transfer(data, RECEIVER, 3, 2);
+
+        assertEquals(0, packets.size());
+        assertEquals(0, manager.getActive());
+        assertEquals(TransportSessionManager.CONTROL_ABORT, CANFrame.uint8(sent.get(1)[1], 0));
+        assertEquals(TransportSessionManager.ABORT_BAD_SEQUENCE, CANFrame.uint8(sent.get(1)[1], 1));
+
+    }
+
+    @Test
+    public void testTimeout() {
+
+        connect(TransportSessionManager.CONTROL_RTS, RECEIVER, 20, 0xFF, 0);
+        connect(TransportSessionManager.CONTROL_BAM, CANID.GLOBAL_ADDRESS, 20, 0xFF, 0);
+
+        assertEquals(2, manager.getActive());
+        assertEquals(1, manager.expire(TransportSessionManager.T1 + 1));
+        assertEquals(1, manager.expire(TransportSessionManager.T2 + 1));
+        assertEquals(0, manager.getActive());
+
+        final long[] abort = sent.get(sent.size() - 1);
+        assertEquals(TransportSessionManager.CONTROL_ABORT, CANFrame.uint8(abort[1], 0));
+        assertEquals(TransportSessionManager.ABORT_TIMEOUT, CANFrame.uint8(abort[1], 1));
+        assertEquals(PGN, (int) CANFrame.bits(abort[1], 40, 18));
+
+    }
+
+    @Test
+    public void testCapacity() {
+
+        connect(TransportSessionManager.CONTROL_BAM, CANID.GLOBAL_ADDRESS, 20, 0xFF, 0);
+        connect(TransportSessionManager.CONTROL_RTS, 0x40, 20, 0xFF, 0);
+        connect(TransportSessionManager.CONTROL_RTS, RECEIVER, 20, 0xFF, 0);
+
+        assertEquals(2, manager.getActive());
+        assertEquals(TransportSessionManager.ABORT_RESOURCES, CANFrame.uint8(sent.get(0)[1], 1));
+
+    }
+
+    @Test
+    public void testPassThrough() {
+
+        final int id = CANID.id(2, 127250, CANID.GLOBAL_ADDRESS, ORIGINATOR);
+
+        manager.frame(id, 0, 8, 0);
+
+        assertEquals(List.of(id), passed);
+        assertEquals(0, packets.size());
+
+    }
+}
@@ -0,0 +1,192 @@
+package net.sf.marineapi.ais.event;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage01;
+import net.sf.marineapi.ais.message.AISMessage05;
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AISMessageDispatcherTest {
+
+    private final SentenceFactory sf = SentenceFactory.getInstance();
+
+    private final Sentence AIS_01 = sf.createParser("!AIVDM,1,1,,A,13aEOK?P00PD2wVMdLDRhgvL289?,0*26");
+
+    private final Sentence AIS_05_1 = sf.createParser("!AIVDM,2,1,3,B,55P5TL01VIaAL@7WKO@mBplU@<PDhh000000001S;AJ::4A80?4i@E53,0*3E");
+    private final Sentence AIS_05_2 = sf.createParser("!AIVDM,2,2,3,B,1@0000000000000,2*55");
+
+    private final Sentence AIS_05_1_A7 = sf.createParser("!AIVDM,2,1,7,A,55P5TL01VIaAL@7WKO@mBplU@<PDhh000000001S;AJ::4A80?4i@E53,0*39");
+    private final Sentence AIS_05_2_A7 = sf.createParser("!AIVDM,2,2,7,A,1@0000000000000,2*52");
+
+    private long now = 0;
+    private final AISMessageDispatcher dispatcher = new AISMessageDispatcher(1000, () -> now);
+
+    private final List<AISMessage> all = new ArrayList<>();
+    private final List<AISMessage> statics = new ArrayList<>();
+
+    private void read(Sentence s) {
+        dispatcher.sentenceRead(new SentenceEvent(this, s));
+    }
+
+    private void read(Sentence s, String sourceId) {
+        dispatcher.sentenceRead(new SentenceEvent(this, s, sourceId));
+    }
+
+    @Test
+    public void testDecodeOnce() {
+
+        dispatcher.addMessageListener(all::add);
+        dispatcher.addMessageListener(all::add);
+        dispatcher.addMessageListener(statics::add, 5);
+
+        read(AIS_01);
+
+        assertEquals(1, dispatcher.getDecoded());
+        assertEquals(2, all.size());
+        assertSame(all.get(0), all.get(1));
+        assertTrue(all.get(0) instanceof AISMessage01);
+        assertTrue(statics.isEmpty());
+    }
+
+    @Test
+    public void testRoutingByType() {
+
+        dispatcher.addMessageListener(all::add);
+        dispatcher.addMessageListener(statics::add, 5);
+
+        read(AIS_05_1);
+        read(AIS_05_2);
+
+        assertEquals(1, all.size());
+        assertEquals(1, statics.size());
+        assertSame(all.get(0), statics.get(0));
+        assertTrue(statics.get(0) instanceof AISMessage05);
+
+        AISMessageListener listener = statics::add;
+        dispatcher.addMessageListener(listener, 1);
+        dispatcher.removeMessageListener(listener);
+        read(AIS_01);
+
+        assertEquals(2, all.size());
+        assertEquals(1, statics.size());
+    }
+
+    @Test
+    public void testInterleavedFragments() {
+
+        dispatcher.addMessageListener(statics::add, 5);
+
+        read(AIS_05_1);
+        read(AIS_05_1_A7);
+        read(AIS_01);
+        assertEquals(2, dispatcher.getPending());
+
+        // same fragments from another source are collected separately
+        read(AIS_05_2, "other");
+        assertEquals(3, dispatcher.getPending());
+        assertTrue(statics.isEmpty());
+
+        read(AIS_05_2_A7);
+        read(AIS_05_2);
+
+        assertEquals(2, statics.size());
+        assertEquals(1, dispatcher.getPending());
+        assertEquals(3, dispatcher.getDecoded());
+        assertEquals(0, dispatcher.getDropped());
+    }
+
+    @Test
+    public void testOutOfOrderFragments() {
+
+        dispatcher.addMessageListener(statics::add);
+
+        read(AIS_05_2);
+        read(AIS_05_1);
+
+        assertEquals(1, statics.size());
+        assertEquals(0, dispatcher.getPending());
+    }
+
+    @Test
+    public void testTimeout() {
+
+        dispatcher.addMessageListener(statics::add);
+
+        read(AIS_05_1);
+        now = 1500;
+        read(AIS_05_2);
+
+        assertTrue(statics.isEmpty());
+        assertEquals(1, dispatcher.getDropped());
+        assertEquals(1, dispatcher.getPending());
+
+        // restarted message completes in time
+        read(AIS_05_1);
+        assertEquals(1, statics.size());
+        assertEquals(0, dispatcher.getPending());
+
+        read(AIS_05_1_A7);
+        dispatcher.readingStopped();
+        assertEquals(0, dispatcher.getPending());
+        assertEquals(2, dispatcher.getDropped());
+    }
+
+    @Test
+    public void testRepeatedFirstFragment() {
+
+        dispatcher.addMessageListener(statics::add);
+
+        read(AIS_05_1);
+        read(AIS_05_1);
+
+        assertEquals(1, dispatcher.getDropped());
+        assertEquals(1, dispatcher.getPending());
+
+        read(AIS_05_2);
+        assertEquals(1, statics.size());
+    }
+
+    @Test
+    public void testAbstractListener() {
+
+        List<AISMessage05> received = new ArrayList<>();
+
+        dispatcher.addMessageListener(new AbstractAISMessageListener<AISMessage05>() {
+            @Override
+            public void onMessage(AISMessage05 msg) {
+                received.add(msg);
+            }
+        });
+
+        read(AIS_01);
+        read(AIS_05_1);
+        read(AIS_05_2);
+
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    public void testListenerException() {
+
+        dispatcher.addMessageListener(m -> { throw new IllegalStateException("test"); });
+        dispatcher.addMessageListener(all::add);
+
+        read(AIS_01);
+
+        assertEquals(1, all.size());
+    }
+
+    @Test
+    public void testInvalidType() {
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.addMessageListener(all::add, 64));
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.addMessageListener(null));
+        assertThrows(IllegalArgumentException.class, () -> new AISMessageDispatcher(0, () -> 0));
+    }
+}
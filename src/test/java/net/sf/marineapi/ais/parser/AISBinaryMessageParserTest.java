@@ -0,0 +1,175 @@
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage06;
+import net.sf.marineapi.ais.message.AISMessage08;
+import net.sf.marineapi.ais.message.AISMessage17;
+import net.sf.marineapi.ais.message.AISMessage25;
+import net.sf.marineapi.ais.message.AISMessage26;
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMeteoHydroReport;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIS binary message tests (messages 6, 8, 17, 25 and 26).
+ */
+public class AISBinaryMessageParserTest {
+
+    @Test
+    public void testMessage06() {
+        PayloadBuilder b = new PayloadBuilder(6, 230123456)
+            .put(2, 3).put(30, 265547250).put(true).put(false)
+            .put(10, 235).put(6, 10).put(8, 0xAB).put(4, 0xC);
+
+        AISMessage06 msg = new AISMessage06Parser(b.sixbit());
+
+        assertEquals(6, msg.getMessageType());
+        assertEquals(230123456, msg.getMMSI());
+        assertEquals(3, msg.getSequenceNumber());
+        assertEquals(265547250, msg.getDestinationMMSI());
+        assertTrue(msg.isRetransmitted());
+        assertEquals(235, msg.getDesignatedAreaCode());
+        assertEquals(10, msg.getFunctionalId());
+        assertEquals(12, msg.getDataLength());
+        assertArrayEquals(new byte[] { (byte) 0xAB, (byte) 0xC0 }, msg.getData());
+    }
+
+    @Test
+    public void testMessage08() {
+        PayloadBuilder b = new PayloadBuilder(8, 2655619)
+            .put(2, 0).put(10, 200).put(6, 10).put(16, 0x1234);
+
+        AISMessage08 msg = (AISMessage08) AISMessageFactory.getInstance().create(b.sentence());
+
+        assertFalse(msg instanceof AISMeteoHydroReport);
+        assertEquals(200, msg.getDesignatedAreaCode());
+        assertEquals(10, msg.getFunctionalId());
+        assertEquals(16, msg.getDataLength());
+        assertArrayEquals(new byte[] { 0x12, 0x34 }, msg.getData());
+    }
+
+    @Test
+    public void testMessage08WithoutData() {
+        PayloadBuilder b = new PayloadBuilder(8, 2655619).put(2, 0).put(10, 1).put(6, 31);
+        AISMessage08 msg = (AISMessage08) AISMessageFactory.getInstance().create(b.sentence());
+        assertFalse(msg instanceof AISMeteoHydroReport);
+        assertEquals(0, msg.getDataLength());
+        assertEquals(0, msg.getData().length);
+    }
+
+    @Test
+    public void testMessage17() {
+        // 24.5 E, 60.25 N in 1/10 minutes
+        PayloadBuilder b = new PayloadBuilder(17, 2734450)
+            .put(2, 0).put(18, 14700).put(17, 36150).put(5, 0).put(24, 0x66C3A1);
+
+        AISMessage17 msg = new AISMessage17Parser(b.sixbit());
+
+        assertEquals(24.5, msg.getLongitudeInDegrees(), 1e-9);
+        assertEquals(60.25, msg.getLatitudeInDegrees(), 1e-9);
+        assertTrue(msg.hasLongitude());
+        assertTrue(msg.hasLatitude());
+        assertEquals(24, msg.getDataLength());
+        assertArrayEquals(new byte[] { 0x66, (byte) 0xC3, (byte) 0xA1 }, msg.getData());
+    }
+
+    @Test
+    public void testMessage25Addressed() {
+        PayloadBuilder b = new PayloadBuilder(25, 440006460)
+            .put(true).put(true).put(30, 134218384).put(10, 1).put(6, 0).put(8, 0x5A);
+
+        AISMessage25 msg = new AISMessage25Parser(b.sixbit());
+
+        assertTrue(msg.isAddressed());
+        assertTrue(msg.isStructured());
+        assertEquals(134218384, msg.getDestinationMMSI());
+        assertEquals(1, msg.getDesignatedAreaCode());
+        assertEquals(0, msg.getFunctionalId());
+        assertEquals(8, msg.getDataLength());
+        assertArrayEquals(new byte[] { 0x5A }, msg.getData());
+    }
+
+    @Test
+    public void testMessage25Broadcast() {
+        PayloadBuilder b = new PayloadBuilder(25, 440006460)
+            .put(false).put(false).put(16, 0xBEEF);
+
+        AISMessage25 msg = new AISMessage25Parser(b.sixbit());
+
+        assertFalse(msg.isAddressed());
+        assertFalse(msg.isStructured());
+        assertEquals(0, msg.getDestinationMMSI());
+        assertEquals(0, msg.getDesignatedAreaCode());
+        assertEquals(0, msg.getFunctionalId());
+        assertEquals(16, msg.getDataLength());
+        assertArrayEquals(new byte[] { (byte) 0xBE, (byte) 0xEF }, msg.getData());
+    }
+
+    @Test
+    public void testMessage26() {
+        PayloadBuilder b = new PayloadBuilder(26, 440006460)
+            .put(false).put(true).put(10, 235).put(6, 21).put(16, 0x0102).put(20, 0xFFFFF);
+
+        AISMessage26 msg = new AISMessage26Parser(b.sixbit());
+
+        assertFalse(msg.isAddressed());
+        assertTrue(msg.isStructured());
+        assertEquals(235, msg.getDesignatedAreaCode());
+        assertEquals(21, msg.getFunctionalId());
+        assertEquals(16, msg.getDataLength());
+        assertArrayEquals(new byte[] { 0x01, 0x02 }, msg.getData());
+    }
+
+    @Test
+    public void testMessage06Sample() {
+        AISMessage06 msg = (AISMessage06) decode("!AIVDM,1,1,,B,6B?n;be:cbapalgc;i6?Ow4,2*4A");
+
+        assertEquals(1, msg.getRepeatIndicator());
+        assertEquals(150834090, msg.getMMSI());
+        assertEquals(3, msg.getSequenceNumber());
+        assertEquals(313240222, msg.getDestinationMMSI());
+        assertFalse(msg.isRetransmitted());
+        assertEquals(669, msg.getDesignatedAreaCode());
+        assertEquals(11, msg.getFunctionalId());
+        assertEquals(48, msg.getDataLength());
+        assertEquals((byte) 0xEB, msg.getData()[0]);
+        assertEquals((byte) 0x2F, msg.getData()[1]);
+    }
+
+    @Test
+    public void testMessage25Sample() {
+        AISMessage25 msg = (AISMessage25) decode("!AIVDM,1,1,,A,I6SWo?8P00a3PKpEKEVj0?vNP<65,0*73");
+
+        assertEquals(440006460, msg.getMMSI());
+        assertTrue(msg.isAddressed());
+        assertFalse(msg.isStructured());
+        assertEquals(134218384, msg.getDestinationMMSI());
+        assertEquals(98, msg.getDataLength());
+        assertEquals((byte) 0xE0, msg.getData()[0]);
+        assertEquals((byte) 0x6F, msg.getData()[1]);
+    }
+
+    @Test
+    public void testMessage26Sample() {
+        AISMessage26 msg = (AISMessage26) decode("!AIVDM,1,1,,A,JB3R0GO7p>vQL8tjw0b5hqpd0706kh9d3lR2vbl0400,2*40");
+
+        assertEquals(1, msg.getRepeatIndicator());
+        assertEquals(137920605, msg.getMMSI());
+        assertTrue(msg.isAddressed());
+        assertTrue(msg.isStructured());
+        assertEquals(838351848, msg.getDestinationMMSI());
+        assertEquals(368, msg.getDesignatedAreaCode());
+        assertEquals(35, msg.getFunctionalId());
+        assertEquals(150, msg.getDataLength());
+        assertEquals((byte) 0xCC, msg.getData()[0]);
+        assertEquals((byte) 0xBF, msg.getData()[1]);
+    }
+
+    // real-world sample sentences, expected values as decoded by gpsd
+    private static AISMessage decode(String nmea) {
+        return AISMessageFactory.getInstance().create((AISSentence) SentenceFactory.getInstance().createParser(nmea));
+    }
+}
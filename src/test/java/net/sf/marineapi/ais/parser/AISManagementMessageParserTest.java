@@ -0,0 +1,301 @@
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISAcknowledgement;
+import net.sf.marineapi.ais.message.AISMessage10;
+import net.sf.marineapi.ais.message.AISMessage11;
+import net.sf.marineapi.ais.message.AISMessage12;
+import net.sf.marineapi.ais.message.AISMessage13;
+import net.sf.marineapi.ais.message.AISMessage14;
+import net.sf.marineapi.ais.message.AISMessage15;
+import net.sf.marineapi.ais.message.AISMessage16;
+import net.sf.marineapi.ais.message.AISMessage20;
+import net.sf.marineapi.ais.message.AISMessage22;
+import net.sf.marineapi.ais.message.AISMessage23;
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIS acknowledgement, inquiry, safety and link management message tests
+ * (messages 7, 10 - 16, 20, 22 and 23).
+ */
+public class AISManagementMessageParserTest {
+
+    @Test
+    public void testAcknowledgement() {
+        PayloadBuilder b = new PayloadBuilder(7, 2655651).put(2, 0)
+            .put(30, 265538450).put(2, 1).put(30, 265547250).put(2, 3);
+
+        AISAcknowledgement msg = new AISMessage07Parser(b.sixbit());
+
+        assertEquals(2, msg.getNumberOfAcknowledgements());
+        assertEquals(265538450, msg.getAcknowledgedMMSI(0));
+        assertEquals(1, msg.getSequenceNumber(0));
+        assertEquals(265547250, msg.getAcknowledgedMMSI(1));
+        assertEquals(3, msg.getSequenceNumber(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> msg.getAcknowledgedMMSI(2));
+    }
+
+    @Test
+    public void testSafetyAcknowledgement() {
+        PayloadBuilder b = new PayloadBuilder(13, 2655651).put(2, 0);
+        for (int i = 0; i < 4; i++) {
+            b.put(30, 265538450 + i).put(2, i);
+        }
+
+        AISMessage13 msg = new AISMessage13Parser(b.sixbit());
+
+        assertEquals(4, msg.getNumberOfAcknowledgements());
+        assertEquals(265538453, msg.getAcknowledgedMMSI(3));
+        assertEquals(3, msg.getSequenceNumber(3));
+    }
+
+    @Test
+    public void testInquiryAndResponse() {
+        PayloadBuilder inquiry = new PayloadBuilder(10, 230123456).put(2, 0).put(30, 2300057).put(2, 0);
+        AISMessage10 msg10 = (AISMessage10) AISMessageFactory.getInstance().create(inquiry.sentence());
+        assertEquals(2300057, msg10.getDestinationMMSI());
+
+        PayloadBuilder response = new PayloadBuilder(11, 2300057)
+            .put(14, 2026).put(4, 10).put(5, 17).put(5, 12).put(6, 30).put(6, 15).pad(168);
+        AISMessage11 msg11 = (AISMessage11) AISMessageFactory.getInstance().create(response.sentence());
+        assertEquals(2026, msg11.getUtcYear());
+        assertEquals(10, msg11.getUtcMonth());
+        assertEquals(17, msg11.getUtcDay());
+        assertEquals(12, msg11.getUtcHour());
+        assertEquals(30, msg11.getUtcMinute());
+        assertEquals(15, msg11.getUtcSecond());
+    }
+
+    @Test
+    public void testSafetyText() {
+        PayloadBuilder addressed = new PayloadBuilder(12, 230123456)
+            .put(2, 2).put(30, 265547250).put(false).put(false).put("MSG FROM 230123456");
+
+        AISMessage12 msg12 = new AISMessage12Parser(addressed.sixbit());
+
+        assertEquals(2, msg12.getSequenceNumber());
+        assertEquals(265547250, msg12.getDestinationMMSI());
+        assertFalse(msg12.isRetransmitted());
+        assertEquals("MSG FROM 230123456", msg12.getText());
+
+        PayloadBuilder broadcast = new PayloadBuilder(14, 351809000).put(2, 0).put("SART TEST@@");
+        AISMessage14 msg14 = new AISMessage14Parser(broadcast.sixbit());
+        assertEquals("SART TEST", msg14.getText());
+    }
+
+    @Test
+    public void testInterrogation() {
+        PayloadBuilder one = new PayloadBuilder(15, 2655651).put(2, 0)
+            .put(30, 265538450).put(6, 5).put(12, 0).put(2, 0);
+
+        AISMessage15 msg = new AISMessage15Parser(one.sixbit());
+        assertEquals(1, msg.getNumberOfRequests());
+        assertEquals(265538450, msg.getInterrogatedMMSI(0));
+        assertEquals(5, msg.getRequestedMessageType(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> msg.getSlotOffset(1));
+
+        // one message from each of two stations
+        PayloadBuilder two = new PayloadBuilder(15, 2655651).put(2, 0)
+            .put(30, 265538450).put(6, 5).put(12, 0).put(2, 0)
+            .put(6, 0).put(12, 0).put(2, 0)
+            .put(30, 265547250).put(6, 24).put(12, 100).put(2, 0);
+
+        AISMessage15 msg2 = new AISMessage15Parser(two.sixbit());
+        assertEquals(2, msg2.getNumberOfRequests());
+        assertEquals(265547250, msg2.getInterrogatedMMSI(1));
+        assertEquals(24, msg2.getRequestedMessageType(1));
+        assertEquals(100, msg2.getSlotOffset(1));
+
+        // two messages from the first station, one from the second
+        PayloadBuilder three = new PayloadBuilder(15, 2655651).put(2, 0)
+            .put(30, 265538450).put(6, 5).put(12, 0).put(2, 0)
+            .put(6, 9).put(12, 50).put(2, 0)
+            .put(30, 265547250).put(6, 24).put(12, 100).put(2, 0);
+
+        AISMessage15 msg3 = new AISMessage15Parser(three.sixbit());
+        assertEquals(3, msg3.getNumberOfRequests());
+        assertEquals(265538450, msg3.getInterrogatedMMSI(1));
+        assertEquals(9, msg3.getRequestedMessageType(1));
+        assertEquals(50, msg3.getSlotOffset(1));
+        assertEquals(265547250, msg3.getInterrogatedMMSI(2));
+    }
+
+    @Test
+    public void testAssignment() {
+        PayloadBuilder b = new PayloadBuilder(16, 2655651).put(2, 0)
+            .put(30, 265538450).put(12, 200).put(10, 375).pad(96);
+
+        AISMessage16 msg = new AISMessage16Parser(b.sixbit());
+
+        assertEquals(1, msg.getNumberOfAssignments());
+        assertEquals(265538450, msg.getAssignedMMSI(0));
+        assertEquals(200, msg.getSlotOffset(0));
+        assertEquals(375, msg.getIncrement(0));
+
+        b = new PayloadBuilder(16, 2655651).put(2, 0)
+            .put(30, 265538450).put(12, 200).put(10, 375)
+            .put(30, 265547250).put(12, 300).put(10, 750);
+
+        AISMessage16 msg2 = new AISMessage16Parser(b.sixbit());
+        assertEquals(2, msg2.getNumberOfAssignments());
+        assertEquals(265547250, msg2.getAssignedMMSI(1));
+        assertEquals(300, msg2.getSlotOffset(1));
+        assertEquals(750, msg2.getIncrement(1));
+    }
+
+    @Test
+    public void testDataLinkManagement() {
+        PayloadBuilder b = new PayloadBuilder(20, 2655651).put(2, 0)
+            .put(12, 1000).put(4, 2).put(3, 7).put(11, 750)
+            .put(12, 2000).put(4, 1).put(3, 5).put(11, 1125).pad(104);
+
+        AISMessage20 msg = new AISMessage20Parser(b.sixbit());
+
+        assertEquals(2, msg.getNumberOfReservations());
+        assertEquals(1000, msg.getSlotOffset(0));
+        assertEquals(2, msg.getNumberOfSlots(0));
+        assertEquals(7, msg.getTimeout(0));
+        assertEquals(750, msg.getIncrement(0));
+        assertEquals(2000, msg.getSlotOffset(1));
+        assertEquals(1125, msg.getIncrement(1));
+    }
+
+    @Test
+    public void testChannelManagementRegion() {
+        // 24.5 E, 60.5 N and 23 E, 59.5 N in 1/10 minutes
+        PayloadBuilder b = new PayloadBuilder(22, 2300057).put(2, 0)
+            .put(12, 2087).put(12, 2088).put(4, 0).put(true)
+            .put(18, 14700).put(17, 36300).put(18, 13800).put(17, 35700)
+            .put(false).put(false).put(true).put(3, 4).pad(168);
+
+        AISMessage22 msg = new AISMessage22Parser(b.sixbit());
+
+        assertEquals(2087, msg.getChannelA());
+        assertEquals(2088, msg.getChannelB());
+        assertEquals(0, msg.getTxRxMode());
+        assertTrue(msg.isLowPower());
+        assertFalse(msg.isAddressed());
+        assertEquals(24.5, msg.getNorthEastLongitude(), 1e-9);
+        assertEquals(60.5, msg.getNorthEastLatitude(), 1e-9);
+        assertEquals(23, msg.getSouthWestLongitude(), 1e-9);
+        assertEquals(59.5, msg.getSouthWestLatitude(), 1e-9);
+        assertEquals(0, msg.getFirstDestinationMMSI());
+        assertFalse(msg.isChannelABandwidthReduced());
+        assertTrue(msg.isChannelBBandwidthReduced());
+        assertEquals(5, msg.getZoneSize());
+    }
+
+    @Test
+    public void testChannelManagementAddressed() {
+        PayloadBuilder b = new PayloadBuilder(22, 2300057).put(2, 0)
+            .put(12, 2087).put(12, 2088).put(4, 1).put(false)
+            .put(30, 265538450).put(5, 0).put(30, 265547250).put(5, 0)
+            .put(true).pad(168);
+
+        AISMessage22 msg = new AISMessage22Parser(b.sixbit());
+
+        assertTrue(msg.isAddressed());
+        assertEquals(1, msg.getTxRxMode());
+        assertEquals(265538450, msg.getFirstDestinationMMSI());
+        assertEquals(265547250, msg.getSecondDestinationMMSI());
+        assertTrue(Double.isNaN(msg.getNorthEastLongitude()));
+        assertEquals(1, msg.getZoneSize());
+    }
+
+    @Test
+    public void testGroupAssignment() {
+        PayloadBuilder b = new PayloadBuilder(23, 2300057).put(2, 0)
+            .put(18, 14700).put(17, 36300).put(18, 13800).put(17, 35700)
+            .put(4, 6).put(8, 70).put(22, 0).put(2, 1).put(4, 9).put(4, 3).pad(160);
+
+        AISMessage23 msg = new AISMessage23Parser(b.sixbit());
+
+        assertEquals(24.5, msg.getNorthEastLongitude(), 1e-9);
+        assertEquals(59.5, msg.getSouthWestLatitude(), 1e-9);
+        assertEquals(6, msg.getStationType());
+        assertEquals(70, msg.getTypeOfShipAndCargoType());
+        assertEquals(1, msg.getTxRxMode());
+        assertEquals(9, msg.getReportingInterval());
+        assertEquals(3, msg.getQuietTime());
+    }
+
+    @Test
+    public void testInterrogationSample() {
+        AISMessage15 msg = (AISMessage15) decode("!AIVDM,1,1,,A,?5OP=l00052HD00,2*5B");
+
+        assertEquals(368578000, msg.getMMSI());
+        assertEquals(1, msg.getNumberOfRequests());
+        assertEquals(5158, msg.getInterrogatedMMSI(0));
+        assertEquals(5, msg.getRequestedMessageType(0));
+        assertEquals(0, msg.getSlotOffset(0));
+    }
+
+    @Test
+    public void testAssignmentSample() {
+        AISMessage16 msg = (AISMessage16) decode("!AIVDM,1,1,,A,@01uEO@mMk7P<P00,0*18");
+
+        assertEquals(2053501, msg.getMMSI());
+        assertEquals(1, msg.getNumberOfAssignments());
+        assertEquals(224251000, msg.getAssignedMMSI(0));
+        assertEquals(200, msg.getSlotOffset(0));
+        assertEquals(0, msg.getIncrement(0));
+    }
+
+    @Test
+    public void testDataLinkManagementSample() {
+        AISMessage20 msg = (AISMessage20) decode("!AIVDM,1,1,,A,Dh3OvjB8IN>4,0*1D");
+
+        assertEquals(3, msg.getRepeatIndicator());
+        assertEquals(3669705, msg.getMMSI());
+        assertEquals(1, msg.getNumberOfReservations());
+        assertEquals(2182, msg.getSlotOffset(0));
+        assertEquals(5, msg.getNumberOfSlots(0));
+        assertEquals(7, msg.getTimeout(0));
+        assertEquals(225, msg.getIncrement(0));
+    }
+
+    @Test
+    public void testChannelManagementSample() {
+        AISMessage22 msg = (AISMessage22) decode("!AIVDM,1,1,,B,F030p:j2N2P5aJR0r;6f3rj10000,0*11");
+
+        assertEquals(3160107, msg.getMMSI());
+        assertEquals(2087, msg.getChannelA());
+        assertEquals(2088, msg.getChannelB());
+        assertEquals(0, msg.getTxRxMode());
+        assertFalse(msg.isLowPower());
+        assertFalse(msg.isAddressed());
+        assertEquals(-128.5, msg.getNorthEastLongitude(), 1e-9);
+        assertEquals(55.0, msg.getNorthEastLatitude(), 1e-9);
+        assertEquals(-133.666667, msg.getSouthWestLongitude(), 1e-6);
+        assertEquals(53.5, msg.getSouthWestLatitude(), 1e-9);
+        assertFalse(msg.isChannelABandwidthReduced());
+        assertFalse(msg.isChannelBBandwidthReduced());
+        // raw value 2, in nautical miles
+        assertEquals(3, msg.getZoneSize());
+    }
+
+    @Test
+    public void testGroupAssignmentSample() {
+        AISMessage23 msg = (AISMessage23) decode("!AIVDM,1,1,,B,G02:Kn01R`sn@291nj600000900,2*12");
+
+        assertEquals(2268120, msg.getMMSI());
+        assertEquals(2.63, msg.getNorthEastLongitude(), 1e-9);
+        assertEquals(51.07, msg.getNorthEastLatitude(), 1e-9);
+        assertEquals(1.826667, msg.getSouthWestLongitude(), 1e-6);
+        assertEquals(50.68, msg.getSouthWestLatitude(), 1e-9);
+        assertEquals(6, msg.getStationType());
+        assertEquals(0, msg.getTypeOfShipAndCargoType());
+        assertEquals(0, msg.getTxRxMode());
+        assertEquals(9, msg.getReportingInterval());
+        assertEquals(0, msg.getQuietTime());
+    }
+
+    // real-world sample sentences, expected values as decoded by gpsd
+    private static AISMessage decode(String nmea) {
+        return AISMessageFactory.getInstance().create((AISSentence) SentenceFactory.getInstance().createParser(nmea));
+    }
+}
@@ -61,6 +61,25 @@ public class AISMessageFactoryTest {
         }
     }
 
+    @Test
+    public void testCreateAllTypes() {
+        // minimum message lengths by type
+        int[] lengths = { 0, 168, 168, 168, 168, 424, 88, 72, 56, 168, 72, 168, 72, 72, 40,
+            88, 96, 80, 168, 312, 72, 272, 168, 160, 160, 40, 60, 96 };
+        for (int type = 1; type < lengths.length; type++) {
+            PayloadBuilder b = new PayloadBuilder(type, 230123456).pad(lengths[type]);
+            AISMessage msg = amf.create(b.sentence());
+            assertEquals(type, msg.getMessageType());
+            assertEquals(230123456, msg.getMMSI());
+        }
+    }
+
+    @Test
+    public void testCreateReservedType() {
+        PayloadBuilder b = new PayloadBuilder(28, 230123456).pad(168);
+        assertThrows(IllegalArgumentException.class, () -> amf.create(b.sentence()));
+    }
+
 
 
 }
@@ -0,0 +1,156 @@
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMeteoHydroReport;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AIS meteorological and hydrographic data tests (message 8, DAC 1, FI 31).
+ */
+public class AISMeteoHydroParserTest {
+
+    private static PayloadBuilder header() {
+        return new PayloadBuilder(8, 2300057).put(2, 0).put(10, 1).put(6, 31);
+    }
+
+    private static AISMeteoHydroReport create(PayloadBuilder b) {
+        AISMessage msg = AISMessageFactory.getInstance().create(b.pad(360).sentence());
+        assertTrue(msg instanceof AISMeteoHydroReport);
+        return (AISMeteoHydroReport) msg;
+    }
+
+    @Test
+    public void testMeasurements() {
+
+        PayloadBuilder b = header()
+            // 24.96 E, 60.15 N in 1/1000 minutes
+            .put(25, 1497600).put(24, 3609000).put(true)
+            .put(5, 17).put(5, 12).put(6, 45)
+            .put(7, 14).put(7, 21).put(9, 225).put(9, 230)
+            .put(11, -35).put(7, 85).put(10, -60)
+            .put(9, 214).put(2, 1).put(false).put(7, 85)
+            .put(12, 1042).put(2, 2)
+            .put(8, 12).put(9, 90).put(44, 0)
+            .put(8, 15).put(6, 5).put(9, 200)
+            .put(8, 8).put(6, 9).put(9, 210)
+            .put(4, 5).put(10, 42).put(3, 1).put(9, 62).put(2, 0);
+
+        AISMeteoHydroReport msg = create(b);
+
+        assertEquals(1, msg.getDesignatedAreaCode());
+        assertEquals(31, msg.getFunctionalId());
+        assertEquals(24.96, msg.getLongitudeInDegrees(), 1e-9);
+        assertEquals(60.15, msg.getLatitudeInDegrees(), 1e-9);
+        assertTrue(msg.hasLongitude());
+        assertTrue(msg.hasLatitude());
+        assertTrue(msg.isAccurate());
+        assertEquals(17, msg.getUtcDay());
+        assertEquals(12, msg.getUtcHour());
+        assertEquals(45, msg.getUtcMinute());
+        assertEquals(14, msg.getWindSpeed());
+        assertEquals(21, msg.getWindGust());
+        assertEquals(225, msg.getWindDirection());
+        assertEquals(230, msg.getWindGustDirection());
+        assertEquals(-3.5, msg.getAirTemperature(), 1e-9);
+        assertEquals(85, msg.getRelativeHumidity());
+        assertEquals(-6.0, msg.getDewPoint(), 1e-9);
+        assertEquals(1013, msg.getAirPressure());
+        assertEquals(1, msg.getAirPressureTendency());
+        assertEquals(8.5, msg.getVisibility(), 1e-9);
+        assertEquals(0.42, msg.getWaterLevel(), 1e-9);
+        assertEquals(2, msg.getWaterLevelTrend());
+        assertEquals(1.2, msg.getSurfaceCurrentSpeed(), 1e-9);
+        assertEquals(90, msg.getSurfaceCurrentDirection());
+        assertEquals(1.5, msg.getWaveHeight(), 1e-9);
+        assertEquals(5, msg.getWavePeriod());
+        assertEquals(200, msg.getWaveDirection());
+        assertEquals(0.8, msg.getSwellHeight(), 1e-9);
+        assertEquals(9, msg.getSwellPeriod());
+        assertEquals(210, msg.getSwellDirection());
+        assertEquals(5, msg.getSeaState());
+        assertEquals(4.2, msg.getWaterTemperature(), 1e-9);
+        assertEquals(1, msg.getPrecipitationType());
+        assertEquals(6.2, msg.getSalinity(), 1e-9);
+        assertEquals(0, msg.getIce());
+        assertEquals(0, ((AISMessageParser) msg).getNrOfViolations());
+    }
+
+    @Test
+    public void testNotAvailable() {
+
+        PayloadBuilder b = header()
+            .put(25, 181 * 60000).put(24, 91 * 60000).put(false)
+            .put(5, 0).put(5, 24).put(6, 60)
+            .put(7, 127).put(7, 127).put(9, 360).put(9, 360)
+            .put(11, -1024).put(7, 101).put(10, 501)
+            .put(9, 511).put(2, 3).put(false).put(7, 127)
+            .put(12, 4001).put(2, 3)
+            .put(8, 255).put(9, 360).put(44, 0)
+            .put(8, 255).put(6, 63).put(9, 360)
+            .put(8, 255).put(6, 63).put(9, 360)
+            .put(4, 13).put(10, 501).put(3, 7).put(9, 510).put(2, 3);
+
+        AISMeteoHydroReport msg = create(b);
+
+        assertFalse(msg.hasLongitude());
+        assertFalse(msg.hasLatitude());
+        assertTrue(Double.isNaN(msg.getWindSpeed()));
+        assertTrue(Double.isNaN(msg.getWindGust()));
+        assertTrue(Double.isNaN(msg.getWindDirection()));
+        assertTrue(Double.isNaN(msg.getWindGustDirection()));
+        assertTrue(Double.isNaN(msg.getAirTemperature()));
+        assertTrue(Double.isNaN(msg.getRelativeHumidity()));
+        assertTrue(Double.isNaN(msg.getDewPoint()));
+        assertTrue(Double.isNaN(msg.getAirPressure()));
+        assertTrue(Double.isNaN(msg.getVisibility()));
+        assertTrue(Double.isNaN(msg.getWaterLevel()));
+        assertTrue(Double.isNaN(msg.getSurfaceCurrentSpeed()));
+        assertTrue(Double.isNaN(msg.getSurfaceCurrentDirection()));
+        assertTrue(Double.isNaN(msg.getWaveHeight()));
+        assertTrue(Double.isNaN(msg.getWavePeriod()));
+        assertTrue(Double.isNaN(msg.getWaveDirection()));
+        assertTrue(Double.isNaN(msg.getSwellHeight()));
+        assertTrue(Double.isNaN(msg.getSwellPeriod()));
+        assertTrue(Double.isNaN(msg.getSwellDirection()));
+        assertTrue(Double.isNaN(msg.getWaterTemperature()));
+        assertTrue(Double.isNaN(msg.getSalinity()));
+        assertEquals(13, msg.getSeaState());
+        assertEquals(7, msg.getPrecipitationType());
+        assertEquals(3, msg.getIce());
+        assertEquals(0, ((AISMessageParser) msg).getNrOfViolations());
+    }
+
+    @Test
+    public void testSample() {
+
+        // real-world sample sentence, expected values as decoded by gpsd
+        String nmea = "!AIVDM,1,1,1,B,8>h8nkP0Glr=<hFI0D6??wvlFR06EuOwgwl?wnSwe7wvlOw?sAwwnSGmwvh0,0*17";
+        AISMessage msg = AISMessageFactory.getInstance().create((AISSentence) SentenceFactory.getInstance().createParser(nmea));
+        assertTrue(msg instanceof AISMeteoHydroReport);
+
+        AISMeteoHydroReport report = (AISMeteoHydroReport) msg;
+        assertEquals(990000846, report.getMMSI());
+        assertEquals(1, report.getDesignatedAreaCode());
+        assertEquals(31, report.getFunctionalId());
+        assertEquals(171.5985, report.getLongitudeInDegrees(), 1e-9);
+        assertEquals(12.2283, report.getLatitudeInDegrees(), 1e-9);
+        assertTrue(report.isAccurate());
+        assertEquals(0, report.getUtcDay());
+        assertEquals(24, report.getUtcHour());
+        assertEquals(60, report.getUtcMinute());
+        assertTrue(Double.isNaN(report.getWindSpeed()));
+        assertTrue(Double.isNaN(report.getAirTemperature()));
+        assertTrue(Double.isNaN(report.getAirPressure()));
+        assertTrue(Double.isNaN(report.getWaterLevel()));
+        assertTrue(Double.isNaN(report.getSurfaceCurrentSpeed()));
+        assertTrue(Double.isNaN(report.getSwellHeight()));
+        assertTrue(Double.isNaN(report.getWaterTemperature()));
+        assertEquals(13, report.getSeaState());
+        assertEquals(7, report.getPrecipitationType());
+        assertEquals(3, report.getIce());
+    }
+}
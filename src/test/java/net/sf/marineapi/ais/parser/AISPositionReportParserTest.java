@@ -106,4 +106,46 @@ public class AISPositionReportParserTest {
     public void hasTimeStamp() {
         assertEquals(true, msg.hasTimeStamp());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getViolationsWithValidMessage() throws Exception {
+        AISPositionReportParser parser = new AISPositionReportParser(sixbit);
+        assertEquals(0, parser.getNrOfViolations());
+        assertTrue(parser.getViolations().isEmpty());
+    }
+
+    @Test
+    public void getViolationsWithInvalidLongitude() throws Exception {
+        // longitude bits 61..88 set to max positive 28-bit value, 0x7FFFFFF
+        String bits = toBits(payload);
+        bits = bits.substring(0, 61) + "0111111111111111111111111111" + bits.substring(89);
+        AISPositionReportParser parser = new AISPositionReportParser(new Sixbit(toPayload(bits), 0));
+
+        // other fields are still decoded
+        assertEquals(0, parser.getNavigationalStatus());
+        assertEquals(57.6603533, parser.getLatitudeInDegrees(), 0.0000001);
+
+        assertEquals(1, parser.getNrOfViolations());
+        assertEquals(1, parser.getViolations().size());
+    }
+
+    private static String toBits(String payload) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : payload.toCharArray()) {
+            int value = c < 0x60 ? c - 0x30 : c - 0x38;
+            for (int i = 5; i >= 0; i--) {
+                sb.append((value >> i) & 1);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String toPayload(String bits) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < bits.length(); i += 6) {
+            int value = Integer.parseInt(bits.substring(i, i + 6), 2);
+            sb.append((char) (value < 40 ? value + 0x30 : value + 0x38));
+        }
+        return sb.toString();
+    }
+}
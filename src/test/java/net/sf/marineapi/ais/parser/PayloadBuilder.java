@@ -0,0 +1,70 @@
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.util.Sixbit;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.nmea.sentence.Checksum;
+
+/**
+ * Packs AIS message fields into a six-bit payload for tests.
+ */
+class PayloadBuilder {
+
+    private final StringBuilder bits = new StringBuilder();
+
+    PayloadBuilder(int type, int mmsi) {
+        put(6, type).put(2, 0).put(30, mmsi);
+    }
+
+    PayloadBuilder put(int width, long value) {
+        for (int i = width - 1; i >= 0; i--) {
+            bits.append((value >>> i & 1) == 1 ? '1' : '0');
+        }
+        return this;
+    }
+
+    PayloadBuilder put(boolean value) {
+        return put(1, value ? 1 : 0);
+    }
+
+    PayloadBuilder put(String text) {
+        for (char c : text.toCharArray()) {
+            put(6, c >= 0x40 ? c - 0x40 : c);
+        }
+        return this;
+    }
+
+    /**
+     * Pads the payload with zero bits to given length.
+     */
+    PayloadBuilder pad(int length) {
+        return put(length - bits.length(), 0);
+    }
+
+    int length() {
+        return bits.length();
+    }
+
+    int fillBits() {
+        return (6 - bits.length() % 6) % 6;
+    }
+
+    String payload() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < bits.length(); i += 6) {
+            String chunk = bits.substring(i, Math.min(bits.length(), i + 6));
+            int value = Integer.parseInt(chunk, 2) << (6 - chunk.length());
+            sb.append((char) (value < 40 ? value + 48 : value + 56));
+        }
+        return sb.toString();
+    }
+
+    Sixbit sixbit() {
+        return new Sixbit(payload(), fillBits());
+    }
+
+    AISSentence sentence() {
+        String nmea = Checksum.add("!AIVDM,1,1,,A," + payload() + "," + fillBits());
+        return (AISSentence) SentenceFactory.getInstance().createParser(nmea);
+    }
+}
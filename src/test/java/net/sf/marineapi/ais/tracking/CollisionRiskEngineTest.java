@@ -0,0 +1,204 @@
+package net.sf.marineapi.ais.tracking;
+
+import net.sf.marineapi.nmea.util.Position;
+import net.sf.marineapi.provider.event.PositionEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CollisionRiskEngineTest {
+
+    // one nautical mile of latitude
+    private static final double MILE = 1.0 / 60;
+
+    private long now = 0;
+    private final VesselStore store = new VesselStore(4096, 3_600_000, () -> now);
+    private final VesselIndex index = new VesselIndex(4096, 0.1, 3_600_000, () -> now);
+    private final CollisionRiskEngine engine = new CollisionRiskEngine(store, index, () -> now, new ForkJoinPool(4));
+
+    private final List<CollisionRiskEvent> events = new ArrayList<>();
+
+    {
+        engine.addCollisionRiskListener(events::add);
+    }
+
+    private void report(int mmsi, double lat, double lon, double sog, double cog) {
+        TestReport r = new TestReport(mmsi, lat, lon, sog, cog, -1);
+        store.messageReceived(r);
+        index.messageReceived(r);
+    }
+
+    private void ownShip(double lat, double lon, double sog, double cog) {
+        engine.providerUpdate(new PositionEvent(this, new Position(lat, lon), sog, cog, null, null, null, null));
+    }
+
+    @Test
+    public void testApproach() {
+
+        CollisionRiskEngine.Track a = new CollisionRiskEngine.Track();
+        CollisionRiskEngine.Track b = new CollisionRiskEngine.Track();
+        double[] result = new double[2];
+
+        // head on at 20 knots closing speed from 1 mile
+        a.set(0, 0, 10, 90);
+        b.set(0, MILE, 10, 270);
+        CollisionRiskEngine.approach(a, b, result);
+        assertEquals(0, result[0], 1e-6);
+        assertEquals(3, result[1], 1e-6);
+
+        // parallel courses keep the distance
+        b.set(MILE, 0, 10, 90);
+        CollisionRiskEngine.approach(a, b, result);
+        assertEquals(1, result[0], 1e-6);
+        assertEquals(0, result[1], 1e-6);
+
+        // crossing, 2 miles east and 1 mile north heading west
+        a.set(0, 0, 10, 0);
+        b.set(MILE, 2 * MILE, 10, 270);
+        CollisionRiskEngine.approach(a, b, result);
+        assertEquals(Math.sqrt(2) / 2, result[0], 1e-6);
+        assertEquals(9, result[1], 1e-6);
+
+        // across the 180th meridian, moving apart
+        a.set(0, 180 - MILE / 2, 10, 270);
+        b.set(0, -180 + MILE / 2, 10, 90);
+        CollisionRiskEngine.approach(a, b, result);
+        assertEquals(0, result[0], 1e-6);
+        assertEquals(-3, result[1], 1e-6);
+    }
+
+    @Test
+    public void testOwnShip() {
+
+        report(1, 60 + 2 * MILE, 25, 10, 180);
+        report(2, 60 - 3 * MILE, 25, 10, 180);
+        report(3, 60 + 2 * MILE, 25, 10, 180);
+        engine.setOwnMMSI(3);
+
+        ownShip(60, 25, 10, 0);
+
+        assertEquals(1, events.size());
+        CollisionRiskEvent e = events.get(0);
+        assertEquals(1, e.getMMSI());
+        assertEquals(CollisionRiskEvent.OWN_SHIP, e.getOtherMMSI());
+        assertTrue(e.isDangerous());
+        assertEquals(0, e.getDistanceOfCPA(), 1e-3);
+        assertEquals(6, e.getTimeToCPA(), 1e-2);
+
+        // no change, no events
+        now = 60_000;
+        engine.evaluate();
+        assertEquals(1, events.size());
+
+        // target turns away
+        report(1, 60 + 2 * MILE, 25 + 2 * MILE, 10, 90);
+        engine.evaluate();
+
+        assertEquals(2, events.size());
+        e = events.get(1);
+        assertEquals(1, e.getMMSI());
+        assertFalse(e.isDangerous());
+        assertTrue(e.getDistanceOfCPA() > 0.5);
+
+        // stale targets are dropped
+        report(1, 60 + 3 * MILE, 25, 10, 180);
+        engine.evaluate();
+        assertEquals(3, events.size());
+        now += CollisionRiskEngine.DEFAULT_MAX_POSITION_AGE + 1;
+        engine.evaluate();
+        assertEquals(4, events.size());
+        assertFalse(events.get(3).isDangerous());
+        assertTrue(Double.isNaN(events.get(3).getDistanceOfCPA()));
+    }
+
+    @Test
+    public void testAssessAll() {
+
+        report(10, 60, 25, 10, 0);
+        report(11, 60 + 2 * MILE, 25, 10, 180);
+        report(12, 60 + 2 * MILE, 25 + 5 * MILE, 0, 0);
+        report(13, 61, 26, Double.NaN, Double.NaN);
+
+        engine.assessAll();
+
+        assertEquals(1, events.size());
+        assertEquals(10, events.get(0).getMMSI());
+        assertEquals(11, events.get(0).getOtherMMSI());
+        assertTrue(events.get(0).isDangerous());
+
+        engine.assessAll();
+        assertEquals(1, events.size());
+
+        report(11, 60 + 2 * MILE, 25, 0, 0);
+        report(10, 60, 25, 0, 0);
+        engine.assessAll();
+
+        assertEquals(2, events.size());
+        assertFalse(events.get(1).isDangerous());
+        assertEquals(2, events.get(1).getDistanceOfCPA(), 1e-3);
+    }
+
+    @Test
+    public void testAssessAllMatchesAllPairs() {
+
+        Random random = new Random(3);
+        int count = 2000;
+
+        for (int i = 0; i < count; i++) {
+            report(i, 59 + random.nextDouble(), 24 + random.nextDouble(),
+                random.nextDouble() * 20, random.nextDouble() * 360);
+        }
+
+        engine.setRange(3);
+        engine.assessAll();
+
+        Set<Long> expected = new HashSet<>();
+        VesselState a = new VesselState();
+        VesselState b = new VesselState();
+        CollisionRiskEngine.Track ta = new CollisionRiskEngine.Track();
+        CollisionRiskEngine.Track tb = new CollisionRiskEngine.Track();
+        double[] approach = new double[2];
+
+        for (int i = 0; i < count; i++) {
+            store.get(i, a);
+            ta.set(a, now, Long.MAX_VALUE);
+            Position p = new Position(a.getLatitude(), a.getLongitude());
+            for (int j = i + 1; j < count; j++) {
+                store.get(j, b);
+                if (p.distanceTo(new Position(b.getLatitude(), b.getLongitude())) > 3 * 1852) {
+                    continue;
+                }
+                tb.set(b, now, Long.MAX_VALUE);
+                CollisionRiskEngine.approach(ta, tb, approach);
+                if (approach[0] <= CollisionRiskEngine.DEFAULT_CPA_LIMIT
+                    && approach[1] >= 0 && approach[1] <= CollisionRiskEngine.DEFAULT_TCPA_LIMIT) {
+                    expected.add((long) i << 32 | j);
+                }
+            }
+        }
+
+        Set<Long> actual = new HashSet<>();
+        for (CollisionRiskEvent e : events) {
+            assertTrue(e.isDangerous());
+            actual.add((long) e.getMMSI() << 32 | e.getOtherMMSI());
+        }
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> engine.setCPALimit(0));
+        assertThrows(IllegalArgumentException.class, () -> engine.setTCPALimit(-1));
+        assertThrows(IllegalArgumentException.class, () -> engine.setRange(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> engine.setMaxPositionAge(0));
+    }
+}
@@ -0,0 +1,42 @@
+package net.sf.marineapi.ais.tracking;
+
+import net.sf.marineapi.ais.message.AISMessage18;
+
+/**
+ * Class B position report, NaN for not available.
+ */
+class TestReport implements AISMessage18 {
+
+    final int mmsi;
+    final double lat;
+    final double lon;
+    final double sog;
+    final double cog;
+    final int heading;
+
+    TestReport(int mmsi, double lat, double lon, double sog, double cog, int heading) {
+        this.mmsi = mmsi;
+        this.lat = lat;
+        this.lon = lon;
+        this.sog = sog;
+        this.cog = cog;
+        this.heading = heading;
+    }
+
+    public int getMessageType() { return 18; }
+    public int getRepeatIndicator() { return 0; }
+    public int getMMSI() { return mmsi; }
+    public boolean isAccurate() { return true; }
+    public double getLongitudeInDegrees() { return lon; }
+    public double getLatitudeInDegrees() { return lat; }
+    public boolean hasLongitude() { return !Double.isNaN(lon); }
+    public boolean hasLatitude() { return !Double.isNaN(lat); }
+    public double getSpeedOverGround() { return sog; }
+    public double getCourseOverGround() { return cog; }
+    public int getTrueHeading() { return heading; }
+    public int getTimeStamp() { return 0; }
+    public boolean hasSpeedOverGround() { return !Double.isNaN(sog); }
+    public boolean hasCourseOverGround() { return !Double.isNaN(cog); }
+    public boolean hasTrueHeading() { return heading >= 0; }
+    public boolean hasTimeStamp() { return true; }
+}
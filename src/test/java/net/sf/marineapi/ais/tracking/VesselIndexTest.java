@@ -0,0 +1,199 @@
+package net.sf.marineapi.ais.tracking;
+
+import net.sf.marineapi.nmea.util.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VesselIndexTest {
+
+    private long now = 0;
+    private final VesselIndex index = new VesselIndex(1000, 0.1, 10_000, () -> now);
+
+    private static int[] sorted(int[] a) {
+        Arrays.sort(a);
+        return a;
+    }
+
+    @Test
+    public void testBox() {
+
+        index.update(1, 60.15, 24.95);
+        index.update(2, 60.05, 25.05);
+        index.update(3, 59.5, 24.0);
+        index.update(4, -33.9, 151.2);
+
+        assertEquals(4, index.size());
+        assertArrayEquals(new int[] {1, 2}, sorted(index.findInBox(60.0, 24.9, 60.2, 25.1)));
+        assertArrayEquals(new int[] {1, 2, 3}, sorted(index.findInBox(59.0, 23.0, 61.0, 26.0)));
+        assertArrayEquals(new int[] {1, 2, 3, 4}, sorted(index.findInBox(-90, -180, 90, 180)));
+        assertEquals(0, index.findInBox(0, 0, 1, 1).length);
+
+        // moving keeps one entry per vessel
+        index.update(1, 60.06, 25.06);
+        assertArrayEquals(new int[] {1, 2}, sorted(index.findInBox(60.0, 25.0, 60.1, 25.1)));
+        assertEquals(0, index.findInBox(60.1, 24.9, 60.2, 25.0).length);
+        assertEquals(4, index.size());
+
+        assertTrue(index.remove(2));
+        assertFalse(index.remove(2));
+        assertArrayEquals(new int[] {1}, index.findInBox(60.0, 25.0, 60.1, 25.1));
+    }
+
+    @Test
+    public void testAntimeridian() {
+
+        index.update(1, 10, 179.95);
+        index.update(2, 10, -179.95);
+        index.update(3, 10, 179.0);
+
+        assertArrayEquals(new int[] {1, 2}, sorted(index.findInBox(9, 179.5, 11, -179.5)));
+        assertArrayEquals(new int[] {2, 1}, index.findWithin(new Position(10, -179.99), 20_000));
+    }
+
+    @Test
+    public void testWithinAndNearest() {
+
+        Random random = new Random(7);
+        Position center = new Position(60.0, 25.0);
+        double[][] positions = new double[500][];
+
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = new double[] {59 + 2 * random.nextDouble(), 23 + 4 * random.nextDouble()};
+            index.update(i, positions[i][0], positions[i][1]);
+        }
+
+        // compare against a linear scan with Position.distanceTo
+        Integer[] byDistance = new Integer[positions.length];
+        double[] distance = new double[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            byDistance[i] = i;
+            distance[i] = center.distanceTo(new Position(positions[i][0], positions[i][1]));
+        }
+        Arrays.sort(byDistance, (a, b) -> Double.compare(distance[a], distance[b]));
+
+        int[] within = index.findWithin(center, 30_000);
+        int expected = 0;
+        while (distance[byDistance[expected]] <= 30_000) {
+            assertEquals(byDistance[expected], within[expected]);
+            expected++;
+        }
+        assertEquals(expected, within.length);
+
+        int[] nearest = index.findNearest(center, 10);
+        assertEquals(10, nearest.length);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(byDistance[i], nearest[i]);
+        }
+
+        assertEquals(500, index.findNearest(new Position(-60, -100), 1000).length);
+        assertEquals(0, index.findNearest(center, 0).length);
+    }
+
+    @Test
+    public void testPoles() {
+
+        index.update(1, 89.99, 0);
+        index.update(2, 89.99, 180);
+        index.update(3, 89.0, 90);
+
+        assertArrayEquals(new int[] {1, 2}, sorted(index.findWithin(new Position(89.995, 90), 5000)));
+        assertArrayEquals(new int[] {1, 2, 3}, sorted(index.findNearest(new Position(90, 0), 5)));
+    }
+
+    @Test
+    public void testEviction() {
+
+        VesselIndex small = new VesselIndex(2, 1, 1000, () -> now);
+
+        assertTrue(small.update(1, 0, 0));
+        now = 500;
+        assertTrue(small.update(2, 1, 1));
+        assertFalse(small.update(3, 2, 2));
+        assertEquals(1, small.getDropped());
+
+        now = 1200;
+        assertTrue(small.update(3, 2, 2));
+        assertArrayEquals(new int[] {2, 3}, sorted(small.findInBox(-1, -1, 3, 3)));
+
+        assertThrows(IllegalArgumentException.class, () -> small.update(4, 91, 0));
+        assertThrows(IllegalArgumentException.class, () -> new VesselIndex(1, 0, 1, () -> 0));
+    }
+
+    @Test
+    public void testEvictionAfterFailedScan() {
+
+        VesselIndex small = new VesselIndex(2, 1, 1000, () -> now);
+
+        assertTrue(small.update(1, 0, 0));
+        now = 500;
+        assertTrue(small.update(2, 1, 1));
+        now = 600;
+        assertFalse(small.update(3, 2, 2));
+        assertFalse(small.update(4, 2, 2));
+        now = 900;
+        assertTrue(small.update(1, 0, 0));
+
+        // oldest vessel known to the last scan has moved since
+        now = 1001;
+        assertFalse(small.update(3, 2, 2));
+        now = 1500;
+        assertFalse(small.update(3, 2, 2));
+        assertEquals(4, small.getDropped());
+
+        now = 1501;
+        assertTrue(small.update(3, 2, 2));
+        assertArrayEquals(new int[] {1, 3}, sorted(small.findInBox(-1, -1, 3, 3)));
+    }
+
+    @Test
+    public void testConcurrentQueries() throws Exception {
+
+        // stationary vessels must be seen by every query while others move
+        for (int i = 0; i < 400; i++) {
+            index.update(i, (i % 20) * 0.5, (i / 20) * 0.5);
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                for (double[] box : new double[][] {{-1, -1, 11, 11}, {0, 0, 2, 2}}) {
+                    boolean[] seen = new boolean[400];
+                    for (int id : index.findInBox(box[0], box[1], box[2], box[3])) {
+                        if (id < 0 || id >= 400) {
+                            failure.set("unknown vessel " + id);
+                        } else {
+                            seen[id] = true;
+                        }
+                    }
+                    for (int i = 0; i < 200; i++) {
+                        double lat = (i % 20) * 0.5;
+                        double lon = (i / 20) * 0.5;
+                        if (!seen[i] && lat <= box[2] && lon <= box[3]) {
+                            failure.set("missed vessel " + i);
+                        }
+                    }
+                }
+            }
+        });
+        reader.start();
+
+        Random random = new Random(1);
+        for (int round = 0; round < 50_000; round++) {
+            index.update(200 + random.nextInt(200), random.nextDouble() * 10, random.nextDouble() * 10);
+        }
+
+        running.set(false);
+        reader.join();
+
+        assertNull(failure.get());
+        assertEquals(400, index.size());
+    }
+}
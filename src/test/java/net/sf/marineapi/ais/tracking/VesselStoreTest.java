@@ -0,0 +1,214 @@
+package net.sf.marineapi.ais.tracking;
+
+import net.sf.marineapi.ais.message.AISMessage05;
+import net.sf.marineapi.ais.message.AISMessage24;
+import net.sf.marineapi.ais.parser.AISMessageFactory;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VesselStoreTest {
+
+    private final SentenceFactory sf = SentenceFactory.getInstance();
+    private final AISMessageFactory mf = AISMessageFactory.getInstance();
+
+    private final AISMessage05 MSG_05 = (AISMessage05) mf.create(
+        (AISSentence) sf.createParser("!AIVDM,2,1,3,B,55P5TL01VIaAL@7WKO@mBplU@<PDhh000000001S;AJ::4A80?4i@E53,0*3E"),
+        (AISSentence) sf.createParser("!AIVDM,2,2,3,B,1@0000000000000,2*55"));
+
+    private final AISMessage24 MSG_24_A = (AISMessage24) mf.create(
+        (AISSentence) sf.createParser("!AIVDO,1,1,,B,H1c2;qA@PU>0U>060<h5=>0:1Dp,2*7D"));
+    private final AISMessage24 MSG_24_B = (AISMessage24) mf.create(
+        (AISSentence) sf.createParser("!AIVDO,1,1,,B,H1c2;qDTijklmno31<<C970`43<1,0*28"));
+
+    private long now = 1000;
+    private final VesselStore store = new VesselStore(4, 10_000, () -> now);
+    private final VesselState state = new VesselState();
+
+    @Test
+    public void testEvictionAfterFailedScan() {
+
+        VesselStore small = new VesselStore(2, 1000, () -> now);
+
+        small.messageReceived(new TestReport(1, 1, 1, 1, 1, 1));
+        now = 1500;
+        small.messageReceived(new TestReport(2, 1, 1, 1, 1, 1));
+        now = 1600;
+        small.messageReceived(new TestReport(3, 1, 1, 1, 1, 1));
+        small.messageReceived(new TestReport(4, 1, 1, 1, 1, 1));
+        now = 1900;
+        small.messageReceived(new TestReport(1, 1, 1, 1, 1, 1));
+
+        // oldest vessel known to the last scan has been heard of since
+        now = 2001;
+        small.messageReceived(new TestReport(3, 1, 1, 1, 1, 1));
+        now = 2500;
+        small.messageReceived(new TestReport(3, 1, 1, 1, 1, 1));
+        assertEquals(4, small.getDropped());
+
+        now = 2501;
+        small.messageReceived(new TestReport(3, 1, 1, 1, 1, 1));
+        assertTrue(small.contains(1));
+        assertFalse(small.contains(2));
+        assertTrue(small.contains(3));
+    }
+
+    @Test
+    public void testClassA() {
+
+        store.messageReceived(new TestReport(MSG_05.getMMSI(), 60.5, 24.25, 12.3, 181.5, 180));
+        assertEquals(1, store.size());
+        assertTrue(store.get(MSG_05.getMMSI(), state));
+        assertNull(state.getName());
+
+        now = 2000;
+        store.messageReceived(MSG_05);
+
+        assertTrue(store.get(MSG_05.getMMSI(), state));
+        assertEquals(MSG_05.getMMSI(), state.getMMSI());
+        assertEquals(18, state.getPositionType());
+        assertEquals(60.5, state.getLatitude(), 1e-9);
+        assertEquals(24.25, state.getLongitude(), 1e-9);
+        assertEquals(12.3, state.getSpeedOverGround(), 1e-5);
+        assertEquals(181.5, state.getCourseOverGround(), 1e-5);
+        assertEquals(180, state.getTrueHeading());
+        assertEquals(-1, state.getNavigationalStatus());
+        assertEquals(1000, state.getPositionTime());
+        assertEquals(2000, state.getStaticTime());
+        assertEquals(MSG_05.getName(), state.getName());
+        assertEquals(MSG_05.getCallSign(), state.getCallSign());
+        assertEquals(MSG_05.getDestination(), state.getDestination());
+        assertEquals(MSG_05.getIMONumber(), state.getIMONumber());
+        assertEquals(MSG_05.getTypeOfShipAndCargoType(), state.getTypeOfShipAndCargoType());
+        assertEquals(MSG_05.getBow(), state.getBow());
+        assertEquals(MSG_05.getStarboard(), state.getStarboard());
+        assertEquals(MSG_05.getMaximumDraught(), state.getMaximumDraught(), 1e-5);
+    }
+
+    @Test
+    public void testClassB() {
+
+        int mmsi = MSG_24_A.getMMSI();
+        assertEquals(mmsi, MSG_24_B.getMMSI());
+
+        store.messageReceived(MSG_24_A);
+        store.messageReceived(MSG_24_B);
+
+        assertTrue(store.get(mmsi, state));
+        assertFalse(state.hasPosition());
+        assertTrue(Double.isNaN(state.getSpeedOverGround()));
+        assertEquals(-1, state.getTrueHeading());
+        assertEquals("THIS IS A CLASS B UN", state.getName());
+        assertEquals("CALLSIG", state.getCallSign());
+        assertEquals(36, state.getTypeOfShipAndCargoType());
+        assertEquals(5, state.getBow());
+        assertEquals(4, state.getStern());
+        assertEquals(3, state.getPort());
+        assertEquals(12, state.getStarboard());
+
+        // position without coordinates keeps the latest known
+        store.messageReceived(new TestReport(mmsi, 10, 20, 1, 2, 3));
+        now = 1500;
+        store.messageReceived(new TestReport(mmsi, Double.NaN, Double.NaN, 4, 5, -1));
+
+        assertTrue(store.get(mmsi, state));
+        assertEquals(10, state.getLatitude(), 1e-9);
+        assertEquals(20, state.getLongitude(), 1e-9);
+        assertEquals(1000, state.getPositionTime());
+        assertEquals(4, state.getSpeedOverGround(), 1e-5);
+        assertEquals(-1, state.getTrueHeading());
+        assertEquals("THIS IS A CLASS B UN", state.getName());
+    }
+
+    @Test
+    public void testEviction() {
+
+        for (int i = 1; i <= 4; i++) {
+            store.messageReceived(new TestReport(i, 1, 1, 1, 1, 1));
+            now += 1000;
+        }
+        assertEquals(4, store.size());
+
+        // full and nobody old enough
+        store.messageReceived(new TestReport(5, 1, 1, 1, 1, 1));
+        assertEquals(1, store.getDropped());
+        assertFalse(store.contains(5));
+
+        now = 12_500;
+        store.messageReceived(new TestReport(5, 1, 1, 1, 1, 1));
+        assertEquals(3, store.size());
+        assertFalse(store.contains(1));
+        assertFalse(store.contains(2));
+        assertTrue(store.contains(3));
+        assertTrue(store.contains(5));
+
+        now = 100_000;
+        assertEquals(3, store.evict());
+        assertEquals(0, store.size());
+
+        // many rounds of removed index entries
+        for (int i = 0; i < 1000; i++) {
+            store.messageReceived(new TestReport(100 + i, i, 1, 1, 1, 1));
+            assertTrue(store.remove(100 + i));
+        }
+        assertFalse(store.remove(100));
+
+        store.messageReceived(new TestReport(7, 7, 1, 1, 1, 1));
+        List<Integer> all = new ArrayList<>();
+        store.forEach(s -> all.add(s.getMMSI()));
+        assertEquals(List.of(7), all);
+    }
+
+    @Test
+    public void testConsistentReads() throws Exception {
+
+        VesselStore store = new VesselStore(1000, 60_000, System::currentTimeMillis);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            VesselState s = new VesselState();
+            while (running.get()) {
+                for (int mmsi = 0; mmsi < 1000; mmsi += 7) {
+                    if (store.get(mmsi, s)
+                        && (s.getMMSI() != mmsi || s.getLatitude() != s.getLongitude()
+                            || s.getSpeedOverGround() != s.getTrueHeading())) {
+                        failure.set(s.toString());
+                    }
+                }
+            }
+        });
+        reader.start();
+
+        for (int round = 0; round < 300; round++) {
+            for (int mmsi = 0; mmsi < 1000; mmsi++) {
+                int v = (round + mmsi) % 90;
+                store.messageReceived(new TestReport(mmsi, v, v, v, 0, v));
+            }
+            if (round % 10 == 5) {
+                for (int mmsi = 0; mmsi < 1000; mmsi += 3) {
+                    store.remove(mmsi);
+                }
+            }
+        }
+
+        running.set(false);
+        reader.join();
+
+        assertNull(failure.get());
+        assertEquals(1000, store.size());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new VesselStore(0, 1, () -> 0));
+        assertThrows(IllegalArgumentException.class, () -> new VesselStore(1, 0, () -> 0));
+    }
+}
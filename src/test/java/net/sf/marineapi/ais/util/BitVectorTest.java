@@ -0,0 +1,140 @@
+package net.sf.marineapi.ais.util;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitVectorTest {
+
+    private static final String PAYLOAD = "13aEOK?P00PD2wVMdLDRhgvL289?";
+
+    /**
+     * Reference implementation of the original BitSet based decoding.
+     */
+    private static long reference(BitSet bits, int from, int to) {
+        long value = 0;
+        for (int i = from + 1; i <= to; i++) {
+            value = (value << 1) | (bits.get(i) ? 1 : 0);
+        }
+        return value;
+    }
+
+    private static BitSet toBitSet(String payload) {
+        BitSet bits = new BitSet();
+        for (int i = 0; i < payload.length(); i++) {
+            int c = payload.charAt(i);
+            int value = c < 0x60 ? c - 0x30 : c - 0x38;
+            for (int b = 0; b < 6; b++) {
+                if ((value & (0x20 >>> b)) != 0) {
+                    bits.set(i * 6 + b + 1);
+                }
+            }
+        }
+        return bits;
+    }
+
+    @Test
+    public void testGetUIntMatchesReference() {
+        Sixbit sixbit = new Sixbit(PAYLOAD, 0);
+        BitSet bits = toBitSet(PAYLOAD);
+        for (int from = 0; from < sixbit.length(); from++) {
+            for (int to = from; to <= Math.min(from + 31, sixbit.length()); to++) {
+                assertEquals(reference(bits, from, to), sixbit.getInt(from, to),
+                    from + ".." + to);
+            }
+        }
+    }
+
+    @Test
+    public void testGetULongAcrossWords() {
+        BitSet bits = toBitSet(PAYLOAD);
+        BitVector vector = new BitVector(bits);
+        for (int from = 0; from < 100; from++) {
+            assertEquals(reference(bits, from, from + 64), vector.getULong(from, from + 64));
+            assertEquals(reference(bits, from, from + 63), vector.getULong(from, from + 63));
+        }
+    }
+
+    @Test
+    public void testGetSignedInt() {
+        Random random = new Random(42);
+        for (int n = 1; n <= 32; n++) {
+            for (int k = 0; k < 100; k++) {
+                int offset = random.nextInt(100);
+                int value = random.nextInt() >> (32 - n);
+                BitVector vector = new BitVector(200);
+                for (int b = 0; b < n; b++) {
+                    if ((value & (1 << (n - 1 - b))) != 0) {
+                        vector.set(offset + 1 + b);
+                    }
+                }
+                assertEquals(value, vector.getSignedInt(offset, offset + n));
+            }
+        }
+    }
+
+    @Test
+    public void testGetBoolean() {
+        BitSet bits = toBitSet(PAYLOAD);
+        BitVector vector = new Sixbit(PAYLOAD, 0).get(-1, PAYLOAD.length() * 6);
+        for (int i = 0; i <= PAYLOAD.length() * 6 + 10; i++) {
+            assertEquals(bits.get(i), vector.getBoolean(i));
+        }
+    }
+
+    @Test
+    public void testGetSubset() {
+        BitSet bits = toBitSet(PAYLOAD);
+        BitVector vector = new BitVector(bits);
+        BitSet expected = bits.get(39, 71);
+        BitVector subset = vector.get(38, 70);
+        for (int i = 0; i < 40; i++) {
+            assertEquals(expected.get(i), subset.getBoolean(i));
+        }
+    }
+
+    @Test
+    public void testGetSubsetInvalidRange() {
+        BitVector vector = new BitVector(toBitSet(PAYLOAD));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(70, 38));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(-2, 10));
+        assertEquals(0, vector.get(38, 38).getUInt(0, 32));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedGettersUseFixedWidth() {
+        BitVector wide = new BitVector(16);
+        for (int i = 5; i <= 12; i++) {
+            wide.set(i);
+        }
+        assertEquals(255, wide.getSignedInt(0, 12));
+        assertEquals(-1, wide.getAs8BitInt(0, 12));
+        assertEquals(255, wide.getAs17BitInt(0, 12));
+
+        BitVector narrow = new BitVector(8);
+        for (int i = 1; i <= 6; i++) {
+            narrow.set(i);
+        }
+        assertEquals(-1, narrow.getSignedInt(0, 6));
+        assertEquals(63, narrow.getAs8BitInt(0, 6));
+    }
+
+    @Test
+    public void testOutOfRangeReadsZero() {
+        BitVector vector = new BitVector(8);
+        vector.set(1);
+        assertEquals(0, vector.getUInt(8, 40));
+        assertFalse(vector.getBoolean(1000));
+        vector.set(130);
+        assertTrue(vector.getBoolean(130));
+    }
+
+    @Test
+    public void testInvalidPayload() {
+        assertThrows(IllegalArgumentException.class, () -> new Sixbit("13aX]", 0));
+    }
+}
@@ -0,0 +1,147 @@
+package net.sf.marineapi.nmea.io;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.nmea.event.AbstractSentenceListener;
+import net.sf.marineapi.nmea.parser.BODTest;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.sentence.GGASentence;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChannelDataReaderTest {
+
+	@Test
+	public void testReadFileChannel() throws Exception {
+
+		long expected = Files.readAllLines(Paths.get(SentenceReaderTest.TEST_DATA),
+			StandardCharsets.ISO_8859_1).stream()
+			.filter(SentenceValidator::isValid).count();
+
+		List<Sentence> sentences = new CopyOnWriteArrayList<>();
+		CountDownLatch stopped = new CountDownLatch(1);
+
+		try (FileChannel channel = FileChannel.open(
+				Paths.get(SentenceReaderTest.TEST_DATA), StandardOpenOption.READ)) {
+			SentenceReader reader = new SentenceReader(channel);
+			reader.addSentenceListener(new AbstractSentenceListener<Sentence>() {
+				@Override
+				public void sentenceRead(Sentence sentence) {
+					sentences.add(sentence);
+				}
+				@Override
+				public void readingStopped() {
+					stopped.countDown();
+				}
+			});
+			reader.start();
+			assertTrue(stopped.await(5, TimeUnit.SECONDS));
+		}
+
+		assertTrue(expected > 0);
+		assertEquals(expected, sentences.size());
+	}
+
+	@Test
+	public void testFramingAcrossReads() throws Exception {
+
+		Pipe pipe = Pipe.open();
+		pipe.source().configureBlocking(false);
+
+		List<Sentence> sentences = new CopyOnWriteArrayList<>();
+		CountDownLatch received = new CountDownLatch(2);
+		CountDownLatch stopped = new CountDownLatch(1);
+
+		SentenceReader reader = new SentenceReader(pipe.source());
+		reader.addSentenceListener(new AbstractSentenceListener<GGASentence>() {
+			@Override
+			public void sentenceRead(GGASentence sentence) {
+				sentences.add(sentence);
+				received.countDown();
+			}
+			@Override
+			public void readingStopped() {
+				stopped.countDown();
+			}
+		});
+		reader.start();
+
+		String data = GGATest.EXAMPLE + "\r\n" + BODTest.EXAMPLE + "\n\n" + GGATest.EXAMPLE + "\r\n";
+		byte[] bytes = data.getBytes(StandardCharsets.US_ASCII);
+		for (int i = 0; i < bytes.length; i += 7) {
+			pipe.sink().write(ByteBuffer.wrap(bytes, i, Math.min(7, bytes.length - i)));
+			Thread.sleep(1);
+		}
+
+		assertTrue(received.await(5, TimeUnit.SECONDS));
+		assertEquals(GGATest.EXAMPLE, sentences.get(0).toString());
+		assertEquals(GGATest.EXAMPLE, sentences.get(1).toString());
+
+		reader.stop();
+		assertTrue(stopped.await(5, TimeUnit.SECONDS));
+		pipe.sink().close();
+		pipe.source().close();
+	}
+
+	@Test
+	public void testDataListenerAndLastLine() throws Exception {
+
+		// invalid checksum is neither a sentence nor other data
+		String data = "foobar\r\n$GPGLL,1,2,3*00\r\n" + GGATest.EXAMPLE;
+		List<String> nonNmea = new CopyOnWriteArrayList<>();
+		List<Sentence> sentences = new CopyOnWriteArrayList<>();
+		CountDownLatch stopped = new CountDownLatch(1);
+
+		SentenceReader reader = new SentenceReader(Channels.newChannel(
+			new ByteArrayInputStream(data.getBytes(StandardCharsets.US_ASCII))));
+		reader.setDataListener(nonNmea::add);
+		reader.addSentenceListener(new AbstractSentenceListener<Sentence>() {
+			@Override
+			public void sentenceRead(Sentence sentence) {
+				sentences.add(sentence);
+			}
+			@Override
+			public void readingStopped() {
+				stopped.countDown();
+			}
+		});
+		reader.start();
+
+		assertTrue(stopped.await(5, TimeUnit.SECONDS));
+		assertEquals(List.of("foobar"), nonNmea);
+		assertEquals(1, sentences.size());
+		assertEquals(GGATest.EXAMPLE, sentences.get(0).toString());
+	}
+
+	@Test
+	public void testRead() throws Exception {
+		String data = BODTest.EXAMPLE + "\r\n" + GGATest.EXAMPLE + "\r\n";
+		SentenceReader parent = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		ChannelDataReader reader = new ChannelDataReader(Channels.newChannel(
+			new ByteArrayInputStream(data.getBytes(StandardCharsets.US_ASCII))), parent);
+		assertEquals(BODTest.EXAMPLE, reader.read());
+		assertEquals(GGATest.EXAMPLE, reader.read());
+		assertNull(reader.read());
+	}
+
+	@Test
+	public void testConstructorWithNullChannel() {
+		SentenceReader parent = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		assertThrows(IllegalArgumentException.class, () -> new ChannelDataReader(null, parent));
+	}
+}
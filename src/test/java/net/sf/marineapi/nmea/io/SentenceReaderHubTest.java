@@ -0,0 +1,217 @@
+package net.sf.marineapi.nmea.io;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.parser.BODTest;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SentenceReaderHubTest {
+
+	private SentenceReaderHub hub;
+	private DatagramChannel udp1;
+	private DatagramChannel udp2;
+	private DatagramChannel sender;
+	private InetAddress localhost;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		localhost = InetAddress.getLoopbackAddress();
+		hub = new SentenceReaderHub(2);
+		udp1 = DatagramChannel.open().bind(new InetSocketAddress(localhost, 0));
+		udp2 = DatagramChannel.open().bind(new InetSocketAddress(localhost, 0));
+		sender = DatagramChannel.open();
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		hub.stop();
+		udp1.close();
+		udp2.close();
+		sender.close();
+	}
+
+	private void send(DatagramChannel target, String data) throws Exception {
+		byte[] bytes = data.getBytes(StandardCharsets.US_ASCII);
+		sender.send(ByteBuffer.wrap(bytes), target.getLocalAddress());
+	}
+
+	@Test
+	public void testEventsTaggedWithSourceId() throws Exception {
+
+		Recorder all = new Recorder(4);
+		Recorder first = new Recorder(2);
+
+		hub.addSentenceListener(all);
+		SentenceReader reader = hub.addSource("first", udp1);
+		hub.addSource("second", udp2);
+		reader.addSentenceListener(first);
+		hub.start();
+
+		send(udp1, GGATest.EXAMPLE + "\r\n" + BODTest.EXAMPLE + "\r\n");
+		send(udp2, GGATest.EXAMPLE);
+		send(udp2, BODTest.EXAMPLE + "\r\n");
+
+		assertTrue(all.received.await(5, TimeUnit.SECONDS));
+		assertTrue(first.received.await(5, TimeUnit.SECONDS));
+
+		assertEquals(List.of("first", "first"), first.sources);
+		assertEquals(2, all.sources.stream().filter("first"::equals).count());
+		assertEquals(2, all.sources.stream().filter("second"::equals).count());
+		assertEquals("first", reader.getSourceId());
+	}
+
+	@Test
+	public void testSentenceTypeListener() throws Exception {
+
+		Recorder gga = new Recorder(2);
+		hub.addSentenceListener(gga, SentenceId.GGA);
+		hub.addSource("first", udp1);
+		hub.addSource("second", udp2);
+		hub.start();
+
+		send(udp1, BODTest.EXAMPLE + "\r\n" + GGATest.EXAMPLE + "\r\n");
+		send(udp2, BODTest.EXAMPLE + "\r\n" + GGATest.EXAMPLE + "\r\n");
+
+		assertTrue(gga.received.await(5, TimeUnit.SECONDS));
+		assertEquals(2, gga.sentences.size());
+		assertTrue(gga.sentences.stream().allMatch(GGATest.EXAMPLE::equals));
+	}
+
+	@Test
+	public void testTcpSourceStopsAtEndOfStream() throws Exception {
+
+		try (ServerSocketChannel server = ServerSocketChannel.open()) {
+			server.bind(new InetSocketAddress(localhost, 0));
+			SocketChannel client = SocketChannel.open(server.getLocalAddress());
+			SocketChannel accepted = server.accept();
+
+			Recorder tcp = new Recorder(2);
+			hub.addSource("tcp", accepted).addSentenceListener(tcp);
+			hub.start();
+
+			String data = GGATest.EXAMPLE + "\r\n" + GGATest.EXAMPLE;
+			client.write(ByteBuffer.wrap(data.substring(0, 40).getBytes(StandardCharsets.US_ASCII)));
+			Thread.sleep(20);
+			client.write(ByteBuffer.wrap(data.substring(40).getBytes(StandardCharsets.US_ASCII)));
+			client.close();
+
+			assertTrue(tcp.received.await(5, TimeUnit.SECONDS));
+			assertTrue(tcp.stopped.await(5, TimeUnit.SECONDS));
+			assertEquals(List.of(GGATest.EXAMPLE, GGATest.EXAMPLE), tcp.sentences);
+			assertFalse(hub.getSourceIds().contains("tcp"));
+			accepted.close();
+		}
+	}
+
+	@Test
+	public void testPauseAndStopPerSource() throws Exception {
+
+		Recorder first = new Recorder(1);
+		Recorder second = new Recorder(1);
+		hub.setPauseTimeout(200);
+		hub.addSource("first", udp1).addSentenceListener(first);
+		hub.addSource("second", udp2).addSentenceListener(second);
+		hub.start();
+
+		send(udp1, GGATest.EXAMPLE + "\r\n");
+		assertTrue(first.started.await(5, TimeUnit.SECONDS));
+		assertTrue(first.paused.await(5, TimeUnit.SECONDS));
+		assertEquals(1, second.started.getCount());
+
+		hub.removeSource("first");
+		assertTrue(first.stopped.await(5, TimeUnit.SECONDS));
+		assertEquals(1, second.stopped.getCount());
+		assertEquals(1, hub.getSourceIds().size());
+
+		hub.stop();
+		assertTrue(second.stopped.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testAddDuplicateSource() throws Exception {
+		hub.addSource("first", udp1);
+		assertThrows(IllegalArgumentException.class, () -> hub.addSource("first", udp2));
+		assertTrue(udp2.isBlocking());
+	}
+
+	@Test
+	public void testSourceReaderCannotBeStarted() throws Exception {
+		SentenceReader reader = hub.addSource("first", udp1);
+		assertThrows(IllegalStateException.class, reader::start);
+	}
+
+	@Test
+	public void testRemoveSourceBeforeStart() throws Exception {
+		Recorder recorder = new Recorder(1);
+		hub.addSource("first", udp1).addSentenceListener(recorder);
+		hub.removeSource("first");
+		assertEquals(0, recorder.stopped.getCount());
+		assertNull(hub.getSource("first"));
+		assertTrue(hub.getSourceIds().isEmpty());
+	}
+
+	@Test
+	public void testStopBeforeStart() throws Exception {
+		Recorder recorder = new Recorder(1);
+		hub.addSource("first", udp1).addSentenceListener(recorder);
+		hub.stop();
+		assertEquals(0, recorder.stopped.getCount());
+		assertTrue(hub.getSourceIds().isEmpty());
+		assertThrows(IllegalStateException.class, hub::start);
+		assertThrows(IllegalStateException.class, () -> hub.addSource("second", udp2));
+	}
+
+	private static class Recorder implements SentenceListener {
+
+		final List<String> sources = new CopyOnWriteArrayList<>();
+		final List<String> sentences = new CopyOnWriteArrayList<>();
+		final CountDownLatch received;
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch paused = new CountDownLatch(1);
+		final CountDownLatch stopped = new CountDownLatch(1);
+
+		Recorder(int count) {
+			received = new CountDownLatch(count);
+		}
+
+		@Override
+		public void sentenceRead(SentenceEvent event) {
+			sources.add(event.getSourceId());
+			sentences.add(event.getSentence().toString());
+			received.countDown();
+		}
+
+		@Override
+		public void readingStarted() {
+			started.countDown();
+		}
+
+		@Override
+		public void readingPaused() {
+			paused.countDown();
+		}
+
+		@Override
+		public void readingStopped() {
+			stopped.countDown();
+		}
+	}
+}
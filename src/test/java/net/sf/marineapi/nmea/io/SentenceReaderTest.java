@@ -8,6 +8,12 @@ import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.sf.marineapi.nmea.event.AbstractSentenceListener;
 import net.sf.marineapi.nmea.event.SentenceEvent;
@@ -16,6 +22,7 @@ import net.sf.marineapi.nmea.parser.BODTest;
 import net.sf.marineapi.nmea.parser.GGATest;
 import net.sf.marineapi.nmea.parser.SentenceFactory;
 import net.sf.marineapi.nmea.parser.TXTTest;
+import net.sf.marineapi.nmea.sentence.BODSentence;
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
 
@@ -244,6 +251,251 @@ public class SentenceReaderTest {
 		reader.start();
 	}
 
+	@Test
+	public void testFireSentenceEventOncePerListener() {
+
+		AtomicInteger count = new AtomicInteger();
+		SentenceListener listener = new DummySentenceListener() {
+			@Override
+			public void sentenceRead(SentenceEvent event) {
+				count.incrementAndGet();
+			}
+		};
+		reader.addSentenceListener(listener);
+		reader.addSentenceListener(listener, SentenceId.GGA);
+		reader.addSentenceListener(listener, SentenceId.GGA);
+
+		Sentence gga = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+		reader.fireSentenceEvent(gga);
+		assertEquals(1, count.get());
+
+		reader.removeSentenceListener(listener, SentenceId.GGA);
+		reader.fireSentenceEvent(gga);
+		assertEquals(2, count.get());
+
+		reader.removeSentenceListener(listener);
+		reader.fireSentenceEvent(gga);
+		assertEquals(2, count.get());
+	}
+
+	@Test
+	public void testListenerExecutorPreservesOrder() throws Exception {
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			reader.setListenerExecutor(executor);
+
+			List<Integer> slow = new CopyOnWriteArrayList<>();
+			List<Integer> fast = new CopyOnWriteArrayList<>();
+			CountDownLatch fastDone = new CountDownLatch(1);
+			CountDownLatch slowDone = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+
+			reader.addSentenceListener(new DummySentenceListener() {
+				@Override
+				public void sentenceRead(SentenceEvent event) {
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					slow.add(((BODSentence) event.getSentence()).getDestinationWaypointId().length());
+					if (slow.size() == 20) {
+						slowDone.countDown();
+					}
+				}
+			});
+			reader.addSentenceListener(new DummySentenceListener() {
+				@Override
+				public void sentenceRead(SentenceEvent event) {
+					fast.add(((BODSentence) event.getSentence()).getDestinationWaypointId().length());
+					if (fast.size() == 20) {
+						fastDone.countDown();
+					}
+				}
+			}, SentenceId.BOD);
+
+			List<Integer> expected = new ArrayList<>();
+			for (int i = 1; i <= 20; i++) {
+				BODSentence bod = (BODSentence) SentenceFactory.getInstance().createParser(BODTest.EXAMPLE);
+				bod.setDestinationWaypointId("x".repeat(i));
+				reader.fireSentenceEvent(bod);
+				expected.add(i);
+			}
+
+			// slow listener does not block others
+			assertTrue(fastDone.await(5, TimeUnit.SECONDS));
+			assertEquals(expected, fast);
+			assertTrue(slow.isEmpty());
+
+			release.countDown();
+			assertTrue(slowDone.await(5, TimeUnit.SECONDS));
+			assertEquals(expected, slow);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testListenerQueueOverflow() {
+
+		reader.removeSentenceListener(dummyListener);
+		reader.removeSentenceListener(testListener);
+
+		List<Runnable> pending = new ArrayList<>();
+		reader.setListenerExecutor(pending::add);
+		reader.setListenerQueueCapacity(5);
+
+		List<Integer> received = new ArrayList<>();
+		reader.addSentenceListener(new DummySentenceListener() {
+			@Override
+			public void sentenceRead(SentenceEvent event) {
+				received.add(((BODSentence) event.getSentence()).getDestinationWaypointId().length());
+			}
+		}, SentenceId.BOD);
+
+		for (int i = 1; i <= 20; i++) {
+			BODSentence bod = (BODSentence) SentenceFactory.getInstance().createParser(BODTest.EXAMPLE);
+			bod.setDestinationWaypointId("x".repeat(i));
+			reader.fireSentenceEvent(bod);
+		}
+
+		assertEquals(15, reader.getDroppedEventCount());
+		assertEquals(1, pending.size());
+		pending.remove(0).run();
+		assertEquals(List.of(1, 2, 3, 4, 5), received);
+		assertThrows(IllegalArgumentException.class, () -> reader.setListenerQueueCapacity(0));
+	}
+
+	@Test
+	public void testListenerStrandSurvivesExecutorChange() {
+
+		reader.removeSentenceListener(dummyListener);
+		reader.removeSentenceListener(testListener);
+
+		List<Runnable> pending = new ArrayList<>();
+		reader.setListenerExecutor(pending::add);
+
+		List<Integer> received = new ArrayList<>();
+		reader.addSentenceListener(new DummySentenceListener() {
+			@Override
+			public void sentenceRead(SentenceEvent event) {
+				received.add(((BODSentence) event.getSentence()).getDestinationWaypointId().length());
+			}
+		}, SentenceId.BOD);
+
+		BODSentence bod = (BODSentence) SentenceFactory.getInstance().createParser(BODTest.EXAMPLE);
+		for (int i = 1; i <= 4; i++) {
+			bod = (BODSentence) SentenceFactory.getInstance().createParser(BODTest.EXAMPLE);
+			bod.setDestinationWaypointId("x".repeat(i));
+			if (i == 3) {
+				reader.setListenerExecutor(null);
+			}
+			reader.fireSentenceEvent(bod);
+		}
+
+		// still draining the first events, later ones queue behind them
+		assertEquals(1, pending.size());
+		assertTrue(received.isEmpty());
+		pending.remove(0).run();
+		assertEquals(List.of(1, 2, 3, 4), received);
+
+		// once idle, events are delivered synchronously again
+		reader.fireSentenceEvent(bod);
+		assertEquals(5, received.size());
+		assertTrue(pending.isEmpty());
+	}
+
+	@Test
+	public void testListenerStrandRemovedWithListener() {
+
+		reader.removeSentenceListener(dummyListener);
+		reader.removeSentenceListener(testListener);
+
+		List<Runnable> pending = new ArrayList<>();
+		reader.setListenerExecutor(pending::add);
+
+		List<Sentence> received = new ArrayList<>();
+		SentenceListener listener = new DummySentenceListener() {
+			@Override
+			public void sentenceRead(SentenceEvent event) {
+				received.add(event.getSentence());
+			}
+		};
+		reader.addSentenceListener(listener, SentenceId.BOD);
+		reader.addSentenceListener(listener, SentenceId.GGA);
+		reader.fireSentenceEvent(SentenceFactory.getInstance().createParser(BODTest.EXAMPLE));
+
+		// strand is kept while listener is registered for any type
+		reader.removeSentenceListener(listener, SentenceId.BOD);
+		reader.setListenerExecutor(null);
+		reader.fireSentenceEvent(SentenceFactory.getInstance().createParser(GGATest.EXAMPLE));
+		assertTrue(received.isEmpty());
+
+		// queued events are delivered after removal
+		reader.removeSentenceListener(listener);
+		assertEquals(1, pending.size());
+		pending.remove(0).run();
+		assertEquals(2, received.size());
+
+		// re-added listener is notified directly
+		reader.addSentenceListener(listener);
+		reader.fireSentenceEvent(SentenceFactory.getInstance().createParser(BODTest.EXAMPLE));
+		assertEquals(3, received.size());
+		assertTrue(pending.isEmpty());
+	}
+
+	@Test
+	public void testLifecycleEventsNotDropped() {
+
+		reader.removeSentenceListener(dummyListener);
+		reader.removeSentenceListener(testListener);
+
+		List<Runnable> pending = new ArrayList<>();
+		reader.setListenerExecutor(pending::add);
+		reader.setListenerQueueCapacity(1);
+
+		List<String> received = new ArrayList<>();
+		reader.addSentenceListener(new DummySentenceListener() {
+			@Override
+			public void readingStarted() {
+				received.add("started");
+			}
+
+			@Override
+			public void sentenceRead(SentenceEvent event) {
+				received.add("sentence");
+			}
+
+			@Override
+			public void readingStopped() {
+				received.add("stopped");
+			}
+		});
+
+		reader.fireReadingStarted();
+		for (int i = 0; i < 3; i++) {
+			reader.fireSentenceEvent(SentenceFactory.getInstance().createParser(BODTest.EXAMPLE));
+		}
+		reader.fireReadingStopped();
+
+		assertEquals(2, reader.getDroppedEventCount());
+		pending.remove(0).run();
+		assertEquals(List.of("started", "sentence", "stopped"), received);
+	}
+
+	@Test
+	public void testSetThreadFactory() throws Exception {
+		AtomicInteger created = new AtomicInteger();
+		reader.setThreadFactory(r -> {
+			created.incrementAndGet();
+			return new Thread(r);
+		});
+		reader.start();
+		reader.stop();
+		assertEquals(1, created.get());
+	}
+
 	public class DummySentenceListener implements SentenceListener {
 		public void readingPaused() {
 		}
@@ -0,0 +1,103 @@
+package net.sf.marineapi.nmea.io;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.nmea.event.AbstractSentenceListener;
+import net.sf.marineapi.nmea.parser.BODTest;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UDPChannelDataReaderTest {
+
+	private DatagramChannel channel;
+	private DatagramChannel sender;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		channel = DatagramChannel.open().bind(
+			new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+		sender = DatagramChannel.open();
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		channel.close();
+		sender.close();
+	}
+
+	private void send(String data) throws Exception {
+		byte[] bytes = data.getBytes(StandardCharsets.US_ASCII);
+		sender.send(ByteBuffer.wrap(bytes), channel.getLocalAddress());
+	}
+
+	@Test
+	public void testMultiSentenceDatagrams() throws Exception {
+
+		// well over the 1024 bytes of the old fixed size buffer
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 30; i++) {
+			sb.append(GGATest.EXAMPLE).append("\r\n");
+		}
+		sb.append(BODTest.EXAMPLE);
+		assertTrue(sb.length() > 2048);
+
+		List<Sentence> sentences = new CopyOnWriteArrayList<>();
+		CountDownLatch received = new CountDownLatch(33);
+		CountDownLatch stopped = new CountDownLatch(1);
+
+		SentenceReader reader = new SentenceReader(channel);
+		reader.addSentenceListener(new AbstractSentenceListener<Sentence>() {
+			@Override
+			public void sentenceRead(Sentence sentence) {
+				sentences.add(sentence);
+				received.countDown();
+			}
+			@Override
+			public void readingStopped() {
+				stopped.countDown();
+			}
+		});
+		reader.start();
+
+		send(sb.toString());
+		send(GGATest.EXAMPLE + "\n" + BODTest.EXAMPLE + "\n");
+
+		assertTrue(received.await(5, TimeUnit.SECONDS));
+		assertEquals(BODTest.EXAMPLE, sentences.get(30).toString());
+		assertEquals(GGATest.EXAMPLE, sentences.get(31).toString());
+		assertEquals(BODTest.EXAMPLE, sentences.get(32).toString());
+
+		reader.stop();
+		assertTrue(stopped.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void testRead() throws Exception {
+		SentenceReader parent = new SentenceReader(channel, 512);
+		UDPChannelDataReader reader = new UDPChannelDataReader(channel, parent);
+		channel.configureBlocking(false);
+		send(GGATest.EXAMPLE + "\r\n" + BODTest.EXAMPLE);
+		Thread.sleep(50);
+		assertEquals(GGATest.EXAMPLE, reader.read());
+		assertEquals(BODTest.EXAMPLE, reader.read());
+		assertNull(reader.read());
+	}
+
+	@Test
+	public void testInvalidBufferSize() {
+		assertThrows(IllegalArgumentException.class, () -> new SentenceReader(channel, 64));
+	}
+}
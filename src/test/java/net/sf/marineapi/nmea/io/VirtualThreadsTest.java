@@ -0,0 +1,37 @@
+package net.sf.marineapi.nmea.io;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VirtualThreadsTest {
+
+	@Test
+	public void testIsSupported() {
+		assertEquals(Runtime.version().feature() >= 21, VirtualThreads.isSupported());
+	}
+
+	@Test
+	public void testFactory() throws Exception {
+		boolean[] ran = new boolean[1];
+		Thread t = VirtualThreads.factory().newThread(() -> ran[0] = true);
+		t.start();
+		t.join(5000);
+		assertTrue(ran[0]);
+	}
+
+	@Test
+	public void testNewThreadPerTaskExecutor() throws Exception {
+		ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor();
+		try {
+			Future<String> result = executor.submit(() -> "done");
+			assertEquals("done", result.get(5, TimeUnit.SECONDS));
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package net.sf.marineapi.nmea.parser;
 
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import net.sf.marineapi.nmea.sentence.BODSentence;
@@ -304,4 +305,63 @@ public class SentenceFactoryTest {
 		assertEquals(instance, SentenceFactory.getInstance());
 	}
 
+	@Test
+	public void testCreateParserWithBytes() {
+		byte[] data = BODTest.EXAMPLE.getBytes(StandardCharsets.US_ASCII);
+		Sentence s = instance.createParser(data, 0, data.length);
+		assertTrue(s instanceof BODParser);
+		assertEquals(instance.createParser(BODTest.EXAMPLE), s);
+	}
+
+	@Test
+	public void testCreateParserWithBytesFallback() {
+		instance.registerParser("FOO", FOOParser.class);
+		byte[] data = "$GPFOO,B,A,R".getBytes(StandardCharsets.US_ASCII);
+		Sentence s = instance.createParser(data, 0, data.length);
+		assertTrue(s instanceof FOOParser);
+		assertEquals("FOO", s.getSentenceId());
+	}
+
+	@Test
+	public void testCreateParserWithInvalidBytes() {
+		byte[] data = "asdqas,dwersa,dsdfas,das".getBytes(StandardCharsets.US_ASCII);
+		assertThrows(IllegalArgumentException.class,
+			() -> instance.createParser(data, 0, data.length));
+		assertThrows(IllegalArgumentException.class,
+			() -> instance.createParser(null, 0, 0));
+	}
+
+	@Test
+	public void testRegisterParserWithFunctions() {
+		instance.registerParser("FOO", FOOParser::new, FOOParser::new);
+		assertTrue(instance.hasParser("FOO"));
+
+		Sentence s = instance.createParser("$IIFOO,1,2,3");
+		assertTrue(s instanceof FOOParser);
+		assertEquals(TalkerId.II, s.getTalkerId());
+
+		byte[] data = "$IIFOO,1,2,3".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(s, instance.createParser(data, 0, data.length));
+
+		Sentence e = instance.createParser(TalkerId.GP, "FOO");
+		assertTrue(e instanceof FOOParser);
+		assertEquals(TalkerId.GP, e.getTalkerId());
+	}
+
+	@Test
+	public void testRegisterParserWithLongType() {
+		instance.registerParser("RWIILOG", SentenceParser::new,
+			t -> new SentenceParser(t, "RWIILOG", 5));
+		Sentence s = instance.createParser("$PRWIILOG,GGA,A,T,1,0");
+		assertEquals("RWIILOG", s.getSentenceId());
+		byte[] data = "$PRWIILOG,GGA,A,T,1,0".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(s, instance.createParser(data, 0, data.length));
+		assertEquals(5, instance.createParser(TalkerId.P, "RWIILOG").getFieldCount());
+	}
+
+	@Test
+	public void testRegisterParserWithNullFunctions() {
+		assertThrows(IllegalArgumentException.class,
+			() -> instance.registerParser("FOO", null, FOOParser::new));
+	}
 }
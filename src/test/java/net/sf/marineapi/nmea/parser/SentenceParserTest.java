@@ -8,6 +8,8 @@ import net.sf.marineapi.test.util.FOOSentence;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
@@ -620,4 +622,82 @@ public class SentenceParserTest {
 		assertEquals("6", parser.getStringValue(2));
 		assertEquals("7", parser.getStringValue(3));
 	}
+
+	@Test
+	public void testConstructorWithBytes() {
+		byte[] data = ("xx" + RMCTest.EXAMPLE + "yy").getBytes(StandardCharsets.US_ASCII);
+		SentenceParser parser = new SentenceParser(data, 2, data.length - 4);
+		assertEquals(instance, parser);
+		assertEquals(TalkerId.GP, parser.getTalkerId());
+		assertEquals("RMC", parser.getSentenceId());
+		assertEquals(instance.getFieldCount(), parser.getFieldCount());
+		assertEquals(RMCTest.EXAMPLE, parser.toString());
+	}
+
+	@Test
+	public void testConstructorWithInvalidBytes() {
+		byte[] data = "$GPGLL,1,2,3*00".getBytes(StandardCharsets.US_ASCII);
+		try {
+			new SentenceParser(data, 0, data.length);
+			fail("Did not throw exception");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid data [$GPGLL,1,2,3*00]", e.getMessage());
+		}
+		try {
+			new SentenceParser(data, 0, data.length + 1);
+			fail("Did not throw exception");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testGetNumericValues() {
+		SentenceParser parser = new SentenceParser(
+			"$GPXYZ,42,-7,+3,1234567890,0.5,-12.250,7.,.25,1e3,123456789.123456789,A,AB");
+		assertEquals(42, parser.getIntValue(0));
+		assertEquals(-7, parser.getIntValue(1));
+		assertEquals(3, parser.getIntValue(2));
+		assertEquals(1234567890, parser.getIntValue(3));
+		assertEquals(0.5, parser.getDoubleValue(4));
+		assertEquals(-12.25, parser.getDoubleValue(5));
+		assertEquals(7.0, parser.getDoubleValue(6));
+		assertEquals(0.25, parser.getDoubleValue(7));
+		assertEquals(1000.0, parser.getDoubleValue(8));
+		assertEquals(123456789.123456789, parser.getDoubleValue(9));
+		assertEquals('A', parser.getCharValue(10));
+		assertThrows(ParseException.class, () -> parser.getIntValue(4));
+		assertThrows(ParseException.class, () -> parser.getCharValue(11));
+	}
+
+	@Test
+	public void testGetDoubleValueMatchesParseDouble() {
+		String[] values = { "0", "-0", "1.0", "3723.2475", "-12311.12",
+			"0.1", "0.3", "359.99", "99999999.99999999", "1.2345678901234567" };
+		for (String value : values) {
+			SentenceParser parser = new SentenceParser("$GPXYZ," + value);
+			assertEquals(Double.valueOf(value), Double.valueOf(parser.getDoubleValue(0)), value);
+		}
+	}
+
+	@Test
+	public void testModifyAfterParse() {
+		SentenceParser parser = new SentenceParser("$GPGGA,1,2,3,4");
+		assertTrue(parser.hasValue(3));
+		assertFalse(parser.hasValue(4));
+		parser.setIntValue(3, 5);
+		assertEquals(5, parser.getIntValue(3));
+		assertEquals(1, parser.getIntValue(0));
+		assertTrue(parser.toString().startsWith("$GPGGA,1,2,3,5*"));
+	}
+
+	@Test
+	public void testGetStringValuesAfterParse() {
+		SentenceParser parser = new SentenceParser("$GPGGA,1,2,,4");
+		assertArrayEquals(new String[] { "2", "", "4" }, parser.getStringValues(1));
+		assertEquals(0, parser.getStringValues(4).length);
+		assertEquals(4, parser.getIntValue(3));
+		assertFalse(parser.hasValue(2));
+		assertEquals("$GPGGA,1,2,,4", parser.toString().substring(0, 13));
+	}
 }
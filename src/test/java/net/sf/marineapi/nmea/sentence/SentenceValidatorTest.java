@@ -32,6 +32,9 @@ import net.sf.marineapi.nmea.parser.WPLTest;
 import net.sf.marineapi.nmea.parser.ZDATest;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -193,4 +196,73 @@ public class SentenceValidatorTest {
 		nmea = "$GPRMC,142312.000,V,,,,,,,080514,,\r\n\r\n";
 		assertFalse(SentenceValidator.isSentence(nmea));
 	}
+
+	@Test
+	public void testIsValidBytes() {
+		String[] valid = {
+			"$ABCDE,1,2,3,4,5,6,7,8,9",
+			Checksum.add("$ABCDE,1,2,3,4,5,6,7,8,9"),
+			"$ABCDE,1,2,3,4,5,6,7,8,9\r\n",
+			"$PRWIILOG,GGA,A,T,1,0",
+			GGATest.EXAMPLE,
+			"!AIVDM,1,1,,A,133sfv002POVWD0Je4sMA:a@00S?,0*3F" };
+		for (String nmea : valid) {
+			byte[] data = nmea.getBytes(StandardCharsets.US_ASCII);
+			assertTrue(SentenceValidator.isValid(data, 0, data.length), nmea);
+			assertTrue(SentenceValidator.isSentence(data, 0, data.length), nmea);
+		}
+	}
+
+	@Test
+	public void testIsValidBytesWithInvalidInput() {
+		String[] invalid = {
+			"$ABCDE,1,2,3,4,5,6,7,8,9*00",
+			Checksum.add("$ABCDE,1,2,3,4,5,6,7,8,9") + "\r\n",
+			"$AB,1,2,3",
+			"$ABCDEFGHIJK,1,2,3",
+			"ABCDE,1,2,3",
+			"$abcde,1,2,3",
+			"$ABCDE,1,2\n,3",
+			"$ABCDE",
+			"" };
+		for (String nmea : invalid) {
+			byte[] data = nmea.getBytes(StandardCharsets.US_ASCII);
+			assertFalse(SentenceValidator.isValid(data, 0, data.length), nmea);
+		}
+		assertFalse(SentenceValidator.isValid(null, 0, 0));
+		assertFalse(SentenceValidator.isSentence(null, 0, 0));
+	}
+
+	@Test
+	public void testIsValidBytesWithOffset() {
+		String nmea = Checksum.add("$GPRMC,142312.000,V,,,,,,,080514,,");
+		byte[] data = ("xx" + nmea + "\r\nyy").getBytes(StandardCharsets.US_ASCII);
+		assertTrue(SentenceValidator.isValid(data, 2, nmea.length()));
+		assertTrue(SentenceValidator.isSentence(data, 2, nmea.length() + 2));
+		assertFalse(SentenceValidator.isSentence(data, 2, nmea.length() + 3));
+		assertFalse(SentenceValidator.isValid(data, 1, nmea.length()));
+		assertFalse(SentenceValidator.isValid(data, 2, data.length));
+	}
+
+	@Test
+	public void testIsSentenceBytesMatchesString() {
+		String[] samples = {
+			"$GPRMC,142312.000,V,,,,,,,080514,,*20",
+			"$GPRMC,142312.000,V,,,,,,,080514,,*20xy",
+			"$GPRMC,142312.000,V,,,,,,,080514,,*201",
+			"$GPRMC,142312.000,V,,,,,,,080514,,*2",
+			"$GPRMC,142312.000,V,,,,,,,080514,,*",
+			"$GPRMC,142312.000,V,,,,,,,080514,,\n\r",
+			"$GPRMC,142312.000,V,,,,,,,080514,,*20\r\n\r\n",
+			"$PUBX,03,GT{,ID,s,AZM,EL,SN,LK},",
+			"$GPRMC,1*2*3,*20",
+			"$GPRMC,142312.000,V,,,,,,,080514,,*20\r\n" };
+		for (String nmea : samples) {
+			byte[] data = nmea.getBytes(StandardCharsets.US_ASCII);
+			assertEquals(SentenceValidator.isSentence(nmea),
+				SentenceValidator.isSentence(data, 0, data.length), nmea);
+			assertEquals(SentenceValidator.isValid(nmea),
+				SentenceValidator.isValid(data, 0, data.length), nmea);
+		}
+	}
 }